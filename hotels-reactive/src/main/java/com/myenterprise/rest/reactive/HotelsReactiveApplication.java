@@ -0,0 +1,44 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Entry point of the reactive read API.
+ * <p>
+ * It serves {@code GET /api/v1/hotels} and {@code GET /api/v1/hotels/{id}} from the same
+ * {@code api.yaml} as the servlet application, on WebFlux and R2DBC, so a handful of
+ * event-loop threads can serve a large number of concurrent (and slow) clients. The
+ * write operations stay in the servlet application; here they answer {@code 501}.
+ * </p>
+ */
+@SpringBootApplication
+public class HotelsReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(HotelsReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.reactive.repository;
+
+import com.myenterprise.rest.reactive.rsql.SqlPredicate;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.Hotel;
+import io.r2dbc.spi.Readable;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking access to the {@code hotels} and {@code facilities} tables written by the
+ * servlet application.
+ *
+ * <p>Each hotel is read together with its facilities in a single {@code LEFT JOIN} query
+ * ordered by hotel id. The rows are grouped into {@link Hotel}s as they arrive, so the
+ * result is a real stream: it is never materialized in memory and it follows the demand
+ * of the subscriber (backpressure) down to the R2DBC driver.</p>
+ */
+@Repository
+public class ReactiveHotelsRepository {
+
+    private static final String SELECT = """
+            SELECT h.id, h.name, h.description, h.address, h.city, h.rating, h.has_wifi,
+                   h.latitude, h.longitude, f.type, f.short_description
+            FROM hotels h
+            LEFT JOIN facilities f ON f.hotel_id = h.id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructs the repository.
+     *
+     * @param databaseClient the R2DBC client
+     */
+    public ReactiveHotelsRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Streams the hotels that match a predicate.
+     *
+     * @param predicate the {@code WHERE} expression over the alias {@code h}
+     * @return the hotels, ordered by id
+     */
+    @NotNull
+    public Flux<Hotel> findAll(@NotNull SqlPredicate predicate) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                SELECT + "WHERE " + predicate.sql() + " ORDER BY h.id");
+        for (Map.Entry<String, Object> parameter : predicate.parameters().entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return group(spec.map(HotelRow::of).all());
+    }
+
+    /**
+     * Reads a hotel by id.
+     *
+     * @param id the id of the hotel
+     * @return the hotel, or an empty {@link Mono} if it does not exist
+     */
+    @NotNull
+    public Mono<Hotel> findById(@NotNull UUID id) {
+        Flux<HotelRow> rows = databaseClient.sql(SELECT + "WHERE h.id = :id")
+                .bind("id", id)
+                .map(HotelRow::of)
+                .all();
+        return group(rows).next();
+    }
+
+    /**
+     * Groups consecutive rows of the same hotel into a {@link Hotel}.
+     */
+    private static Flux<Hotel> group(Flux<HotelRow> rows) {
+        return rows.bufferUntilChanged(HotelRow::id).map(ReactiveHotelsRepository::toHotel);
+    }
+
+    private static Hotel toHotel(List<HotelRow> rows) {
+        HotelRow first = rows.get(0);
+        List<Facility> facilities = new ArrayList<>(rows.size());
+        for (HotelRow row : rows) {
+            if (row.facilityType() != null) {
+                facilities.add(new Facility(Facility.TypeEnum.valueOf(row.facilityType()), row.facilityDescription()));
+            }
+        }
+        Hotel hotel = new Hotel(first.name(), first.description(), first.address(), first.city(), first.rating(),
+                first.hasWifi(), facilities, first.id());
+        hotel.setLatitude(first.latitude());
+        hotel.setLongitude(first.longitude());
+        return hotel;
+    }
+
+    /**
+     * One row of the join: the columns of a hotel and, optionally, one of its facilities.
+     * The facility type is stored by name ({@code RESTAURANT}), as JPA writes it.
+     */
+    private record HotelRow(UUID id, String name, String description, String address, String city,
+                            Float rating, Boolean hasWifi, Double latitude, Double longitude,
+                            String facilityType, String facilityDescription) {
+
+        static HotelRow of(Readable row) {
+            return new HotelRow(
+                    row.get("id", UUID.class),
+                    row.get("name", String.class),
+                    row.get("description", String.class),
+                    row.get("address", String.class),
+                    row.get("city", String.class),
+                    row.get("rating", Float.class),
+                    row.get("has_wifi", Boolean.class),
+                    row.get("latitude", Double.class),
+                    row.get("longitude", Double.class),
+                    row.get("type", String.class),
+                    row.get("short_description", String.class));
+        }
+    }
+}
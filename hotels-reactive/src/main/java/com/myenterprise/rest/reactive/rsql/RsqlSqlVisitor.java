@@ -0,0 +1,238 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.reactive.rsql;
+
+import com.myenterprise.rest.facility.FacilityMask;
+import com.myenterprise.rest.geo.GeoGrid;
+import com.myenterprise.rest.geo.NearQuery;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@code RsqlSqlVisitor} translates an RSQL AST into a SQL {@code WHERE} expression over
+ * the {@code hotels} table (alias {@code h}), for the R2DBC queries of the reactive module.
+ *
+ * <p>The semantics of each operator are the ones of the {@code GenericRsqlSpecification}
+ * of the servlet application, so the same filter returns the same hotels on both stacks:</p>
+ * <ul>
+ *   <li>{@code ==} and {@code !=} become {@code LIKE} / {@code NOT LIKE}, with {@code *} as wildcard.</li>
+ *   <li>{@code =gt=}, {@code =ge=}, {@code =lt=} and {@code =le=} compare with the first argument.</li>
+ *   <li>{@code =in=} and {@code =out=} use all the arguments.</li>
+ *   <li>{@code text=ft=words} looks the words up in the full-text index of name and description.</li>
+ *   <li>{@code location=near=(lat,lon,km)} prunes by grid cell, then checks the exact distance.</li>
+ *   <li>{@code facilities=all=(cinema,restaurant)} reads the facility mask of the hotel.</li>
+ * </ul>
+ *
+ * <p>The values are always bound as parameters; only the column names, taken from a
+ * fixed whitelist, are written into the SQL. The arguments are converted to the type of
+ * the column, so the database compares numbers as numbers. The visitor is stateful (it numbers the
+ * parameters), so a new instance must be used for each expression.</p>
+ */
+public class RsqlSqlVisitor implements RSQLVisitor<SqlPredicate, Void> {
+
+    /** Columns of the {@code hotels} table, by RSQL selector (the JSON/JPA property name). */
+    private static final Map<String, Column> COLUMNS = Map.of(
+            "id", new Column("h.id", UUID::fromString),
+            "name", new Column("h.name", null),
+            "description", new Column("h.description", null),
+            "address", new Column("h.address", null),
+            "city", new Column("h.city", null),
+            "rating", new Column("h.rating", Float::valueOf),
+            "hasWifi", new Column("h.has_wifi", Boolean::valueOf),
+            "has_wifi", new Column("h.has_wifi", Boolean::valueOf));
+
+    /**
+     * {@code =ft=}: the hotels returned by the H2 full-text index of name and description, created by
+     * the migration {@code V3__hotels_full_text.sql} of the servlet application.
+     */
+    private static final String FULL_TEXT_SQL = "h.id IN (SELECT CAST(ft.KEYS[1] AS UUID) "
+            + "FROM FT_SEARCH_DATA(:query, 0, 0) ft WHERE ft.\"TABLE\" = 'HOTELS')";
+
+    private int parameterCount;
+
+    @Override
+    public SqlPredicate visit(AndNode node, Void param) {
+        return combine(node, " AND ");
+    }
+
+    @Override
+    public SqlPredicate visit(OrNode node, Void param) {
+        return combine(node, " OR ");
+    }
+
+    @Override
+    public SqlPredicate visit(ComparisonNode node, Void param) {
+        RsqlSearchOperation operation = Objects.requireNonNull(RsqlSearchOperation.getSimpleOperator(node.getOperator()),
+                () -> "RSQL: Operator unknown: " + node.getOperator().getSymbol());
+        List<String> arguments = node.getArguments();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String name = "p" + parameterCount++;
+        if (operation == RsqlSearchOperation.FULL_TEXT) {
+            // The virtual selector "text" is not a column: the hotels are looked up in the full-text index.
+            parameters.put(name, String.join(" ", arguments));
+            return new SqlPredicate(FULL_TEXT_SQL.replace(":query", ":" + name), parameters);
+        }
+        if (operation == RsqlSearchOperation.NEAR) {
+            return near(NearQuery.parse(arguments), name, parameters);
+        }
+        if (operation == RsqlSearchOperation.ALL) {
+            // The masks that contain the bits of all the requested facility types.
+            parameters.put(name, FacilityMask.supersets(FacilityMask.parse(arguments)));
+            return new SqlPredicate("h.facility_mask IN (:" + name + ")", parameters);
+        }
+
+        Column column = column(node.getSelector());
+        String argument = arguments.get(0); // Most operators use the first argument only.
+        String sql = switch (operation) {
+            case EQUAL -> like(column, "LIKE", "=", name, argument, parameters);
+            case NOT_EQUAL -> like(column, "NOT LIKE", "<>", name, argument, parameters);
+            case GREATER_THAN -> compare(column, ">", name, argument, parameters);
+            case GREATER_THAN_OR_EQUAL -> compare(column, ">=", name, argument, parameters);
+            case LESS_THAN -> compare(column, "<", name, argument, parameters);
+            case LESS_THAN_OR_EQUAL -> compare(column, "<=", name, argument, parameters);
+            case IN -> {
+                parameters.put(name, arguments.stream().map(column::convert).toList());
+                yield column.name() + " IN (:" + name + ")";
+            }
+            case NOT_IN -> {
+                parameters.put(name, arguments.stream().map(column::convert).toList());
+                yield column.name() + " NOT IN (:" + name + ")";
+            }
+            case FULL_TEXT, NEAR, ALL -> throw new IllegalStateException("Virtual selectors are handled above");
+        };
+        return new SqlPredicate(sql, parameters);
+    }
+
+    /**
+     * Returns the column of an RSQL selector.
+     *
+     * @param selector the RSQL selector
+     * @return the column, prefixed with the alias {@code h}
+     * @throws IllegalArgumentException if the selector is not a filterable property
+     */
+    @NotNull
+    private static Column column(String selector) {
+        Column column = COLUMNS.get(selector);
+        if (column == null) {
+            throw new IllegalArgumentException("RSQL: Field not allowed: " + selector);
+        }
+        return column;
+    }
+
+    /**
+     * {@code ==} and {@code !=}: {@code LIKE} on text, with {@code *} as wildcard. On typed
+     * columns a value without wildcard is compared with {@code =} / {@code <>} (the same
+     * result as the {@code LIKE} of JPA), and a value with wildcard matches the text of the column.
+     */
+    private static String like(Column column, String likeOperator, String equalOperator, String name,
+                               String argument, Map<String, Object> parameters) {
+        if (column.isText() || argument.indexOf('*') >= 0) {
+            parameters.put(name, argument.replace('*', '%'));
+            String expression = column.isText() ? column.name() : "CAST(" + column.name() + " AS VARCHAR)";
+            return expression + " " + likeOperator + " :" + name;
+        }
+        return compare(column, equalOperator, name, argument, parameters);
+    }
+
+    private static String compare(Column column, String operator, String name, String argument,
+                                  Map<String, Object> parameters) {
+        parameters.put(name, column.convert(argument));
+        return column.name() + " " + operator + " :" + name;
+    }
+
+    /**
+     * {@code =near=}: the hotels of the band of the circle (an index range on {@code geo_cell}),
+     * then those of the grid cells that cover it and the exact haversine distance, as in the
+     * servlet application.
+     */
+    private static SqlPredicate near(NearQuery near, String name, Map<String, Object> parameters) {
+        StringJoiner cells = new StringJoiner(" OR ", "(", ")");
+        int index = 0;
+        for (GeoGrid.CellRange range : near.cells()) {
+            String from = name + "_" + index++;
+            String to = name + "_" + index++;
+            parameters.put(from, range.from());
+            parameters.put(to, range.to());
+            cells.add("h.geo_cell BETWEEN :" + from + " AND :" + to);
+        }
+        GeoGrid.CellRange band = near.band();
+        parameters.put(name + "_from", band.from());
+        parameters.put(name + "_to", band.to());
+        parameters.put(name + "_lat", near.latitude());
+        parameters.put(name + "_lon", near.longitude());
+        parameters.put(name + "_km", near.radiusKm());
+        String distance = GeoGrid.distanceSql("h.latitude", "h.longitude", ":" + name + "_lat", ":" + name + "_lon");
+        return new SqlPredicate("h.geo_cell BETWEEN :" + name + "_from AND :" + name + "_to AND " + cells
+                + " AND " + distance + " <= :" + name + "_km", parameters);
+    }
+
+    private SqlPredicate combine(LogicalNode node, String operator) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringJoiner sql = new StringJoiner(operator);
+        for (Node child : node.getChildren()) {
+            SqlPredicate predicate = child.accept(this);
+            parameters.putAll(predicate.parameters());
+            sql.add("(" + predicate.sql() + ")");
+        }
+        return new SqlPredicate(sql.toString(), parameters);
+    }
+
+    /**
+     * A filterable column and the conversion of the RSQL arguments to its type.
+     *
+     * @param name      the qualified column name
+     * @param converter the conversion of an argument, {@code null} for text columns
+     */
+    private record Column(String name, Function<String, Object> converter) {
+
+        boolean isText() {
+            return converter == null;
+        }
+
+        Object convert(String argument) {
+            if (isText()) {
+                return argument;
+            }
+            try {
+                return converter.apply(argument);
+            } catch (IllegalArgumentException error) {
+                throw new IllegalArgumentException("RSQL: Invalid value for " + name.substring(2) + ": " + argument);
+            }
+        }
+    }
+}
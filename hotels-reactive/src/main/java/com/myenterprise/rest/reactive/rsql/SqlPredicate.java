@@ -0,0 +1,41 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.reactive.rsql;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * A SQL boolean expression with named bind parameters, produced by {@link RsqlSqlVisitor}.
+ *
+ * @param sql        the expression, with parameters written as {@code :name}
+ * @param parameters the values of the parameters, by name; a {@link java.util.Collection}
+ *                   value is expanded by {@code DatabaseClient} (used by {@code IN})
+ */
+public record SqlPredicate(@NotNull String sql, @NotNull Map<String, Object> parameters) {
+
+    /** Predicate that matches every row. */
+    public static final SqlPredicate ALWAYS = new SqlPredicate("1 = 1", Map.of());
+}
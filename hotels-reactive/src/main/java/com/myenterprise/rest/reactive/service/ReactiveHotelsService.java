@@ -0,0 +1,159 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.reactive.service;
+
+import com.myenterprise.rest.annotation.validatersql.RsqlValidator;
+import com.myenterprise.rest.annotation.validatersql.ValidateRsql;
+import com.myenterprise.rest.reactive.api.HotelsApi;
+import com.myenterprise.rest.reactive.api.HotelsApiDelegate;
+import com.myenterprise.rest.reactive.repository.ReactiveHotelsRepository;
+import com.myenterprise.rest.reactive.rsql.RsqlSqlVisitor;
+import com.myenterprise.rest.reactive.rsql.SqlPredicate;
+import com.myenterprise.rest.v1.model.Error;
+import com.myenterprise.rest.v1.model.Hotel;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive implementation of the read operations of {@link HotelsApiDelegate}.
+ *
+ * <p>The RSQL filters are validated with the same rules as in the servlet application:
+ * the {@link ValidateRsql} annotation is read from the {@code filters} parameter of the
+ * generated {@link HotelsApi#getHotels} method, so {@code api.yaml} stays the single
+ * source of the limits. A valid filter is translated to SQL by {@link RsqlSqlVisitor}.</p>
+ *
+ * <p>The list is returned as a {@link Flux}: WebFlux writes each hotel as soon as it is
+ * read, and stops reading from the database while the client is not consuming.</p>
+ */
+@Service
+public class ReactiveHotelsService implements HotelsApiDelegate {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveHotelsService.class);
+
+    private static final String HOTEL_NOT_FOUND = "Hotel not found";
+    private static final String ERROR_UNEXPECTED = "error unexpected";
+
+    private final ReactiveHotelsRepository hotelsRepository;
+    private final ValidateRsql filtersRules;
+
+    /**
+     * Constructs the service.
+     *
+     * @param hotelsRepository the reactive repository
+     */
+    public ReactiveHotelsService(ReactiveHotelsRepository hotelsRepository) {
+        this.hotelsRepository = hotelsRepository;
+        this.filtersRules = filtersRules();
+    }
+
+    /**
+     * Streams the hotels that match the optional RSQL filter.
+     *
+     * @param filters  the RSQL filter, may be {@code null}
+     * @param exchange the current exchange
+     * @return a {@code 200} with the stream of hotels, or a {@code 400} if the filter is not valid
+     */
+    @Override
+    public Mono<ResponseEntity<Flux<Hotel>>> getHotels(String filters, ServerWebExchange exchange) {
+        SqlPredicate predicate;
+        try {
+            predicate = toPredicate(filters);
+        } catch (IllegalArgumentException error) {
+            return Mono.just(error(HttpStatus.BAD_REQUEST, "HOTELS-ERROR-00400", error.getMessage()));
+        } catch (RuntimeException error) {
+            return Mono.just(error(HttpStatus.BAD_REQUEST, "HOTELS-ERROR-00400", "Unable to parse RSQL expression."));
+        }
+        Flux<Hotel> hotels = hotelsRepository.findAll(predicate)
+                .doOnError(error -> LOGGER.error("event=find_hotels exception={} message={}",
+                        error.getClass().getName(), error.getMessage(), error));
+        return Mono.just(ResponseEntity.ok(hotels));
+    }
+
+    /**
+     * Reads a hotel by id.
+     *
+     * @param id       the id of the hotel
+     * @param filters  ignored, as in the servlet application
+     * @param exchange the current exchange
+     * @return a {@code 200} with the hotel, a {@code 404} if it does not exist or a {@code 500}
+     */
+    @Override
+    public Mono<ResponseEntity<Hotel>> getHotel(UUID id, String filters, ServerWebExchange exchange) {
+        return hotelsRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(error(HttpStatus.NOT_FOUND, "HOTELS-ERROR-00404", HOTEL_NOT_FOUND))
+                .onErrorResume(error -> {
+                    LOGGER.error("event=find_hotel exception={} message={}",
+                            error.getClass().getName(), error.getMessage(), error);
+                    return Mono.just(error(HttpStatus.INTERNAL_SERVER_ERROR, "HOTELS-ERROR-00500", ERROR_UNEXPECTED));
+                });
+    }
+
+    /**
+     * Validates the filter and translates it to SQL.
+     *
+     * @throws IllegalArgumentException if the filter breaks a validation rule
+     */
+    private SqlPredicate toPredicate(String filters) {
+        if (filters == null) {
+            return SqlPredicate.ALWAYS;
+        }
+        return RsqlValidator.validate(filters, filtersRules).accept(new RsqlSqlVisitor());
+    }
+
+    /**
+     * Builds an error response. The body is an {@link Error}, whatever the declared type.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> error(HttpStatus status, String code, String message) {
+        Error error = new Error();
+        error.setError(code);
+        error.setMessage(message);
+        return (ResponseEntity<T>) ResponseEntity.status(status).body(error);
+    }
+
+    /**
+     * Reads the {@link ValidateRsql} annotation of the {@code filters} parameter of the generated API.
+     */
+    private static ValidateRsql filtersRules() {
+        try {
+            return HotelsApi.class
+                    .getMethod("getHotels", String.class, ServerWebExchange.class)
+                    .getParameters()[0]
+                    .getAnnotation(ValidateRsql.class);
+        } catch (NoSuchMethodException error) {
+            throw new IllegalStateException("The generated HotelsApi has no getHotels(String, ServerWebExchange)", error);
+        }
+    }
+}
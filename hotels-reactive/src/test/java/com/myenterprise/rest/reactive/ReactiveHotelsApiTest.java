@@ -0,0 +1,179 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.reactive;
+
+import com.myenterprise.rest.geo.GeoGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+/**
+ * Integration tests of the reactive read API over an in-memory H2 database.
+ *
+ * <p>The tests verify the RSQL translation to SQL, the validation rules read from
+ * {@code api.yaml}, the grouping of facilities and the bearer token filter.</p>
+ */
+@SpringBootTest(properties = {"spring.r2dbc.url=r2dbc:h2:mem:///reactive-test",
+        "spring.flyway.url=jdbc:h2:mem:reactive-test;DB_CLOSE_DELAY=-1"})
+@AutoConfigureWebTestClient
+class ReactiveHotelsApiTest {
+
+    private static final UUID MADRID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PARIS = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void insertHotels() {
+        databaseClient.sql("DELETE FROM facilities").then().block();
+        databaseClient.sql("DELETE FROM hotels").then().block();
+        insertHotel(MADRID, "Hotel Continental", "Madrid", 4.5f, 40.4168, -3.7038);
+        insertHotel(PARIS, "Hotel <b>Ritz</b><script>alert(1)</script>", "Paris", 3.0f, 48.8566, 2.3522);
+        databaseClient.sql("INSERT INTO facilities (id, hotel_id, type, short_description) "
+                + "VALUES (RANDOM_UUID(), :hotel, 'RESTAURANT', 'Restaurant')")
+                .bind("hotel", MADRID).then().block();
+        databaseClient.sql("INSERT INTO facilities (id, hotel_id, type, short_description) "
+                + "VALUES (RANDOM_UUID(), :hotel, 'SWIMMING_POOL', 'Pool')")
+                .bind("hotel", MADRID).then().block();
+        // Restaurant (1) and swimming pool (4), as HotelsEntity writes it.
+        databaseClient.sql("UPDATE hotels SET facility_mask = 5 WHERE id = :hotel")
+                .bind("hotel", MADRID).then().block();
+    }
+
+    /**
+     * A filter must return only the matching hotels, with their facilities.
+     */
+    @Test
+    void filtersHotels() {
+        client.get().uri("/api/v1/hotels?filters={filters}", "city==Mad*;rating=ge=4")
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(MADRID.toString())
+                .jsonPath("$[0].facilities.length()").isEqualTo(2)
+                .jsonPath("$[0].facilities[1].type").isEqualTo("swimming pool");
+    }
+
+    /**
+     * A radius search returns the hotels within the distance, with their coordinates.
+     */
+    @Test
+    void filtersHotelsNearPoint() {
+        client.get().uri("/api/v1/hotels?filters={filters}", "location=near=(40.42,-3.70,5)")
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(MADRID.toString())
+                .jsonPath("$[0].latitude").isEqualTo(40.4168);
+    }
+
+    /**
+     * A facility filter returns the hotels that have all the requested types.
+     */
+    @Test
+    void filtersHotelsWithAllFacilities() {
+        client.get().uri("/api/v1/hotels?filters={filters}", "facilities=all=(restaurant,'swimming pool')")
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(MADRID.toString());
+
+        client.get().uri("/api/v1/hotels?filters={filters}", "facilities=all=(restaurant,cinema)")
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(0);
+    }
+
+    /**
+     * A logical operator not allowed in {@code api.yaml} must be rejected.
+     */
+    @Test
+    void rejectsDisallowedOperator() {
+        client.get().uri("/api/v1/hotels?filters={filters}", "city==Madrid,city==Paris")
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("HOTELS-ERROR-00400");
+    }
+
+    /**
+     * A hotel is returned sanitized, and an unknown id answers 404.
+     */
+    @Test
+    void findsHotelById() {
+        client.get().uri("/api/v1/hotels/{id}", PARIS)
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Hotel <b>Ritz</b>")
+                .jsonPath("$.facilities.length()").isEqualTo(0);
+
+        client.get().uri("/api/v1/hotels/{id}", UUID.randomUUID())
+                .header("Authorization", "Bearer 1234567890")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    /**
+     * Requests without the bearer token must be rejected.
+     */
+    @Test
+    void requiresToken() {
+        client.get().uri("/api/v1/hotels").exchange().expectStatus().isUnauthorized();
+    }
+
+    private void insertHotel(UUID id, String name, String city, float rating, double latitude, double longitude) {
+        databaseClient.sql("INSERT INTO hotels (id, name, description, address, city, rating, has_wifi, "
+                        + "latitude, longitude, geo_cell) VALUES (:id, :name, 'Description', 'Street Falsa 123', "
+                        + ":city, :rating, TRUE, :latitude, :longitude, :cell)")
+                .bind("id", id)
+                .bind("name", name)
+                .bind("city", city)
+                .bind("rating", rating)
+                .bind("latitude", latitude)
+                .bind("longitude", longitude)
+                .bind("cell", GeoGrid.cell(latitude, longitude))
+                .then().block();
+    }
+}
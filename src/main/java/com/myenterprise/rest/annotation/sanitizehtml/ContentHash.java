@@ -0,0 +1,155 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.SecureRandom;
+
+/**
+ * {@code ContentHash} is a 128-bit keyed fingerprint of a string value.
+ * <p>
+ * The hash is computed with SipHash-2-4 in its 128-bit output variant, directly over the
+ * UTF-16 code units of the string (little-endian), so no intermediate byte array is allocated.
+ * It is used as a compact key for the sanitized-value caches, where storing the full raw input
+ * would cost as much memory (or disk) as the sanitized output.
+ * </p>
+ *
+ * <p>
+ * SipHash is a pseudorandom function of its 128-bit {@link Key}: without the key, an input
+ * cannot be crafted to collide with another one, as it can with an unkeyed hash such as
+ * MurmurHash3. Each cache therefore hashes with a random key of its own, which a client never
+ * sees: {@link HashedSanitizerCache} draws one per instance, and {@link SanitizerDiskCache} one
+ * per file, stored in the file since the hash is only stable for the same key.
+ * </p>
+ *
+ * @param high the first 64 bits of the hash
+ * @param low  the last 64 bits of the hash
+ */
+public record ContentHash(long high, long low) {
+
+    /**
+     * Computes the 128-bit hash of the given value.
+     *
+     * @param value the string to hash; must not be {@code null}
+     * @param key   the secret key of the hash
+     * @return the {@link ContentHash} of {@code value}
+     */
+    @NotNull
+    public static ContentHash of(@NotNull String value, @NotNull Key key) {
+        long[] v = {
+                0x736f6d6570736575L ^ key.k0(),
+                0x646f72616e646f6dL ^ key.k1() ^ 0xee,
+                0x6c7967656e657261L ^ key.k0(),
+                0x7465646279746573L ^ key.k1()
+        };
+        int length = value.length();
+
+        // Body: words of 4 chars (8 bytes).
+        int words = length >>> 2;
+        for (int word = 0; word < words; word++) {
+            compress(v, pack(value, word << 2));
+        }
+
+        // Tail: the remaining 0..3 chars, and the length in bytes modulo 256 in the last byte.
+        int offset = words << 2;
+        long last = (long) (length << 1) << 56;
+        for (int index = 0; index < length - offset; index++) {
+            last |= (long) value.charAt(offset + index) << (index << 4);
+        }
+        compress(v, last);
+
+        // Finalization.
+        v[2] ^= 0xee;
+        rounds(v, 4);
+        long high = v[0] ^ v[1] ^ v[2] ^ v[3];
+        v[1] ^= 0xdd;
+        rounds(v, 4);
+        return new ContentHash(high, v[0] ^ v[1] ^ v[2] ^ v[3]);
+    }
+
+    /**
+     * Packs four UTF-16 code units into a little-endian 64-bit word.
+     */
+    private static long pack(String value, int offset) {
+        return (long) value.charAt(offset)
+                | (long) value.charAt(offset + 1) << 16
+                | (long) value.charAt(offset + 2) << 32
+                | (long) value.charAt(offset + 3) << 48;
+    }
+
+    private static void compress(long[] v, long word) {
+        v[3] ^= word;
+        rounds(v, 2);
+        v[0] ^= word;
+    }
+
+    private static void rounds(long[] v, int count) {
+        long v0 = v[0];
+        long v1 = v[1];
+        long v2 = v[2];
+        long v3 = v[3];
+        for (int round = 0; round < count; round++) {
+            v0 += v1;
+            v1 = Long.rotateLeft(v1, 13);
+            v1 ^= v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3;
+            v3 = Long.rotateLeft(v3, 16);
+            v3 ^= v2;
+            v0 += v3;
+            v3 = Long.rotateLeft(v3, 21);
+            v3 ^= v0;
+            v2 += v1;
+            v1 = Long.rotateLeft(v1, 17);
+            v1 ^= v2;
+            v2 = Long.rotateLeft(v2, 32);
+        }
+        v[0] = v0;
+        v[1] = v1;
+        v[2] = v2;
+        v[3] = v3;
+    }
+
+    /**
+     * The 128-bit secret key of a {@link ContentHash}.
+     *
+     * @param k0 the first 64 bits of the key, read little-endian
+     * @param k1 the last 64 bits of the key, read little-endian
+     */
+    public record Key(long k0, long k1) {
+
+        private static final SecureRandom RANDOM = new SecureRandom();
+
+        /**
+         * Returns a new random key.
+         *
+         * @return the key
+         */
+        @NotNull
+        public static Key random() {
+            return new Key(RANDOM.nextLong(), RANDOM.nextLong());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link SanitizerCache} keyed by the 128-bit {@link ContentHash} of the raw input.
+ * <p>
+ * Instead of retaining the raw input string as the key, each entry only stores two
+ * {@code long} words in a primitive open-addressing table (linear probing), plus a
+ * reference to the sanitized value. For long descriptions this roughly halves the
+ * memory used per entry compared with {@link StringKeySanitizerCache}.
+ * </p>
+ *
+ * <p>
+ * The raw input is never compared, so a hit trusts the 128-bit hash alone. The hash is keyed
+ * with a random {@link ContentHash.Key} drawn by each cache and never exposed: a client who
+ * does not know it cannot craft an input that takes the entry of another one, and two
+ * inputs share a hash only by chance, which is negligible for a 128-bit pseudorandom output.
+ * Probing compares the upper 64 bits of the hash; the lower 64 bits are verified on the rare
+ * slots whose upper word matches.
+ * </p>
+ *
+ * <p>
+ * The table is split into segments, each one guarded by a {@link StampedLock}. Lookups
+ * use optimistic reads, so the hit path does not write to shared memory.
+ * </p>
+ */
+public class HashedSanitizerCache implements SanitizerCache {
+
+    private static final int SEGMENTS = 16;
+    private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+    private static final int INITIAL_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /** Secret key of the hashes of this cache. */
+    private final ContentHash.Key key = ContentHash.Key.random();
+
+    /**
+     * Constructs an empty cache.
+     */
+    public HashedSanitizerCache() {
+        for (int index = 0; index < SEGMENTS; index++) {
+            segments[index] = new Segment();
+        }
+    }
+
+    @NotNull
+    @Override
+    public String computeIfAbsent(@NotNull String value, @NotNull UnaryOperator<String> sanitizer) {
+        ContentHash hash = ContentHash.of(value, key);
+        Segment segment = segmentFor(hash);
+        String cached = segment.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+        // Sanitize outside the lock: two threads may sanitize the same value, but only one result is kept.
+        return segment.putIfAbsent(hash, sanitizer.apply(value));
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(ContentHash hash) {
+        return segments[(int) (hash.low() >>> SEGMENT_SHIFT)];
+    }
+
+    /**
+     * Open-addressing table of one segment.
+     * <p>
+     * Slot {@code i} stores the hash in {@code keys[2i]} (high) and {@code keys[2i + 1]} (low),
+     * and the sanitized value in {@code values[i]}; a {@code null} value marks an empty slot.
+     * </p>
+     */
+    private static final class Segment {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_SEGMENT_CAPACITY * 2];
+        private String[] values = new String[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        @Nullable
+        String get(ContentHash hash) {
+            long stamp = lock.tryOptimisticRead();
+            String value = find(keys, values, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(keys, values, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @NotNull
+        String putIfAbsent(ContentHash hash, String value) {
+            long stamp = lock.writeLock();
+            try {
+                String existing = find(keys, values, hash);
+                if (existing != null) {
+                    return existing;
+                }
+                if ((size + 1) * 4L > values.length * 3L) {
+                    resize();
+                }
+                insert(keys, values, hash.high(), hash.low(), value);
+                size++;
+                return value;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                keys = new long[INITIAL_SEGMENT_CAPACITY * 2];
+                values = new String[INITIAL_SEGMENT_CAPACITY];
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Looks a hash up by linear probing. It tolerates arrays read during a concurrent
+         * resize (optimistic read): the result is then discarded by the caller.
+         */
+        @Nullable
+        private static String find(long[] keys, String[] values, ContentHash hash) {
+            int capacity = values.length;
+            if (keys.length != capacity * 2) {
+                return null;
+            }
+            int mask = capacity - 1;
+            int slot = spread(hash.high()) & mask;
+            for (int probe = 0; probe < capacity; probe++) {
+                String value = values[slot];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[slot << 1] == hash.high() && keys[(slot << 1) + 1] == hash.low()) {
+                    return value;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static void insert(long[] keys, String[] values, long high, long low, String value) {
+            int mask = values.length - 1;
+            int slot = spread(high) & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot << 1] = high;
+            keys[(slot << 1) + 1] = low;
+            values[slot] = value;
+        }
+
+        private void resize() {
+            long[] newKeys = new long[keys.length * 2];
+            String[] newValues = new String[values.length * 2];
+            for (int slot = 0; slot < values.length; slot++) {
+                if (values[slot] != null) {
+                    insert(newKeys, newValues, keys[slot << 1], keys[(slot << 1) + 1], values[slot]);
+                }
+            }
+            keys = newKeys;
+            values = newValues;
+        }
+
+        private static int spread(long high) {
+            return (int) (high ^ (high >>> 32));
+        }
+    }
+}
@@ -67,6 +67,23 @@ public class SanitizeHtmlResponse extends JsonSerializer<String> {
             JsonGenerator generator,
             SerializerProvider provider
     ) throws IOException {
+        write(value, generator);
+    }
+
+    /**
+     * Writes a {@link String} value sanitizing HTML content when necessary.
+     *
+     * <p>
+     * It is the logic of {@link #serialize(String, JsonGenerator, SerializerProvider)}
+     * exposed for the serializers generated from the OpenAPI models, which write the
+     * fields annotated with {@code @SanitizeHtml} without looking up this serializer.
+     * </p>
+     *
+     * @param value the string value to write, may be {@code null}
+     * @param generator the {@link JsonGenerator} used to write JSON content
+     * @throws IOException if an I/O error occurs during JSON generation
+     */
+    public static void write(String value, JsonGenerator generator) throws IOException {
         if (value == null || SanitizerHtml.hasNotHTML(value)) {
             generator.writeString(value);
             return;
@@ -54,6 +54,15 @@ public class SanitizePolicy {
      */
     private static final String TABLE = "table";
 
+    /**
+     * Version of {@link #HTML_POLICY}.
+     * <p>
+     * Persistent caches of sanitized values (see {@link SanitizerDiskCache}) are tagged
+     * with this number and discarded when it changes. Increment it whenever the rules
+     * of the policy are modified.
+     */
+    public static final int HTML_POLICY_VERSION = 1;
+
     /**
      * The immutable HTML sanitization policy factory.
      * <p>
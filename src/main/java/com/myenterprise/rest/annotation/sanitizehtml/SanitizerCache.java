@@ -0,0 +1,70 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * {@code SanitizerCache} is the contract of the in-memory caches used by
+ * {@link SanitizerHtml} to avoid sanitizing the same value twice.
+ * <p>
+ * Two implementations are available:
+ * </p>
+ * <ul>
+ *   <li>{@link StringKeySanitizerCache}: keyed by the raw input string (default).</li>
+ *   <li>{@link HashedSanitizerCache}: keyed by the 128-bit {@link ContentHash} of the
+ *       input, so the raw string is not retained.</li>
+ * </ul>
+ *
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ */
+public interface SanitizerCache {
+
+    /**
+     * Returns the cached sanitized value of {@code value}, computing and storing it
+     * with {@code sanitizer} if it is not cached yet.
+     *
+     * @param value     the raw input string; must not be {@code null}
+     * @param sanitizer the function that sanitizes {@code value}
+     * @return the sanitized value, never {@code null}
+     */
+    @NotNull
+    String computeIfAbsent(@NotNull String value, @NotNull UnaryOperator<String> sanitizer);
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Removes all the cached values.
+     */
+    void clear();
+}
@@ -0,0 +1,305 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * {@code SanitizerDiskCache} is a persistent, memory-mapped, append-only store that maps
+ * the {@link ContentHash} of a raw value to its sanitized text.
+ * <p>
+ * Its purpose is to survive restarts: after a deploy the in-memory cache of
+ * {@link SanitizerHtml} starts empty, and without this store every value would pay the
+ * full OWASP sanitization cost again. The file is mapped with {@link FileChannel#map},
+ * so the sanitized values are only paged in by the operating system when they are read.
+ * Only a small index (hash to file offset) is kept on the heap.
+ * </p>
+ *
+ * <p>
+ * File layout:
+ * </p>
+ * <pre>
+ * header : magic (int) | format version (int) | policy version (int) | reserved (int) | key k0 (long) | key k1 (long)
+ * entry  : hash high (long) | hash low (long) | length (int) | CRC32 of the bytes (int) | UTF-8 bytes
+ * </pre>
+ *
+ * <p>
+ * The entries are keyed by the {@link ContentHash} of the raw value under the {@link ContentHash.Key}
+ * of the file, drawn at random when the file is created, and read with {@link #hash(String)}.
+ * An input cannot be crafted to take the entry of another one without that key, and deleting
+ * the file discards the entries together with their key.
+ * </p>
+ *
+ * <p>
+ * The length of an entry is written last, so an entry that was not completely written
+ * (for example, the process was killed) has a length of {@code 0} and marks the end
+ * of the readable data. The operating system may still persist the page of the length
+ * before the page of the bytes after a crash, so the checksum of an entry is verified when
+ * the entry is read: an entry that does not match is dropped, and its value is sanitized
+ * and appended again. Opening the file only walks the headers of the entries, so the
+ * values are not paged in before they are read. When the policy version stored in the
+ * header differs from {@link SanitizePolicy#HTML_POLICY_VERSION}, the file is discarded
+ * and rebuilt.
+ * </p>
+ *
+ * <p>
+ * When the file reaches its configured capacity, new values are no longer persisted;
+ * they are still cached in memory by {@link SanitizerHtml}.
+ * </p>
+ */
+public final class SanitizerDiskCache implements Closeable {
+
+    /** Name of the cache file inside the configured directory. */
+    public static final String FILE_NAME = "sanitized-values.cache";
+
+    /** Magic number that identifies the file ("SNTZ"). */
+    private static final int MAGIC = 0x534E545A;
+
+    /** Version of the binary layout described in the class documentation. */
+    private static final int FORMAT_VERSION = 3;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int ENTRY_HEADER_SIZE = 24;
+    private static final int LENGTH_OFFSET = 16;
+    private static final int CHECKSUM_OFFSET = 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    /** Key of the hashes of the entries, stored in the header. */
+    private final ContentHash.Key key;
+
+    /**
+     * Index from the upper 64 bits of the hash to the offset of the entry.
+     * The lower 64 bits and the checksum are verified against the file when the entry is read.
+     */
+    private final ConcurrentHashMap<Long, Integer> index = new ConcurrentHashMap<>(1024);
+
+    /** Offset where the next entry will be appended. Guarded by {@code this}. */
+    private int writePosition;
+
+    private SanitizerDiskCache(FileChannel channel, MappedByteBuffer buffer, int capacity, ContentHash.Key key) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.key = key;
+    }
+
+    /**
+     * Opens (or creates) the cache file in the given directory.
+     *
+     * <p>
+     * If the existing file was written with a different format or policy version it is
+     * truncated, and a new file gets a new random key. The entries of a valid file are indexed
+     * by reading only their headers.
+     * </p>
+     *
+     * @param directory     directory that holds the cache file; created if missing
+     * @param policyVersion version of the sanitization policy, see {@link SanitizePolicy#HTML_POLICY_VERSION}
+     * @param capacity      maximum size of the file in bytes
+     * @return an open {@code SanitizerDiskCache}
+     * @throws IOException if the file cannot be created, read or mapped
+     */
+    @NotNull
+    public static SanitizerDiskCache open(@NotNull Path directory, int policyVersion, int capacity) throws IOException {
+        if (capacity <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Sanitizer disk cache capacity is too small: " + capacity);
+        }
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(directory.resolve(FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean reusable = hasValidHeader(channel, policyVersion);
+            if (!reusable) {
+                channel.truncate(0);
+            }
+            int mappedSize = (int) Math.max(capacity, Math.min(channel.size(), Integer.MAX_VALUE));
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+            ContentHash.Key key = reusable
+                    ? new ContentHash.Key(buffer.getLong(16), buffer.getLong(24))
+                    : ContentHash.Key.random();
+            SanitizerDiskCache cache = new SanitizerDiskCache(channel, buffer, mappedSize, key);
+            if (reusable) {
+                cache.loadIndex();
+            } else {
+                cache.writeHeader(policyVersion);
+            }
+            return cache;
+        } catch (IOException | RuntimeException error) {
+            channel.close();
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the hash of a raw value under the key of this file, as {@link #get} and {@link #put} expect it.
+     *
+     * @param value the raw value
+     * @return the hash of {@code value}
+     */
+    @NotNull
+    public ContentHash hash(@NotNull String value) {
+        return ContentHash.of(value, key);
+    }
+
+    /**
+     * Returns the sanitized value stored for the given hash. An entry that does not match its
+     * checksum is dropped from the index, so the value can be appended again.
+     *
+     * @param hash the hash of the raw value, from {@link #hash(String)}
+     * @return the sanitized value, or {@code null} if it is not stored or is corrupt
+     */
+    @Nullable
+    public String get(@NotNull ContentHash hash) {
+        Integer position = index.get(hash.high());
+        if (position == null || buffer.getLong(position + 8) != hash.low()) {
+            return null;
+        }
+        byte[] bytes = new byte[buffer.getInt(position + LENGTH_OFFSET)];
+        buffer.get(position + ENTRY_HEADER_SIZE, bytes);
+        if (buffer.getInt(position + CHECKSUM_OFFSET) != checksum(bytes)) {
+            index.remove(hash.high(), position);
+            return null;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends a sanitized value to the file.
+     *
+     * <p>
+     * The call is ignored if an entry with the same hash already exists or if the
+     * file has no room left.
+     * </p>
+     *
+     * @param hash      the hash of the raw value, from {@link #hash(String)}
+     * @param sanitized the sanitized value to persist
+     */
+    public void put(@NotNull ContentHash hash, @NotNull String sanitized) {
+        byte[] bytes = sanitized.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0 || index.containsKey(hash.high())) {
+            // Empty values cannot be told apart from the end of the data; they are cheap to sanitize anyway.
+            return;
+        }
+        synchronized (this) {
+            int position = writePosition;
+            if ((long) position + ENTRY_HEADER_SIZE + bytes.length > capacity || index.containsKey(hash.high())) {
+                return;
+            }
+            buffer.putLong(position, hash.high());
+            buffer.putLong(position + 8, hash.low());
+            buffer.put(position + ENTRY_HEADER_SIZE, bytes);
+            buffer.putInt(position + CHECKSUM_OFFSET, checksum(bytes));
+            // The length is the commit marker of the entry, so it is written last.
+            buffer.putInt(position + LENGTH_OFFSET, bytes.length);
+            writePosition = position + ENTRY_HEADER_SIZE + bytes.length;
+            index.put(hash.high(), position);
+        }
+    }
+
+    /**
+     * Returns the number of entries available in the file.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Flushes the mapped pages to disk and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Checks whether the file starts with a header compatible with the current
+     * format and the given policy version.
+     */
+    private static boolean hasValidHeader(FileChannel channel, int policyVersion) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        return header.getInt(0) == MAGIC
+                && header.getInt(4) == FORMAT_VERSION
+                && header.getInt(8) == policyVersion;
+    }
+
+    private void writeHeader(int policyVersion) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        buffer.putInt(8, policyVersion);
+        buffer.putInt(12, 0);
+        buffer.putLong(16, key.k0());
+        buffer.putLong(24, key.k1());
+        writePosition = HEADER_SIZE;
+    }
+
+    /**
+     * Walks the headers of the entries and rebuilds the in-memory index, without reading the
+     * values. The walk stops at the first entry that is empty or does not fit in the file;
+     * the next entries are overwritten. A later entry of a hash replaces an earlier one, which
+     * was dropped as corrupt before the value was appended again.
+     */
+    private void loadIndex() {
+        int position = HEADER_SIZE;
+        while ((long) position + ENTRY_HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position + LENGTH_OFFSET);
+            if (length <= 0 || (long) position + ENTRY_HEADER_SIZE + length > capacity) {
+                break;
+            }
+            index.put(buffer.getLong(position), position);
+            position += ENTRY_HEADER_SIZE + length;
+        }
+        writePosition = position;
+    }
+
+    /** Returns the CRC32 of the bytes of an entry. */
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
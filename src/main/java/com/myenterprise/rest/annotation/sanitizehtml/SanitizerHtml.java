@@ -23,9 +23,12 @@
  */
 package com.myenterprise.rest.annotation.sanitizehtml;
 
+import com.myenterprise.rest.utils.StringInterner;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.regex.Pattern;
 
 import static com.myenterprise.rest.annotation.sanitizehtml.SanitizePolicy.HTML_POLICY;
@@ -38,8 +41,10 @@ import static com.myenterprise.rest.annotation.sanitizehtml.SanitizePolicy.HTML_
  * </p>
  *
  * <p>
- * To improve performance, an internal cache is used to store previously
+ * To improve performance, an internal {@link SanitizerCache} is used to store previously
  * sanitized values. The cache is thread-safe and suitable for concurrent access.
+ * Optionally, a persistent {@link SanitizerDiskCache} can be enabled as a second level,
+ * so sanitized values survive restarts.
  * </p>
  *
  * <p>
@@ -53,9 +58,15 @@ public class SanitizerHtml {
     /**
      * Thread-safe cache that stores sanitized values to avoid repeating
      * expensive sanitization operations for the same input.
+     * Replaceable with {@link #useCache(SanitizerCache)}.
      */
-    private static final ConcurrentHashMap<String, String> CACHE =
-            new ConcurrentHashMap<>(1024);
+    private static volatile SanitizerCache cache = new StringKeySanitizerCache();
+
+    /**
+     * Optional persistent second-level cache. {@code null} when disabled.
+     */
+    @Nullable
+    private static volatile SanitizerDiskCache diskCache;
 
     /**
      * Regular expression pattern used to detect the presence of HTML tags
@@ -88,9 +99,11 @@ public class SanitizerHtml {
      *
      * <p>
      * The method first retrieves a cached sanitized value if available.
-     * If not present, it sanitizes the original value and stores the result
-     * in the cache. A second sanitization pass is then applied to the cached
-     * value to ensure consistency and safety.
+     * If not present, it looks the value up in the disk cache (when enabled) and,
+     * as a last resort, sanitizes the original value and stores the result
+     * in both caches. The value stored in the in-memory cache is interned with
+     * {@link StringInterner#SHARED}: the inputs that only differ in their markup,
+     * such as a city with and without a script tag, share one sanitized instance.
      * </p>
      *
      * @param value the input string to sanitize; must not be {@code null}
@@ -99,10 +112,85 @@ public class SanitizerHtml {
     @NotNull
     public static String sanitizeValue(String value) {
 
-        return CACHE.computeIfAbsent(
-                value,
-                text -> HTML_POLICY.sanitize(text, null, SanitizeHtmlResponse.class)
-        );
+        return cache.computeIfAbsent(value, raw -> StringInterner.SHARED.intern(sanitizeUncached(raw)));
+    }
+
+    /**
+     * Replaces the in-memory cache of sanitized values.
+     *
+     * <p>
+     * The values held by the previous cache are not migrated; they are sanitized
+     * again (or read from the disk cache) on their next use.
+     * </p>
+     *
+     * @param newCache the cache to use from now on
+     */
+    public static void useCache(@NotNull SanitizerCache newCache) {
+        cache = newCache;
+    }
+
+    /**
+     * Returns the in-memory cache of sanitized values currently in use.
+     *
+     * @return the current {@link SanitizerCache}
+     */
+    @NotNull
+    public static SanitizerCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Sanitizes a value that is not present in the in-memory cache, going through
+     * the disk cache when it is enabled.
+     *
+     * @param value the input string to sanitize
+     * @return the sanitized string
+     */
+    @NotNull
+    private static String sanitizeUncached(@NotNull String value) {
+        SanitizerDiskCache disk = diskCache;
+        if (disk == null) {
+            return HTML_POLICY.sanitize(value, null, SanitizeHtmlResponse.class);
+        }
+        ContentHash hash = disk.hash(value);
+        String sanitized = disk.get(hash);
+        if (sanitized == null) {
+            sanitized = HTML_POLICY.sanitize(value, null, SanitizeHtmlResponse.class);
+            disk.put(hash, sanitized);
+        }
+        return sanitized;
+    }
+
+    /**
+     * Enables the persistent disk cache stored in the given directory.
+     *
+     * <p>
+     * The file is tagged with {@link SanitizePolicy#HTML_POLICY_VERSION}; a file written
+     * with another version of the policy is discarded. Any previously enabled disk cache
+     * is closed.
+     * </p>
+     *
+     * @param directory directory where the cache file is stored
+     * @param capacity  maximum size of the cache file in bytes
+     * @throws IOException if the cache file cannot be opened
+     */
+    public static synchronized void enableDiskCache(@NotNull Path directory, int capacity) throws IOException {
+        SanitizerDiskCache opened = SanitizerDiskCache.open(directory, SanitizePolicy.HTML_POLICY_VERSION, capacity);
+        disableDiskCache();
+        diskCache = opened;
+    }
+
+    /**
+     * Disables and closes the persistent disk cache, if it is enabled.
+     *
+     * @throws IOException if the cache file cannot be closed
+     */
+    public static synchronized void disableDiskCache() throws IOException {
+        SanitizerDiskCache current = diskCache;
+        diskCache = null;
+        if (current != null) {
+            current.close();
+        }
     }
 
     /**
@@ -0,0 +1,63 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link SanitizerCache} backed by a {@link ConcurrentHashMap} whose key is the raw
+ * input string and whose value is the sanitized output.
+ * <p>
+ * This is the default cache. It is simple and exact, but each entry retains the full
+ * raw input: for long descriptions the key costs as much memory as the value.
+ * See {@link HashedSanitizerCache} for a more compact alternative.
+ * </p>
+ */
+public class StringKeySanitizerCache implements SanitizerCache {
+
+    /**
+     * Thread-safe map that stores sanitized values to avoid repeating
+     * expensive sanitization operations for the same input.
+     */
+    private final ConcurrentHashMap<String, String> cache = new ConcurrentHashMap<>(1024);
+
+    @NotNull
+    @Override
+    public String computeIfAbsent(@NotNull String value, @NotNull UnaryOperator<String> sanitizer) {
+        return cache.computeIfAbsent(value, sanitizer);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -84,5 +84,25 @@ public enum Operators {
      * Less‑than‑or‑equal operator ({@code <=}). Allows values that are equal to
      * or fall below the supplied threshold.
      */
-    LESS_THAN_OR_EQUAL
+    LESS_THAN_OR_EQUAL,
+
+    /**
+     * Full‑text operator ({@code =ft=}). Matches the hotels whose name or
+     * description contain all the words of the value, using the full‑text
+     * index; only valid on the selector {@code text}.
+     */
+    FULL_TEXT,
+
+    /**
+     * Radius operator ({@code =near=}). Matches the hotels within a distance
+     * of a point, {@code location=near=(lat,lon,km)}, using the geographic
+     * grid index; only valid on the selector {@code location}.
+     */
+    NEAR,
+    /**
+     * Facility operator ({@code =all=}). Matches the hotels that have all the
+     * facility types, {@code facilities=all=(cinema,restaurant)}, using the
+     * facility mask; only valid on the selector {@code facilities}.
+     */
+    ALL
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.validatersql;
+
+import com.myenterprise.rest.facility.FacilityMask;
+import com.myenterprise.rest.geo.NearQuery;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * {@code RsqlValidator} enforces the rules declared by a {@link ValidateRsql} annotation
+ * on an RSQL expression.
+ *
+ * <p>The validation does not depend on the web stack: it is used by
+ * {@link ValidateRsqlHandlerInterceptor} in the servlet application and directly by the
+ * handlers of the reactive module, which read the same annotation from the generated API.</p>
+ */
+public final class RsqlValidator {
+
+    private RsqlValidator() {}
+
+    /**
+     * Core RSQL validation routine.
+     *
+     * <p>The method parses the supplied RSQL string, then checks the following
+     * constraints defined in the {@link ValidateRsql} annotation:</p>
+     * <ul>
+     *   <li>Maximum tree depth</li>
+     *   <li>Maximum number of comparison operators</li>
+     *   <li>Allowed comparison operators (e.g. {@code ==}, {@code !=})</li>
+     *   <li>Full‑text ({@code =ft=}) and radius ({@code =near=}) operators only on their
+     *       selectors {@code text} and {@code location}</li>
+     *   <li>Allowed logical operators (AND / OR)</li>
+     *   <li>Optional field whitelist</li>
+     * </ul>
+     *
+     * @param rsql the raw RSQL expression supplied by the client
+     * @param annotation  the annotation instance containing validation rules
+     * @return the parsed expression, so the caller does not parse it again
+     * @throws IllegalArgumentException if any of the validation rules are violated
+     */
+    public static Node validate(String rsql, ValidateRsql annotation) {
+        Node rootNode = RsqlSearchOperation.parser().parse(rsql);
+
+        int depth = computeDepth(rootNode);
+        if (depth > annotation.depth()) {
+            throw new IllegalArgumentException(
+                    "RSQL: Maximum allowed depth is %d but expression depth is %d".formatted(annotation.depth(), depth));
+        }
+
+        int operatorCount = countOperators(rootNode);
+        if (operatorCount > annotation.maxOperators()) {
+            throw new IllegalArgumentException(
+                    "RSQL: Maximum allowed operators is %d but expression contains %d".formatted(annotation.maxOperators(), operatorCount));
+        }
+
+        validateAllowedOperators(rootNode, annotation.allowOperators());
+
+        validateVirtualSelectors(rootNode);
+
+        validateAllowedLogicalOperators(rootNode, annotation.allowLogicalOperators());
+
+        if (annotation.validateFields()) {
+            validateFields(rootNode, annotation.fields());
+        }
+        return rootNode;
+    }
+
+    /**
+     * Recursively computes the maximum depth of the AST rooted at {@code node}.
+     *
+     * @param node the current AST node
+     * @return the depth of the subtree (leaf nodes have depth 1)
+     */
+    private static int computeDepth(Node node) {
+        if (node instanceof LogicalNode logicalNode) {
+            int max = 0;
+            for (var child : logicalNode.getChildren()) {
+                max = Math.max(max, computeDepth(child));
+            }
+            return max + 1;
+        }
+        return 1;
+    }
+
+    /**
+     * Counts how many {@link ComparisonNode}s appear in the AST.
+     *
+     * @param node the current AST node
+     * @return the total number of comparison operators in the subtree
+     */
+    private static int countOperators(Node node) {
+        if (node instanceof ComparisonNode) {
+            return 1;
+        }
+        if (node instanceof LogicalNode logicalNode) {
+            int sum = 0;
+            for (var child : logicalNode.getChildren()) {
+                sum += countOperators(child);
+            }
+            return sum;
+        }
+        return 0;
+    }
+
+    /**
+     * Checks that every comparison operator used in the AST is present in the
+     * {@code allowed} array.
+     *
+     * @param node    the current AST node
+     * @param allowed the set of permitted {@link Operators}
+     * @throws IllegalArgumentException if a disallowed operator is encountered
+     */
+    private static void validateAllowedOperators(Node node,
+                                          Operators[] allowed) {
+        var allowedSet = EnumSet.noneOf(Operators.class);
+        Collections.addAll(allowedSet, allowed);
+
+        if (node instanceof ComparisonNode comparisonNode) {
+            String operatorSymbol = comparisonNode.getOperator().getSymbol();
+            Operators operatorEnum = mapSymbolToOperator(operatorSymbol);
+            if (!allowedSet.contains(operatorEnum)) {
+                throw new IllegalArgumentException("RSQL: Operator not allowed: " + operatorSymbol);
+            }
+        } else if (node instanceof LogicalNode logicalNode) {
+            for (var child : logicalNode.getChildren()) {
+                validateAllowedOperators(child, allowed);
+            }
+        }
+    }
+
+    /**
+     * Checks that the operators on virtual selectors ({@code text=ft=}, {@code location=near=},
+     * {@code facilities=all=}) are only applied to their selector, that these selectors are only
+     * used with their operator, that the arguments of {@code =near=} are valid coordinates and
+     * radius, and that those of {@code =all=} are facility types.
+     *
+     * @param node the current AST node
+     * @throws IllegalArgumentException if an operator and its virtual selector are not used together
+     */
+    private static void validateVirtualSelectors(Node node) {
+        if (node instanceof ComparisonNode comparisonNode) {
+            RsqlSearchOperation operation = RsqlSearchOperation.getSimpleOperator(comparisonNode.getOperator());
+            String selector = comparisonNode.getSelector();
+            if (operation != null && operation.getSelector() != null && !operation.getSelector().equals(selector)) {
+                throw new IllegalArgumentException("RSQL: Operator %s is only allowed on the field %s: %s"
+                        .formatted(operation.getOperator().getSymbol(), operation.getSelector(), selector));
+            }
+            RsqlSearchOperation selectorOperation = RsqlSearchOperation.ofVirtualSelector(selector);
+            if (selectorOperation != null && selectorOperation != operation) {
+                throw new IllegalArgumentException("RSQL: Field %s only supports the operator %s"
+                        .formatted(selector, selectorOperation.getOperator().getSymbol()));
+            }
+            if (operation == RsqlSearchOperation.NEAR) {
+                NearQuery.parse(comparisonNode.getArguments());
+            } else if (operation == RsqlSearchOperation.ALL) {
+                FacilityMask.parse(comparisonNode.getArguments());
+            }
+        } else if (node instanceof LogicalNode logicalNode) {
+            for (var child : logicalNode.getChildren()) {
+                validateVirtualSelectors(child);
+            }
+        }
+    }
+
+    /**
+     * Translates an RSQL operator symbol (e.g. {@code "=="} ) into the
+     * corresponding {@link Operators} enum constant.
+     *
+     * @param symbol the textual representation of the operator
+     * @return the matching {@link Operators} value
+     * @throws IllegalArgumentException if the symbol does not correspond to any known operator
+     */
+    private static Operators mapSymbolToOperator(String symbol) {
+        return switch (symbol) {
+            case "==" -> Operators.EQUAL;
+            case "!=" -> Operators.NOT_EQUAL;
+            case ">", "=gt=" -> Operators.GREATER_THAN;
+            case ">=", "=ge=" -> Operators.GREATER_THAN_OR_EQUAL;
+            case "<", "=lt="  -> Operators.LESS_THAN;
+            case "<=", "=le=" -> Operators.LESS_THAN_OR_EQUAL;
+            case "=in=" -> Operators.IN;
+            case "=out=" -> Operators.NOT_IN;
+            case "=ft=" -> Operators.FULL_TEXT;
+            case "=near=" -> Operators.NEAR;
+            case "=all=" -> Operators.ALL;
+            default -> throw new IllegalArgumentException("RSQL: Operator unknown: " + symbol);
+        };
+    }
+
+    /**
+     * Ensures that every logical operator (AND / OR) used in the AST is among the
+     * {@code allowed} set.
+     *
+     * @param node    the current AST node
+     * @param allowed the permitted {@link LogicalOperator}s
+     * @throws IllegalArgumentException if a disallowed logical operator is found
+     */
+    private static void validateAllowedLogicalOperators(Node node,
+                                                 LogicalOperator[] allowed) {
+        var allowedSet = EnumSet.noneOf(LogicalOperator.class);
+        Collections.addAll(allowedSet, allowed);
+
+        if (node instanceof LogicalNode logicalNode) {
+            if (!allowedSet.contains(logicalNode.getOperator())) {
+                throw new IllegalArgumentException("RSQL: logic operator not allowed: " + logicalNode.getOperator());
+            }
+            for (var child : logicalNode.getChildren()) {
+                validateAllowedLogicalOperators(child, allowed);
+            }
+        }
+    }
+
+    /**
+     * Validates that all field selectors referenced in the RSQL expression are
+     * part of the whitelist supplied via {@code allowedFields}.
+     *
+     * @param node          the current AST node
+     * @param allowedFields an array of permitted field names
+     * @throws IllegalArgumentException if a field outside the whitelist is used
+     */
+    private static void validateFields(Node node, String[] allowedFields) {
+        var allowedSet = Set.of(allowedFields);
+        if (node instanceof ComparisonNode comparisonNode) {
+            String selector = comparisonNode.getSelector();
+            if (!allowedSet.contains(selector)) {
+                throw new IllegalArgumentException("RSQL: Field not allowed: " + selector);
+            }
+        } else if (node instanceof LogicalNode ln) {
+            for (var child : ln.getChildren()) {
+                validateFields(child, allowedFields);
+            }
+        }
+    }
+}
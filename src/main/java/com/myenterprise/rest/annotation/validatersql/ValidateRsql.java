@@ -92,7 +92,10 @@ public @interface ValidateRsql {
             Operators.GREATER_THAN,
             Operators.GREATER_THAN_OR_EQUAL,
             Operators.LESS_THAN,
-            Operators.LESS_THAN_OR_EQUAL
+            Operators.LESS_THAN_OR_EQUAL,
+            Operators.FULL_TEXT,
+            Operators.NEAR,
+            Operators.ALL
     };
 
     /**
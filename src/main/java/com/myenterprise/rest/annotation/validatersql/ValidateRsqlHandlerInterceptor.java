@@ -25,15 +25,17 @@
  */
 package com.myenterprise.rest.annotation.validatersql;
 
+import com.myenterprise.rest.rsql.RsqlUsageRecorder;
+import com.myenterprise.rest.utils.RateLimitedLogger;
 import com.myenterprise.rest.utils.ResponseUtils;
-import cz.jirutka.rsql.parser.RSQLParser;
-import cz.jirutka.rsql.parser.ast.ComparisonNode;
-import cz.jirutka.rsql.parser.ast.LogicalNode;
-import cz.jirutka.rsql.parser.ast.LogicalOperator;
 import cz.jirutka.rsql.parser.ast.Node;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -41,13 +43,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.time.Duration;
 import java.util.*;
 
 /**
  * {@code ValidateRsqlHandlerInterceptor} intercepts incoming HTTP requests and validates
  * any method arguments annotated with {@link ValidateRsql}. It parses the supplied RSQL
  * expression, checks depth, operator count, allowed operators, logical comparators and,
- * optionally, permitted fields. Errors are written back to the client via
+ * optionally, permitted fields (see {@link RsqlValidator}). Errors are written back to the client via
  * {@link ResponseUtils}.
  *
  * <p>This interceptor is registered as a Spring {@code @Component} and therefore
@@ -55,16 +58,66 @@ import java.util.*;
  *
  * <p>Only read‑only operations are performed – the interceptor never mutates the
  * request or the controller arguments.</p>
+ *
+ * <p>The accepted filters and the latency of their requests are reported to a
+ * {@link RsqlUsageRecorder}, which feeds the index advisor. The controller is asynchronous,
+ * so the latency is measured from the first dispatch to the completion of the async
+ * dispatch, and the async dispatch is not validated a second time.</p>
  */
 @Component
 public class ValidateRsqlHandlerInterceptor implements HandlerInterceptor {
 
+    /** Error written when the name of the query parameter cannot be resolved; serialized once. */
+    private static final ResponseUtils.PreparedError UNRESOLVED_PARAMETER_ERROR = ResponseUtils.prepareError(
+            "Invalid configuration: unable to resolve query‑param name for @ValidateRsql parameter.",
+            HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+            ResponseUtils.INTERNAL_ERROR_CODE);
+
+    /** Error written when the RSQL expression cannot be parsed; serialized once. */
+    private static final ResponseUtils.PreparedError UNPARSEABLE_RSQL_ERROR = ResponseUtils.prepareError(
+            "Unable to parse RSQL expression.",
+            HttpServletResponse.SC_BAD_REQUEST,
+            ResponseUtils.BAD_REQUEST_CODE);
+
+    /**
+     * Logger of the unparseable expressions. They are client errors, so they are logged
+     * at {@code WARN} and at most 5 per second, to survive floods of invalid filters.
+     */
+    private static final RateLimitedLogger PARSE_ERROR_LOGGER = new RateLimitedLogger(
+            LoggerFactory.getLogger(ValidateRsqlHandlerInterceptor.class), Level.WARN, 5, Duration.ofSeconds(1));
+
     /**
      * Helper used when the project is not compiled with {@code -parameters}.
      * It discovers method parameter names via reflection.
      */
     private final DefaultParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
 
+    /** Request attribute holding the accepted filter until the request completes. */
+    private static final String RECORDED_FILTER = ValidateRsqlHandlerInterceptor.class.getName() + ".filter";
+
+    /** Request attribute holding the {@link System#nanoTime()} of the first dispatch. */
+    private static final String STARTED_AT = ValidateRsqlHandlerInterceptor.class.getName() + ".startedAt";
+
+    /** Recorder of the filter usage, or {@code null} when the usage is not recorded. */
+    private final RsqlUsageRecorder usageRecorder;
+
+    /**
+     * Creates an interceptor that does not record the filter usage.
+     */
+    public ValidateRsqlHandlerInterceptor() {
+        this(null);
+    }
+
+    /**
+     * Creates an interceptor that reports the accepted filters to a recorder.
+     *
+     * @param usageRecorder the recorder of the filter usage
+     */
+    @Autowired
+    public ValidateRsqlHandlerInterceptor(RsqlUsageRecorder usageRecorder) {
+        this.usageRecorder = usageRecorder;
+    }
+
     /**
      * Called before the actual controller method is invoked.
      *
@@ -80,7 +133,8 @@ public class ValidateRsqlHandlerInterceptor implements HandlerInterceptor {
                              @NotNull Object handler) throws Exception {
 
         boolean isNotRequestRestAPI = ! (handler instanceof HandlerMethod);
-        if (isNotRequestRestAPI) {
+        boolean isAlreadyValidated = request.getDispatcherType() == DispatcherType.ASYNC;
+        if (isNotRequestRestAPI || isAlreadyValidated) {
             return true;
         }
         HandlerMethod handlerMethod = (HandlerMethod) handler;
@@ -95,11 +149,7 @@ public class ValidateRsqlHandlerInterceptor implements HandlerInterceptor {
 
             String paramName = getQueryParameterName(methodParameter);
             if (paramName == null) {
-                ResponseUtils.writeErrorResponse(
-                        response,
-                        "Invalid configuration: unable to resolve query‑param name for @ValidateRsql parameter.",
-                        HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
-                        "HOTELS-ERROR-00500");
+                ResponseUtils.writeErrorResponse(response, UNRESOLVED_PARAMETER_ERROR);
                 return false;
             }
 
@@ -110,27 +160,48 @@ public class ValidateRsqlHandlerInterceptor implements HandlerInterceptor {
                 continue;
             }
             try {
-                validateRsql(parameterValue, annotation);
+                Node filter = RsqlValidator.validate(parameterValue, annotation);
+                if (usageRecorder != null) {
+                    request.setAttribute(RECORDED_FILTER, filter);
+                    request.setAttribute(STARTED_AT, System.nanoTime());
+                }
             } catch (IllegalArgumentException error) {
                 ResponseUtils.writeErrorResponse(
                         response,
                         error.getMessage(),
                         HttpServletResponse.SC_BAD_REQUEST,
-                        "HOTELS-ERROR-00400");
+                        ResponseUtils.BAD_REQUEST_CODE);
                 return false;
             } catch (Exception error) {
-                ResponseUtils.writeErrorResponse(
-                        response,
-                        "Unable to parse RSQL expression.",
-                        HttpServletResponse.SC_BAD_REQUEST,
-                        "HOTELS-ERROR-00400");
-                error.printStackTrace();
+                ResponseUtils.writeErrorResponse(response, UNPARSEABLE_RSQL_ERROR);
+                PARSE_ERROR_LOGGER.log("parse_rsql", error);
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Called when the request is complete (after the async dispatch for the asynchronous
+     * controller methods). Reports the accepted filter and the latency of the request.
+     *
+     * @param request  the current HTTP request
+     * @param response the current HTTP response
+     * @param handler  the handler that was executed
+     * @param ex       the exception thrown by the handler, if any
+     */
+    @Override
+    public void afterCompletion(@NotNull HttpServletRequest request,
+                                @NotNull HttpServletResponse response,
+                                @NotNull Object handler,
+                                Exception ex) {
+        if (usageRecorder != null && request.getAttribute(RECORDED_FILTER) instanceof Node filter
+                && request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(RECORDED_FILTER);
+            usageRecorder.record(filter, System.nanoTime() - startedAt);
+        }
+    }
+
     /**
      * Determines the name of the HTTP query‑parameter that corresponds to the given
      * {@link MethodParameter}.
@@ -163,176 +234,4 @@ public class ValidateRsqlHandlerInterceptor implements HandlerInterceptor {
                 )
         )[methodParameter.getParameterIndex()];
     }
-
-    /**
-     * Core RSQL validation routine.
-     *
-     * <p>The method parses the supplied RSQL string, then checks the following
-     * constraints defined in the {@link ValidateRsql} annotation:</p>
-     * <ul>
-     *   <li>Maximum tree depth</li>
-     *   <li>Maximum number of comparison operators</li>
-     *   <li>Allowed comparison operators (e.g. {@code ==}, {@code !=})</li>
-     *   <li>Allowed logical operators (AND / OR)</li>
-     *   <li>Optional field whitelist</li>
-     * </ul>
-     *
-     * @param rsql the raw RSQL expression supplied by the client
-     * @param annotation  the annotation instance containing validation rules
-     * @throws IllegalArgumentException if any of the validation rules are violated
-     */
-    private void validateRsql(String rsql, ValidateRsql annotation) {
-        RSQLParser parser = new RSQLParser();
-        Node rootNode = parser.parse(rsql);
-
-        int depth = computeDepth(rootNode);
-        if (depth > annotation.depth()) {
-            throw new IllegalArgumentException(
-                    "RSQL: Maximum allowed depth is %d but expression depth is %d".formatted(annotation.depth(), depth));
-        }
-
-        int operatorCount = countOperators(rootNode);
-        if (operatorCount > annotation.maxOperators()) {
-            throw new IllegalArgumentException(
-                    "RSQL: Maximum allowed operators is %d but expression contains %d".formatted(annotation.maxOperators(), operatorCount));
-        }
-
-        validateAllowedOperators(rootNode, annotation.allowOperators());
-
-        validateAllowedLogicalOperators(rootNode, annotation.allowLogicalOperators());
-
-        if (annotation.validateFields()) {
-            validateFields(rootNode, annotation.fields());
-        }
-    }
-
-    /**
-     * Recursively computes the maximum depth of the AST rooted at {@code node}.
-     *
-     * @param node the current AST node
-     * @return the depth of the subtree (leaf nodes have depth 1)
-     */
-    private int computeDepth(Node node) {
-        if (node instanceof LogicalNode logicalNode) {
-            int max = 0;
-            for (var child : logicalNode.getChildren()) {
-                max = Math.max(max, computeDepth(child));
-            }
-            return max + 1;
-        }
-        return 1;
-    }
-
-    /**
-     * Counts how many {@link ComparisonNode}s appear in the AST.
-     *
-     * @param node the current AST node
-     * @return the total number of comparison operators in the subtree
-     */
-    private int countOperators(Node node) {
-        if (node instanceof ComparisonNode) {
-            return 1;
-        }
-        if (node instanceof LogicalNode logicalNode) {
-            int sum = 0;
-            for (var child : logicalNode.getChildren()) {
-                sum += countOperators(child);
-            }
-            return sum;
-        }
-        return 0;
-    }
-
-    /**
-     * Checks that every comparison operator used in the AST is present in the
-     * {@code allowed} array.
-     *
-     * @param node    the current AST node
-     * @param allowed the set of permitted {@link Operators}
-     * @throws IllegalArgumentException if a disallowed operator is encountered
-     */
-    private void validateAllowedOperators(Node node,
-                                          Operators[] allowed) {
-        var allowedSet = EnumSet.noneOf(Operators.class);
-        Collections.addAll(allowedSet, allowed);
-
-        if (node instanceof ComparisonNode comparisonNode) {
-            String operatorSymbol = comparisonNode.getOperator().getSymbol();
-            Operators operatorEnum = mapSymbolToOperator(operatorSymbol);
-            if (!allowedSet.contains(operatorEnum)) {
-                throw new IllegalArgumentException("RSQL: Operator not allowed: " + operatorSymbol);
-            }
-        } else if (node instanceof LogicalNode logicalNode) {
-            for (var child : logicalNode.getChildren()) {
-                validateAllowedOperators(child, allowed);
-            }
-        }
-    }
-
-    /**
-     * Translates an RSQL operator symbol (e.g. {@code "=="} ) into the
-     * corresponding {@link Operators} enum constant.
-     *
-     * @param symbol the textual representation of the operator
-     * @return the matching {@link Operators} value
-     * @throws IllegalArgumentException if the symbol does not correspond to any known operator
-     */
-    private Operators mapSymbolToOperator(String symbol) {
-        return switch (symbol) {
-            case "==" -> Operators.EQUAL;
-            case "!=" -> Operators.NOT_EQUAL;
-            case ">", "=gt=" -> Operators.GREATER_THAN;
-            case ">=", "=ge=" -> Operators.GREATER_THAN_OR_EQUAL;
-            case "<", "=lt="  -> Operators.LESS_THAN;
-            case "<=", "=le=" -> Operators.LESS_THAN_OR_EQUAL;
-            case "=in=" -> Operators.IN;
-            case "=out=" -> Operators.NOT_IN;
-            default -> throw new IllegalArgumentException("RSQL: Operator unknown: " + symbol);
-        };
-    }
-
-    /**
-     * Ensures that every logical operator (AND / OR) used in the AST is among the
-     * {@code allowed} set.
-     *
-     * @param node    the current AST node
-     * @param allowed the permitted {@link LogicalOperator}s
-     * @throws IllegalArgumentException if a disallowed logical operator is found
-     */
-    private void validateAllowedLogicalOperators(Node node,
-                                                 LogicalOperator[] allowed) {
-        var allowedSet = EnumSet.noneOf(LogicalOperator.class);
-        Collections.addAll(allowedSet, allowed);
-
-        if (node instanceof LogicalNode logicalNode) {
-            if (!allowedSet.contains(logicalNode.getOperator())) {
-                throw new IllegalArgumentException("RSQL: logic operator not allowed: " + logicalNode.getOperator());
-            }
-            for (var child : logicalNode.getChildren()) {
-                validateAllowedLogicalOperators(child, allowed);
-            }
-        }
-    }
-
-    /**
-     * Validates that all field selectors referenced in the RSQL expression are
-     * part of the whitelist supplied via {@code allowedFields}.
-     *
-     * @param node          the current AST node
-     * @param allowedFields an array of permitted field names
-     * @throws IllegalArgumentException if a field outside the whitelist is used
-     */
-    private void validateFields(Node node, String[] allowedFields) {
-        var allowedSet = Set.of(allowedFields);
-        if (node instanceof ComparisonNode comparisonNode) {
-            String selector = comparisonNode.getSelector();
-            if (!allowedSet.contains(selector)) {
-                throw new IllegalArgumentException("RSQL: Field not allowed: " + selector);
-            }
-        } else if (node instanceof LogicalNode ln) {
-            for (var child : ln.getChildren()) {
-                validateFields(child, allowedFields);
-            }
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,338 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import com.myenterprise.rest.facility.FacilityMask;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+import org.springframework.lang.Nullable;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates an RSQL filter over the arrays of a {@link HotelColumns} snapshot.
+ * <p>
+ * Each node returns a bitmap of the matching rows: {@code long} words with one bit per row. The
+ * parameter of the visitor is the bitmap of the candidate rows, or {@code null} for all of them.
+ * Without candidates a comparison is one loop over its column; with candidates it only tests the
+ * rows of their set bits. The children of a {@code ;} are evaluated in order, each one on the
+ * rows matched by the previous ones, so a selective first comparison makes the others cheap; the
+ * children of a {@code ,} are joined word by word. The visitor is created per request and runs
+ * under the read lock of the snapshot.
+ * </p>
+ *
+ * <p>
+ * Supported comparisons, with the semantics of {@code GenericRsqlSpecification} on H2:
+ * </p>
+ * <ul>
+ *   <li>{@code name}, {@code description}, {@code address} and {@code city}: {@code ==} and
+ *       {@code !=} as {@code LIKE}/{@code NOT LIKE} patterns, the ordinal comparisons, {@code =in=}
+ *       and {@code =out=}. The city is tested once per distinct name of the dictionary.</li>
+ *   <li>{@code rating}: the numeric comparisons, {@code =in=} and {@code =out=}.</li>
+ *   <li>{@code facilities=all=(...)}: the bits of the facility mask.</li>
+ * </ul>
+ * Any other comparison throws {@link UnsupportedFilterException}, and the filter is left to the
+ * database, including the ones that the database rejects, so both paths fail the same way.
+ */
+final class ColumnarFilter implements RSQLVisitor<long[], long[]> {
+
+    /** Decimal numbers; {@link Float#parseFloat} also accepts forms such as {@code 4f} that the database rejects. */
+    private static final Pattern NUMBER = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+
+    private final HotelColumns columns;
+
+    private final int size;
+
+    ColumnarFilter(HotelColumns columns) {
+        this.columns = columns;
+        this.size = columns.size;
+    }
+
+    /**
+     * Returns the bitmap of all the rows.
+     *
+     * @param size the number of rows
+     * @return a bitmap with the first {@code size} bits set
+     */
+    static long[] all(int size) {
+        long[] bits = new long[words(size)];
+        for (int row = 0; row < size; row++) {
+            bits[row >>> 6] |= 1L << row;
+        }
+        return bits;
+    }
+
+    @Override
+    public long[] visit(AndNode node, @Nullable long[] candidates) {
+        long[] result = candidates;
+        for (Node child : node.getChildren()) {
+            result = child.accept(this, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long[] visit(OrNode node, @Nullable long[] candidates) {
+        long[] result = new long[words(size)];
+        for (Node child : node.getChildren()) {
+            long[] bits = child.accept(this, candidates);
+            for (int word = 0; word < result.length; word++) {
+                result[word] |= bits[word];
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long[] visit(ComparisonNode node, @Nullable long[] candidates) {
+        RsqlSearchOperation operation = RsqlSearchOperation.getSimpleOperator(node.getOperator());
+        if (operation == null) {
+            throw new UnsupportedFilterException();
+        }
+        List<String> arguments = node.getArguments();
+        return switch (node.getSelector()) {
+            case "name" -> strings(columns.names, operation, arguments, candidates);
+            case "description" -> strings(columns.descriptions, operation, arguments, candidates);
+            case "address" -> strings(columns.addresses, operation, arguments, candidates);
+            case "city" -> city(operation, arguments, candidates);
+            case "rating" -> rating(operation, arguments, candidates);
+            case RsqlSearchOperation.FACILITIES_SELECTOR -> facilities(operation, arguments, candidates);
+            default -> throw new UnsupportedFilterException();
+        };
+    }
+
+    private long[] strings(String[] values, RsqlSearchOperation operation, List<String> arguments,
+                           @Nullable long[] candidates) {
+        StringTest test = stringTest(operation, arguments);
+        return select(candidates, row -> {
+            String value = values[row];
+            return value != null && test.matches(value);
+        });
+    }
+
+    private long[] city(RsqlSearchOperation operation, List<String> arguments, @Nullable long[] candidates) {
+        // The test runs once per distinct city; the rows only look up the result of their code.
+        StringTest test = stringTest(operation, arguments);
+        List<String> names = columns.cityNames();
+        boolean[] matching = new boolean[names.size()];
+        for (int code = 1; code < matching.length; code++) {
+            matching[code] = test.matches(names.get(code));
+        }
+        int[] cities = columns.cities;
+        if (candidates != null) {
+            return select(candidates, row -> matching[cities[row]]);
+        }
+        long[] bits = new long[words(size)];
+        for (int row = 0; row < size; row++) {
+            bits[row >>> 6] |= (matching[cities[row]] ? 1L : 0L) << row;
+        }
+        return bits;
+    }
+
+    private long[] rating(RsqlSearchOperation operation, List<String> arguments, @Nullable long[] candidates) {
+        float[] ratings = columns.ratings;
+        switch (operation) {
+            case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL -> {
+                float bound = parseFloat(arguments.get(0));
+                if (candidates != null) {
+                    return select(candidates, row -> compare(operation, ratings[row], bound));
+                }
+                // One loop per operator, without branches in the body. NaN (no rating) fails every
+                // comparison, as NULL does in SQL.
+                long[] bits = new long[words(size)];
+                switch (operation) {
+                    case GREATER_THAN -> {
+                        for (int row = 0; row < size; row++) {
+                            bits[row >>> 6] |= (ratings[row] > bound ? 1L : 0L) << row;
+                        }
+                    }
+                    case GREATER_THAN_OR_EQUAL -> {
+                        for (int row = 0; row < size; row++) {
+                            bits[row >>> 6] |= (ratings[row] >= bound ? 1L : 0L) << row;
+                        }
+                    }
+                    case LESS_THAN -> {
+                        for (int row = 0; row < size; row++) {
+                            bits[row >>> 6] |= (ratings[row] < bound ? 1L : 0L) << row;
+                        }
+                    }
+                    default -> {
+                        for (int row = 0; row < size; row++) {
+                            bits[row >>> 6] |= (ratings[row] <= bound ? 1L : 0L) << row;
+                        }
+                    }
+                }
+                return bits;
+            }
+            case IN, NOT_IN -> {
+                float[] values = new float[arguments.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = parseFloat(arguments.get(i));
+                }
+                boolean in = operation == RsqlSearchOperation.IN;
+                return select(candidates, row -> {
+                    float rating = ratings[row];
+                    if (Float.isNaN(rating)) {
+                        return false;
+                    }
+                    for (float value : values) {
+                        if (rating == value) {
+                            return in;
+                        }
+                    }
+                    return !in;
+                });
+            }
+            // == and != on the rating are LIKE comparisons of a number in the database.
+            default -> throw new UnsupportedFilterException();
+        }
+    }
+
+    private long[] facilities(RsqlSearchOperation operation, List<String> arguments, @Nullable long[] candidates) {
+        if (operation != RsqlSearchOperation.ALL) {
+            throw new UnsupportedFilterException();
+        }
+        int required = FacilityMask.parse(arguments);
+        int[] masks = columns.facilityMasks;
+        if (candidates != null) {
+            return select(candidates, row -> (masks[row] & required) == required);
+        }
+        long[] bits = new long[words(size)];
+        for (int row = 0; row < size; row++) {
+            bits[row >>> 6] |= ((masks[row] & required) == required ? 1L : 0L) << row;
+        }
+        return bits;
+    }
+
+    /**
+     * Tests the candidate rows, or all the rows without candidates.
+     */
+    private long[] select(@Nullable long[] candidates, RowTest test) {
+        long[] bits = new long[words(size)];
+        if (candidates == null) {
+            for (int row = 0; row < size; row++) {
+                if (test.matches(row)) {
+                    bits[row >>> 6] |= 1L << row;
+                }
+            }
+            return bits;
+        }
+        for (int word = 0; word < candidates.length; word++) {
+            long remaining = candidates[word];
+            while (remaining != 0) {
+                int row = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                if (test.matches(row)) {
+                    bits[word] |= 1L << row;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static boolean compare(RsqlSearchOperation operation, float rating, float bound) {
+        return switch (operation) {
+            case GREATER_THAN -> rating > bound;
+            case GREATER_THAN_OR_EQUAL -> rating >= bound;
+            case LESS_THAN -> rating < bound;
+            default -> rating <= bound;
+        };
+    }
+
+    private static StringTest stringTest(RsqlSearchOperation operation, List<String> arguments) {
+        String argument = arguments.get(0);
+        return switch (operation) {
+            case EQUAL -> like(argument)::matches;
+            case NOT_EQUAL -> {
+                LikePattern pattern = like(argument);
+                yield value -> !pattern.matches(value);
+            }
+            case GREATER_THAN -> value -> value.compareTo(argument) > 0;
+            case GREATER_THAN_OR_EQUAL -> value -> value.compareTo(argument) >= 0;
+            case LESS_THAN -> value -> value.compareTo(argument) < 0;
+            case LESS_THAN_OR_EQUAL -> value -> value.compareTo(argument) <= 0;
+            case IN -> {
+                Set<String> values = new HashSet<>(arguments);
+                yield values::contains;
+            }
+            case NOT_IN -> {
+                Set<String> values = new HashSet<>(arguments);
+                yield value -> !values.contains(value);
+            }
+            default -> throw new UnsupportedFilterException();
+        };
+    }
+
+    private static LikePattern like(String argument) {
+        try {
+            return LikePattern.compile(argument.replace('*', '%'));
+        } catch (IllegalArgumentException invalid) {
+            throw new UnsupportedFilterException();
+        }
+    }
+
+    private static float parseFloat(String argument) {
+        if (!NUMBER.matcher(argument.trim()).matches()) {
+            throw new UnsupportedFilterException();
+        }
+        return Float.parseFloat(argument);
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Test of a non-null string value.
+     */
+    @FunctionalInterface
+    private interface StringTest {
+        boolean matches(String value);
+    }
+
+    /**
+     * Test of a row of the snapshot.
+     */
+    @FunctionalInterface
+    private interface RowTest {
+        boolean matches(int row);
+    }
+
+    /**
+     * Thrown for a comparison that is not evaluated in memory.
+     */
+    static final class UnsupportedFilterException extends RuntimeException {
+
+        UnsupportedFilterException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.utils.StringInterner;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code HotelColumns} is an in-memory, column-oriented snapshot of the hotels that evaluates
+ * the RSQL filters of {@code GET /hotels} without the database.
+ * <p>
+ * Each attribute is an array indexed by row: the ratings are a {@code float[]} ({@code NaN} for
+ * no rating), the facility types an {@code int[]} of masks, and the cities are
+ * dictionary-encoded, an {@code int[]} of codes into the distinct city names. A comparison is a
+ * loop over one array that sets the bits of the matching rows in a bitmap ({@code long[]}
+ * words); {@code ;} and {@code ,} intersect and join the bitmaps word by word. A comparison on
+ * the city is tested once per distinct city instead of once per hotel. The matching rows are
+ * resolved to the JSON documents held by the snapshot, so a filtered list does no I/O.
+ * </p>
+ *
+ * <p>
+ * The comparisons follow the database: {@code ==} and {@code !=} on strings are case-sensitive
+ * {@code LIKE} patterns with {@code *} as wildcard, the other string comparisons are ordinal, and
+ * a missing value never matches. The filters that {@link ColumnarFilter} does not evaluate, such as
+ * {@code =ft=}, {@code =near=} or an unknown selector, return an empty result and are left to the
+ * database.
+ * </p>
+ *
+ * <p>
+ * Reads run concurrently; the updates take a write lock and touch one row. A removed row is
+ * replaced by the last one, so the arrays stay dense.
+ * </p>
+ */
+public final class HotelColumns {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+
+    /** City names by code; the code {@code 0} is the missing city. */
+    private final List<String> cityNames = new ArrayList<>();
+
+    private final Map<String, Integer> cityCodes = new HashMap<>();
+
+    int size;
+    UUID[] ids;
+    String[] names;
+    String[] descriptions;
+    String[] addresses;
+    int[] cities;
+    float[] ratings;
+    int[] facilityMasks;
+    byte[][] documents;
+
+    /**
+     * Creates an empty snapshot.
+     */
+    public HotelColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private HotelColumns(int capacity) {
+        ids = new UUID[capacity];
+        names = new String[capacity];
+        descriptions = new String[capacity];
+        addresses = new String[capacity];
+        cities = new int[capacity];
+        ratings = new float[capacity];
+        facilityMasks = new int[capacity];
+        documents = new byte[capacity][];
+        cityNames.add(null);
+    }
+
+    /**
+     * Adds a hotel, or replaces the values of a hotel already in the snapshot.
+     *
+     * @param hotel the values of the hotel
+     */
+    public void put(HotelRow hotel) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rowsById.get(hotel.id());
+            int row;
+            if (existing != null) {
+                row = existing;
+            } else {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowsById.put(hotel.id(), row);
+            }
+            ids[row] = hotel.id();
+            names[row] = hotel.name();
+            // The descriptions repeat across the hotels of a chain; the names and addresses do not.
+            descriptions[row] = StringInterner.SHARED.intern(hotel.description());
+            addresses[row] = hotel.address();
+            cities[row] = cityCode(hotel.city());
+            ratings[row] = hotel.rating() == null ? Float.NaN : hotel.rating();
+            facilityMasks[row] = hotel.facilityMask();
+            documents[row] = hotel.document();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a hotel from the snapshot; nothing happens if it is not in it.
+     *
+     * @param id the identifier of the hotel
+     */
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer removed = rowsById.remove(id);
+            if (removed == null) {
+                return;
+            }
+            int row = removed;
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                names[row] = names[last];
+                descriptions[row] = descriptions[last];
+                addresses[row] = addresses[last];
+                cities[row] = cities[last];
+                ratings[row] = ratings[last];
+                facilityMasks[row] = facilityMasks[last];
+                documents[row] = documents[last];
+                rowsById.put(ids[row], row);
+            }
+            ids[last] = null;
+            names[last] = null;
+            descriptions[last] = null;
+            addresses[last] = null;
+            documents[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tests a single hotel against a filter, with the semantics of {@link #find(Node)}.
+     *
+     * @param filter the parsed RSQL filter
+     * @param hotel  the values of the hotel
+     * @return whether the hotel matches, or empty if the filter cannot be evaluated in memory
+     */
+    public static Optional<Boolean> matches(Node filter, HotelRow hotel) {
+        HotelColumns single = new HotelColumns(1);
+        single.put(hotel);
+        return single.find(filter).map(documents -> !documents.isEmpty());
+    }
+
+    /**
+     * Returns the documents of the hotels that match a filter.
+     *
+     * @param filter the parsed RSQL filter, or {@code null} for all the hotels
+     * @return the documents of the matching hotels, with their ids, or empty if the filter
+     *         cannot be evaluated in memory and must be run by the database
+     */
+    public Optional<List<HotelDocument>> find(@Nullable Node filter) {
+        lock.readLock().lock();
+        try {
+            long[] matches;
+            if (filter == null) {
+                matches = ColumnarFilter.all(size);
+            } else {
+                try {
+                    matches = filter.accept(new ColumnarFilter(this), null);
+                } catch (ColumnarFilter.UnsupportedFilterException unsupported) {
+                    return Optional.empty();
+                }
+            }
+            List<HotelDocument> result = new ArrayList<>();
+            for (int word = 0; word < matches.length; word++) {
+                long bits = matches[word];
+                while (bits != 0) {
+                    int row = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    result.add(new HotelDocument(ids[row], documents[row]));
+                    bits &= bits - 1;
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of hotels in the snapshot.
+     *
+     * @return the number of hotels
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the city names of the dictionary, by code. The code {@code 0} is the missing city.
+     * Only called by {@link ColumnarFilter} under the read lock.
+     *
+     * @return the city names
+     */
+    List<String> cityNames() {
+        return cityNames;
+    }
+
+    private int cityCode(@Nullable String city) {
+        if (city == null) {
+            return 0;
+        }
+        return cityCodes.computeIfAbsent(city, name -> {
+            cityNames.add(name);
+            return cityNames.size() - 1;
+        });
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        names = Arrays.copyOf(names, grown);
+        descriptions = Arrays.copyOf(descriptions, grown);
+        addresses = Arrays.copyOf(addresses, grown);
+        cities = Arrays.copyOf(cities, grown);
+        ratings = Arrays.copyOf(ratings, grown);
+        facilityMasks = Arrays.copyOf(facilityMasks, grown);
+        documents = Arrays.copyOf(documents, grown);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import org.springframework.lang.Nullable;
+
+import java.util.UUID;
+
+/**
+ * The values of a hotel stored by {@link HotelColumns}: the attributes that the in-memory filters
+ * evaluate and the JSON document that they return.
+ *
+ * @param id           the identifier of the hotel
+ * @param name         the name
+ * @param description  the description
+ * @param address      the address
+ * @param city         the city
+ * @param rating       the rating
+ * @param facilityMask the facility types, see {@code FacilityMask}
+ * @param document     the UTF-8 JSON of the hotel, as stored in {@code hotel_documents}
+ */
+public record HotelRow(UUID id, @Nullable String name, @Nullable String description, @Nullable String address,
+                       @Nullable String city, @Nullable Float rating, int facilityMask, byte[] document) {
+}
@@ -0,0 +1,110 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import java.util.Arrays;
+
+/**
+ * A SQL {@code LIKE} pattern evaluated in memory, with the semantics of H2: {@code %} matches
+ * any sequence of characters, {@code _} matches one character, the backslash escapes the next
+ * character, and the comparison is case-sensitive.
+ * <p>
+ * {@code GenericRsqlSpecification} writes {@code ==} and {@code !=} on strings as
+ * {@code LIKE}/{@code NOT LIKE} with {@code *} replaced by {@code %}; {@link ColumnarFilter}
+ * builds the same pattern, so both return the same hotels.
+ * </p>
+ */
+final class LikePattern {
+
+    private static final char ESCAPE = '\\';
+
+    /** Pattern characters, with the escapes resolved. */
+    private final char[] chars;
+
+    /** Whether each character of {@link #chars} is a wildcard ({@code %} or {@code _}). */
+    private final boolean[] wildcard;
+
+    private LikePattern(char[] chars, boolean[] wildcard) {
+        this.chars = chars;
+        this.wildcard = wildcard;
+    }
+
+    /**
+     * Compiles a {@code LIKE} pattern.
+     *
+     * @param pattern the pattern, with {@code %}, {@code _} and backslash escapes
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the pattern ends with a lone escape character, which H2 rejects
+     */
+    static LikePattern compile(String pattern) {
+        char[] chars = new char[pattern.length()];
+        boolean[] wildcard = new boolean[pattern.length()];
+        int length = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == ESCAPE) {
+                if (++i == pattern.length()) {
+                    throw new IllegalArgumentException("LIKE pattern ends with an escape character: " + pattern);
+                }
+                chars[length++] = pattern.charAt(i);
+            } else {
+                wildcard[length] = c == '%' || c == '_';
+                chars[length++] = c;
+            }
+        }
+        return new LikePattern(Arrays.copyOf(chars, length), Arrays.copyOf(wildcard, length));
+    }
+
+    /**
+     * Tests a value against the pattern.
+     *
+     * @param value the value, not {@code null}
+     * @return whether the value matches the whole pattern
+     */
+    boolean matches(String value) {
+        // Greedy matching with backtracking to the last '%', linear for patterns without '%'.
+        int v = 0;
+        int p = 0;
+        int starP = -1;
+        int starV = 0;
+        while (v < value.length()) {
+            if (p < chars.length && wildcard[p] && chars[p] == '%') {
+                starP = p++;
+                starV = v;
+            } else if (p < chars.length && (wildcard[p] || chars[p] == value.charAt(v))) {
+                p++;
+                v++;
+            } else if (starP >= 0) {
+                p = starP + 1;
+                v = ++starV;
+            } else {
+                return false;
+            }
+        }
+        while (p < chars.length && wildcard[p] && chars[p] == '%') {
+            p++;
+        }
+        return p == chars.length;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.document;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.myenterprise.rest.v1.model.Hotel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * {@code HotelDocument} is a {@link Hotel} that is already serialized: the JSON of the hotel
+ * as stored in the read model ({@code hotel_documents}).
+ * <p>
+ * The services return it where the API declares a {@link Hotel}, and its serializer copies the
+ * stored bytes to the response as a raw value: no entity is loaded, no model is filled and the
+ * fields are neither serialized nor sanitized again. With the UTF-8 generator of the HTTP
+ * responses the bytes go straight to the output buffer; other generators decode them once.
+ * </p>
+ *
+ * <p>
+ * Only {@link #getId()} is filled: every other getter inherited from {@link Hotel} returns
+ * {@code null}. A document is only meant to be written, and its content is available through
+ * {@link #bytes()}. The id lets the caches of the lists know which hotels they hold without
+ * parsing the JSON.
+ * </p>
+ */
+@JsonSerialize(using = HotelDocument.RawSerializer.class)
+public final class HotelDocument extends Hotel {
+
+    private final byte[] json;
+
+    /**
+     * Creates a document from the JSON of a hotel, with the id of the hotel.
+     *
+     * @param id   the identifier of the hotel, returned by {@link #getId()}
+     * @param json the UTF-8 bytes of the JSON object of the hotel; they are not copied
+     */
+    public HotelDocument(UUID id, byte[] json) {
+        this.json = json;
+        setId(id);
+    }
+
+    /**
+     * Returns the JSON of the hotel.
+     *
+     * @return the UTF-8 bytes of the document; they must not be modified
+     */
+    public byte[] bytes() {
+        return json;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof HotelDocument that && Arrays.equals(json, that.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(json);
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serializer of {@link HotelDocument}: writes the stored JSON as a raw value.
+     */
+    public static final class RawSerializer extends StdSerializer<HotelDocument> {
+
+        public RawSerializer() {
+            super(HotelDocument.class);
+        }
+
+        @Override
+        public void serialize(HotelDocument value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeRawValue(new RawJson(value.json));
+        }
+    }
+
+    /**
+     * Raw JSON in UTF-8 for {@link JsonGenerator#writeRawValue(SerializableString)}. Only the
+     * unquoted forms are used for raw values; the text is decoded the first time a generator
+     * asks for characters.
+     */
+    private static final class RawJson implements SerializableString {
+
+        private final byte[] utf8;
+        private String text;
+
+        RawJson(byte[] utf8) {
+            this.utf8 = utf8;
+        }
+
+        @Override
+        public String getValue() {
+            if (text == null) {
+                text = new String(utf8, StandardCharsets.UTF_8);
+            }
+            return text;
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return utf8;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + utf8.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+            return utf8.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (utf8.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(utf8);
+            return utf8.length;
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            throw quoted();
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            throw quoted();
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            throw quoted();
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            throw quoted();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) {
+            throw quoted();
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            throw quoted();
+        }
+
+        private static UnsupportedOperationException quoted() {
+            return new UnsupportedOperationException("A raw JSON value is never quoted");
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.document;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * {@code HotelDocumentHttpMessageConverter} writes a {@link HotelDocument} returned as the body of
+ * a response by copying its bytes to the output stream of the response.
+ * <p>
+ * The Jackson converter would create a generator, write the bytes as a raw value into its buffer
+ * and flush the buffer; the document is already the JSON of the response, so one copy is enough.
+ * The converter also sets the {@code Content-Length}. It only handles a single document: the lists
+ * of hotels, including lists of documents, are still written by Jackson.
+ * </p>
+ */
+public class HotelDocumentHttpMessageConverter extends AbstractHttpMessageConverter<HotelDocument> {
+
+    /**
+     * Creates the converter of the {@code application/json} responses.
+     */
+    public HotelDocumentHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NotNull Class<?> clazz) {
+        return HotelDocument.class.equals(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @NotNull
+    @Override
+    protected HotelDocument readInternal(@NotNull Class<? extends HotelDocument> clazz,
+                                         @NotNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("A hotel document is only written", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NotNull HotelDocument document, MediaType contentType) {
+        return (long) document.bytes().length;
+    }
+
+    @Override
+    protected void writeInternal(@NotNull HotelDocument document, @NotNull HttpOutputMessage outputMessage)
+            throws IOException {
+        outputMessage.getBody().write(document.bytes());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.facility;
+
+import com.myenterprise.rest.v1.model.Facility.TypeEnum;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code FacilityMask} encodes the set of facility types of a hotel as the bits of an integer:
+ * the bit {@code 1 << ordinal} of each {@link TypeEnum} the hotel has. The hotels store it in the
+ * indexed column {@code facility_mask}, so a filter on several facility types reads one column
+ * instead of joining the {@code facilities} table once per type.
+ * <p>
+ * The bits follow the order of the {@code type} enum of {@code Facility} in {@code schemas.yaml}
+ * (restaurant 1, cinema 2, swimming pool 4): a new type must be added at the end of the enum,
+ * and a migration must recompute the column if the order ever changes.
+ * </p>
+ *
+ * <p>
+ * {@code facilities=all=(cinema,restaurant)} matches the masks that contain all the bits of the
+ * requested types. A bitwise {@code AND} cannot be served by an index, so the filter is written as
+ * {@code facility_mask IN (...)} with every mask that contains those bits ({@link #supersets}):
+ * at most {@code 2^n} values for {@code n} types, each one an index lookup.
+ * </p>
+ */
+public final class FacilityMask {
+
+    /** Mask with the bits of all the facility types. */
+    public static final int ALL = (1 << TypeEnum.values().length) - 1;
+
+    private FacilityMask() {}
+
+    /**
+     * Returns the bit of a facility type.
+     *
+     * @param type the facility type
+     * @return the bit of the type
+     */
+    public static int bit(@NotNull TypeEnum type) {
+        return 1 << type.ordinal();
+    }
+
+    /**
+     * Returns the mask of a set of facility types; {@code null} types are ignored.
+     *
+     * @param types the facility types
+     * @return the mask, {@code 0} without types
+     */
+    public static int of(@NotNull Collection<TypeEnum> types) {
+        int mask = 0;
+        for (TypeEnum type : types) {
+            if (type != null) {
+                mask |= bit(type);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Parses the arguments of {@code =all=}: the values of the facility types, as in the API
+     * ({@code restaurant}, {@code cinema}, {@code swimming pool}).
+     *
+     * @param arguments the RSQL arguments
+     * @return the mask of the types
+     * @throws IllegalArgumentException if an argument is not a facility type
+     */
+    public static int parse(@NotNull List<String> arguments) {
+        List<TypeEnum> types = new ArrayList<>(arguments.size());
+        for (String argument : arguments) {
+            try {
+                types.add(TypeEnum.fromValue(argument));
+            } catch (IllegalArgumentException error) {
+                throw new IllegalArgumentException("RSQL: =all= expects facility types: " + argument, error);
+            }
+        }
+        return of(types);
+    }
+
+    /**
+     * Returns every mask that contains all the bits of a mask, from the mask itself to {@link #ALL}.
+     *
+     * @param mask the required bits
+     * @return the masks that contain them, in increasing order
+     */
+    @NotNull
+    public static List<Integer> supersets(int mask) {
+        int free = ALL & ~mask;
+        List<Integer> masks = new ArrayList<>(1 << Integer.bitCount(free));
+        // Enumerates the subsets of the free bits in increasing order, each added to the mask.
+        int subset = 0;
+        do {
+            masks.add(mask | subset);
+            subset = (subset - free) & free;
+        } while (subset != 0);
+        return masks;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.geo;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL/Criteria function {@value #FUNCTION_NAME} used by the {@code =near=}
+ * operator of {@code GenericRsqlSpecification}.
+ * <p>
+ * {@code haversine_km(lat1, lon1, lat2, lon2)} is the great-circle distance in kilometres, the
+ * formula of {@link GeoGrid#distanceKm}. It is only evaluated on the hotels of the candidate
+ * cells, so it does not need an index.
+ * </p>
+ *
+ * <p>
+ * Hibernate loads the contributor with the {@link java.util.ServiceLoader}
+ * ({@code META-INF/services/org.hibernate.boot.model.FunctionContributor}).
+ * </p>
+ */
+public class GeoFunctionContributor implements FunctionContributor {
+
+    /** Name of the function in HQL and in {@code CriteriaBuilder#function}. */
+    public static final String FUNCTION_NAME = "haversine_km";
+
+    private static final String PATTERN = GeoGrid.distanceSql("?1", "?2", "?3", "?4");
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(FUNCTION_NAME, PATTERN,
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
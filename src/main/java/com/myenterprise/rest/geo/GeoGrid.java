@@ -0,0 +1,152 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code GeoGrid} divides the Earth into cells of {@value #CELL_DEGREES}° of latitude by
+ * {@value #CELL_DEGREES}° of longitude (about 5.5 km north-south) and numbers them row by row.
+ * <p>
+ * Each hotel stores the number of its cell in the indexed column {@code geo_cell}. A radius
+ * search first reads, with one index range, the band of rows of cells between the southern
+ * and northern edges of the circle, then keeps the hotels of the cells that intersect its
+ * bounding box (one range per row of cells, since the cells of a row are consecutive numbers)
+ * and only computes the exact haversine distance of those. The cost therefore depends on the
+ * number of hotels in the latitudes of the point, not on the size of the table.
+ * </p>
+ *
+ * <p>
+ * The cells are not wrapped around the antimeridian: a circle that crosses longitude ±180°
+ * only finds the hotels on the side of its center.
+ * </p>
+ */
+public final class GeoGrid {
+
+    /** Size of a cell, in degrees of latitude and of longitude. */
+    public static final double CELL_DEGREES = 0.05;
+
+    /** Mean radius of the Earth, in kilometres. */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /** Kilometres per degree of latitude. */
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+    private GeoGrid() {}
+
+    /**
+     * A range of consecutive cell numbers, both ends included.
+     *
+     * @param from the first cell
+     * @param to   the last cell
+     */
+    public record CellRange(long from, long to) {}
+
+    /**
+     * Returns the cell of a point.
+     *
+     * @param latitude  the latitude, in degrees
+     * @param longitude the longitude, in degrees
+     * @return the cell number
+     */
+    public static long cell(double latitude, double longitude) {
+        return (long) row(latitude) * COLUMNS + column(longitude);
+    }
+
+    /**
+     * Returns the ranges of cells that cover the bounding box of a circle, one per row of cells.
+     *
+     * @param latitude  the latitude of the center, in degrees
+     * @param longitude the longitude of the center, in degrees
+     * @param radiusKm  the radius, in kilometres
+     * @return the cell ranges, from south to north
+     */
+    public static List<CellRange> cover(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double minLatitude = Math.max(-90, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90, latitude + latitudeDelta);
+        // Widest longitude of a spherical cap, asin(sin(r) / cos(latitude)); a cap over a pole
+        // covers every longitude.
+        double ratio = Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude));
+        double longitudeDelta = minLatitude <= -90 || maxLatitude >= 90 || ratio >= 1 ? 180
+                : Math.toDegrees(Math.asin(ratio));
+        int fromColumn = column(Math.max(-180, longitude - longitudeDelta));
+        int toColumn = column(Math.min(180, longitude + longitudeDelta));
+
+        int fromRow = row(minLatitude);
+        int toRow = row(maxLatitude);
+        List<CellRange> ranges = new ArrayList<>(toRow - fromRow + 1);
+        for (int row = fromRow; row <= toRow; row++) {
+            long first = (long) row * COLUMNS;
+            ranges.add(new CellRange(first + fromColumn, first + toColumn));
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the great-circle distance between two points with the haversine formula.
+     * The same formula is evaluated in SQL by {@link #distanceSql}.
+     *
+     * @param latitude1  the latitude of the first point, in degrees
+     * @param longitude1 the longitude of the first point, in degrees
+     * @param latitude2  the latitude of the second point, in degrees
+     * @param longitude2 the longitude of the second point, in degrees
+     * @return the distance, in kilometres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double latitudeSine = Math.sin(Math.toRadians(latitude2 - latitude1) / 2);
+        double longitudeSine = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double a = latitudeSine * latitudeSine + Math.cos(Math.toRadians(latitude1))
+                * Math.cos(Math.toRadians(latitude2)) * longitudeSine * longitudeSine;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, a)));
+    }
+
+    /**
+     * Returns the SQL expression of {@link #distanceKm}, for the databases without a native one.
+     *
+     * @param latitude1  the SQL expression of the latitude of the first point
+     * @param longitude1 the SQL expression of the longitude of the first point
+     * @param latitude2  the SQL expression of the latitude of the second point
+     * @param longitude2 the SQL expression of the longitude of the second point
+     * @return the SQL expression of the distance, in kilometres
+     */
+    public static String distanceSql(String latitude1, String longitude1, String latitude2, String longitude2) {
+        return "(2 * " + EARTH_RADIUS_KM + " * ASIN(SQRT(LEAST(1, "
+                + "POWER(SIN(RADIANS(" + latitude2 + " - " + latitude1 + ") / 2), 2) "
+                + "+ COS(RADIANS(" + latitude1 + ")) * COS(RADIANS(" + latitude2 + ")) "
+                + "* POWER(SIN(RADIANS(" + longitude2 + " - " + longitude1 + ") / 2), 2)))))";
+    }
+
+    private static int row(double latitude) {
+        return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int column(double longitude) {
+        return Math.min(COLUMNS - 1, (int) Math.floor((longitude + 180) / CELL_DEGREES));
+    }
+}
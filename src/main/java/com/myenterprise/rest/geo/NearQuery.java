@@ -0,0 +1,105 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.geo;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Arguments of the RSQL operator {@code =near=}: {@code location=near=(lat,lon,km)}.
+ *
+ * @param latitude  the latitude of the center, in degrees, between -90 and 90
+ * @param longitude the longitude of the center, in degrees, between -180 and 180
+ * @param radiusKm  the radius, in kilometres, greater than 0 and at most {@value #MAX_RADIUS_KM}
+ */
+public record NearQuery(double latitude, double longitude, double radiusKm) {
+
+    /**
+     * Largest radius accepted. The number of index ranges of a search grows with the radius
+     * (one per {@value GeoGrid#CELL_DEGREES}° of latitude), so the wide searches are rejected.
+     */
+    public static final double MAX_RADIUS_KM = 500;
+
+    /**
+     * Parses and checks the arguments of the operator.
+     *
+     * @param arguments the RSQL arguments: latitude, longitude and radius
+     * @return the query
+     * @throws IllegalArgumentException if the arguments are not three numbers in range
+     */
+    @NotNull
+    public static NearQuery parse(@NotNull List<String> arguments) {
+        if (arguments.size() != 3) {
+            throw new IllegalArgumentException("RSQL: =near= expects (latitude,longitude,km): " + arguments);
+        }
+        double latitude = number(arguments.get(0));
+        double longitude = number(arguments.get(1));
+        double radiusKm = number(arguments.get(2));
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("RSQL: =near= coordinates out of range: " + arguments);
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException(
+                    "RSQL: =near= radius must be greater than 0 and at most %s km: %s".formatted(MAX_RADIUS_KM, radiusKm));
+        }
+        return new NearQuery(latitude, longitude, radiusKm);
+    }
+
+    /**
+     * Returns the cell ranges that cover the circle, see {@link GeoGrid#cover}.
+     *
+     * @return the cell ranges
+     */
+    @NotNull
+    public List<GeoGrid.CellRange> cells() {
+        return GeoGrid.cover(latitude, longitude, radiusKm);
+    }
+
+    /**
+     * Returns the single range from the first to the last cell of {@link #cells()}: the whole
+     * band of latitudes of the circle. A database scans it with one index range, which it does
+     * not do for an {@code OR} of ranges, so the queries filter by the band first and by the
+     * cells of each row next.
+     *
+     * @return the cell range of the band
+     */
+    @NotNull
+    public GeoGrid.CellRange band() {
+        List<GeoGrid.CellRange> cells = cells();
+        return new GeoGrid.CellRange(cells.get(0).from(), cells.get(cells.size() - 1).to());
+    }
+
+    private static double number(String argument) {
+        try {
+            double value = Double.parseDouble(argument);
+            if (Double.isFinite(value)) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below with the argument.
+        }
+        throw new IllegalArgumentException("RSQL: =near= expects numbers: " + argument);
+    }
+}
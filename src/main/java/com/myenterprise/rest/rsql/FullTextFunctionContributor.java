@@ -0,0 +1,64 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.rsql;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL/Criteria function {@value #FUNCTION_NAME} used by the {@code =ft=}
+ * operator of {@link GenericRsqlSpecification}.
+ * <p>
+ * {@code full_text_match(id, 'HOTELS', 'spa pool')} is true when the row whose primary key is
+ * {@code id} is returned by the H2 native full-text search of the given table. The search uses
+ * the inverted index created by the migration {@code V3__hotels_full_text.sql}, instead of the
+ * {@code LIKE '%spa%'} of {@code description==*spa*}, which reads the whole table. The words
+ * of the query must all appear (in any indexed column) and are matched whole and without case.
+ * </p>
+ *
+ * <p>
+ * Hibernate loads the contributor with the {@link java.util.ServiceLoader}
+ * ({@code META-INF/services/org.hibernate.boot.model.FunctionContributor}).
+ * </p>
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    /** Name of the function in HQL and in {@code CriteriaBuilder#function}. */
+    public static final String FUNCTION_NAME = "full_text_match";
+
+    /**
+     * Keys of the rows that match the query: {@code FT_SEARCH_DATA} returns them as a text array,
+     * one element per primary key column.
+     */
+    private static final String PATTERN = "(?1 in (select cast(ft.KEYS[1] as uuid) "
+            + "from FT_SEARCH_DATA(?3, 0, 0) ft where ft.\"TABLE\" = ?2))";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(FUNCTION_NAME, PATTERN,
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
@@ -46,7 +46,7 @@ import java.util.Objects;
  * <p>Typical usage pattern:</p>
  *
  * <pre>
- * Node rsqlRoot = new RSQLParser().parse(rsqlString);
+ * Node rsqlRoot = RsqlSearchOperation.parser().parse(rsqlString);
  * Specification&lt;MyEntity&gt; spec = new GenericRsqlSpecBuilder&lt;MyEntity&gt;().createSpecification(rsqlRoot);
  * repository.findAll(spec);
  * </pre>
@@ -25,9 +25,16 @@
  */
 package com.myenterprise.rest.rsql;
 
+import com.myenterprise.rest.facility.FacilityMask;
+import com.myenterprise.rest.geo.GeoFunctionContributor;
+import com.myenterprise.rest.geo.GeoGrid;
+import com.myenterprise.rest.geo.NearQuery;
 import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import jakarta.persistence.Table;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.jetbrains.annotations.NotNull;
@@ -76,12 +83,24 @@ public class GenericRsqlSpecification<T> implements Specification<T> {
     public Predicate toPredicate(@NotNull Root<T> root,
                                  CriteriaQuery<?> query,
                                  @NotNull CriteriaBuilder builder) {
+        RsqlSearchOperation operation = Objects.requireNonNull(RsqlSearchOperation.getSimpleOperator(operator));
+        if (operation == RsqlSearchOperation.FULL_TEXT) {
+            // The virtual selector "text" is not an attribute: the arguments are not cast.
+            return fullText(root, builder);
+        }
+        if (operation == RsqlSearchOperation.NEAR) {
+            return near(root, builder);
+        }
+        if (operation == RsqlSearchOperation.ALL) {
+            return allFacilities(root);
+        }
+
         // Convert the raw string arguments to the correct Java type(s).
         List<Object> args = castArguments(root);
         Object argument = args.get(0); // Most operators use the first argument only.
 
         // Determine which simple operation corresponds to the RSQL operator.
-        switch (Objects.requireNonNull(RsqlSearchOperation.getSimpleOperator(operator))) {
+        switch (operation) {
 
             case EQUAL: {
                 // Equality: treat strings specially to allow wildcard (*) matching.
@@ -126,12 +145,83 @@ public class GenericRsqlSpecification<T> implements Specification<T> {
                 return root.get(property).in(args);
             case NOT_IN:
                 return builder.not(root.get(property).in(args));
+            default:
+                break;
         }
 
         // Should not reach here for a valid operator.
         return null;
     }
 
+    /**
+     * Builds the predicate of the {@code =ft=} operator: the identifier of the entity must be
+     * among the keys returned by the full‑text index of its table, see
+     * {@link FullTextFunctionContributor}. The words of all the arguments are searched together.
+     *
+     * @param root    the JPA {@link Root}, whose entity declares its table with {@link Table}
+     * @param builder the {@link CriteriaBuilder} used to create the predicate
+     * @return the full‑text predicate
+     * @throws IllegalArgumentException if the selector is not {@value RsqlSearchOperation#FULL_TEXT_SELECTOR}
+     */
+    private Predicate fullText(@NotNull Root<T> root, @NotNull CriteriaBuilder builder) {
+        if (!RsqlSearchOperation.FULL_TEXT_SELECTOR.equals(property)) {
+            throw new IllegalArgumentException("RSQL: =ft= is only supported on "
+                    + RsqlSearchOperation.FULL_TEXT_SELECTOR + ": " + property);
+        }
+        Table table = root.getJavaType().getAnnotation(Table.class);
+        String tableName = (table == null ? root.getJavaType().getSimpleName() : table.name()).toUpperCase();
+        return builder.isTrue(builder.function(FullTextFunctionContributor.FUNCTION_NAME, Boolean.class,
+                root.get("id"), builder.literal(tableName), builder.literal(String.join(" ", arguments))));
+    }
+
+    /**
+     * Builds the predicate of the {@code =near=} operator. The candidates are the rows whose
+     * {@code geoCell} is in the band of the circle, an index range scan, and in one of the ranges
+     * of cells that cover it; the exact distance is only computed for them, see {@link GeoGrid}.
+     *
+     * @param root    the JPA {@link Root}, whose entity has {@code latitude}, {@code longitude}
+     *                and {@code geoCell} attributes
+     * @param builder the {@link CriteriaBuilder} used to create the predicate
+     * @return the radius predicate
+     * @throws IllegalArgumentException if the selector is not {@value RsqlSearchOperation#LOCATION_SELECTOR}
+     *                                  or the arguments are not {@code (lat,lon,km)}
+     */
+    private Predicate near(@NotNull Root<T> root, @NotNull CriteriaBuilder builder) {
+        if (!RsqlSearchOperation.LOCATION_SELECTOR.equals(property)) {
+            throw new IllegalArgumentException("RSQL: =near= is only supported on "
+                    + RsqlSearchOperation.LOCATION_SELECTOR + ": " + property);
+        }
+        NearQuery near = NearQuery.parse(arguments);
+        Path<Long> cell = root.get("geoCell");
+        GeoGrid.CellRange band = near.band();
+        Predicate[] cells = near.cells().stream()
+                .map(range -> builder.between(cell, range.from(), range.to()))
+                .toArray(Predicate[]::new);
+        Expression<Double> distance = builder.function(GeoFunctionContributor.FUNCTION_NAME, Double.class,
+                root.get("latitude"), root.get("longitude"),
+                builder.literal(near.latitude()), builder.literal(near.longitude()));
+        return builder.and(builder.between(cell, band.from(), band.to()), builder.or(cells),
+                builder.le(distance, near.radiusKm()));
+    }
+
+    /**
+     * Builds the predicate of the {@code =all=} operator: the {@code facilityMask} of the entity
+     * must contain the bits of all the requested facility types. It is written as an {@code IN}
+     * of the masks that contain them, which the index of the column serves, see {@link FacilityMask}.
+     *
+     * @param root the JPA {@link Root}, whose entity has a {@code facilityMask} attribute
+     * @return the facility predicate
+     * @throws IllegalArgumentException if the selector is not {@value RsqlSearchOperation#FACILITIES_SELECTOR}
+     *                                  or an argument is not a facility type
+     */
+    private Predicate allFacilities(@NotNull Root<T> root) {
+        if (!RsqlSearchOperation.FACILITIES_SELECTOR.equals(property)) {
+            throw new IllegalArgumentException("RSQL: =all= is only supported on "
+                    + RsqlSearchOperation.FACILITIES_SELECTOR + ": " + property);
+        }
+        return root.get("facilityMask").in(FacilityMask.supersets(FacilityMask.parse(arguments)));
+    }
+
     /**
      * Casts the raw {@code arguments} (which are strings) to the appropriate
      * Java type based on the property’s declared type.
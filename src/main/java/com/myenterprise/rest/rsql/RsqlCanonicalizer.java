@@ -0,0 +1,144 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.rsql;
+
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Rewrites a parsed RSQL filter to a canonical form, so that the filters that only differ in
+ * how they are written share one cache key.
+ * <p>
+ * The rewrite keeps the meaning of the filter for {@link GenericRsqlSpecification}:
+ * </p>
+ * <ul>
+ *   <li>The nested {@code ;} and {@code ,} of the same kind are flattened, their children are
+ *       sorted and the repeated ones removed: {@code b==2;a==1} and {@code a==1;(b==2;a==1)} are
+ *       both {@code (a=='1';b=='2')}. A group of one child is the child itself.</li>
+ *   <li>The arguments of {@code =in=}, {@code =out=} and {@code =all=}, which are sets, are
+ *       sorted and the repeated ones removed.</li>
+ *   <li>The bounds of the {@code rating} ranges ({@code <}, {@code <=}, {@code >}, {@code >=}),
+ *       compared as numbers, are written without trailing zeros: {@code rating>=4.50} is
+ *       {@code rating=ge='4.5'}. The equalities are not rewritten: they are {@code LIKE} patterns.</li>
+ *   <li>The quotes and the operators are those of {@link Node#toString()}: {@code >=} is
+ *       {@code =ge=} and {@code city=="Madrid"} is {@code city=='Madrid'}.</li>
+ * </ul>
+ */
+public final class RsqlCanonicalizer {
+
+    /** Key of the requests without filter. */
+    public static final String NO_FILTER = "";
+
+    private static final String RATING_SELECTOR = "rating";
+
+    private static final Set<ComparisonOperator> SET_OPERATORS = Set.of(
+            RsqlSearchOperation.IN.getOperator(), RsqlSearchOperation.NOT_IN.getOperator(),
+            RsqlSearchOperation.ALL.getOperator());
+
+    private static final Set<ComparisonOperator> RANGE_OPERATORS = Set.of(
+            RsqlSearchOperation.GREATER_THAN.getOperator(), RsqlSearchOperation.GREATER_THAN_OR_EQUAL.getOperator(),
+            RsqlSearchOperation.LESS_THAN.getOperator(), RsqlSearchOperation.LESS_THAN_OR_EQUAL.getOperator());
+
+    private RsqlCanonicalizer() {
+    }
+
+    /**
+     * Returns the canonical text of a filter, used as cache key.
+     *
+     * @param filter the parsed RSQL filter, or {@code null} for no filter
+     * @return the canonical text, or {@value #NO_FILTER} for no filter
+     */
+    public static String key(@Nullable Node filter) {
+        return filter == null ? NO_FILTER : canonicalize(filter).toString();
+    }
+
+    /**
+     * Rewrites a filter to its canonical form.
+     *
+     * @param filter the parsed RSQL filter
+     * @return an equivalent filter in canonical form
+     */
+    public static Node canonicalize(Node filter) {
+        if (filter instanceof LogicalNode logical) {
+            return group(logical);
+        }
+        return comparison((ComparisonNode) filter);
+    }
+
+    private static Node group(LogicalNode node) {
+        List<Node> children = new ArrayList<>();
+        flatten(node.getOperator(), node, children);
+        TreeSet<Node> sorted = new TreeSet<>(Comparator.comparing(Node::toString));
+        sorted.addAll(children);
+        if (sorted.size() == 1) {
+            return sorted.first();
+        }
+        return node.getOperator() == LogicalOperator.AND
+                ? new AndNode(new ArrayList<>(sorted)) : new OrNode(new ArrayList<>(sorted));
+    }
+
+    /** Adds the canonical children of a group, with the nested groups of the same kind inlined. */
+    private static void flatten(LogicalOperator operator, LogicalNode node, List<Node> children) {
+        for (Node child : node.getChildren()) {
+            Node canonical = canonicalize(child);
+            if (canonical instanceof LogicalNode nested && nested.getOperator() == operator) {
+                children.addAll(nested.getChildren());
+            } else {
+                children.add(canonical);
+            }
+        }
+    }
+
+    private static Node comparison(ComparisonNode node) {
+        List<String> arguments = node.getArguments();
+        if (SET_OPERATORS.contains(node.getOperator())) {
+            arguments = List.copyOf(new TreeSet<>(arguments));
+        } else if (RATING_SELECTOR.equals(node.getSelector()) && RANGE_OPERATORS.contains(node.getOperator())) {
+            arguments = arguments.stream().map(RsqlCanonicalizer::number).toList();
+        }
+        return new ComparisonNode(node.getOperator(), node.getSelector(), arguments);
+    }
+
+    /** Writes a number without trailing zeros, or returns the argument unchanged if it is not one. */
+    private static String number(String argument) {
+        try {
+            return new BigDecimal(argument.trim()).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException notNumber) {
+            return argument;
+        }
+    }
+}
@@ -25,10 +25,15 @@
  */
 package com.myenterprise.rest.rsql;
 
+import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import cz.jirutka.rsql.parser.ast.RSQLOperators;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * {@code RsqlSearchOperation} maps the standard RSQL comparison operators
  * provided by {@link RSQLOperators} to a strongly‑typed enum that can be used
@@ -43,6 +48,10 @@ import org.jetbrains.annotations.Nullable;
  * {@link ComparisonOperator}, or {@code null} if the operator does not map
  * to any of the defined constants.</p>
  *
+ * <p>{@link #FULL_TEXT} ({@code =ft=}), {@link #NEAR} ({@code =near=}) and {@link #ALL} ({@code =all=}) are not standard
+ * operators, so the expressions must be parsed with {@link #parser()}, which also knows them.
+ * They apply to a virtual selector ({@link #getSelector()}) instead of an attribute.</p>
+ *
  * <p>This class is deliberately immutable – the {@code operator} field is
  * final and set via the constructor.</p>
  */
@@ -70,11 +79,48 @@ public enum RsqlSearchOperation {
     IN(RSQLOperators.IN),
 
     /** Exclusion operator – represented by “=out=”. */
-    NOT_IN(RSQLOperators.NOT_IN);
+    NOT_IN(RSQLOperators.NOT_IN),
+
+    /**
+     * Full‑text operator – represented by “=ft=”. Only valid on the selector
+     * {@value #FULL_TEXT_SELECTOR}, e.g. {@code text=ft='spa pool'}: it matches the hotels whose
+     * name or description contain all the words, using the full‑text index.
+     */
+    FULL_TEXT(new ComparisonOperator("=ft="), "text"),
+
+    /**
+     * Radius operator – represented by “=near=”. Only valid on the selector
+     * {@value #LOCATION_SELECTOR}, e.g. {@code location=near=(40.41,-3.70,5)}: it matches the
+     * hotels at most 5 km from the point, using the geographic grid index.
+     */
+    NEAR(new ComparisonOperator("=near=", true), "location"),
+
+    /**
+     * Facility operator – represented by “=all=”. Only valid on the selector
+     * {@value #FACILITIES_SELECTOR}, e.g. {@code facilities=all=(cinema,restaurant)}: it matches
+     * the hotels that have all the facility types, using the indexed facility mask.
+     */
+    ALL(new ComparisonOperator("=all=", true), "facilities");
+
+    /** Virtual selector of the {@link #FULL_TEXT} operator: the indexed text of the entity. */
+    public static final String FULL_TEXT_SELECTOR = "text";
+
+    /** Virtual selector of the {@link #NEAR} operator: the coordinates of the entity. */
+    public static final String LOCATION_SELECTOR = "location";
+
+    /** Virtual selector of the {@link #ALL} operator: the facility types of the entity. */
+    public static final String FACILITIES_SELECTOR = "facilities";
+
+    /** Parser that knows the standard operators and the ones of this application; it is thread-safe. */
+    private static final RSQLParser PARSER = new RSQLParser(operators());
 
     /** The underlying {@link ComparisonOperator} associated with the enum constant. */
     private final ComparisonOperator operator;
 
+    /** The only selector the operator applies to, or {@code null} if it applies to the attributes. */
+    @Nullable
+    private final String selector;
+
     /**
      * Constructs an {@code RsqlSearchOperation} with the supplied
      * {@link ComparisonOperator}.
@@ -82,7 +128,18 @@ public enum RsqlSearchOperation {
      * @param operator the RSQL comparison operator to associate with this enum value
      */
     RsqlSearchOperation(ComparisonOperator operator) {
+        this(operator, null);
+    }
+
+    /**
+     * Constructs an {@code RsqlSearchOperation} that only applies to a virtual selector.
+     *
+     * @param operator the RSQL comparison operator to associate with this enum value
+     * @param selector the virtual selector of the operator
+     */
+    RsqlSearchOperation(ComparisonOperator operator, @Nullable String selector) {
         this.operator = operator;
+        this.selector = selector;
     }
 
     /**
@@ -103,6 +160,25 @@ public enum RsqlSearchOperation {
         return null;
     }
 
+    /**
+     * Returns the comparison operators of all the constants, to build an {@link RSQLParser}.
+     *
+     * @return the supported operators
+     */
+    public static Set<ComparisonOperator> operators() {
+        return Arrays.stream(values()).map(RsqlSearchOperation::getOperator).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the shared parser of the RSQL expressions. The default {@code new RSQLParser()}
+     * rejects the operators of this application, such as {@code =ft=}, {@code =near=} and {@code =all=}.
+     *
+     * @return the parser
+     */
+    public static RSQLParser parser() {
+        return PARSER;
+    }
+
     /**
      * Returns the underlying {@link ComparisonOperator} associated with this
      * enum constant.
@@ -112,4 +188,32 @@ public enum RsqlSearchOperation {
     public ComparisonOperator getOperator() {
         return operator;
     }
+
+    /**
+     * Returns the virtual selector of the operator, such as {@value #FULL_TEXT_SELECTOR} for
+     * {@link #FULL_TEXT}. The virtual selectors are not attributes of the entity: they can only be
+     * used with their operator, and their operator only with them.
+     *
+     * @return the virtual selector, or {@code null} for the operators on attributes
+     */
+    @Nullable
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * Returns the operation whose virtual selector is the given one.
+     *
+     * @param selector an RSQL selector
+     * @return the operation, or {@code null} if the selector is not virtual
+     */
+    @Nullable
+    public static RsqlSearchOperation ofVirtualSelector(String selector) {
+        for (RsqlSearchOperation operation : values()) {
+            if (selector.equals(operation.selector)) {
+                return operation;
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.rsql;
+
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RsqlUsageRecorder} counts which selectors and operators the clients actually use
+ * in their RSQL filters, and how long those requests take.
+ * <p>
+ * It is fed by {@code ValidateRsqlHandlerInterceptor} with the parsed expression of every
+ * accepted filter and the latency of the request. Two views are kept:
+ * </p>
+ * <ul>
+ *   <li>Per selector and operator, for example {@code city ==} or {@code rating >=}.</li>
+ *   <li>Per {@link FilterShape}: the selectors of each conjunction, split into equality and
+ *       range comparisons. This is what a composite index has to match.</li>
+ * </ul>
+ *
+ * <p>
+ * The counters are lock-free ({@link LongAdder}) and the number of distinct keys is capped,
+ * so clients sending arbitrary selectors cannot grow the maps without limit.
+ * </p>
+ */
+@Component
+public class RsqlUsageRecorder {
+
+    /** Maximum number of distinct keys of each view. */
+    static final int MAX_KEYS = 1024;
+
+    /**
+     * How a comparison can use an index.
+     */
+    public enum Access {
+        /** {@code ==} or {@code =in=} with exact values: an index lookup. */
+        EQUALITY,
+        /** {@code <}, {@code <=}, {@code >}, {@code >=} or {@code ==} with a trailing wildcard: an index range. */
+        RANGE,
+        /** {@code !=}, {@code =out=} or a leading wildcard: an index does not help. */
+        NONE
+    }
+
+    /**
+     * The selectors of a conjunction that an index can serve.
+     *
+     * @param equality the selectors compared by equality
+     * @param range    the selectors compared by range
+     */
+    public record FilterShape(SortedSet<String> equality, SortedSet<String> range) {}
+
+    /**
+     * A selector with an operator symbol.
+     *
+     * @param selector the selector, for example {@code city}
+     * @param operator the operator symbol, for example {@code ==}
+     */
+    public record SelectorOperator(String selector, String operator) {}
+
+    /**
+     * Usage counters of a key.
+     */
+    public static final class Usage {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void add(long elapsedNanos) {
+            requests.increment();
+            totalNanos.add(elapsedNanos);
+        }
+
+        /**
+         * Returns the number of requests that used the key.
+         *
+         * @return the request count
+         */
+        public long requests() {
+            return requests.sum();
+        }
+
+        /**
+         * Returns the total latency of the requests that used the key.
+         *
+         * @return the total latency, in milliseconds
+         */
+        public double totalMillis() {
+            return totalNanos.sum() / 1_000_000.0;
+        }
+
+        /**
+         * Returns the average latency of the requests that used the key.
+         *
+         * @return the average latency, in milliseconds
+         */
+        public double averageMillis() {
+            long count = requests();
+            return count == 0 ? 0 : totalMillis() / count;
+        }
+    }
+
+    private final Map<SelectorOperator, Usage> selectors = new ConcurrentHashMap<>();
+    private final Map<FilterShape, Usage> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Records a request with an RSQL filter.
+     *
+     * @param root         the parsed filter
+     * @param elapsedNanos the latency of the request
+     */
+    public void record(@NotNull Node root, long elapsedNanos) {
+        for (ComparisonNode comparison : comparisons(root, new ArrayList<>())) {
+            usage(selectors, new SelectorOperator(comparison.getSelector(), comparison.getOperator().getSymbol()))
+                    .add(elapsedNanos);
+        }
+        for (FilterShape shape : shapes(root)) {
+            usage(shapes, shape).add(elapsedNanos);
+        }
+    }
+
+    /**
+     * Returns the usage per selector and operator.
+     *
+     * @return an unmodifiable view of the counters
+     */
+    @NotNull
+    public Map<SelectorOperator, Usage> selectorUsage() {
+        return Collections.unmodifiableMap(selectors);
+    }
+
+    /**
+     * Returns the usage per filter shape.
+     *
+     * @return an unmodifiable view of the counters
+     */
+    @NotNull
+    public Map<FilterShape, Usage> shapeUsage() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
+    /**
+     * Clears all the counters.
+     */
+    public void reset() {
+        selectors.clear();
+        shapes.clear();
+    }
+
+    /**
+     * Classifies a comparison by the index access it allows.
+     *
+     * @param comparison the comparison
+     * @return the access
+     */
+    @NotNull
+    public static Access access(@NotNull ComparisonNode comparison) {
+        return switch (comparison.getOperator().getSymbol()) {
+            case "==", "=in=" -> {
+                boolean leadingWildcard = false;
+                boolean trailingWildcard = false;
+                for (String argument : comparison.getArguments()) {
+                    leadingWildcard |= argument.startsWith("*");
+                    trailingWildcard |= argument.indexOf('*') > 0;
+                }
+                yield leadingWildcard ? Access.NONE : trailingWildcard ? Access.RANGE : Access.EQUALITY;
+            }
+            case "<", "=lt=", "<=", "=le=", ">", "=gt=", ">=", "=ge=" -> Access.RANGE;
+            default -> Access.NONE;
+        };
+    }
+
+    /**
+     * Splits the filter into the conjunctions that a single index scan can serve: each
+     * branch of an OR is a shape of its own, and the comparisons of an AND are combined.
+     */
+    static List<FilterShape> shapes(Node root) {
+        List<FilterShape> result = new ArrayList<>();
+        collectShapes(root, result);
+        return result;
+    }
+
+    private static void collectShapes(Node node, List<FilterShape> result) {
+        if (node instanceof OrNode or) {
+            or.getChildren().forEach(child -> collectShapes(child, result));
+            return;
+        }
+        SortedSet<String> equality = new TreeSet<>();
+        SortedSet<String> range = new TreeSet<>();
+        for (ComparisonNode comparison : conjunction(node, new ArrayList<>())) {
+            switch (access(comparison)) {
+                case EQUALITY -> equality.add(comparison.getSelector());
+                case RANGE -> range.add(comparison.getSelector());
+                case NONE -> { }
+            }
+        }
+        range.removeAll(equality);
+        if (!equality.isEmpty() || !range.isEmpty()) {
+            result.add(new FilterShape(Collections.unmodifiableSortedSet(equality), Collections.unmodifiableSortedSet(range)));
+        }
+    }
+
+    /** Comparisons directly combined by AND with {@code node}; nested ORs are not part of the conjunction. */
+    private static List<ComparisonNode> conjunction(Node node, List<ComparisonNode> result) {
+        if (node instanceof ComparisonNode comparison) {
+            result.add(comparison);
+        } else if (node instanceof LogicalNode logical && !(node instanceof OrNode)) {
+            logical.getChildren().forEach(child -> conjunction(child, result));
+        }
+        return result;
+    }
+
+    private static List<ComparisonNode> comparisons(Node node, List<ComparisonNode> result) {
+        if (node instanceof ComparisonNode comparison) {
+            result.add(comparison);
+        } else if (node instanceof LogicalNode logical) {
+            logical.getChildren().forEach(child -> comparisons(child, result));
+        }
+        return result;
+    }
+
+    private static <K> Usage usage(Map<K, Usage> map, K key) {
+        Usage usage = map.get(key);
+        if (usage != null) {
+            return usage;
+        }
+        if (map.size() >= MAX_KEYS) {
+            // Counted nowhere: the key space is full.
+            return new Usage();
+        }
+        return map.computeIfAbsent(key, ignored -> new Usage());
+    }
+}
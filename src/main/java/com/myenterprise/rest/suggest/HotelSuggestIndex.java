@@ -0,0 +1,190 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * {@code HotelSuggestIndex} is the in-memory prefix index of the type-ahead endpoint
+ * {@code GET /hotels/suggest}.
+ * <p>
+ * Each hotel is stored in a {@link RadixTrie} under several terms: its whole name, the name
+ * from each of its words ({@code "hotel gran via"}, {@code "gran via"}, {@code "via"}) and its
+ * city. The terms are normalized: lower case, without accents and with the punctuation replaced
+ * by spaces, so {@code "Málaga"} is found with {@code "mala"}. A lookup walks the trie from
+ * the prefix and stops at the first {@code limit} distinct hotels, so it neither scans the table
+ * nor builds full hotel bodies.
+ * </p>
+ *
+ * <p>
+ * Reads run concurrently; the updates take a write lock and only touch the terms of one hotel.
+ * </p>
+ */
+public final class HotelSuggestIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * A suggested hotel.
+     *
+     * @param id   the identifier of the hotel
+     * @param name the name of the hotel
+     */
+    public record Suggestion(UUID id, String name) {}
+
+    /**
+     * The name of an indexed hotel and the terms under which it is stored, to remove them later.
+     */
+    private record Indexed(String name, Set<String> terms) {}
+
+    private final RadixTrie<UUID> trie = new RadixTrie<>();
+
+    private final Map<UUID, Indexed> hotels = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a hotel, or replaces its name and city if it is already indexed.
+     *
+     * @param id   the identifier of the hotel
+     * @param name the name of the hotel
+     * @param city the city of the hotel
+     */
+    public void put(UUID id, String name, String city) {
+        Set<String> terms = terms(name, city);
+        lock.writeLock().lock();
+        try {
+            Indexed previous = hotels.put(id, new Indexed(name, terms));
+            if (previous != null) {
+                previous.terms().forEach(term -> trie.remove(term, id));
+            }
+            terms.forEach(term -> trie.put(term, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a hotel, if it is indexed.
+     *
+     * @param id the identifier of the hotel
+     */
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Indexed previous = hotels.remove(id);
+            if (previous != null) {
+                previous.terms().forEach(term -> trie.remove(term, id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the hotels with a term that starts with the query, in lexicographic order of the
+     * matched term.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of hotels
+     * @return at most {@code limit} distinct hotels, empty if the query has no letters or digits
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<UUID> found = new LinkedHashSet<>();
+        List<Suggestion> suggestions = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            trie.visit(prefix, id -> {
+                if (found.add(id)) {
+                    suggestions.add(new Suggestion(id, hotels.get(id).name()));
+                }
+                return suggestions.size() < limit;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * Returns the number of indexed hotels.
+     *
+     * @return the number of hotels
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return hotels.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the terms of a hotel: its name from each word and its city.
+     */
+    static Set<String> terms(String name, String city) {
+        Set<String> terms = new LinkedHashSet<>();
+        String normalized = normalize(name);
+        if (!normalized.isEmpty()) {
+            terms.add(normalized);
+            for (int space = normalized.indexOf(' '); space >= 0; space = normalized.indexOf(' ', space + 1)) {
+                terms.add(normalized.substring(space + 1));
+            }
+        }
+        String normalizedCity = normalize(city);
+        if (!normalizedCity.isEmpty()) {
+            terms.add(normalizedCity);
+        }
+        return terms;
+    }
+
+    /**
+     * Lower-cases a text, removes its accents and replaces the runs of other characters than
+     * letters and digits by a single space.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.suggest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@code RadixTrie} is a compressed prefix tree: each edge holds the longest run of characters
+ * shared by its keys, so a tree of {@code n} keys has at most {@code 2n} nodes whatever their length.
+ * <p>
+ * Several values can be stored under the same key. {@link #visit} walks the values of the keys
+ * that start with a prefix in lexicographic order of the keys (shorter keys first) and stops as
+ * soon as the visitor returns {@code false}, so asking for the first {@code k} matches costs the
+ * length of the prefix plus the nodes of those {@code k} matches, not the size of the subtree.
+ * </p>
+ *
+ * <p>
+ * The trie is not thread-safe: {@link HotelSuggestIndex} guards it with a read-write lock.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+public final class RadixTrie<V> {
+
+    private final Node<V> root = new Node<>("");
+
+    private int size;
+
+    /**
+     * Adds a value under a key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return {@code true} if the value was not already stored under the key
+     */
+    public boolean put(String key, V value) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = node.indexOf(key.charAt(offset));
+            if (index < 0) {
+                Node<V> leaf = new Node<>(key.substring(offset));
+                node.children.add(-index - 1, leaf);
+                node = leaf;
+                break;
+            }
+            Node<V> child = node.children.get(index);
+            int common = commonPrefix(child.label, key, offset);
+            if (common < child.label.length()) {
+                Node<V> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children.add(child);
+                node.children.set(index, split);
+                child = split;
+            }
+            node = child;
+            offset += common;
+        }
+        if (node.values == null) {
+            node.values = new LinkedHashSet<>(2);
+        }
+        boolean added = node.values.add(value);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * Removes a value from a key, and the nodes that are no longer needed.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return {@code true} if the value was stored under the key
+     */
+    public boolean remove(String key, V value) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = node.indexOf(key.charAt(offset));
+            if (index < 0) {
+                return false;
+            }
+            Node<V> child = node.children.get(index);
+            if (!key.startsWith(child.label, offset)) {
+                return false;
+            }
+            path.add(node);
+            node = child;
+            offset += child.label.length();
+        }
+        if (node.values == null || !node.values.remove(value)) {
+            return false;
+        }
+        size--;
+        if (node.values.isEmpty()) {
+            node.values = null;
+            compact(node, path.isEmpty() ? null : path.get(path.size() - 1));
+            for (int level = path.size() - 1; level > 0; level--) {
+                compact(path.get(level), path.get(level - 1));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Visits the values of the keys that start with a prefix, in lexicographic order of the keys.
+     *
+     * @param prefix  the prefix
+     * @param visitor receives each value; returns {@code false} to stop the visit
+     */
+    public void visit(String prefix, Predicate<? super V> visitor) {
+        Node<V> node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            int index = node.indexOf(prefix.charAt(offset));
+            if (index < 0) {
+                return;
+            }
+            node = node.children.get(index);
+            int length = Math.min(node.label.length(), prefix.length() - offset);
+            if (!node.label.regionMatches(0, prefix, offset, length)) {
+                return;
+            }
+            offset += length;
+        }
+        visit(node, visitor);
+    }
+
+    /**
+     * Returns the number of (key, value) pairs.
+     *
+     * @return the number of pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    private static <V> boolean visit(Node<V> node, Predicate<? super V> visitor) {
+        if (node.values != null) {
+            for (V value : node.values) {
+                if (!visitor.test(value)) {
+                    return false;
+                }
+            }
+        }
+        for (Node<V> child : node.children) {
+            if (!visit(child, visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes a node without values nor children, or merges a node without values into its only child.
+     */
+    private void compact(Node<V> node, Node<V> parent) {
+        if (parent == null || node.values != null) {
+            return;
+        }
+        if (node.children.isEmpty()) {
+            parent.children.remove(parent.indexOf(node.label.charAt(0)));
+        } else if (node.children.size() == 1) {
+            Node<V> child = node.children.get(0);
+            child.label = node.label + child.label;
+            parent.children.set(parent.indexOf(child.label.charAt(0)), child);
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(offset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * A node of the trie: the characters of the edge that leads to it, its children sorted by
+     * their first character and the values of the key that ends here, if any.
+     */
+    private static final class Node<V> {
+
+        private String label;
+
+        private final List<Node<V>> children = new ArrayList<>(2);
+
+        private Set<V> values;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with a character, or
+         * {@code -(insertion point) - 1} if there is none.
+         */
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char current = children.get(middle).label.charAt(0);
+                if (current < first) {
+                    low = middle + 1;
+                } else if (current > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
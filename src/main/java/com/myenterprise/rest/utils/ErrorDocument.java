@@ -0,0 +1,87 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import com.myenterprise.rest.v1.model.Error;
+
+/**
+ * {@code ErrorDocument} is an {@link Error} that is already serialized: the body of a fixed error
+ * response, built once by {@link ResponseUtils} and returned by every response with the same code
+ * and message.
+ * <p>
+ * {@link ErrorDocumentHttpMessageConverter} copies its bytes to the response instead of
+ * serializing it again. The fields of the error are filled too, so the callers that read the body
+ * of the response see an ordinary {@link Error}, and any other writer produces the same JSON.
+ * </p>
+ *
+ * <p>
+ * A document is shared between responses and threads, so it cannot be modified: the setters
+ * inherited from {@link Error} throw {@link UnsupportedOperationException}.
+ * </p>
+ */
+public final class ErrorDocument extends Error {
+
+    private final byte[] json;
+
+    /**
+     * Creates the document of an error.
+     *
+     * @param error   the internal code of the error
+     * @param message the message of the error
+     * @param json    the UTF-8 bytes of the JSON of the error; they are not copied
+     */
+    ErrorDocument(String error, String message, byte[] json) {
+        super(error, message);
+        this.json = json;
+    }
+
+    /**
+     * Returns the JSON of the error.
+     *
+     * @return the UTF-8 bytes of the document; they must not be modified
+     */
+    public byte[] bytes() {
+        return json;
+    }
+
+    @Override
+    public Error error(String error) {
+        throw new UnsupportedOperationException("An error document cannot be modified");
+    }
+
+    @Override
+    public void setError(String error) {
+        throw new UnsupportedOperationException("An error document cannot be modified");
+    }
+
+    @Override
+    public Error message(String message) {
+        throw new UnsupportedOperationException("An error document cannot be modified");
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw new UnsupportedOperationException("An error document cannot be modified");
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * {@code ErrorDocumentHttpMessageConverter} writes an {@link ErrorDocument} returned as the body
+ * of a response by copying its bytes to the output stream of the response, with their
+ * {@code Content-Length}.
+ * <p>
+ * The fixed errors of {@link ResponseUtils} are returned as documents, serialized once per code
+ * and message, so the error responses do not go through the {@code ObjectMapper}.
+ * </p>
+ */
+public class ErrorDocumentHttpMessageConverter extends AbstractHttpMessageConverter<ErrorDocument> {
+
+    /**
+     * Creates the converter of the {@code application/json} responses.
+     */
+    public ErrorDocumentHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NotNull Class<?> clazz) {
+        return ErrorDocument.class.equals(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @NotNull
+    @Override
+    protected ErrorDocument readInternal(@NotNull Class<? extends ErrorDocument> clazz,
+                                         @NotNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("An error document is only written", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NotNull ErrorDocument document, MediaType contentType) {
+        return (long) document.bytes().length;
+    }
+
+    @Override
+    protected void writeInternal(@NotNull ErrorDocument document, @NotNull HttpOutputMessage outputMessage)
+            throws IOException {
+        outputMessage.getBody().write(document.bytes());
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Helpers used by the Jackson serializers generated from the OpenAPI models
+ * (template {@code src/main/resources/openapi-templates/modelSerializer.mustache}).
+ * <p>
+ * The template does not know the Java type of every property, so it always calls
+ * {@code write(generator, provider, value)} and the compiler picks the overload that
+ * matches the type of the getter. The scalar types used by the API are written
+ * directly to the {@link JsonGenerator}; any other type falls back to
+ * {@link SerializerProvider#defaultSerializeValue(Object, JsonGenerator)}, which uses
+ * the serializers cached by the {@code ObjectMapper}.
+ * </p>
+ *
+ * <p>
+ * {@code null} values are written as JSON {@code null}, as the reflection based
+ * {@code BeanSerializer} does with the default inclusion.
+ * </p>
+ */
+public final class JsonFieldWriter {
+
+    private JsonFieldWriter() {}
+
+    /**
+     * Writes a {@link String} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, String value) throws IOException {
+        generator.writeString(value);
+    }
+
+    /**
+     * Writes a {@link Boolean} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeBoolean(value);
+    }
+
+    /**
+     * Writes an {@link Integer} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(value);
+    }
+
+    /**
+     * Writes a {@link Long} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(value);
+    }
+
+    /**
+     * Writes a {@link Float} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, Float value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(value);
+    }
+
+    /**
+     * Writes a {@link Double} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeNumber(value);
+    }
+
+    /**
+     * Writes a {@link BigDecimal} value.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, BigDecimal value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    /**
+     * Writes a {@link UUID} value in its canonical textual form.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, UUID value) throws IOException {
+        generator.writeString(value == null ? null : value.toString());
+    }
+
+    /**
+     * Writes any other value with the serializer registered in the {@code ObjectMapper}.
+     *
+     * @param generator the generator to write to
+     * @param provider  the serializer provider
+     * @param value     the value, may be {@code null}
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(JsonGenerator generator, SerializerProvider provider, Object value) throws IOException {
+        provider.defaultSerializeValue(value, generator);
+    }
+
+    /**
+     * Writes a nested object with a known serializer.
+     *
+     * @param generator  the generator to write to
+     * @param provider   the serializer provider
+     * @param value      the object, may be {@code null}
+     * @param serializer the serializer of the object
+     * @param <T>        the type of the object
+     * @throws IOException if the value cannot be written
+     */
+    public static <T> void writeObject(JsonGenerator generator, SerializerProvider provider, T value,
+                                       JsonSerializer<T> serializer) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        serializer.serialize(value, generator, provider);
+    }
+
+    /**
+     * Writes a list of objects with a known serializer for the elements.
+     *
+     * @param generator  the generator to write to
+     * @param provider   the serializer provider
+     * @param values     the list, may be {@code null}
+     * @param serializer the serializer of the elements
+     * @param <T>        the type of the elements
+     * @throws IOException if the value cannot be written
+     */
+    public static <T> void writeArray(JsonGenerator generator, SerializerProvider provider, List<? extends T> values,
+                                      JsonSerializer<T> serializer) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray(values, values.size());
+        for (T value : values) {
+            writeObject(generator, provider, value, serializer);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RateLimitedLogger} logs failures as structured {@code key=value} messages and
+ * limits how many of them include a stack trace.
+ * <p>
+ * Printing a stack trace for every failed request turns an abuse spike (for example,
+ * a flood of invalid filters) into an I/O bottleneck. This logger writes at most
+ * {@code maxPerInterval} full entries per interval; the remaining failures of the
+ * interval are only counted, and the count is logged once when the next interval starts.
+ * </p>
+ *
+ * <p>
+ * The class is thread-safe and lock-free; it is meant to be kept in a static constant
+ * of the class that logs.
+ * </p>
+ */
+public final class RateLimitedLogger {
+
+    private final Logger logger;
+    private final Level level;
+    private final int maxPerInterval;
+    private final long intervalNanos;
+
+    private final AtomicLong windowStart;
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Creates a rate-limited logger.
+     *
+     * @param logger         the logger to write to
+     * @param level          the level of the entries
+     * @param maxPerInterval the maximum number of entries logged per interval
+     * @param interval       the length of the interval
+     */
+    public RateLimitedLogger(@NotNull Logger logger, @NotNull Level level, int maxPerInterval, @NotNull Duration interval) {
+        if (maxPerInterval <= 0 || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("The limit and the interval must be positive");
+        }
+        this.logger = logger;
+        this.level = level;
+        this.maxPerInterval = maxPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.windowStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Logs a failure as {@code event=<event> exception=<class> message=<message>} with its
+     * stack trace, unless the limit of the current interval has been reached.
+     *
+     * @param event a short, stable name of the failed operation, for example {@code find_hotel}
+     * @param error the failure
+     */
+    public void log(@NotNull String event, @NotNull Throwable error) {
+        rollWindow();
+        if (windowCount.incrementAndGet() > maxPerInterval) {
+            suppressed.increment();
+            return;
+        }
+        logger.atLevel(level)
+                .setCause(error)
+                .log("event={} exception={} message={}", event, error.getClass().getName(), error.getMessage());
+    }
+
+    /**
+     * Returns the number of failures suppressed in the current interval.
+     *
+     * @return the suppressed count
+     */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Starts a new interval when the current one has expired, reporting the failures
+     * suppressed in the previous one. Only the thread that wins the CAS resets the counters.
+     */
+    private void rollWindow() {
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start < intervalNanos || !windowStart.compareAndSet(start, now)) {
+            return;
+        }
+        windowCount.set(0);
+        long count = suppressed.sumThenReset();
+        if (count > 0) {
+            logger.atLevel(level).log("event=suppressed_errors count={} interval_ms={}",
+                    count, Duration.ofNanos(intervalNanos).toMillis());
+        }
+    }
+}
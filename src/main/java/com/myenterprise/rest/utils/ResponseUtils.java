@@ -23,25 +23,68 @@
  */
 package com.myenterprise.rest.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.myenterprise.rest.v1.model.Error;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for creating standardized HTTP responses.
  * This class provides static methods to generate common response types,
  * such as error responses for "not found" or internal server errors.
+ *
+ * <p>
+ * The error path is designed to stay cheap under abuse (for example, floods of invalid
+ * RSQL filters), when it runs far more often than the success path:
+ * </p>
+ * <ul>
+ *   <li>Errors with a fixed code and message are serialized once into a
+ *       {@link PreparedError}, or an {@link ErrorDocument} for the {@link ResponseEntity}
+ *       bodies, and written as raw bytes.</li>
+ *   <li>Errors with a dynamic message are serialized with a shared, thread-safe
+ *       {@link ObjectWriter} instead of a new {@link ObjectMapper} per response.</li>
+ * </ul>
  */
 @Component
 public class ResponseUtils {
 
+    /** Code of the 400 Bad Request errors. */
+    public static final String BAD_REQUEST_CODE = "HOTELS-ERROR-00400";
+
+    /** Code of the 404 Not Found errors. */
+    public static final String NOT_FOUND_CODE = "HOTELS-ERROR-00404";
+
+    /** Code of the 500 Internal Server Error errors. */
+    public static final String INTERNAL_ERROR_CODE = "HOTELS-ERROR-00500";
+
+    /** Code of the 503 Service Unavailable errors. */
+    public static final String SERVICE_UNAVAILABLE_CODE = "HOTELS-ERROR-00503";
+
+    /** Shared writer for the {@link Error} bodies; {@link ObjectWriter} is immutable and thread-safe. */
+    private static final ObjectWriter ERROR_WRITER = new ObjectMapper().writerFor(Error.class);
+
+    /**
+     * Maximum number of entries of {@link #PREPARED_ENTITY_BODIES}. The messages passed to
+     * {@link #notFoundResponse(String)} and {@link #internalErrorResponse(String)} are constants,
+     * so the limit is only a guard against callers that build messages dynamically.
+     */
+    private static final int MAX_PREPARED_ENTITY_BODIES = 256;
+
+    /** Serialized bodies of the fixed errors returned as {@link ResponseEntity}, by code and message. */
+    private static final Map<String, ErrorDocument> PREPARED_ENTITY_BODIES = new ConcurrentHashMap<>();
+
     /**
      * Autowired constructor.
      * This is an empty constructor that exists to allow Spring to inject this component.
@@ -50,52 +93,98 @@ public class ResponseUtils {
     @Autowired
     private ResponseUtils(){}
 
+    /**
+     * An error response serialized once, to be written many times.
+     *
+     * @param httpStatus the HTTP status of the response
+     * @param body       the JSON body; must not be modified
+     */
+    public record PreparedError(int httpStatus, byte[] body) {}
+
+    /**
+     * Serializes an error with a fixed code and message. Keep the result in a constant
+     * and write it with {@link #writeErrorResponse(HttpServletResponse, PreparedError)}.
+     *
+     * @param message      the message of the error
+     * @param httpStatus   the HTTP status of the response
+     * @param internalCode the internal code of the error, for example {@link #BAD_REQUEST_CODE}
+     * @return the prepared error
+     */
+    @NotNull
+    public static PreparedError prepareError(String message, int httpStatus, String internalCode) {
+        return new PreparedError(httpStatus, serialize(message, internalCode));
+    }
 
+    /**
+     * Writes a prepared error to the servlet response without serializing it again.
+     *
+     * @param resp  the servlet response
+     * @param error the prepared error
+     * @throws IOException if the body cannot be written
+     */
+    public static void writeErrorResponse(HttpServletResponse resp, PreparedError error) throws IOException {
+        resp.setStatus(error.httpStatus());
+        resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        resp.setContentLength(error.body().length);
+        resp.getOutputStream().write(error.body());
+    }
+
+    /**
+     * Writes an error with a dynamic message to the servlet response, using the shared writer.
+     *
+     * @param resp         the servlet response
+     * @param message      the message of the error
+     * @param httpStatus   the HTTP status of the response
+     * @param internalCode the internal code of the error
+     * @throws IOException if the body cannot be written
+     */
     public static void writeErrorResponse(HttpServletResponse resp,
                                              String message,
                                              int httpStatus,
                                              String internalCode) throws IOException {
-        Error err = new Error();
-        err.setError(internalCode);
-        err.setMessage(message);
-
-        ResponseEntity<Object> entity = ResponseUtils.errorResponse(err, org.springframework.http.HttpStatus.valueOf(httpStatus));
-
         resp.setStatus(httpStatus);
-        resp.setContentType("application/json");
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(resp.getOutputStream(), entity.getBody());
+        resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ERROR_WRITER.writeValue(resp.getOutputStream(), error(message, internalCode));
     }
 
     /**
      * Creates a standardized 404 Not Found response entity.
      * This method is specifically designed for cases where a requested hotel is not found.
+     * The body is an {@link ErrorDocument}, serialized once per message.
      *
      * @param <T> The type of the response body.
      * @return A {@link ResponseEntity} with an error body and {@link HttpStatus#NOT_FOUND}.
      */
     @NotNull
     public static <T> ResponseEntity<T> notFoundResponse( String message ){
-        Error responseError = new Error();
-        responseError.setError("HOTELS-ERROR-00404");
-        responseError.setMessage(message);
-        return ResponseUtils.errorResponse(responseError, HttpStatus.NOT_FOUND);
+        return ResponseUtils.preparedResponse(message, NOT_FOUND_CODE, HttpStatus.NOT_FOUND);
     }
 
     /**
      * Creates a standardized 500 Internal Server Error response entity.
      * This method is intended for unexpected errors on the server side.
+     * The body is an {@link ErrorDocument}, serialized once per message.
      *
      * @param <T> The type of the response body.
      * @return A {@link ResponseEntity} with an error body and {@link HttpStatus#INTERNAL_SERVER_ERROR}.
      */
     @NotNull
     public static <T> ResponseEntity<T> internalErrorResponse( String message ){
-        Error responseError = new Error();
-        responseError.setError("HOTELS-ERROR-00500");
-        responseError.setMessage(message);
-        return ResponseUtils.errorResponse(responseError, HttpStatus.INTERNAL_SERVER_ERROR);
+        return ResponseUtils.preparedResponse(message, INTERNAL_ERROR_CODE, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * Creates a standardized 503 Service Unavailable response entity.
+     * This method is intended for requests rejected or abandoned because the server is
+     * saturated, for example when an endpoint executor is full or its timeout expires.
+     * The body is an {@link ErrorDocument}, serialized once per message.
+     *
+     * @param <T> The type of the response body.
+     * @return A {@link ResponseEntity} with an error body and {@link HttpStatus#SERVICE_UNAVAILABLE}.
+     */
+    @NotNull
+    public static <T> ResponseEntity<T> serviceUnavailableResponse( String message ){
+        return ResponseUtils.preparedResponse(message, SERVICE_UNAVAILABLE_CODE, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     /**
@@ -112,4 +201,37 @@ public class ResponseUtils {
     public static <T> ResponseEntity<T> errorResponse(Object errorBody, HttpStatus status) {
         return (ResponseEntity<T>) new ResponseEntity<>(errorBody, status);
     }
-}
\ No newline at end of file
+
+    /**
+     * Builds a response entity whose body is the error, as an {@link ErrorDocument} serialized
+     * once per code and message: {@link ErrorDocumentHttpMessageConverter} writes its bytes
+     * instead of serializing the {@link Error} again.
+     */
+    @NotNull
+    private static <T> ResponseEntity<T> preparedResponse(String message, String internalCode, HttpStatus status) {
+        String key = internalCode + '\u0000' + message;
+        ErrorDocument body = PREPARED_ENTITY_BODIES.get(key);
+        if (body == null) {
+            body = new ErrorDocument(internalCode, message, serialize(message, internalCode));
+            if (PREPARED_ENTITY_BODIES.size() < MAX_PREPARED_ENTITY_BODIES) {
+                PREPARED_ENTITY_BODIES.putIfAbsent(key, body);
+            }
+        }
+        return errorResponse(body, status);
+    }
+
+    private static byte[] serialize(String message, String internalCode) {
+        try {
+            return ERROR_WRITER.writeValueAsBytes(error(message, internalCode));
+        } catch (JsonProcessingException error) {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+    private static Error error(String message, String internalCode) {
+        Error err = new Error();
+        err.setError(internalCode);
+        err.setMessage(message);
+        return err;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@code SingleFlight} shares one computation among the concurrent calls with the same key.
+ * <p>
+ * The first call of a key starts the computation; the calls that arrive with the same key while
+ * it is in flight do not start another one, they receive its result. When the computation
+ * completes, the key is released and the next call starts a new one: nothing is cached.
+ * </p>
+ *
+ * <p>
+ * The computation is asynchronous: the waiting calls hold no thread, only a dependent
+ * {@link CompletableFuture}. Each call receives its own copy of the shared future, so a caller
+ * that cancels or completes its future does not affect the others. A failure reaches every
+ * waiter with the same exception.
+ * </p>
+ *
+ * <p>
+ * A computation that does not complete within the timeout fails every waiter with a
+ * {@link java.util.concurrent.TimeoutException}, and its key is released, so a stuck
+ * computation cannot hold a key forever. {@link #forget(Object)} releases a key without
+ * waiting, for example after a write: the calls that arrive later start a new computation
+ * instead of joining one that may have read the data before the write.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Duration timeout;
+
+    private final LongAdder started = new LongAdder();
+
+    private final LongAdder joined = new LongAdder();
+
+    /**
+     * Creates an empty group of computations.
+     *
+     * @param timeout maximum duration of a computation
+     */
+    public SingleFlight(@NotNull Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the result of the computation in flight for a key, or starts it.
+     *
+     * @param key  the key of the computation
+     * @param call the computation, only invoked when none is in flight for the key
+     * @return the future result, shared with the other calls of the key
+     */
+    @NotNull
+    public CompletableFuture<V> execute(@NotNull K key, @NotNull Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        CompletableFuture<V> existing;
+        while ((existing = inFlight.putIfAbsent(key, shared)) != null) {
+            if (!existing.isDone()) {
+                joined.increment();
+                return existing.copy();
+            }
+            // Completed, but its waiters are notified before the key is released.
+            inFlight.remove(key, existing);
+        }
+        started.increment();
+        shared.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> inFlight.remove(key, shared));
+        try {
+            call.get().whenComplete((value, error) -> {
+                if (error != null) {
+                    shared.completeExceptionally(error);
+                } else {
+                    shared.complete(value);
+                }
+            });
+        } catch (RuntimeException error) {
+            shared.completeExceptionally(error);
+        }
+        return shared.copy();
+    }
+
+    /**
+     * Releases a key: the computation in flight goes on for its waiters, and the next call
+     * starts a new one.
+     *
+     * @param key the key to release
+     */
+    public void forget(@NotNull K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Releases every key.
+     */
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    /**
+     * Returns the number of computations started.
+     *
+     * @return the number of calls that started a computation
+     */
+    public long started() {
+        return started.sum();
+    }
+
+    /**
+     * Returns the number of calls that received the result of a computation in flight.
+     *
+     * @return the number of calls that did not start a computation
+     */
+    public long joined() {
+        return joined.sum();
+    }
+}
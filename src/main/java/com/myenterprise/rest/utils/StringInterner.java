@@ -0,0 +1,110 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@code StringInterner} returns one shared instance for equal strings, so the values that repeat
+ * across many hotels (a city, the short description of a facility) are held once in memory.
+ * <p>
+ * Every row read from the database brings new {@link String} instances: a list of 100,000 hotels
+ * of the same city holds 100,000 copies of it. {@link #intern(String)} replaces a value by the
+ * instance already seen, when there is one, which also lets {@link String#equals(Object)} return
+ * on the identity check.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link String#intern()}, the table is bounded and lossy: it has a fixed number of slots,
+ * each one a {@link WeakReference} to the last value of its hash, and a value that lands on a taken
+ * slot replaces the previous one. Unique values, such as addresses, cannot make it grow, and a
+ * value no longer used anywhere else is collected with its slot left empty. A value evicted by a
+ * collision only loses the sharing of its later copies.
+ * </p>
+ *
+ * <p>
+ * The class is thread-safe and lock-free; it is meant to be kept in a static constant, such as
+ * {@link #SHARED}.
+ * </p>
+ */
+public final class StringInterner {
+
+    /** Interner shared by the mappers, the sanitizer and the in-memory snapshot of the hotels. */
+    public static final StringInterner SHARED = new StringInterner(16_384);
+
+    private final AtomicReferenceArray<WeakReference<String>> slots;
+
+    private final int mask;
+
+    /**
+     * Creates an interner.
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    public StringInterner(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the shared instance equal to the value, or the value itself, which becomes the shared
+     * instance of its slot.
+     *
+     * @param value the value, may be {@code null}
+     * @return a string equal to {@code value}, or {@code null} if the value was {@code null}
+     */
+    @Contract("null -> null; !null -> !null")
+    public String intern(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ hash >>> 16) & mask;
+        WeakReference<String> reference = slots.get(slot);
+        String shared = reference == null ? null : reference.get();
+        if (shared != null && shared.equals(value)) {
+            return shared;
+        }
+        // A race with another thread only replaces one shared instance by an equal one.
+        slots.set(slot, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity of the table
+     */
+    public int capacity() {
+        return slots.length();
+    }
+}
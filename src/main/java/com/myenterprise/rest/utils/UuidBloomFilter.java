@@ -0,0 +1,148 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@code UuidBloomFilter} is a Bloom filter of {@link UUID}s: a set that answers whether an
+ * identifier may have been added, in a few bits per identifier.
+ * <p>
+ * {@link #mightContain(UUID)} never returns {@code false} for an added identifier; it may
+ * return {@code true} for one that was not added, with the probability given at construction
+ * while no more than the expected number of identifiers is added. Identifiers cannot be
+ * removed: the filter is rebuilt instead.
+ * </p>
+ *
+ * <p>
+ * Each identifier sets {@link #hashes()} bits of a bit array, chosen by double hashing of the
+ * two halves of the {@link UUID}, mixed first so that made-up sequential identifiers spread as
+ * well as random ones. The bits are set with atomic operations: the filter is thread-safe and
+ * the lookups take no lock.
+ * </p>
+ */
+public final class UuidBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+
+    private final long bits;
+
+    private final int hashes;
+
+    /**
+     * Creates an empty filter.
+     *
+     * @param expectedIds       the number of identifiers that the filter is sized for
+     * @param falsePositiveRate the probability of a false positive with that many identifiers
+     * @throws IllegalArgumentException if the number is not positive or the probability not in (0, 1)
+     */
+    public UuidBloomFilter(long expectedIds, double falsePositiveRate) {
+        if (expectedIds < 1 || !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Invalid Bloom filter: " + expectedIds + " ids, rate " + falsePositiveRate);
+        }
+        long size = (long) Math.ceil(-expectedIds * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (size + 63) / 64);
+        this.words = new AtomicLongArray(words);
+        this.bits = words * 64L;
+        this.hashes = (int) Math.max(1, Math.min(16, Math.round((double) bits / expectedIds * LN2)));
+    }
+
+    /**
+     * Adds an identifier.
+     *
+     * @param id the identifier
+     */
+    public void add(UUID id) {
+        long hash1 = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        long hash2 = mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (value, added) -> value | added);
+            }
+        }
+    }
+
+    /**
+     * Tells whether an identifier may have been added.
+     *
+     * @param id the identifier
+     * @return {@code false} if the identifier was certainly not added
+     */
+    public boolean mightContain(UUID id) {
+        long hash1 = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+        long hash2 = mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the size of the bit array.
+     *
+     * @return the number of bits
+     */
+    public long bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the number of bits set by each identifier.
+     *
+     * @return the number of hash functions
+     */
+    public int hashes() {
+        return hashes;
+    }
+
+    /**
+     * Estimates the probability of a false positive from the bits set so far: the probability
+     * that all the bits of an identifier not added are set.
+     *
+     * @return the expected false positive rate, between 0 and 1
+     */
+    public double expectedFalsePositiveRate() {
+        long set = 0;
+        for (int i = 0; i < words.length(); i++) {
+            set += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) set / bits, hashes);
+    }
+
+    /** The finalizer of SplitMix64: spreads every input bit over the whole result. */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
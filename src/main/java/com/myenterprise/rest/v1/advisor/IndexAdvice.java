@@ -0,0 +1,45 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.advisor;
+
+import java.util.List;
+
+/**
+ * Report of the index advisor: the observed filter usage and the recommended indexes.
+ *
+ * @param usage           the usage of each selector and operator, most used first
+ * @param recommendations the recommended indexes, highest estimated benefit first
+ */
+public record IndexAdvice(List<SelectorUsage> usage, List<IndexRecommendation> recommendations) {
+
+    /**
+     * Usage of a selector with an operator.
+     *
+     * @param selector         the RSQL selector
+     * @param operator         the RSQL operator symbol
+     * @param requests         the number of requests that used it
+     * @param averageLatencyMs the average latency of those requests
+     */
+    public record SelectorUsage(String selector, String operator, long requests, double averageLatencyMs) {}
+}
@@ -0,0 +1,261 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.advisor;
+
+import com.myenterprise.rest.rsql.RsqlUsageRecorder;
+import com.myenterprise.rest.rsql.RsqlUsageRecorder.FilterShape;
+import com.myenterprise.rest.rsql.RsqlUsageRecorder.Usage;
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code IndexAdvisor} recommends indexes for the RSQL filters that the clients actually send.
+ * <p>
+ * It reads the {@link FilterShape}s counted by {@link RsqlUsageRecorder}, turns each frequent
+ * shape into the index that would serve it (the equality columns, most used first, then the
+ * most used range column), and discards the candidates already covered by a live index of
+ * the database, read from {@code INFORMATION_SCHEMA.INDEX_COLUMNS}. An existing index covers
+ * a candidate when its leading columns hold the same equality columns, in any order,
+ * followed by the range column.
+ * </p>
+ *
+ * <p>
+ * The recommendations are sorted by estimated benefit, the total latency of the requests
+ * they would serve. With {@code hotels.index-advisor.allow-create: true} they can also be
+ * created on the running database; note that H2 locks the table while it builds the index,
+ * and that the index should then be added to a Flyway migration.
+ * </p>
+ */
+@Service
+public class IndexAdvisor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexAdvisor.class);
+
+    /** Table filtered by {@code GET /hotels}. */
+    static final String TABLE = "hotels";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RsqlUsageRecorder usageRecorder;
+    private final Map<String, String> selectorColumns;
+    private final long minRequests;
+    private final boolean allowCreate;
+
+    /**
+     * Constructs the advisor. The RSQL selectors are the basic attributes of {@link HotelsEntity},
+     * mapped to their columns with the naming strategy of Spring Boot.
+     *
+     * @param jdbcTemplate         access to the database
+     * @param usageRecorder        the recorder of the filter usage
+     * @param entityManagerFactory the JPA metamodel of the entities
+     * @param minRequests          minimum number of requests of a shape to recommend an index for it
+     * @param allowCreate          whether the recommended indexes can be created online
+     */
+    @Autowired
+    public IndexAdvisor(JdbcTemplate jdbcTemplate,
+                        RsqlUsageRecorder usageRecorder,
+                        EntityManagerFactory entityManagerFactory,
+                        @Value("${hotels.index-advisor.min-requests:20}") long minRequests,
+                        @Value("${hotels.index-advisor.allow-create:false}") boolean allowCreate) {
+        this(jdbcTemplate, usageRecorder, selectorColumns(entityManagerFactory), minRequests, allowCreate);
+    }
+
+    /**
+     * Constructs the advisor with an explicit mapping of selectors to columns.
+     *
+     * @param jdbcTemplate    access to the database
+     * @param usageRecorder   the recorder of the filter usage
+     * @param selectorColumns the column of each selector of the {@code hotels} table
+     * @param minRequests     minimum number of requests of a shape to recommend an index for it
+     * @param allowCreate     whether the recommended indexes can be created online
+     */
+    public IndexAdvisor(JdbcTemplate jdbcTemplate,
+                        RsqlUsageRecorder usageRecorder,
+                        Map<String, String> selectorColumns,
+                        long minRequests,
+                        boolean allowCreate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.usageRecorder = usageRecorder;
+        this.selectorColumns = Map.copyOf(selectorColumns);
+        this.minRequests = minRequests;
+        this.allowCreate = allowCreate;
+    }
+
+    /**
+     * Computes the indexes missing for the observed filters.
+     *
+     * @return the recommendations, highest estimated benefit first
+     */
+    @NotNull
+    public List<IndexRecommendation> recommend() {
+        List<List<String>> existing = existingIndexes();
+        Map<String, Long> selectorRequests = selectorRequests();
+        Map<List<String>, double[]> candidates = new LinkedHashMap<>();
+
+        for (Map.Entry<FilterShape, Usage> entry : usageRecorder.shapeUsage().entrySet()) {
+            Usage usage = entry.getValue();
+            if (usage.requests() < minRequests) {
+                continue;
+            }
+            List<String> equality = columns(entry.getKey().equality(), selectorRequests);
+            List<String> range = columns(entry.getKey().range(), selectorRequests);
+            List<String> candidate = new ArrayList<>(equality);
+            if (!range.isEmpty()) {
+                candidate.add(range.get(0));
+            }
+            if (candidate.isEmpty() || isCovered(candidate, equality.size(), existing)) {
+                continue;
+            }
+            double[] totals = candidates.computeIfAbsent(List.copyOf(candidate), ignored -> new double[2]);
+            totals[0] += usage.requests();
+            totals[1] += usage.totalMillis();
+        }
+
+        List<IndexRecommendation> recommendations = new ArrayList<>();
+        candidates.forEach((columns, totals) -> recommendations.add(new IndexRecommendation(
+                TABLE, columns, (long) totals[0], totals[1] / totals[0], totals[1], ddl(columns))));
+        recommendations.sort(Comparator.comparingDouble(IndexRecommendation::estimatedBenefitMs).reversed());
+        return recommendations;
+    }
+
+    /**
+     * Creates the recommended indexes on the running database.
+     *
+     * @return the created indexes
+     * @throws IllegalStateException if {@code hotels.index-advisor.allow-create} is not enabled
+     */
+    @NotNull
+    public List<IndexRecommendation> createRecommended() {
+        if (!allowCreate) {
+            throw new IllegalStateException("Online index creation is disabled (hotels.index-advisor.allow-create)");
+        }
+        List<IndexRecommendation> recommendations = recommend();
+        for (IndexRecommendation recommendation : recommendations) {
+            LOGGER.info("event=create_index ddl=\"{}\" requests={} estimated_benefit_ms={}",
+                    recommendation.ddl(), recommendation.requests(), recommendation.estimatedBenefitMs());
+            jdbcTemplate.execute(recommendation.ddl());
+        }
+        return recommendations;
+    }
+
+    /**
+     * Returns whether the recommended indexes can be created online.
+     *
+     * @return {@code true} if {@link #createRecommended()} is enabled
+     */
+    public boolean isCreateAllowed() {
+        return allowCreate;
+    }
+
+    /**
+     * Reads the columns of each index of the table, in index order.
+     */
+    private List<List<String>> existingIndexes() {
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                        SELECT INDEX_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+                        WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = ?
+                        ORDER BY INDEX_NAME, ORDINAL_POSITION""",
+                row -> {
+                    indexes.computeIfAbsent(row.getString(1), ignored -> new ArrayList<>())
+                            .add(row.getString(2).toLowerCase(Locale.ROOT));
+                },
+                TABLE.toUpperCase(Locale.ROOT));
+        return new ArrayList<>(indexes.values());
+    }
+
+    private static boolean isCovered(List<String> candidate, int equalityColumns, List<List<String>> existing) {
+        for (List<String> index : existing) {
+            if (index.size() < candidate.size()) {
+                continue;
+            }
+            boolean sameEquality = index.subList(0, equalityColumns)
+                    .containsAll(candidate.subList(0, equalityColumns));
+            boolean sameRest = index.subList(equalityColumns, candidate.size())
+                    .equals(candidate.subList(equalityColumns, candidate.size()));
+            if (sameEquality && sameRest) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Total requests per selector, all operators included, to order the columns. */
+    private Map<String, Long> selectorRequests() {
+        Map<String, Long> requests = new HashMap<>();
+        usageRecorder.selectorUsage().forEach((key, usage) ->
+                requests.merge(key.selector(), usage.requests(), Long::sum));
+        return requests;
+    }
+
+    /** Maps the selectors to columns, most used first; unknown selectors are ignored. */
+    private List<String> columns(Iterable<String> selectors, Map<String, Long> selectorRequests) {
+        List<String> known = new ArrayList<>();
+        selectors.forEach(selector -> {
+            if (selectorColumns.containsKey(selector)) {
+                known.add(selector);
+            }
+        });
+        known.sort(Comparator.<String>comparingLong(selector -> selectorRequests.getOrDefault(selector, 0L))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        return known.stream().map(selectorColumns::get).toList();
+    }
+
+    private static String ddl(List<String> columns) {
+        return "CREATE INDEX IF NOT EXISTS idx_advisor_" + TABLE + "_" + String.join("_", columns)
+                + " ON " + TABLE + " (" + String.join(", ", columns) + ")";
+    }
+
+    /**
+     * Maps each basic attribute of {@link HotelsEntity} to its column, as
+     * {@code CamelCaseToUnderscoresNamingStrategy} does: {@code hasWifi} to {@code has_wifi}.
+     */
+    private static Map<String, String> selectorColumns(EntityManagerFactory entityManagerFactory) {
+        Map<String, String> columns = new HashMap<>();
+        for (Attribute<? super HotelsEntity, ?> attribute
+                : entityManagerFactory.getMetamodel().entity(HotelsEntity.class).getAttributes()) {
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                columns.put(attribute.getName(),
+                        attribute.getName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT));
+            }
+        }
+        return columns;
+    }
+}
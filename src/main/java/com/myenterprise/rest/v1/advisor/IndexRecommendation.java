@@ -0,0 +1,44 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.advisor;
+
+import java.util.List;
+
+/**
+ * An index recommended by {@link IndexAdvisor}.
+ *
+ * @param table              the table of the index
+ * @param columns            the columns of the index: the equality columns first, then one range column
+ * @param requests           the number of observed requests whose filter the index would serve
+ * @param averageLatencyMs   the average latency of those requests
+ * @param estimatedBenefitMs the total latency of those requests: an upper bound of the time the
+ *                           index can save over the observation window
+ * @param ddl                the statement that creates the index
+ */
+public record IndexRecommendation(String table,
+                                  List<String> columns,
+                                  long requests,
+                                  double averageLatencyMs,
+                                  double estimatedBenefitMs,
+                                  String ddl) {}
@@ -0,0 +1,142 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.myenterprise.rest.v1.configuration.threads.EndpointExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
+
+/**
+ * Executors of the asynchronous {@code HotelsApiDelegate} methods.
+ * <p>
+ * The openapi generator runs with {@code async: true}, so {@code HotelsController} returns a
+ * {@code CompletableFuture} and Spring MVC releases the servlet thread until it completes.
+ * The work runs on three independent {@link EndpointExecutor}s, so that slow list queries
+ * cannot starve the single-hotel reads or the writes.
+ * </p>
+ *
+ * <p>
+ * Properties, for each group {@code list}, {@code item} and {@code write}:
+ * </p>
+ * <ul>
+ *   <li>{@code hotels.async.<group>.threads}: number of worker threads. The sum of the three
+ *       groups should not exceed the size of the connection pool.</li>
+ *   <li>{@code hotels.async.<group>.queue-capacity}: tasks waiting for a thread before the
+ *       requests are rejected with 503.</li>
+ *   <li>{@code hotels.async.<group>.timeout}: maximum time to produce a response before
+ *       answering 503. Keep it below {@code spring.mvc.async.request-timeout}. For the
+ *       {@code write} group it is only the maximum time waiting for a thread: a write that
+ *       started may commit, so it is never answered 503, and it is bounded by
+ *       {@code hotels.async.write.transaction-timeout-seconds} instead (see
+ *       {@link EndpointExecutor.Timeout#START}). Keep the sum of both below
+ *       {@code spring.mvc.async.request-timeout}.</li>
+ * </ul>
+ *
+ * <p>
+ * With {@code spring.threads.virtual.enabled: true} (Java 21) the workers are virtual
+ * threads, so the service calls keep running on virtual threads as described in
+ * {@link VirtualThreadsConfiguration}.
+ * </p>
+ */
+@Configuration
+public class AsyncConfiguration {
+
+    private final boolean virtualThreads;
+
+    /**
+     * Constructs the configuration.
+     *
+     * @param environment the environment, used to detect the virtual-thread mode
+     */
+    public AsyncConfiguration(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Executor of {@code GET /hotels}.
+     *
+     * @param threads       number of worker threads
+     * @param queueCapacity maximum number of waiting tasks
+     * @param timeout       maximum time to produce a response
+     * @return the executor, closed with the application context
+     */
+    @Bean
+    public EndpointExecutor hotelsListExecutor(
+            @Value("${hotels.async.list.threads:4}") int threads,
+            @Value("${hotels.async.list.queue-capacity:50}") int queueCapacity,
+            @Value("${hotels.async.list.timeout:10s}") Duration timeout) {
+        return executor("list", threads, queueCapacity, timeout);
+    }
+
+    /**
+     * Executor of {@code GET /hotels/{id}}.
+     *
+     * @param threads       number of worker threads
+     * @param queueCapacity maximum number of waiting tasks
+     * @param timeout       maximum time to produce a response
+     * @return the executor, closed with the application context
+     */
+    @Bean
+    public EndpointExecutor hotelsItemExecutor(
+            @Value("${hotels.async.item.threads:4}") int threads,
+            @Value("${hotels.async.item.queue-capacity:100}") int queueCapacity,
+            @Value("${hotels.async.item.timeout:2s}") Duration timeout) {
+        return executor("item", threads, queueCapacity, timeout);
+    }
+
+    /**
+     * Executor of {@code POST}, {@code PUT} and {@code DELETE} on {@code /hotels}.
+     *
+     * @param threads       number of worker threads
+     * @param queueCapacity maximum number of waiting tasks
+     * @param timeout       maximum time waiting for a thread
+     * @return the executor, closed with the application context
+     */
+    @Bean
+    public EndpointExecutor hotelsWriteExecutor(
+            @Value("${hotels.async.write.threads:2}") int threads,
+            @Value("${hotels.async.write.queue-capacity:50}") int queueCapacity,
+            @Value("${hotels.async.write.timeout:5s}") Duration timeout) {
+        return executor("write", threads, queueCapacity, timeout, EndpointExecutor.Timeout.START);
+    }
+
+    private EndpointExecutor executor(String name, int threads, int queueCapacity, Duration timeout) {
+        return executor(name, threads, queueCapacity, timeout, EndpointExecutor.Timeout.RESPONSE);
+    }
+
+    private EndpointExecutor executor(String name, int threads, int queueCapacity, Duration timeout,
+                                      EndpointExecutor.Timeout timeoutMode) {
+        if (virtualThreads) {
+            return new EndpointExecutor(name, threads, queueCapacity, timeout, timeoutMode,
+                    new VirtualThreadTaskExecutor("hotels-" + name + "-").getVirtualThreadFactory());
+        }
+        return new EndpointExecutor(name, threads, queueCapacity, timeout, timeoutMode);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.myenterprise.rest.document.HotelDocumentHttpMessageConverter;
+import com.myenterprise.rest.utils.ErrorDocumentHttpMessageConverter;
+import com.myenterprise.rest.v1.model.GeneratedSerializersModule;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Tuning of the shared {@code ObjectMapper} used by the API.
+ * <p>
+ * Spring Boot builds a single {@code ObjectMapper} bean that is used by the MVC message
+ * converters, so the serializers that Jackson resolves for each type are built once and
+ * cached for the lifetime of the application. This class customizes that bean instead of
+ * creating new mappers: pretty-printing is disabled on the API path and, depending on
+ * {@code hotels.json.mode}, faster serializers are installed.
+ * </p>
+ *
+ * <p>
+ * Modes ({@code hotels.json.mode}):
+ * </p>
+ * <ul>
+ *   <li>{@code reflection}: the default Jackson {@code BeanSerializer}s, which access the
+ *       properties through reflection.</li>
+ *   <li>{@code blackbird}: the {@link BlackbirdModule} replaces the reflective accessors
+ *       with generated lambdas.</li>
+ *   <li>{@code generated}: the Blackbird module plus the hand-rolled serializers generated
+ *       from the OpenAPI models by the template
+ *       {@code src/main/resources/openapi-templates/modelSerializer.mustache}, registered by
+ *       {@link GeneratedSerializersModule}.</li>
+ * </ul>
+ * The three modes produce the same JSON; compare their cost with {@code JsonModeBenchmarkTest}.
+ *
+ * <p>
+ * A single stored document, already JSON, is not written by the {@code ObjectMapper}: the
+ * converter {@link HotelDocumentHttpMessageConverter} goes before the Jackson one and copies it.
+ * The prepared error bodies are copied the same way by {@link ErrorDocumentHttpMessageConverter}.
+ * </p>
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    private final String mode;
+
+    /**
+     * Constructs the configuration with the JSON mode.
+     *
+     * @param mode the JSON mode: {@code reflection}, {@code blackbird} or {@code generated}
+     * @throws IllegalArgumentException if the mode is not supported
+     */
+    public JacksonConfiguration(@Value("${hotels.json.mode:blackbird}") String mode) {
+        modules(mode);
+        this.mode = mode;
+    }
+
+    /**
+     * Customizer of the {@code ObjectMapper} built by Spring Boot. It disables
+     * pretty-printing and adds the modules of the configured mode to the ones
+     * registered by Spring Boot.
+     *
+     * @return the customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonModeCustomizer() {
+        return builder -> builder
+                .indentOutput(false)
+                .modulesToInstall(modules -> modules.addAll(modules(mode)));
+    }
+
+    /**
+     * Converter of the responses whose body is a single stored document. Spring Boot puts the
+     * converter beans before its default converters.
+     *
+     * @return the converter
+     */
+    @Bean
+    public HotelDocumentHttpMessageConverter hotelDocumentHttpMessageConverter() {
+        return new HotelDocumentHttpMessageConverter();
+    }
+
+    /**
+     * Converter of the responses whose body is a prepared error of {@code ResponseUtils}.
+     *
+     * @return the converter
+     */
+    @Bean
+    public ErrorDocumentHttpMessageConverter errorDocumentHttpMessageConverter() {
+        return new ErrorDocumentHttpMessageConverter();
+    }
+
+    /**
+     * Returns the Jackson modules installed by a JSON mode.
+     *
+     * @param mode the JSON mode: {@code reflection}, {@code blackbird} or {@code generated}
+     * @return the modules to register, empty for {@code reflection}
+     * @throws IllegalArgumentException if the mode is not supported
+     */
+    @NotNull
+    public static List<Module> modules(String mode) {
+        return switch (mode) {
+            case "reflection" -> List.of();
+            case "blackbird" -> List.of(new BlackbirdModule());
+            case "generated" -> List.of(new BlackbirdModule(), new GeneratedSerializersModule());
+            default -> throw new IllegalArgumentException(
+                    "Unsupported hotels.json.mode: " + mode + " (expected reflection, blackbird or generated)");
+        };
+    }
+}
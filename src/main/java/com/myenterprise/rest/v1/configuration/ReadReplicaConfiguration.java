@@ -0,0 +1,150 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.myenterprise.rest.v1.configuration.datasource.ReadWriteRoutingDataSource;
+import com.myenterprise.rest.v1.configuration.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routing of the read-only transactions to read replicas.
+ * <p>
+ * The configuration is only active with {@code hotels.datasource.replica.enabled: true}. It replaces the
+ * data source of Spring Boot by a {@link ReadWriteRoutingDataSource} behind a
+ * {@link LazyConnectionDataSourceProxy}: the transactions declared with
+ * {@code @Transactional(readOnly = true)} in {@code HotelsService} read from a replica, and
+ * the other transactions use the primary database configured in {@code spring.datasource.*}.
+ * A {@link ReplicaLagMonitor} removes from the rotation the replicas that lag or are down;
+ * without usable replicas the reads fall back to the primary.
+ * </p>
+ *
+ * <p>
+ * Properties:
+ * </p>
+ * <ul>
+ *   <li>{@code hotels.datasource.replica.enabled}: enables the routing.</li>
+ *   <li>{@code hotels.datasource.replicas}: list of replicas, each with {@code url},
+ *       {@code username}, {@code password} and an optional {@code lag-query} returning the
+ *       lag in seconds.</li>
+ *   <li>{@code hotels.datasource.replica.max-lag}: maximum lag of a usable replica.</li>
+ *   <li>{@code hotels.datasource.replica.check-interval}: time between two lag checks.</li>
+ *   <li>{@code hotels.datasource.replica.pool-size}: connections of each replica pool.</li>
+ * </ul>
+ *
+ * <p>
+ * The {@code replica} profile ({@code application-replica.yaml}) declares a local stand-in:
+ * a second, read-only connection pool on the H2 database.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "hotels.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    /**
+     * Connection settings of a replica.
+     *
+     * @param url      the JDBC URL
+     * @param username the user
+     * @param password the password
+     * @param lagQuery query returning the lag in seconds, optional
+     */
+    public record ReplicaProperties(String url, String username, String password, String lagQuery) {}
+
+    /** Pools created by this configuration, closed with the application context. */
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    /**
+     * Monitor of the replication lag.
+     *
+     * @param environment   the environment with the {@code hotels.datasource.replicas} list
+     * @param maxLag        the maximum lag of a usable replica
+     * @param checkInterval the time between two checks
+     * @param poolSize      the connections of each replica pool
+     * @return the monitor, started with the application context
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            Environment environment,
+            @Value("${hotels.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${hotels.datasource.replica.check-interval:5s}") Duration checkInterval,
+            @Value("${hotels.datasource.replica.pool-size:10}") int poolSize) {
+        List<ReplicaProperties> properties = Binder.get(environment)
+                .bind("hotels.datasource.replicas", Bindable.listOf(ReplicaProperties.class))
+                .orElse(List.of());
+        List<ReplicaLagMonitor.Replica> replicas = new ArrayList<>();
+        for (int index = 0; index < properties.size(); index++) {
+            ReplicaProperties replica = properties.get(index);
+            String name = "replica-" + index;
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+            pools.add(pool);
+            replicas.add(new ReplicaLagMonitor.Replica(name, pool, replica.lagQuery()));
+        }
+        return new ReplicaLagMonitor(replicas, maxLag, checkInterval);
+    }
+
+    /**
+     * The data source used by JPA: the primary pool and the replicas behind a routing data source.
+     *
+     * @param properties  the {@code spring.datasource.*} properties of the primary database
+     * @param environment the environment with the {@code spring.datasource.hikari.*} properties
+     * @param monitor     the monitor of the replicas
+     * @return the lazy routing data source
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, ReplicaLagMonitor monitor) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        pools.add(primary);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, monitor));
+    }
+
+    /**
+     * Closes the connection pools.
+     */
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.myenterprise.rest.annotation.sanitizehtml.HashedSanitizerCache;
+import com.myenterprise.rest.annotation.sanitizehtml.SanitizerHtml;
+import com.myenterprise.rest.annotation.sanitizehtml.StringKeySanitizerCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration of the HTML sanitizer used by the {@code @SanitizeHtml} annotation.
+ * <p>
+ * {@link SanitizerHtml} is a static utility used by Jackson serializers, so it cannot
+ * receive Spring properties by injection. This class reads the {@code hotels.sanitizer.*}
+ * properties at startup and applies them to the utility.
+ * </p>
+ *
+ * <p>
+ * Properties:
+ * </p>
+ * <ul>
+ *   <li>{@code hotels.sanitizer.cache.key}: key of the in-memory cache, {@code string} (raw input)
+ *       or {@code hash} (128-bit content hash, about half the memory per entry).</li>
+ *   <li>{@code hotels.sanitizer.disk-cache.enabled}: enables the persistent cache of sanitized values.</li>
+ *   <li>{@code hotels.sanitizer.disk-cache.directory}: directory of the cache file.</li>
+ *   <li>{@code hotels.sanitizer.disk-cache.max-size-mb}: maximum size of the cache file.</li>
+ * </ul>
+ */
+@Configuration
+public class SanitizerConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SanitizerConfiguration.class);
+
+    private final String cacheKey;
+    private final boolean diskCacheEnabled;
+    private final Path diskCacheDirectory;
+    private final int diskCacheMaxSizeMb;
+
+    /**
+     * Constructs the configuration with the sanitizer properties.
+     *
+     * @param cacheKey           key of the in-memory cache: {@code string} or {@code hash}
+     * @param diskCacheEnabled   whether the persistent cache is enabled
+     * @param diskCacheDirectory directory where the cache file is stored
+     * @param diskCacheMaxSizeMb maximum size of the cache file, in megabytes
+     */
+    public SanitizerConfiguration(
+            @Value("${hotels.sanitizer.cache.key:string}") String cacheKey,
+            @Value("${hotels.sanitizer.disk-cache.enabled:false}") boolean diskCacheEnabled,
+            @Value("${hotels.sanitizer.disk-cache.directory:./cache/sanitizer}") Path diskCacheDirectory,
+            @Value("${hotels.sanitizer.disk-cache.max-size-mb:64}") int diskCacheMaxSizeMb) {
+        this.cacheKey = cacheKey;
+        this.diskCacheEnabled = diskCacheEnabled;
+        this.diskCacheDirectory = diskCacheDirectory;
+        this.diskCacheMaxSizeMb = diskCacheMaxSizeMb;
+    }
+
+    /**
+     * Selects the in-memory cache implementation, then opens the persistent cache when it is
+     * enabled.
+     *
+     * @throws IllegalArgumentException if {@code hotels.sanitizer.cache.key} is not supported
+     */
+    @PostConstruct
+    public void configure() {
+        configureCache();
+        enableDiskCache();
+    }
+
+    /**
+     * Selects the in-memory cache implementation.
+     */
+    private void configureCache() {
+        switch (cacheKey) {
+            case "string" -> SanitizerHtml.useCache(new StringKeySanitizerCache());
+            case "hash" -> SanitizerHtml.useCache(new HashedSanitizerCache());
+            default -> throw new IllegalArgumentException(
+                    "Unsupported hotels.sanitizer.cache.key: " + cacheKey + " (expected string or hash)");
+        }
+    }
+
+    /**
+     * Opens the persistent cache when it is enabled. A failure to open the file does not
+     * prevent the application from starting: the sanitizer keeps working with its
+     * in-memory cache only.
+     */
+    private void enableDiskCache() {
+        if (!diskCacheEnabled) {
+            return;
+        }
+        try {
+            SanitizerHtml.enableDiskCache(diskCacheDirectory, Math.multiplyExact(diskCacheMaxSizeMb, 1024 * 1024));
+        } catch (IOException | RuntimeException error) {
+            LOGGER.warn("Sanitizer disk cache disabled: unable to open {}", diskCacheDirectory, error);
+        }
+    }
+
+    /**
+     * Flushes and closes the persistent cache on shutdown.
+     *
+     * @throws IOException if the cache file cannot be closed
+     */
+    @PreDestroy
+    public void disableDiskCache() throws IOException {
+        SanitizerHtml.disableDiskCache();
+    }
+}
@@ -24,7 +24,10 @@
 package com.myenterprise.rest.v1.configuration;
 
 import com.myenterprise.rest.annotation.validatersql.ValidateRsqlHandlerInterceptor;
+import jakarta.servlet.DispatcherType;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -54,16 +57,35 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @EnableCaching
 public class SecurityConfiguration implements WebMvcConfigurer {
 
+    private final ValidateRsqlHandlerInterceptor validateRsqlHandlerInterceptor;
+
+    private final String adminToken;
+
+    /**
+     * Constructs the configuration with the RSQL validation interceptor.
+     *
+     * @param validateRsqlHandlerInterceptor the interceptor, which also records the filter usage
+     * @param adminToken the token of the administration operations; empty to refuse them all
+     */
+    @Autowired
+    public SecurityConfiguration(ValidateRsqlHandlerInterceptor validateRsqlHandlerInterceptor,
+                                 @Value("${hotels.security.admin-token:}") String adminToken) {
+        this.validateRsqlHandlerInterceptor = validateRsqlHandlerInterceptor;
+        this.adminToken = adminToken;
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new ValidateRsqlHandlerInterceptor());
+        registry.addInterceptor(validateRsqlHandlerInterceptor);
     }
 
     /**
      * Configures the security filter chain for the application.
      * <p>
      * This method sets up HTTP authorization rules, allowing public access to Swagger UI and OpenAPI documentation,
-     * and restricting access to the API endpoints based on user authorities.
+     * and restricting access to the API endpoints based on user authorities. The administration
+     * operations under {@code /api/v1/admin} (online {@code CREATE INDEX}, resets, rebuilds) require
+     * the authority of the administration token, not only the one of the API clients.
      * It adds a custom {@link BearerTokenAuthFilter} before the {@link LogoutFilter}.
      * It also disables CSRF and configures various security headers.
      * </p>
@@ -75,17 +97,22 @@ public class SecurityConfiguration implements WebMvcConfigurer {
     @Bean
     public SecurityFilterChain filterChain(@NotNull HttpSecurity http) throws Exception {
 
-        BearerTokenAuthFilter bearerTokenAuthFilter = new BearerTokenAuthFilter();
+        BearerTokenAuthFilter bearerTokenAuthFilter = new BearerTokenAuthFilter(adminToken);
         http
                 //.securityMatcher("/api/**") // This line is commented out and is not currently in use.
                 .authorizeHttpRequests(
                         authorizeRequests ->
-                                authorizeRequests.requestMatchers(
+                                // The async dispatch only writes the result of a request that was already authorized
+                                authorizeRequests.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                        .permitAll()
+                                        .requestMatchers(
                                                 "/swagger-ui/**",
                                                 "/v3/api-docs*/**")
                                         .permitAll()
+                                        .requestMatchers("/api/v1/admin/**")
+                                        .hasAuthority(BearerTokenAuthFilter.ADMIN_AUTHORITY)
                                         .requestMatchers("/api/**")
-                                        .hasAuthority("WRITE_HOTELS")
+                                        .hasAuthority(BearerTokenAuthFilter.API_AUTHORITY)
                 )
                 .csrf(AbstractHttpConfigurer::disable) // CSRF is disabled because the authentication is by JWT.
                 .headers( header ->
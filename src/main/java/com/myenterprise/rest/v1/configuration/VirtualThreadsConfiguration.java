@@ -0,0 +1,105 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.myenterprise.rest.v1.configuration.datasource.ConcurrencyLimitedDataSource;
+import com.myenterprise.rest.v1.configuration.threads.VirtualThreadPinningMonitor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Safeguards of the virtual-thread mode.
+ * <p>
+ * The mode is enabled with {@code spring.threads.virtual.enabled: true} and requires Java 21:
+ * Spring Boot then runs the Tomcat request handling (and therefore the controller and
+ * {@code HotelsService} calls) on virtual threads. Blocking JDBC calls no longer hold a
+ * platform thread, so the concurrency is not capped by the size of the Tomcat pool. This
+ * class is only active in that mode and adds:
+ * </p>
+ * <ul>
+ *   <li>A {@link ConcurrencyLimitedDataSource} around the connection pool, so the virtual
+ *       threads wait on a semaphore instead of stampeding the pool.</li>
+ *   <li>A {@link VirtualThreadPinningMonitor} that logs the virtual threads pinned to their
+ *       carrier thread by {@code synchronized} code in H2 or Hibernate.</li>
+ * </ul>
+ *
+ * <p>
+ * Properties:
+ * </p>
+ * <ul>
+ *   <li>{@code hotels.datasource.max-concurrent-connections}: connections borrowed at the same time.
+ *       Keep it equal to {@code spring.datasource.hikari.maximum-pool-size}.</li>
+ *   <li>{@code hotels.datasource.acquire-timeout}: maximum wait for a connection.</li>
+ *   <li>{@code hotels.virtual-threads.pinning-threshold}: minimum pinning duration reported.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration {
+
+    /**
+     * Wraps every {@link DataSource} bean in a {@link ConcurrencyLimitedDataSource}.
+     * The method is static so the post-processor is registered before the data source is created.
+     *
+     * @param environment the environment with the {@code hotels.datasource.*} properties
+     * @return the post-processor
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        int maxConcurrentConnections = environment.getProperty(
+                "hotels.datasource.max-concurrent-connections", Integer.class, 10);
+        Duration acquireTimeout = environment.getProperty(
+                "hotels.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NotNull Object bean, @NotNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrentConnections, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Monitor of the carrier-thread pinning.
+     *
+     * @param threshold the minimum pinning duration reported
+     * @return the monitor, started with the application context
+     */
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${hotels.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
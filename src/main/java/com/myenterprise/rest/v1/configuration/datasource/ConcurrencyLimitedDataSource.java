@@ -0,0 +1,168 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.datasource;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code ConcurrencyLimitedDataSource} puts a fair {@link Semaphore} in front of a
+ * connection pool.
+ * <p>
+ * With virtual threads the number of concurrent requests is no longer capped by the
+ * size of the Tomcat pool, so thousands of threads can ask the pool for a connection
+ * at the same time. The semaphore lets only {@code maxConcurrentConnections} of them
+ * through; the others wait (parked, without pinning a carrier thread) up to
+ * {@code acquireTimeout} and then fail with a {@link SQLTransientConnectionException}.
+ * </p>
+ *
+ * <p>
+ * The permit is released when the connection returned by {@link #getConnection()} is
+ * closed. Closing the connection more than once releases the permit only once.
+ * </p>
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * Creates the data source.
+     *
+     * @param target                   the connection pool to protect
+     * @param maxConcurrentConnections the maximum number of connections borrowed at the same time
+     * @param acquireTimeout           the maximum time to wait for a permit
+     */
+    public ConcurrencyLimitedDataSource(@NotNull DataSource target, int maxConcurrentConnections,
+                                        @NotNull Duration acquireTimeout) {
+        super(target);
+        if (maxConcurrentConnections <= 0) {
+            throw new IllegalArgumentException("The maximum of concurrent connections must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    @NotNull
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException error) {
+            permits.release();
+            throw error;
+        }
+    }
+
+    @Override
+    @NotNull
+    public Connection getConnection(@NotNull String username, @NotNull String password) throws SQLException {
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException error) {
+            permits.release();
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the number of permits available, that is, how many more connections can be
+     * borrowed without waiting.
+     *
+     * @return the available permits
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out waiting for a database connection permit after "
+                                + TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + " ms");
+            }
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", error);
+        }
+    }
+
+    /**
+     * Wraps the connection in a proxy that releases the permit when it is closed.
+     */
+    private Connection limited(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new PermitReleasingHandler(connection));
+    }
+
+    /**
+     * Delegates every call to the real connection and releases the permit on the first {@code close()}.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                try {
+                    target.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException error) {
+                throw error.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.datasource;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code ReadWriteRoutingDataSource} sends the read-only transactions to a read replica
+ * and everything else to the primary database.
+ * <p>
+ * The target is chosen when a connection is requested, from the read-only flag of the
+ * current Spring transaction ({@code @Transactional(readOnly = true)}) and the replicas
+ * that {@link ReplicaLagMonitor} considers usable. When no replica is usable the
+ * connection comes from the primary.
+ * </p>
+ *
+ * <p>
+ * The transaction manager asks for the connection before it publishes the read-only flag,
+ * so this data source must be wrapped in a {@link LazyConnectionDataSourceProxy}: the
+ * proxy defers the real {@code getConnection()} until the first statement.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** Lookup key of the primary database. */
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor monitor;
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary the primary database, used for the read-write transactions and as fallback
+     * @param monitor the monitor of the replicas, whose data sources are the other targets
+     */
+    public ReadWriteRoutingDataSource(@NotNull DataSource primary, @NotNull ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        monitor.replicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Returns the key of the target of the current transaction.
+     *
+     * @return the name of a usable replica for a read-only transaction, {@link #PRIMARY} otherwise
+     */
+    @Override
+    @NotNull
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            String replica = monitor.nextHealthyReplica();
+            if (replica != null) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.datasource;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code ReplicaLagMonitor} periodically checks the replication lag of the read replicas
+ * and tells {@link ReadWriteRoutingDataSource} which of them may serve reads.
+ * <p>
+ * Each replica has an optional lag query that returns the lag in seconds as a number, for
+ * example {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())} on
+ * PostgreSQL. A replica is usable when the query succeeds and its result does not exceed
+ * the maximum lag; without a lag query, only the connectivity is checked. A replica that
+ * lags or cannot be reached is skipped until a later check finds it healthy again, and
+ * when no replica is usable the reads fall back to the primary.
+ * </p>
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * A read replica.
+     *
+     * @param name       the lookup key of the replica in the routing data source
+     * @param dataSource the connection pool of the replica
+     * @param lagQuery   query returning the lag in seconds, or {@code null} to only check the connectivity
+     */
+    public record Replica(@NotNull String name, @NotNull DataSource dataSource, @Nullable String lagQuery) {}
+
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+
+    /** Health of each replica, in the order of {@link #replicas}; written by the checker thread only. */
+    private final boolean[] healthy;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates the monitor. All the replicas are considered unhealthy until the first check.
+     *
+     * @param replicas      the replicas to check
+     * @param maxLag        the maximum lag of a usable replica
+     * @param checkInterval the time between two checks
+     */
+    public ReplicaLagMonitor(@NotNull List<Replica> replicas, @NotNull Duration maxLag, @NotNull Duration checkInterval) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        this.healthy = new boolean[this.replicas.size()];
+    }
+
+    /**
+     * Returns the replicas checked by this monitor.
+     *
+     * @return the replicas
+     */
+    @NotNull
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Returns the name of the next usable replica, in round-robin order.
+     *
+     * @return the name of the replica, or {@code null} if none is usable
+     */
+    @Nullable
+    public String nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int offset = 0; offset < size; offset++) {
+            int index = (start + offset) % size;
+            if (isHealthy(index)) {
+                return replicas.get(index).name();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks all the replicas now. Called periodically once the monitor is started.
+     */
+    public void checkAll() {
+        for (int index = 0; index < replicas.size(); index++) {
+            Replica replica = replicas.get(index);
+            boolean usable;
+            try {
+                double lag = lagSeconds(replica);
+                usable = lag <= maxLagSeconds;
+                if (!usable) {
+                    LOGGER.warn("event=replica_lagging replica={} lag_seconds={}", replica.name(), lag);
+                }
+            } catch (SQLException | RuntimeException error) {
+                usable = false;
+                LOGGER.warn("event=replica_unreachable replica={} message={}", replica.name(), error.getMessage());
+            }
+            setHealthy(index, usable);
+        }
+    }
+
+    /**
+     * Starts the periodic checks in a background thread, after a first synchronous check.
+     */
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        checkAll();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic checks.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private double lagSeconds(Replica replica) throws SQLException {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            if (replica.lagQuery() == null) {
+                if (!connection.isValid((int) Math.max(1, checkInterval.toSeconds()))) {
+                    throw new SQLException("Connection is not valid");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(replica.lagQuery())) {
+                // A replica that has not replayed anything yet may report NULL: treat it as lagging.
+                if (!result.next() || result.getObject(1) == null) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                return result.getDouble(1);
+            }
+        }
+    }
+
+    private synchronized boolean isHealthy(int index) {
+        return healthy[index];
+    }
+
+    private synchronized void setHealthy(int index, boolean value) {
+        healthy[index] = value;
+    }
+}
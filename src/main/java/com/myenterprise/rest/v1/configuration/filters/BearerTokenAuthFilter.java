@@ -28,6 +28,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -45,6 +46,11 @@ import java.io.IOException;
  * If the token is valid (or the path is not "/api"), a test authentication is set
  * in Spring's security context.
  * <p>
+ * The administration token, when configured, is also accepted on "/api" paths, and its
+ * authentication has the authority {@value #ADMIN_AUTHORITY} too, which the operations under
+ * "/api/v1/admin" require (see {@code SecurityConfiguration}).
+ * </p>
+ * <p>
  * This filter is a simplified example and should not be used as-is in a production environment.
  * It uses a fixed token ("1234567890") and a test authentication (`TestingAuthenticationToken`).
  * </p>
@@ -54,6 +60,34 @@ import java.io.IOException;
 @Component
 public class BearerTokenAuthFilter extends OncePerRequestFilter {
 
+    /** Authority of the API clients. */
+    public static final String API_AUTHORITY = "WRITE_HOTELS";
+
+    /** Authority of the administration operations, granted to the administration token only. */
+    public static final String ADMIN_AUTHORITY = "ADMIN_HOTELS";
+
+    private static final String API_TOKEN = "1234567890";
+
+    /** The administration token, or {@code null} if no client may administer the application. */
+    @Nullable
+    private final String adminToken;
+
+    /**
+     * Creates the filter without administration token.
+     */
+    public BearerTokenAuthFilter() {
+        this(null);
+    }
+
+    /**
+     * Creates the filter.
+     *
+     * @param adminToken the administration token; {@code null} or blank to refuse every administration request
+     */
+    public BearerTokenAuthFilter(@Nullable String adminToken) {
+        this.adminToken = adminToken == null || adminToken.isBlank() ? null : adminToken;
+    }
+
     /**
      * Performs the filtering logic for each request.
      * <p>
@@ -75,13 +109,15 @@ public class BearerTokenAuthFilter extends OncePerRequestFilter {
     protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain)
             throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
+        String token = authHeader == null || authHeader.length() < 7 ? null : authHeader.substring(7);
+        boolean admin = adminToken != null && adminToken.equals(token);
 
         // Checks if the request URI starts with "/api"
         // If the authorization header is null or does not contain the expected token
         // (assuming a Bearer token, hence comparing from index 7)
         if (
                 request.getRequestURI().startsWith("/api") &&
-                        (authHeader == null || ! "1234567890".equals(authHeader.substring(7)))
+                        !admin && !API_TOKEN.equals(token)
         ) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // Sets the 401 status
             return;
@@ -91,8 +127,9 @@ public class BearerTokenAuthFilter extends OncePerRequestFilter {
         // a test authentication is created and set.
         // In a real application, actual token validation would occur here
         // (JWT, OAuth2, etc.) and an Authentication object would be built based on the token information.
-        Authentication authentication =
-                new TestingAuthenticationToken("user", "12345", "WRITE_HOTELS");
+        Authentication authentication = admin
+                ? new TestingAuthenticationToken("admin", "12345", API_AUTHORITY, ADMIN_AUTHORITY)
+                : new TestingAuthenticationToken("user", "12345", API_AUTHORITY);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
 
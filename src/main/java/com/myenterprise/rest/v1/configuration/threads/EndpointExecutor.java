@@ -0,0 +1,243 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.threads;
+
+import com.myenterprise.rest.utils.RateLimitedLogger;
+import com.myenterprise.rest.utils.ResponseUtils;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@code EndpointExecutor} is a bounded pool of worker threads dedicated to a group of
+ * endpoints, with a timeout.
+ * <p>
+ * The asynchronous {@code HotelsApiDelegate} methods return a {@link CompletableFuture}, so
+ * the servlet thread is released while the database call runs on one of these workers.
+ * Each group of endpoints (list, single hotel, writes) has its own executor: a burst of
+ * slow list queries fills the list queue only, and the single-hotel reads and the writes
+ * keep their own threads.
+ * </p>
+ *
+ * <p>
+ * The executor never grows without limit:
+ * </p>
+ * <ul>
+ *   <li>When all the threads are busy and the queue is full, the task is rejected and the
+ *       client receives a 503 Service Unavailable immediately.</li>
+ *   <li>With {@link Timeout#RESPONSE}, when the task does not complete within the timeout,
+ *       the client receives a 503 Service Unavailable. The worker still finishes the task (a
+ *       JDBC call cannot be interrupted safely), but the queue limit bounds how much work can
+ *       pile up. Only for the reads: a client retries a 503, and the write it retries may
+ *       still commit.</li>
+ *   <li>With {@link Timeout#START}, only a task that has not started within the timeout is
+ *       answered with a 503, and it is not run. A started task always produces its own
+ *       response; the writes are bounded by the timeout of their transaction instead, which
+ *       rolls a slow write back.</li>
+ * </ul>
+ *
+ * <p>
+ * The worker threads are platform threads by default; in the virtual-thread mode they are
+ * virtual threads created by the factory given to the constructor, and the pool still
+ * bounds how many of them run at the same time.
+ * </p>
+ */
+public final class EndpointExecutor implements AutoCloseable {
+
+    private static final String REJECTED = "Server busy, try again later";
+    private static final String TIMED_OUT = "Request timed out";
+    private static final String ERROR_UNEXPECTED = "error unexpected";
+
+    /**
+     * Logger of the failures that escape the task (for example, a failed commit): at most
+     * 10 stack traces per second, the rest are only counted.
+     */
+    private static final RateLimitedLogger ERROR_LOGGER = new RateLimitedLogger(
+            LoggerFactory.getLogger(EndpointExecutor.class), Level.ERROR, 10, Duration.ofSeconds(1));
+
+    private final String name;
+    private final ThreadPoolExecutor pool;
+    private final Duration timeout;
+    private final Timeout timeoutMode;
+
+    /**
+     * What the timeout of an executor bounds.
+     */
+    public enum Timeout {
+        /** The time to produce the response, for the tasks that can be answered 503 while they run. */
+        RESPONSE,
+        /** The time waiting for a thread, for the tasks that must not be answered 503 once started. */
+        START
+    }
+
+    /**
+     * Creates the executor with platform worker threads and a response timeout.
+     *
+     * @param name          name of the endpoint group, used in the thread names and the logs
+     * @param threads       number of worker threads
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param timeout       maximum time to produce a response
+     */
+    public EndpointExecutor(@NotNull String name, int threads, int queueCapacity, @NotNull Duration timeout) {
+        this(name, threads, queueCapacity, timeout, Timeout.RESPONSE);
+    }
+
+    /**
+     * Creates the executor with platform worker threads.
+     *
+     * @param name          name of the endpoint group, used in the thread names and the logs
+     * @param threads       number of worker threads
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param timeout       maximum time to produce a response, or to start the task
+     * @param timeoutMode   what the timeout bounds
+     */
+    public EndpointExecutor(@NotNull String name, int threads, int queueCapacity, @NotNull Duration timeout,
+                            @NotNull Timeout timeoutMode) {
+        this(name, threads, queueCapacity, timeout, timeoutMode, threadFactory("hotels-" + name + "-"));
+    }
+
+    /**
+     * Creates the executor and its threads.
+     *
+     * @param name          name of the endpoint group, used in the logs
+     * @param threads       number of worker threads
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param timeout       maximum time to produce a response, or to start the task
+     * @param timeoutMode   what the timeout bounds
+     * @param threadFactory factory of the worker threads
+     */
+    public EndpointExecutor(@NotNull String name, int threads, int queueCapacity, @NotNull Duration timeout,
+                            @NotNull Timeout timeoutMode, @NotNull ThreadFactory threadFactory) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid executor " + name + ": threads and queue capacity must be positive");
+        }
+        this.name = name;
+        this.timeout = timeout;
+        this.timeoutMode = timeoutMode;
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.pool.prestartAllCoreThreads();
+    }
+
+    /**
+     * Runs a task on a worker thread.
+     * <p>
+     * The returned future never completes exceptionally: a rejection or a timeout is
+     * converted to a 503 response and any other failure to a 500 response. With
+     * {@link Timeout#START} a 503 means that the task did not run.
+     * </p>
+     *
+     * @param task the task that produces the response
+     * @param <T>  the type of the response body
+     * @return the future response
+     */
+    @NotNull
+    public <T> CompletableFuture<ResponseEntity<T>> submit(@NotNull Supplier<ResponseEntity<T>> task) {
+        CompletableFuture<ResponseEntity<T>> future;
+        try {
+            future = CompletableFuture.supplyAsync(timeoutMode == Timeout.START ? startBefore(task) : task, pool);
+        } catch (RejectedExecutionException rejected) {
+            return CompletableFuture.completedFuture(ResponseUtils.serviceUnavailableResponse(REJECTED));
+        }
+        if (timeoutMode == Timeout.RESPONSE) {
+            future = future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return future.exceptionally(this::failureResponse);
+    }
+
+    /**
+     * Returns the name of the endpoint group.
+     *
+     * @return the name
+     */
+    @NotNull
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a thread.
+     *
+     * @return the queue size
+     */
+    public int queuedTasks() {
+        return pool.getQueue().size();
+    }
+
+    /**
+     * Stops accepting tasks and waits briefly for the running ones.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException interrupted) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Wraps a task so that it answers 503 without running when it waited longer than the timeout. */
+    private <T> Supplier<ResponseEntity<T>> startBefore(Supplier<ResponseEntity<T>> task) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        return () -> System.nanoTime() - deadline > 0
+                ? ResponseUtils.serviceUnavailableResponse(TIMED_OUT)
+                : task.get();
+    }
+
+    private <T> ResponseEntity<T> failureResponse(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return ResponseUtils.serviceUnavailableResponse(TIMED_OUT);
+        }
+        ERROR_LOGGER.log(name, cause);
+        return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
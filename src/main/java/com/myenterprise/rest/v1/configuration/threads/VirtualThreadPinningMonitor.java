@@ -0,0 +1,137 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.threads;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * {@code VirtualThreadPinningMonitor} detects virtual threads that stay pinned to their
+ * carrier thread, using the JFR event {@code jdk.VirtualThreadPinned} (Java 21+).
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block (for example, in some
+ * paths of the H2 driver or Hibernate) cannot unmount, so it blocks its carrier thread and
+ * reduces the parallelism of all the other virtual threads. The monitor streams the pinning
+ * events longer than a threshold and logs them with the top frames of the stack, so the
+ * culprit code can be identified in production without attaching a profiler.
+ * </p>
+ *
+ * <p>
+ * The number of pinning events is available with {@link #pinnedCount()}. On Java versions
+ * older than 21 the monitor does nothing.
+ * </p>
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    /** Name of the JFR event emitted when a virtual thread blocks while pinned. */
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** Number of stack frames included in each log entry. */
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private RecordingStream stream;
+
+    /**
+     * Creates the monitor.
+     *
+     * @param threshold the minimum duration of a pinning to be reported
+     */
+    public VirtualThreadPinningMonitor(@NotNull Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts streaming the pinning events in a background thread.
+     */
+    @Override
+    public synchronized void start() {
+        if (stream != null || Runtime.version().feature() < 21) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        LOGGER.info("Virtual thread pinning monitor started, threshold {} ms", threshold.toMillis());
+    }
+
+    /**
+     * Stops streaming the pinning events.
+     */
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Returns the number of pinning events longer than the threshold seen since the start.
+     *
+     * @return the pinning count
+     */
+    public long pinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        LOGGER.warn("event=virtual_thread_pinned duration_ms={} thread={} stack={}",
+                event.getDuration().toMillis(),
+                event.getThread() == null ? null : event.getThread().getJavaName(),
+                topFrames(event));
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "[]";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" < ", "[", "]"));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.controller;
+
+import com.myenterprise.rest.v1.service.HotelIdFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Administration endpoint of the {@link HotelIdFilter}.
+ * <p>
+ * It is not part of the public OpenAPI contract, so it is written by hand instead of being
+ * generated. It lives under {@code /api}, so it requires the same authentication as the API.
+ * </p>
+ * <ul>
+ *   <li>{@code GET /api/v1/admin/hotel-id-filter}: size of the filter, and its expected and
+ *       observed false positive rates.</li>
+ *   <li>{@code POST /api/v1/admin/hotel-id-filter/rebuild}: rebuilds the filter now, for example
+ *       after the hotels were loaded outside this application.</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/admin/hotel-id-filter")
+public class HotelIdFilterController {
+
+    private final HotelIdFilter idFilter;
+
+    /**
+     * Constructs the controller.
+     *
+     * @param idFilter the filter of the existing hotels
+     */
+    @Autowired
+    public HotelIdFilterController(HotelIdFilter idFilter) {
+        this.idFilter = idFilter;
+    }
+
+    /**
+     * Returns the statistics of the filter.
+     *
+     * @return the statistics
+     */
+    @GetMapping
+    public HotelIdFilter.Stats stats() {
+        return idFilter.stats();
+    }
+
+    /**
+     * Rebuilds the filter from the database.
+     *
+     * @return the statistics of the new filter
+     */
+    @PostMapping("/rebuild")
+    public HotelIdFilter.Stats rebuild() {
+        idFilter.rebuild();
+        return idFilter.stats();
+    }
+}
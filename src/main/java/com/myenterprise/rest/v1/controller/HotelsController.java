@@ -24,29 +24,46 @@
 package com.myenterprise.rest.v1.controller;
 
 import com.myenterprise.rest.v1.api.HotelsApiDelegate;
+import com.myenterprise.rest.v1.configuration.threads.EndpointExecutor;
 import com.myenterprise.rest.v1.model.Hotel;
+import com.myenterprise.rest.v1.model.HotelFacets;
 import com.myenterprise.rest.v1.model.HotelInput;
+import com.myenterprise.rest.v1.model.HotelSuggestion;
+import com.myenterprise.rest.v1.service.HotelFacetsService;
+import com.myenterprise.rest.v1.service.HotelReadCoalescer;
+import com.myenterprise.rest.v1.service.HotelSuggestService;
 import com.myenterprise.rest.v1.service.HotelsService;
-import jakarta.transaction.Transactional;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller class that implements the {@link HotelsApiDelegate} interface.
  * <p>
  * This class handles all hotel-related operations, acting as the entry point
  * for API requests. It delegates the business logic to the {@link HotelsService}.
- * It is annotated with {@code @Controller} to be a Spring MVC controller and
- * {@code @Transactional} to manage database transactions for its methods.
+ * It is annotated with {@code @Controller} to be a Spring MVC controller.
+ * </p>
+ *
+ * <p>
+ * The delegate is generated in {@code async} mode: every method returns a
+ * {@link CompletableFuture} and runs the service call on an {@link EndpointExecutor},
+ * so the servlet thread is released during the database work. The list, the
+ * single-hotel reads and the writes use separate executors (see
+ * {@code AsyncConfiguration}). The transactions are managed by {@link HotelsService},
+ * because the service now runs on the executor threads. The type-ahead suggestions are the
+ * exception: they are read from memory in a few microseconds, less than the hand-off to an
+ * executor, so they are answered on the servlet thread.
  * </p>
  */
 @Controller
-@Transactional
 public class HotelsController implements HotelsApiDelegate {
 
     /**
@@ -55,48 +72,121 @@ public class HotelsController implements HotelsApiDelegate {
     private final HotelsService hotelsService;
 
     /**
-     * Constructs a new {@code HotelsController} with an injected {@code HotelsService}.
+     * The service that computes the facet counts of the hotel search.
+     */
+    private final HotelFacetsService hotelFacetsService;
+
+    /**
+     * The service that answers the type-ahead suggestions from its in-memory index.
+     */
+    private final HotelSuggestService hotelSuggestService;
+
+    /**
+     * Shares one read among the identical reads that run at the same time.
+     */
+    private final HotelReadCoalescer readCoalescer;
+
+    private final EndpointExecutor listExecutor;
+
+    private final EndpointExecutor itemExecutor;
+
+    private final EndpointExecutor writeExecutor;
+
+    /**
+     * Constructs a new {@code HotelsController} with an injected {@code HotelsService}
+     * and the executors of each group of endpoints.
      *
      * @param hotelsService The service responsible for hotel business logic.
+     * @param hotelFacetsService The service responsible for the facet counts.
+     * @param hotelSuggestService The service responsible for the type-ahead suggestions.
+     * @param readCoalescer The coalescer of the identical concurrent reads.
+     * @param listExecutor  The executor of the hotel list.
+     * @param itemExecutor  The executor of the single-hotel reads.
+     * @param writeExecutor The executor of the creations, updates and deletions.
      */
     @Autowired
-    public HotelsController(HotelsService hotelsService){
+    public HotelsController(HotelsService hotelsService,
+                            HotelFacetsService hotelFacetsService,
+                            HotelSuggestService hotelSuggestService,
+                            HotelReadCoalescer readCoalescer,
+                            @Qualifier("hotelsListExecutor") EndpointExecutor listExecutor,
+                            @Qualifier("hotelsItemExecutor") EndpointExecutor itemExecutor,
+                            @Qualifier("hotelsWriteExecutor") EndpointExecutor writeExecutor){
         this.hotelsService = hotelsService;
+        this.hotelFacetsService = hotelFacetsService;
+        this.hotelSuggestService = hotelSuggestService;
+        this.readCoalescer = readCoalescer;
+        this.listExecutor = listExecutor;
+        this.itemExecutor = itemExecutor;
+        this.writeExecutor = writeExecutor;
+    }
+
+    /**
+     * Retrieves a list of all available hotels. The concurrent requests of an equivalent filter
+     * share one read.
+     *
+     * @return A future {@link ResponseEntity} containing a list of {@link Hotel} objects
+     * and an appropriate HTTP status.
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<List<Hotel>>> getHotels( String filters ) {
+        return readCoalescer.findAll(filters, () -> listExecutor.submit(() -> hotelsService.findAll( filters )));
     }
 
     /**
-     * Retrieves a list of all available hotels.
+     * Counts the hotels that match the filter, grouped by city, facility type, rating and Wi-Fi.
+     * It runs on the executor of the list, since it reads the same rows.
      *
-     * @return A {@link ResponseEntity} containing a list of {@link Hotel} objects
+     * @param filters An optional RSQL expression, as in the hotel list.
+     * @return A future {@link ResponseEntity} containing the {@link HotelFacets}
      * and an appropriate HTTP status.
      */
     @Override
-    public ResponseEntity<List<Hotel>> getHotels( String filters ) {
-        return hotelsService.findAll( filters );
+    public CompletableFuture<ResponseEntity<HotelFacets>> getHotelFacets( String filters ) {
+        return listExecutor.submit(() -> hotelFacetsService.facets( filters ));
+    }
+
+    /**
+     * Suggests the hotels whose name or city starts with the typed text.
+     *
+     * @param q     The text typed by the user.
+     * @param limit The maximum number of suggestions.
+     * @return A completed future {@link ResponseEntity} containing the {@link HotelSuggestion}
+     * list and an appropriate HTTP status.
+     */
+    @Override
+    public CompletableFuture<ResponseEntity<List<HotelSuggestion>>> suggestHotels( String q, Integer limit ) {
+        return CompletableFuture.completedFuture(hotelSuggestService.suggest( q, limit ));
     }
 
     /**
      * Deletes a specific hotel by its UUID.
      *
      * @param id The unique identifier of the hotel to delete.
-     * @return A {@link ResponseEntity} with an HTTP 204 (No Content) status if the
+     * @return A future {@link ResponseEntity} with an HTTP 204 (No Content) status if the
      * deletion is successful.
      */
     @Override
-    public ResponseEntity<Void> deleteHotel(UUID id) {
-        return hotelsService.remove(id);
+    public CompletableFuture<ResponseEntity<Void>> deleteHotel(UUID id) {
+        return writeExecutor.submit(() -> hotelsService.remove(id));
     }
 
     /**
-     * Retrieves a specific hotel by its ID.
+     * Retrieves a specific hotel by its ID. A cached response, or the 404 of a hotel that
+     * certainly does not exist, is answered on the servlet thread; a miss reads the hotel on
+     * the executor of the single-hotel reads, once for all the concurrent requests of the hotel.
      *
      * @param id The unique identifier of the hotel to retrieve.
-     * @return A {@link ResponseEntity} containing the requested {@link Hotel}
+     * @return A future {@link ResponseEntity} containing the requested {@link Hotel}
      * if found, or an HTTP 404 (Not Found) status if it does not exist.
      */
     @Override
-    public ResponseEntity<Hotel> getHotel(UUID id, String filters) {
-        return hotelsService.find(id);
+    public CompletableFuture<ResponseEntity<Hotel>> getHotel(UUID id, String filters) {
+        Optional<ResponseEntity<Hotel>> cached = hotelsService.findCached(id);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return readCoalescer.find(id, () -> itemExecutor.submit(() -> hotelsService.find(id)));
     }
 
     /**
@@ -104,13 +194,13 @@ public class HotelsController implements HotelsApiDelegate {
      *
      * @param id The unique identifier of the hotel to update.
      * @param hotelInput The {@link HotelInput} object containing the updated hotel data.
-     * @return A {@link ResponseEntity} containing the updated {@link Hotel} if the
+     * @return A future {@link ResponseEntity} containing the updated {@link Hotel} if the
      * operation is successful, or an appropriate HTTP status in case of an error.
      */
     @Override
-    public ResponseEntity<Hotel> updateHotel(UUID id,
-                                             HotelInput hotelInput) {
-        return hotelsService.update(id, hotelInput);
+    public CompletableFuture<ResponseEntity<Hotel>> updateHotel(UUID id,
+                                                                HotelInput hotelInput) {
+        return writeExecutor.submit(() -> hotelsService.update(id, hotelInput));
     }
 
     /**
@@ -118,11 +208,11 @@ public class HotelsController implements HotelsApiDelegate {
      *
      * @param hotelInput The {@link HotelInput} object containing the data for the
      * new hotel to create.
-     * @return A {@link ResponseEntity} containing the created {@link Hotel} and
+     * @return A future {@link ResponseEntity} containing the created {@link Hotel} and
      * an HTTP 201 (Created) status if the operation is successful.
      */
     @Override
-    public ResponseEntity<Hotel> createHotel(@NotNull HotelInput hotelInput) {
-        return hotelsService.save(hotelInput);
+    public CompletableFuture<ResponseEntity<Hotel>> createHotel(@NotNull HotelInput hotelInput) {
+        return writeExecutor.submit(() -> hotelsService.save(hotelInput));
     }
 }
\ No newline at end of file
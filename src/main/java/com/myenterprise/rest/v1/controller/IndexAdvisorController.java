@@ -0,0 +1,120 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.controller;
+
+import com.myenterprise.rest.rsql.RsqlUsageRecorder;
+import com.myenterprise.rest.utils.ResponseUtils;
+import com.myenterprise.rest.v1.advisor.IndexAdvice;
+import com.myenterprise.rest.v1.advisor.IndexAdvisor;
+import com.myenterprise.rest.v1.advisor.IndexRecommendation;
+import com.myenterprise.rest.v1.model.Error;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Administration endpoint of the {@link IndexAdvisor}.
+ * <p>
+ * It is not part of the public OpenAPI contract, so it is written by hand instead of being
+ * generated. It lives under {@code /api}, so it requires the same authentication as the API.
+ * </p>
+ * <ul>
+ *   <li>{@code GET /api/v1/admin/index-advisor}: observed usage and recommended indexes.</li>
+ *   <li>{@code POST /api/v1/admin/index-advisor/indexes}: creates the recommended indexes,
+ *       only with {@code hotels.index-advisor.allow-create: true}.</li>
+ *   <li>{@code DELETE /api/v1/admin/index-advisor/usage}: starts a new observation window.</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/admin/index-advisor")
+public class IndexAdvisorController {
+
+    private static final String CREATE_DISABLED = "Online index creation is disabled";
+
+    private final IndexAdvisor indexAdvisor;
+
+    private final RsqlUsageRecorder usageRecorder;
+
+    /**
+     * Constructs the controller.
+     *
+     * @param indexAdvisor  the advisor
+     * @param usageRecorder the recorder of the filter usage
+     */
+    @Autowired
+    public IndexAdvisorController(IndexAdvisor indexAdvisor, RsqlUsageRecorder usageRecorder) {
+        this.indexAdvisor = indexAdvisor;
+        this.usageRecorder = usageRecorder;
+    }
+
+    /**
+     * Returns the observed usage of the selectors and the recommended indexes.
+     *
+     * @return the report
+     */
+    @GetMapping
+    public IndexAdvice advice() {
+        List<IndexAdvice.SelectorUsage> usage = usageRecorder.selectorUsage().entrySet().stream()
+                .map(entry -> new IndexAdvice.SelectorUsage(entry.getKey().selector(), entry.getKey().operator(),
+                        entry.getValue().requests(), entry.getValue().averageMillis()))
+                .sorted(Comparator.comparingLong(IndexAdvice.SelectorUsage::requests).reversed())
+                .toList();
+        return new IndexAdvice(usage, indexAdvisor.recommend());
+    }
+
+    /**
+     * Creates the recommended indexes on the running database.
+     *
+     * @return the created indexes, or a 403 error if the online creation is disabled
+     */
+    @PostMapping("/indexes")
+    public ResponseEntity<List<IndexRecommendation>> createIndexes() {
+        if (!indexAdvisor.isCreateAllowed()) {
+            Error error = new Error();
+            error.setError("HOTELS-ERROR-00403");
+            error.setMessage(CREATE_DISABLED);
+            return ResponseUtils.errorResponse(error, HttpStatus.FORBIDDEN);
+        }
+        return ResponseEntity.ok(indexAdvisor.createRecommended());
+    }
+
+    /**
+     * Clears the usage counters.
+     *
+     * @return an empty response with HTTP 204 (No Content)
+     */
+    @DeleteMapping("/usage")
+    public ResponseEntity<Void> resetUsage() {
+        usageRecorder.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
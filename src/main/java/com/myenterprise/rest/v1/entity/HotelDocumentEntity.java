@@ -0,0 +1,118 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.util.UUID;
+
+/**
+ * JPA entity that maps to the {@code hotel_documents} table, the read model of the hotels.
+ * <p>
+ * Each row holds the JSON of one hotel, facilities included, exactly as the API returns it:
+ * the reads of {@code GET /hotels} and {@code GET /hotels/{id}} send these bytes instead of
+ * loading {@link HotelsEntity} and its facilities and serializing them again. The rows are
+ * written by {@code HotelDocumentService} in the same transaction as the hotel.
+ * </p>
+ */
+@Entity
+@Table(name = "hotel_documents")
+public class HotelDocumentEntity {
+
+    /**
+     * The identifier of the hotel, the same as {@link HotelsEntity#getId()}.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The version of the sanitization policy applied to the HTML fields of the document,
+     * see {@code SanitizePolicy.HTML_POLICY_VERSION}.
+     */
+    @Column(name = "policy_version", nullable = false)
+    private int policyVersion;
+
+    /**
+     * The JSON of the hotel, in UTF-8.
+     */
+    @Column(name = "document", nullable = false)
+    private byte[] document;
+
+    /**
+     * Retrieves the identifier of the hotel.
+     *
+     * @return The hotel's ID.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Sets the identifier of the hotel.
+     *
+     * @param id The hotel's ID.
+     */
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * Retrieves the version of the sanitization policy of the document.
+     *
+     * @return The policy version.
+     */
+    public int getPolicyVersion() {
+        return policyVersion;
+    }
+
+    /**
+     * Sets the version of the sanitization policy of the document.
+     *
+     * @param policyVersion The policy version.
+     */
+    public void setPolicyVersion(int policyVersion) {
+        this.policyVersion = policyVersion;
+    }
+
+    /**
+     * Retrieves the JSON of the hotel.
+     *
+     * @return The UTF-8 bytes of the document.
+     */
+    public byte[] getDocument() {
+        return document;
+    }
+
+    /**
+     * Sets the JSON of the hotel.
+     *
+     * @param document The UTF-8 bytes of the document.
+     */
+    public void setDocument(byte[] document) {
+        this.document = document;
+    }
+}
@@ -23,13 +23,18 @@
  */
 package com.myenterprise.rest.v1.entity;
 
+import com.myenterprise.rest.facility.FacilityMask;
+import com.myenterprise.rest.geo.GeoGrid;
 import com.myenterprise.rest.v1.model.Hotel;
+import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import org.springframework.lang.Nullable;
 import java.util.ArrayList;
 import java.util.List;
@@ -64,7 +69,9 @@ public class HotelsEntity {
                         Objects.equals(address, that.address) &&
                         Objects.equals(city, that.city) &&
                         Objects.equals(rating, that.rating) &&
-                        Objects.equals(hasWifi, that.hasWifi);
+                        Objects.equals(hasWifi, that.hasWifi) &&
+                        Objects.equals(latitude, that.latitude) &&
+                        Objects.equals(longitude, that.longitude);
     }
 
     /**
@@ -75,7 +82,7 @@ public class HotelsEntity {
      */
     
     public int hashCode() {
-        return Objects.hash(super.hashCode(), id, name, description, address, city, rating, hasWifi);
+        return Objects.hash(super.hashCode(), id, name, description, address, city, rating, hasWifi, latitude, longitude);
     }
 
     /**
@@ -117,6 +124,33 @@ public class HotelsEntity {
      */
     private Boolean hasWifi;
 
+    /**
+     * The latitude of the hotel, in degrees.
+     * This field can be null.
+     */
+    private @Nullable Double latitude;
+
+    /**
+     * The longitude of the hotel, in degrees.
+     * This field can be null.
+     */
+    private @Nullable Double longitude;
+
+    /**
+     * The cell of the geographic grid that contains the hotel, see {@link GeoGrid}.
+     * It is derived from the coordinates before every insert and update, and indexed for the
+     * radius searches ({@code location=near=(lat,lon,km)}). It is null without coordinates.
+     */
+    @Column(name = "geo_cell")
+    private @Nullable Long geoCell;
+
+    /**
+     * The facility types of the hotel as a bit mask, see {@link FacilityMask}.
+     * It is derived from the facilities before every insert and update, and indexed for the
+     * facility filters ({@code facilities=all=(cinema,restaurant)}).
+     */
+    @Column(name = "facility_mask", nullable = false)
+    private int facilityMask;
 
     /**
      * Indicates the facilities of hotel
@@ -237,6 +271,82 @@ public class HotelsEntity {
         this.hasWifi = hasWifi;
     }
 
+    /**
+     * Retrieves the latitude of the hotel.
+     *
+     * @return The hotel's latitude, in degrees.
+     */
+    @Nullable
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Sets the latitude of the hotel.
+     *
+     * @param latitude The new latitude, in degrees.
+     */
+    public void setLatitude(@Nullable Double latitude) {
+        this.latitude = latitude;
+    }
+
+    /**
+     * Retrieves the longitude of the hotel.
+     *
+     * @return The hotel's longitude, in degrees.
+     */
+    @Nullable
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Sets the longitude of the hotel.
+     *
+     * @param longitude The new longitude, in degrees.
+     */
+    public void setLongitude(@Nullable Double longitude) {
+        this.longitude = longitude;
+    }
+
+    /**
+     * Retrieves the geographic grid cell of the hotel.
+     *
+     * @return The hotel's cell, or null without coordinates.
+     */
+    @Nullable
+    public Long getGeoCell() {
+        return geoCell;
+    }
+
+    /**
+     * Retrieves the facility mask of the hotel.
+     *
+     * @return The bits of the hotel's facility types.
+     */
+    public int getFacilityMask() {
+        return facilityMask;
+    }
+
+    /**
+     * Derives the facility mask from the facilities. The facilities are the inverse side of
+     * the relation, so replacing them does not make the hotel dirty by itself: the code that
+     * changes them on a managed hotel must call this method, which changes the hotel.
+     */
+    public void updateFacilityMask() {
+        facilityMask = FacilityMask.of(facilities.stream().map(FacilityEntity::getType).toList());
+    }
+
+    /**
+     * Derives the geographic grid cell and the facility mask before the hotel is written.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateDerivedColumns() {
+        geoCell = latitude == null || longitude == null ? null : GeoGrid.cell(latitude, longitude);
+        updateFacilityMask();
+    }
+
     /**
      * Retrieves the unique identifier of the hotel.
      *
@@ -32,15 +32,17 @@ import org.mapstruct.Mapping;
  * <p>MapStruct mapper that converts between the {@link Facility} model used by the
  * REST layer and the {@link FacilityEntity} persistence entity.</p>
  *
- * <p>This interface is annotated with {@code @Mapper(componentModel = "spring")} so that
+ * <p>This interface is annotated with {@code @Mapper(componentModel = "spring", uses = InternedStrings.class)} so that
  * Spring will automatically generate an implementation bean that can be injected
  * wherever required.</p>
  *
  * <p>The generated implementation handles the field‑by‑field copying; any fields
  * that require special handling can be configured with {@link Mapping} annotations,
- * as demonstrated for the {@code hotel} property.</p>
+ * as demonstrated for the {@code hotel} property. The {@code shortDescription} of the
+ * model is mapped through {@link InternedStrings}: the same few descriptions repeat
+ * across the facilities of all the hotels.</p>
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = InternedStrings.class)
 public interface FacilityMapper {
 
     /**
@@ -51,6 +53,7 @@ public interface FacilityMapper {
      * @return a new {@link Facility} populated with the values from {@code facilityEntity},
      *         or {@code null} if the input was {@code null}
      */
+    @Mapping(target = "shortDescription", qualifiedByName = "interned")
     Facility toModel(FacilityEntity facilityEntity);
 
     /**
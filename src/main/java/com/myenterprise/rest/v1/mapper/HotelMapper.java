@@ -27,6 +27,7 @@ import com.myenterprise.rest.v1.entity.HotelsEntity;
 import com.myenterprise.rest.v1.model.Hotel;
 import com.myenterprise.rest.v1.model.HotelInput;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -40,13 +41,14 @@ import java.util.List;
  * via the {@code uses} attribute, allowing MapStruct to delegate mapping of any
  * nested {@code Facility} objects contained within a hotel.</p>
  *
- * <p>No custom {@link org.mapstruct.Mapping} annotations are required here because
- * the field names match between source and target types. MapStruct will generate
- * the implementation that copies properties automatically.</p>
+ * <p>The field names match between source and target types, so MapStruct generates
+ * the implementation that copies properties automatically. The {@code city} of the
+ * model is the exception: it is mapped through {@link InternedStrings}, so the hotels
+ * of the same city share one {@link String} instead of a copy per row.</p>
  */
 @Mapper(
         componentModel = "spring",
-        uses = FacilityMapper.class
+        uses = {FacilityMapper.class, InternedStrings.class}
 )
 public interface HotelMapper {
 
@@ -58,6 +60,7 @@ public interface HotelMapper {
      * @return a new {@link Hotel} populated with the values from {@code entity},
      *         or {@code null} if the input was {@code null}
      */
+    @Mapping(target = "city", qualifiedByName = "interned")
     Hotel toModel(HotelsEntity entity);
 
     /**
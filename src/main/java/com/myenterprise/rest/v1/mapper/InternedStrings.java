@@ -0,0 +1,49 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.mapper;
+
+import com.myenterprise.rest.utils.StringInterner;
+import org.mapstruct.Named;
+
+/**
+ * Mapping method, referenced by name from {@link HotelMapper} and {@link FacilityMapper}, for the
+ * fields whose values repeat across many hotels: they are mapped to the shared instance of
+ * {@link StringInterner#SHARED} instead of the copy read from the database.
+ */
+public final class InternedStrings {
+
+    private InternedStrings() {
+    }
+
+    /**
+     * Returns the shared instance of a value.
+     *
+     * @param value the value, may be {@code null}
+     * @return a string equal to {@code value}, or {@code null}
+     */
+    @Named("interned")
+    public static String intern(String value) {
+        return StringInterner.SHARED.intern(value);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a hotel with the columns of the in-memory snapshot of {@code HotelColumnsService}:
+ * the attributes evaluated by the filters and the stored JSON document. It is read by
+ * {@link HotelDocumentsRepository#findAllColumns()} and {@link HotelDocumentsRepository#findColumnsById(UUID)}
+ * without loading the entity nor its facilities.
+ */
+public interface HotelColumnsView {
+
+    /**
+     * @return the identifier of the hotel
+     */
+    UUID getId();
+
+    /**
+     * @return the name of the hotel
+     */
+    String getName();
+
+    /**
+     * @return the description of the hotel
+     */
+    String getDescription();
+
+    /**
+     * @return the address of the hotel
+     */
+    String getAddress();
+
+    /**
+     * @return the city of the hotel
+     */
+    String getCity();
+
+    /**
+     * @return the rating of the hotel
+     */
+    Float getRating();
+
+    /**
+     * @return the facility types of the hotel, see {@code FacilityMask}
+     */
+    int getFacilityMask();
+
+    /**
+     * @return the UTF-8 JSON document of the hotel
+     */
+    byte[] getDocument();
+}
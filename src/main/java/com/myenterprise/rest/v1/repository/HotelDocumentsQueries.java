@@ -0,0 +1,51 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.repository;
+
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link HotelDocumentsRepository} with the filtered list of documents.
+ * <p>
+ * The filter is the same {@link Specification} of {@link HotelsEntity} built from the RSQL
+ * expression of {@code GET /hotels}: it is applied to the {@code hotels} table in a subquery,
+ * and only the documents of the matching hotels are read. The implementation is
+ * {@link HotelDocumentsQueriesImpl}.
+ * </p>
+ */
+public interface HotelDocumentsQueries {
+
+    /**
+     * Returns the documents of the hotels that match the specification, with their ids.
+     *
+     * @param specification the filter, or {@code null} for all the hotels
+     * @return the documents
+     */
+    List<HotelDocument> findDocuments(@Nullable Specification<HotelsEntity> specification);
+}
@@ -0,0 +1,76 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.repository;
+
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.v1.entity.HotelDocumentEntity;
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria API implementation of {@link HotelDocumentsQueries}.
+ * <p>
+ * A filtered call runs one query of the form
+ * {@code SELECT id, document FROM hotel_documents WHERE id IN (SELECT id FROM hotels WHERE <specification>)},
+ * and each row is returned as a {@link HotelDocument} with its id.
+ * The subquery returns each hotel once even when the filter joins the facilities, so a hotel
+ * with two restaurants is returned once.
+ * </p>
+ */
+public class HotelDocumentsQueriesImpl implements HotelDocumentsQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<HotelDocument> findDocuments(@Nullable Specification<HotelsEntity> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<HotelDocument> query = builder.createQuery(HotelDocument.class);
+        Root<HotelDocumentEntity> document = query.from(HotelDocumentEntity.class);
+        query.select(builder.construct(HotelDocument.class, document.get("id"), document.get("document")));
+
+        if (specification != null) {
+            Subquery<UUID> hotels = query.subquery(UUID.class);
+            Root<HotelsEntity> hotel = hotels.from(HotelsEntity.class);
+            hotels.select(hotel.get("id"));
+            Predicate filter = specification.toPredicate(hotel, query, builder);
+            if (filter != null) {
+                hotels.where(filter);
+            }
+            query.where(document.get("id").in(hotels));
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+}
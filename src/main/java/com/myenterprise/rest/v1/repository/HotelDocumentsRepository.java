@@ -0,0 +1,101 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.repository;
+
+import com.myenterprise.rest.v1.entity.HotelDocumentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data repository for {@link HotelDocumentEntity}, the read model of the hotels.
+ *
+ * <p>The reads select only the {@code document} column, so the bytes are returned without
+ * managing an entity per row. The filtered list is in {@link HotelDocumentsQueries}, and the
+ * queries of the startup synchronization compare the documents with the {@code hotels} table.</p>
+ *
+ * <p>The {@link HotelColumnsView} queries join each document with the columns of its hotel, to
+ * build and update the in-memory snapshot of {@code HotelColumnsService}.</p>
+ */
+@Repository
+public interface HotelDocumentsRepository extends
+        JpaRepository<HotelDocumentEntity, UUID>,
+        HotelDocumentsQueries {
+
+    /** Select clause of the {@link HotelColumnsView} queries. */
+    String COLUMNS = "select h.id as id, h.name as name, h.description as description, h.address as address, "
+            + "h.city as city, h.rating as rating, h.facilityMask as facilityMask, d.document as document "
+            + "from HotelsEntity h, HotelDocumentEntity d ";
+
+    /**
+     * Returns the JSON of a hotel.
+     *
+     * @param id the identifier of the hotel
+     * @return the UTF-8 bytes of the document, or empty if there is no document for the hotel
+     */
+    @Query("select d.document from HotelDocumentEntity d where d.id = :id")
+    Optional<byte[]> findDocumentById(@Param("id") UUID id);
+
+    /**
+     * Returns the filtered columns and the document of every hotel that has a document.
+     *
+     * @return the projections of the hotels
+     */
+    @Query(COLUMNS + "where d.id = h.id")
+    List<HotelColumnsView> findAllColumns();
+
+    /**
+     * Returns the filtered columns and the document of a hotel.
+     *
+     * @param id the identifier of the hotel
+     * @return the projection of the hotel, or empty if the hotel or its document does not exist
+     */
+    @Query(COLUMNS + "where d.id = h.id and h.id = :id")
+    Optional<HotelColumnsView> findColumnsById(@Param("id") UUID id);
+
+    /**
+     * Returns the identifiers of the hotels without a document of the given policy version.
+     *
+     * @param policyVersion the current version of the sanitization policy
+     * @return the identifiers of the hotels whose document is missing or outdated
+     */
+    @Query("select h.id from HotelsEntity h where not exists (select d.id from HotelDocumentEntity d "
+            + "where d.id = h.id and d.policyVersion = :policyVersion)")
+    List<UUID> findIdsWithoutDocument(@Param("policyVersion") int policyVersion);
+
+    /**
+     * Deletes the documents of the hotels that no longer exist.
+     *
+     * @return the number of deleted documents
+     */
+    @Modifying
+    @Query("delete from HotelDocumentEntity d where not exists (select h.id from HotelsEntity h where h.id = d.id)")
+    int deleteOrphans();
+}
@@ -0,0 +1,82 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.repository;
+
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Criteria API implementation of {@link HotelsFacetsRepository}.
+ * <p>
+ * Each call runs one query of the form
+ * {@code SELECT <key>, COUNT(DISTINCT id) FROM hotels WHERE <specification> GROUP BY <key>}.
+ * The hotels are counted once even when the facility types or the filter join the facilities,
+ * so a hotel with two restaurants is counted once.
+ * </p>
+ */
+public class HotelsFacetsRepositoryImpl implements HotelsFacetsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<Object, Long> countBy(@Nullable Specification<HotelsEntity> specification, FacetDimension dimension) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<HotelsEntity> root = query.from(HotelsEntity.class);
+
+        Expression<?> key = switch (dimension) {
+            case CITY -> root.get("city");
+            case FACILITY_TYPE -> root.join("facilities").get("type");
+            case RATING_BUCKET -> builder.floor(root.<Float>get("rating"));
+            case HAS_WIFI -> root.get("hasWifi");
+        };
+        // Distinct: the facility dimension and the filters on facilities join one row per facility.
+        Expression<Long> count = builder.countDistinct(root);
+
+        Predicate notNull = builder.isNotNull(key);
+        Predicate filter = specification == null ? null : specification.toPredicate(root, query, builder);
+        query.multiselect(key, count)
+                .where(filter == null ? notNull : builder.and(filter, notNull))
+                .groupBy(key);
+
+        Map<Object, Long> counts = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.put(row.get(0), row.get(1, Long.class));
+        }
+        return counts;
+    }
+}
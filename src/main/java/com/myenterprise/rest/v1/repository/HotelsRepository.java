@@ -26,8 +26,12 @@ package com.myenterprise.rest.v1.repository;
 import com.myenterprise.rest.v1.entity.HotelsEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -41,8 +45,13 @@ import java.util.UUID;
  *       and sorting capabilities.</li>
  *   <li>{@link JpaSpecificationExecutor} – enables the construction of dynamic
  *       queries using the {@code Specification} API.</li>
+ *   <li>{@link HotelsFacetsRepository} – grouped counts of the hotels that match a
+ *       {@code Specification}, used by the facets endpoint.</li>
  * </ul>
  *
+ * <p>The {@link HotelNameView} queries read only the identifier, name and city of the
+ * hotels, to build and update the index of the type-ahead endpoint.</p>
+ *
  * <p>The primary key type for {@link HotelsEntity} is {@link UUID}, which means
  * all generated queries will expect a {@code UUID} value when locating a specific
  * hotel record.</p>
@@ -55,9 +64,31 @@ import java.util.UUID;
 @Repository
 public interface HotelsRepository extends
         JpaRepository<HotelsEntity, UUID>,
-        JpaSpecificationExecutor<HotelsEntity> {
+        JpaSpecificationExecutor<HotelsEntity>,
+        HotelsFacetsRepository {
+
+    /**
+     * Returns the identifier, name and city of every hotel.
+     *
+     * @return the projections of all the hotels
+     */
+    @Query("select h.id as id, h.name as name, h.city as city from HotelsEntity h")
+    List<HotelNameView> findAllNames();
+
+    /**
+     * Returns the identifier, name and city of a hotel.
+     *
+     * @param id the identifier of the hotel
+     * @return the projection of the hotel, or empty if it does not exist
+     */
+    @Query("select h.id as id, h.name as name, h.city as city from HotelsEntity h where h.id = :id")
+    Optional<HotelNameView> findNameById(@Param("id") UUID id);
 
-    // No additional methods are required at this stage.
-    // Custom query methods can be added here later if needed,
-    // following Spring Data naming conventions.
+    /**
+     * Returns the identifier of every hotel.
+     *
+     * @return the identifiers of all the hotels
+     */
+    @Query("select h.id from HotelsEntity h")
+    List<UUID> findAllIds();
 }
\ No newline at end of file
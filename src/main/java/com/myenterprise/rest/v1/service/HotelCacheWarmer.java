@@ -0,0 +1,125 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warms up the caches with the hot keys saved by {@link HotelHotKeys} in the previous run, so the
+ * first requests after a deployment do not all miss.
+ * <p>
+ * It runs as an {@link ApplicationRunner}: the embedded server already accepts requests by then,
+ * and only the readiness state of Spring Boot waits for the runners to return before it moves to
+ * accepting traffic. In order:
+ * </p>
+ * <ol>
+ *   <li>Each hot hotel is read by {@link HotelsService#preload(UUID)}, which fills
+ *       {@link HotelResponseCache}.</li>
+ *   <li>Each hot filter is read by {@link HotelsService#preloadAll(String)}, which fills
+ *       {@link HotelListCache} and the query plans of the database.</li>
+ * </ol>
+ * <p>
+ * Neither read is counted by {@link HotelHotKeys}, so a restart does not add to the keys of the
+ * previous run.
+ * </p>
+ *
+ * <p>
+ * The warm-up stops when its {@code budget} is spent, so a slow database delays the readiness by
+ * that time at most. A missing or unreadable file only skips it.
+ * </p>
+ */
+@Service
+public class HotelCacheWarmer implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelCacheWarmer.class);
+
+    private final HotelHotKeys hotKeys;
+
+    private final HotelsService hotelsService;
+
+    private final Duration budget;
+
+    /**
+     * Constructs the warmer.
+     *
+     * @param hotKeys       the hot keys of the previous run
+     * @param hotelsService the service whose caches are warmed up
+     * @param budget        the longest time spent warming up
+     */
+    @Autowired
+    public HotelCacheWarmer(HotelHotKeys hotKeys, HotelsService hotelsService,
+                            @Value("${hotels.warm-up.budget:10s}") Duration budget) {
+        this.hotKeys = hotKeys;
+        this.hotelsService = hotelsService;
+        this.budget = budget;
+    }
+
+    /**
+     * Warms up the caches with the saved hot keys, if any.
+     *
+     * @param args the arguments of the application, unused
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        hotKeys.load().ifPresent(this::warmUp);
+    }
+
+    /**
+     * Warms up the caches with hot keys, within the budget.
+     *
+     * @param keys the hot keys
+     */
+    void warmUp(HotelHotKeys.HotKeys keys) {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        List<UUID> hotels = keys.hotels() == null ? List.of() : keys.hotels();
+        List<String> filters = keys.filters() == null ? List.of() : keys.filters();
+
+        int warmedHotels = 0;
+        for (UUID id : hotels) {
+            if (System.nanoTime() - deadline > 0) break;
+            hotelsService.preload(id);
+            warmedHotels++;
+        }
+        int warmedFilters = 0;
+        for (String filter : filters) {
+            if (System.nanoTime() - deadline > 0) break;
+            // The empty canonical filter is the list of all the hotels.
+            hotelsService.preloadAll(filter.isEmpty() ? null : filter);
+            warmedFilters++;
+        }
+        LOGGER.info("event=caches_warmed_up hotels={}/{} filters={}/{} ms={}", warmedHotels, hotels.size(),
+                warmedFilters, filters.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+}
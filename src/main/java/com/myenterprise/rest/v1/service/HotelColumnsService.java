@@ -0,0 +1,149 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.columnar.HotelColumns;
+import com.myenterprise.rest.columnar.HotelRow;
+import com.myenterprise.rest.v1.model.Hotel;
+import com.myenterprise.rest.v1.repository.HotelColumnsView;
+import com.myenterprise.rest.v1.repository.HotelDocumentsRepository;
+import cz.jirutka.rsql.parser.ast.Node;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service of the optional in-memory snapshot of the hotels used by {@code GET /hotels}.
+ * <p>
+ * With {@code hotels.columnar.enabled: true} the filtered lists are evaluated by a
+ * {@link HotelColumns} snapshot, column arrays and bitmaps held in memory, and answered with the
+ * documents that it holds, without a query. The snapshot is loaded at startup from the read
+ * model ({@link HotelDocumentsRepository#findAllColumns()}, after the documents are synchronized),
+ * and each committed {@link HotelChangedEvent} re-reads the row of the changed hotel. The filters
+ * that the snapshot does not evaluate ({@code =ft=}, {@code =near=}, other selectors) still go to
+ * the database.
+ * </p>
+ *
+ * <p>
+ * The snapshot holds every document, so its memory grows with the catalogue (about 360 bytes per
+ * hotel with two facilities). The changes made outside this application are only seen after a
+ * restart. It is disabled by default.
+ * </p>
+ */
+@Service
+@DependsOn("com.myenterprise.rest.v1.service.HotelDocumentService")
+public class HotelColumnsService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelColumnsService.class);
+
+    private final HotelDocumentsRepository documentsRepository;
+
+    private final boolean enabled;
+
+    private final HotelColumns columns = new HotelColumns();
+
+    /**
+     * Constructs the service.
+     *
+     * @param documentsRepository the repository of the documents and the filtered columns
+     * @param enabled             whether the lists are served from the snapshot
+     */
+    @Autowired
+    public HotelColumnsService(HotelDocumentsRepository documentsRepository,
+                               @Value("${hotels.columnar.enabled:false}") boolean enabled) {
+        this.documentsRepository = documentsRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Loads every hotel in the snapshot, when it is enabled.
+     */
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (HotelColumnsView hotel : documentsRepository.findAllColumns()) {
+            columns.put(toRow(hotel));
+        }
+        LOGGER.info("Columnar snapshot loaded with {} hotels in {} ms",
+                columns.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Returns the hotels that match a filter from the snapshot.
+     *
+     * @param filter the parsed RSQL filter, or {@code null} for all the hotels
+     * @return the documents of the matching hotels, or empty if the snapshot is disabled or
+     *         does not evaluate the filter
+     */
+    public Optional<List<Hotel>> findAll(@Nullable Node filter) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return columns.find(filter).map(List::copyOf);
+    }
+
+    /**
+     * Updates the snapshot once a change of a hotel is committed. The hotel is read again in a
+     * new read-write transaction, so the read goes to the primary database even when the
+     * read-only transactions are routed to replicas that may not have the change yet.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onHotelChanged(HotelChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Optional<HotelColumnsView> hotel = documentsRepository.findColumnsById(event.id());
+        if (hotel.isPresent()) {
+            columns.put(toRow(hotel.get()));
+        } else {
+            columns.remove(event.id());
+        }
+    }
+
+    /**
+     * Converts the columns read from the database to a row of the snapshot.
+     */
+    static HotelRow toRow(HotelColumnsView hotel) {
+        return new HotelRow(hotel.getId(), hotel.getName(), hotel.getDescription(), hotel.getAddress(),
+                hotel.getCity(), hotel.getRating(), hotel.getFacilityMask(), hotel.getDocument());
+    }
+}
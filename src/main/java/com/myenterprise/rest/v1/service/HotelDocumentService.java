@@ -0,0 +1,185 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.annotation.sanitizehtml.SanitizePolicy;
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.v1.entity.HotelDocumentEntity;
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import com.myenterprise.rest.v1.mapper.HotelMapper;
+import com.myenterprise.rest.v1.model.Hotel;
+import com.myenterprise.rest.v1.repository.HotelDocumentsRepository;
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service of the read model of the hotels: one {@code hotel_documents} row per hotel with its
+ * JSON, facilities included.
+ * <p>
+ * {@link HotelsService} writes the document of a hotel in the same transaction as the hotel, on
+ * every create, update and delete, so the document and the tables always commit together. The
+ * reads of {@code GET /hotels} and {@code GET /hotels/{id}} return {@link HotelDocument}s: the
+ * stored bytes go to the response without loading the entities and their facilities and without
+ * serializing and sanitizing the fields again.
+ * </p>
+ *
+ * <p>
+ * The documents are serialized with the {@code ObjectMapper} of the API, so they are the same
+ * JSON that the entities would produce, sanitized. Each one records the
+ * {@link SanitizePolicy#HTML_POLICY_VERSION} it was sanitized with. At startup, before the
+ * requests are served, {@link #synchronize()} writes the documents that are missing or have
+ * another policy version and deletes the ones of removed hotels; the changes made outside this
+ * application after the startup are not seen by the reads until the next restart. The service
+ * depends on {@code SanitizerConfiguration}, which configures the sanitizer caches before the
+ * first document is written.
+ * </p>
+ */
+@Service
+@DependsOn("com.myenterprise.rest.v1.configuration.SanitizerConfiguration")
+public class HotelDocumentService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelDocumentService.class);
+
+    /** Number of hotels written per transaction by {@link #synchronize()}. */
+    private static final int SYNCHRONIZE_BATCH = 500;
+
+    private final HotelDocumentsRepository documentsRepository;
+
+    private final HotelsRepository hotelsRepository;
+
+    private final HotelMapper hotelMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs the service.
+     *
+     * @param documentsRepository the repository of the documents
+     * @param hotelsRepository    the repository of the hotels, read by the synchronization
+     * @param hotelMapper         the mapper of the entities to the API model
+     * @param objectMapper        the {@code ObjectMapper} of the API
+     * @param transactionManager  the transaction manager of the synchronization batches
+     */
+    @Autowired
+    public HotelDocumentService(HotelDocumentsRepository documentsRepository, HotelsRepository hotelsRepository,
+                                HotelMapper hotelMapper, ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.documentsRepository = documentsRepository;
+        this.hotelsRepository = hotelsRepository;
+        this.hotelMapper = hotelMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Brings the documents up to date with the {@code hotels} table: writes the missing and
+     * outdated ones in batches of {@value #SYNCHRONIZE_BATCH} hotels and deletes the orphans.
+     */
+    @PostConstruct
+    public void synchronize() {
+        long start = System.nanoTime();
+        int deleted = Objects.requireNonNull(transactionTemplate.execute(status -> documentsRepository.deleteOrphans()));
+        List<UUID> ids = Objects.requireNonNull(transactionTemplate.execute(
+                status -> documentsRepository.findIdsWithoutDocument(SanitizePolicy.HTML_POLICY_VERSION)));
+        for (int from = 0; from < ids.size(); from += SYNCHRONIZE_BATCH) {
+            List<UUID> batch = ids.subList(from, Math.min(ids.size(), from + SYNCHRONIZE_BATCH));
+            transactionTemplate.executeWithoutResult(
+                    status -> hotelsRepository.findAllById(batch).forEach(this::write));
+        }
+        LOGGER.info("Hotel documents synchronized: {} written, {} deleted in {} ms",
+                ids.size(), deleted, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Writes the document of a hotel. It must run in the transaction that writes the hotel.
+     *
+     * @param hotel the saved hotel, with its identifier and facilities
+     * @return the document, to be returned by the write operation
+     * @throws UncheckedIOException if the hotel cannot be serialized
+     */
+    public HotelDocument write(HotelsEntity hotel) {
+        Hotel model = hotelMapper.toModel(hotel);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(model);
+        } catch (JsonProcessingException error) {
+            throw new UncheckedIOException(error);
+        }
+        HotelDocumentEntity document = documentsRepository.findById(hotel.getId()).orElseGet(HotelDocumentEntity::new);
+        document.setId(hotel.getId());
+        document.setPolicyVersion(SanitizePolicy.HTML_POLICY_VERSION);
+        document.setDocument(json);
+        documentsRepository.save(document);
+        return new HotelDocument(hotel.getId(), json);
+    }
+
+    /**
+     * Deletes the document of a hotel. It must run in the transaction that deletes the hotel.
+     *
+     * @param id the identifier of the hotel
+     */
+    public void delete(UUID id) {
+        documentsRepository.deleteById(id);
+    }
+
+    /**
+     * Returns the document of a hotel.
+     *
+     * @param id the identifier of the hotel
+     * @return the document, or empty if the hotel has no document
+     */
+    public Optional<HotelDocument> find(UUID id) {
+        return documentsRepository.findDocumentById(id).map(json -> new HotelDocument(id, json));
+    }
+
+    /**
+     * Returns the documents of the hotels that match a specification.
+     *
+     * @param specification the filter, or {@code null} for all the hotels
+     * @return the documents
+     */
+    public List<Hotel> findAll(@Nullable Specification<HotelsEntity> specification) {
+        return List.copyOf(documentsRepository.findDocuments(specification));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myenterprise.rest.rsql.CustomRsqlVisitor;
+import com.myenterprise.rest.rsql.RsqlCanonicalizer;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import com.myenterprise.rest.utils.RateLimitedLogger;
+import com.myenterprise.rest.utils.ResponseUtils;
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import com.myenterprise.rest.v1.model.FacetCount;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.HotelFacets;
+import com.myenterprise.rest.v1.repository.FacetDimension;
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service of the {@code GET /hotels/facets} operation.
+ * <p>
+ * It returns how many hotels match the RSQL filter, grouped by city, facility type, rating
+ * bucket and Wi-Fi. The counts are computed in the database by {@link HotelsRepository#countBy}
+ * from the same {@link Specification} as {@code GET /hotels}, so the client receives a few
+ * hundred bytes instead of the whole list.
+ * </p>
+ *
+ * <p>
+ * The results are cached per normalized filter, see {@link RsqlCanonicalizer}, so
+ * {@code city==Madrid;rating>=4} and {@code rating>=4.0;city=='Madrid'} share an entry. The cache is cleared when
+ * a {@link HotelChangedEvent} is committed, and the entries also expire after a while, for
+ * the changes made outside this application.
+ * </p>
+ */
+@Service
+public class HotelFacetsService {
+
+    private static final String ERROR_UNEXPECTED = "error unexpected";
+
+    /**
+     * Logger of the unexpected failures: at most 10 stack traces per second, the rest are only counted.
+     */
+    private static final RateLimitedLogger ERROR_LOGGER = new RateLimitedLogger(
+            LoggerFactory.getLogger(HotelFacetsService.class), Level.ERROR, 10, Duration.ofSeconds(1));
+
+    private final HotelsRepository hotelsRepository;
+
+    /** Facets by normalized filter, or {@code null} when the cache is disabled. */
+    private final Cache<String, HotelFacets> cache;
+
+    /**
+     * Constructs the service.
+     *
+     * @param hotelsRepository the repository with the grouped counts
+     * @param cacheEnabled     whether the results are cached
+     * @param cacheMaxSize     maximum number of cached filters
+     * @param cacheTtl         time after which a cached result expires
+     */
+    @Autowired
+    public HotelFacetsService(HotelsRepository hotelsRepository,
+                              @Value("${hotels.facets.cache.enabled:true}") boolean cacheEnabled,
+                              @Value("${hotels.facets.cache.max-size:1000}") long cacheMaxSize,
+                              @Value("${hotels.facets.cache.ttl:60s}") Duration cacheTtl) {
+        this.hotelsRepository = hotelsRepository;
+        this.cache = cacheEnabled
+                ? Caffeine.newBuilder().maximumSize(cacheMaxSize).expireAfterWrite(cacheTtl).build()
+                : null;
+    }
+
+    /**
+     * Computes the facets of the hotels that match the filter.
+     *
+     * @param filters an optional RSQL expression, as in {@code GET /hotels}
+     * @return a {@link ResponseEntity} with the {@link HotelFacets} and an HTTP 200 (OK) status,
+     * or an internal error response if the operation fails
+     */
+    @Transactional(readOnly = true)
+    public ResponseEntity<HotelFacets> facets(String filters) {
+        try {
+            Node root = filters == null ? null : RsqlSearchOperation.parser().parse(filters);
+            String key = RsqlCanonicalizer.key(root);
+            HotelFacets facets = cache == null ? compute(root) : cache.get(key, ignored -> compute(root));
+            return new ResponseEntity<>(facets, HttpStatus.OK);
+        } catch (Exception error) {
+            ERROR_LOGGER.log("find_facets", error);
+            return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
+        }
+    }
+
+    /**
+     * Clears the cached facets once a change of a hotel is committed.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelChanged(HotelChangedEvent event) {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private HotelFacets compute(Node root) {
+        Specification<HotelsEntity> specification = root == null ? null : root.accept(new CustomRsqlVisitor<>());
+        HotelFacets facets = new HotelFacets();
+        facets.setTotal(specification == null ? hotelsRepository.count() : hotelsRepository.count(specification));
+        facets.setCities(counts(hotelsRepository.countBy(specification, FacetDimension.CITY)));
+        facets.setFacilityTypes(counts(hotelsRepository.countBy(specification, FacetDimension.FACILITY_TYPE)));
+        facets.setRatingBuckets(counts(hotelsRepository.countBy(specification, FacetDimension.RATING_BUCKET)));
+        facets.setHasWifi(counts(hotelsRepository.countBy(specification, FacetDimension.HAS_WIFI)));
+        return facets;
+    }
+
+    /**
+     * Converts the grouped counts to the API model, most frequent value first.
+     */
+    private static List<FacetCount> counts(Map<Object, Long> grouped) {
+        List<FacetCount> counts = new ArrayList<>(grouped.size());
+        grouped.forEach((value, count) -> {
+            FacetCount facet = new FacetCount();
+            facet.setValue(label(value));
+            facet.setCount(count);
+            counts.add(facet);
+        });
+        counts.sort(Comparator.comparing(FacetCount::getCount).reversed().thenComparing(FacetCount::getValue));
+        return counts;
+    }
+
+    private static String label(Object value) {
+        if (value instanceof Facility.TypeEnum type) {
+            return type.getValue();
+        }
+        if (value instanceof Number bucket) {
+            return Integer.toString(bucket.intValue());
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.rsql.RsqlCanonicalizer;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the hotels and the filters that are read the most, and saves them to a local file so
+ * that {@link HotelCacheWarmer} can read them again after a restart.
+ * <p>
+ * {@link HotelsService} counts every hotel it answers and every list filter, by its canonical
+ * form (see {@link RsqlCanonicalizer}). The counters are lock-free ({@link LongAdder}) and the
+ * number of distinct keys is capped, like {@code RsqlUsageRecorder}. Only the hotels that exist
+ * are counted, so the unknown identifiers of the scrapers do not take the places.
+ * </p>
+ *
+ * <p>
+ * Every {@code save-interval}, and when the application stops, the top {@code hotels} hotels and
+ * {@code filters} filters are written to the file, through a temporary file and an atomic move.
+ * The counters are then aged: the saved keys keep half of their count and the others are
+ * dropped, so the ranking follows the recent traffic.
+ * </p>
+ */
+@Service
+public class HotelHotKeys implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelHotKeys.class);
+
+    /** Maximum number of distinct keys of each counter. */
+    static final int MAX_KEYS = 10_000;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final Path file;
+
+    private final int topHotels;
+
+    private final int topFilters;
+
+    private final Duration saveInterval;
+
+    private final Map<UUID, LongAdder> hotels = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> filters = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs the recorder.
+     *
+     * @param objectMapper the mapper of the file
+     * @param enabled      whether the hot keys are recorded and warmed up
+     * @param file         the file of the hot keys
+     * @param topHotels    the number of hotels saved
+     * @param topFilters   the number of filters saved
+     * @param saveInterval the time between two saves
+     */
+    @Autowired
+    public HotelHotKeys(ObjectMapper objectMapper,
+                        @Value("${hotels.warm-up.enabled:true}") boolean enabled,
+                        @Value("${hotels.warm-up.file:./cache/hot-keys.json}") Path file,
+                        @Value("${hotels.warm-up.hotels:500}") int topHotels,
+                        @Value("${hotels.warm-up.filters:50}") int topFilters,
+                        @Value("${hotels.warm-up.save-interval:5m}") Duration saveInterval) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.file = file;
+        this.topHotels = topHotels;
+        this.topFilters = topFilters;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Counts a read of a hotel.
+     *
+     * @param id the identifier of the hotel, which exists
+     */
+    public void recordHotel(UUID id) {
+        if (enabled) {
+            counter(hotels, id).increment();
+        }
+    }
+
+    /**
+     * Counts a read of a list.
+     *
+     * @param filter the parsed RSQL filter, or {@code null} for all the hotels
+     */
+    public void recordFilter(@Nullable Node filter) {
+        if (enabled) {
+            counter(filters, RsqlCanonicalizer.key(filter)).increment();
+        }
+    }
+
+    /**
+     * Returns the hotels and the filters read the most since the last save, most read first.
+     *
+     * @return the hot keys
+     */
+    public HotKeys top() {
+        return new HotKeys(top(hotels, topHotels), top(filters, topFilters));
+    }
+
+    /**
+     * Writes the hot keys to the file and ages the counters.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void save() throws IOException {
+        HotKeys top = top();
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writeValue(temporary.toFile(), top);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        age(hotels, top.hotels());
+        age(filters, top.filters());
+    }
+
+    /**
+     * Reads the hot keys saved by a previous run.
+     *
+     * @return the hot keys, or empty if the recorder is disabled or there is no readable file
+     */
+    public Optional<HotKeys> load() {
+        if (!enabled || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), HotKeys.class));
+        } catch (IOException error) {
+            LOGGER.warn("event=hot_keys_unreadable file={} message={}", file, error.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Schedules the periodic saves, when the recorder is enabled.
+     */
+    @Override
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hotel-hot-keys");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::saveLogged,
+                saveInterval.toMillis(), saveInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic saves, and saves the hot keys a last time.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            saveLogged();
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void saveLogged() {
+        if (hotels.isEmpty() && filters.isEmpty()) {
+            // Nothing read since the last save: keep the previous file.
+            return;
+        }
+        try {
+            save();
+        } catch (IOException | RuntimeException error) {
+            LOGGER.warn("event=hot_keys_not_saved file={} message={}", file, error.getMessage());
+        }
+    }
+
+    private static <K> LongAdder counter(Map<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (counters.size() >= MAX_KEYS) {
+            // Counted nowhere: the key space is full until the next save.
+            return new LongAdder();
+        }
+        return counters.computeIfAbsent(key, ignored -> new LongAdder());
+    }
+
+    private static <K> List<K> top(Map<K, LongAdder> counters, int limit) {
+        return counters.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /** Keeps half of the count of the saved keys and drops the others. */
+    private static <K> void age(Map<K, LongAdder> counters, List<K> kept) {
+        counters.keySet().retainAll(kept);
+        counters.values().forEach(counter -> {
+            long half = counter.sumThenReset() / 2;
+            counter.add(half);
+        });
+    }
+
+    /**
+     * The keys saved to the file.
+     *
+     * @param hotels  the identifiers of the hotels read the most, most read first
+     * @param filters the canonical filters read the most, most read first; the empty filter is the
+     *                list of all the hotels
+     */
+    public record HotKeys(List<UUID> hotels, List<String> filters) {
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.utils.UuidBloomFilter;
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filter of the identifiers of the existing hotels, so that {@code GET /hotels/{id}} answers
+ * 404 to an unknown identifier without reading the database.
+ * <p>
+ * It is a {@link UuidBloomFilter} of every hotel, built when the application starts and rebuilt
+ * periodically, sized for twice the hotels of the catalogue. A created hotel is added when its
+ * {@link HotelChangedEvent} is published, before the commit, so a hotel that a client can read is
+ * never rejected. A removed hotel stays in the filter, and is answered by the database as a
+ * false positive, until the next rebuild. The hotels created outside this application are
+ * answered 404 until the next rebuild: the interval bounds that delay.
+ * </p>
+ *
+ * <p>
+ * The identifiers are read in a read-write transaction, so the read goes to the primary database
+ * even when the read-only transactions are routed to replicas. The hotels created while the
+ * filter is rebuilt are added to the new filter too. Until the first build completes every
+ * identifier is let through.
+ * </p>
+ */
+@Service
+public class HotelIdFilter implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelIdFilter.class);
+
+    /** Smallest number of identifiers that a filter is sized for. */
+    private static final int MIN_CAPACITY = 1024;
+
+    private final HotelsRepository hotelsRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final double falsePositiveRate;
+
+    private final Duration rebuildInterval;
+
+    /** Guards {@link #added} and the swap of {@link #current}. */
+    private final Object lock = new Object();
+
+    /** Lets one build run at a time, so that an older read never replaces a newer filter. */
+    private final Object rebuildLock = new Object();
+
+    /** The filter of the lookups, or {@code null} before the first build. */
+    @Nullable
+    private volatile Built current;
+
+    /** The hotels added by their event since the start of the last build. */
+    private Set<UUID> added = new HashSet<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs the filter.
+     *
+     * @param hotelsRepository   the repository of the identifiers of the hotels
+     * @param transactionManager the manager of the transaction of each build
+     * @param enabled            whether the unknown identifiers are rejected
+     * @param falsePositiveRate  the target probability of letting an unknown identifier through
+     * @param rebuildInterval    the time between two builds
+     */
+    @Autowired
+    public HotelIdFilter(HotelsRepository hotelsRepository, PlatformTransactionManager transactionManager,
+                         @Value("${hotels.id-filter.enabled:true}") boolean enabled,
+                         @Value("${hotels.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${hotels.id-filter.rebuild-interval:1h}") Duration rebuildInterval) {
+        this.hotelsRepository = hotelsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * Tells whether a hotel may exist. An identifier rejected here is counted as a negative.
+     *
+     * @param id the identifier of the hotel
+     * @return {@code false} if the hotel certainly does not exist
+     */
+    public boolean mightExist(UUID id) {
+        Built built = current;
+        if (built == null || built.filter().mightContain(id)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Records a hotel let through by the filter that the database did not find.
+     */
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Adds the hotel of a change when it is published, inside the transaction of the change.
+     * Only the creations matter; the others are already in the filter.
+     *
+     * @param event the change
+     */
+    @EventListener
+    public void onHotelChanged(HotelChangedEvent event) {
+        synchronized (lock) {
+            Built built = current;
+            if (built != null) {
+                built.filter().add(event.id());
+            }
+            added.add(event.id());
+        }
+    }
+
+    /**
+     * Builds the filter from the identifiers in the database, and replaces the previous one.
+     * <p>
+     * The hotels added by their event since the start of the previous build are added too: a
+     * hotel published before this build starts may be committed after its read.
+     * </p>
+     * <p>
+     * A build waits for the one in progress, as the scheduled one and the one requested by an
+     * administrator may overlap.
+     * </p>
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            build();
+        }
+    }
+
+    private void build() {
+        long start = System.nanoTime();
+        Set<UUID> carried;
+        synchronized (lock) {
+            carried = added;
+            added = new HashSet<>();
+        }
+        try {
+            List<UUID> ids = transactionTemplate.execute(status -> hotelsRepository.findAllIds());
+            UuidBloomFilter filter = new UuidBloomFilter(Math.max(MIN_CAPACITY, 2L * ids.size()), falsePositiveRate);
+            ids.forEach(filter::add);
+            Built built;
+            synchronized (lock) {
+                carried.forEach(filter::add);
+                added.forEach(filter::add);
+                built = new Built(filter, ids.size(), Instant.now());
+                current = built;
+            }
+            LOGGER.info("event=hotel_id_filter_built hotels={} bits={} hashes={} ms={}", built.hotels(),
+                    filter.bits(), filter.hashes(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException error) {
+            synchronized (lock) {
+                added.addAll(carried);
+            }
+            throw error;
+        }
+    }
+
+    /**
+     * Returns the state of the filter and how well it rejects the unknown identifiers.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        Built built = current;
+        long negatives = rejected.sum();
+        long passed = falsePositives.sum();
+        return new Stats(built != null, built == null ? 0 : built.hotels(), built == null ? 0 : built.filter().bits(),
+                built == null ? 0 : built.filter().hashes(), falsePositiveRate,
+                built == null ? 1 : built.filter().expectedFalsePositiveRate(), negatives, passed,
+                negatives + passed == 0 ? 0 : (double) passed / (negatives + passed),
+                built == null ? null : built.builtAt());
+    }
+
+    /**
+     * Builds the filter, when it is enabled, and schedules the periodic rebuilds.
+     */
+    @Override
+    public synchronized void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        rebuild();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hotel-id-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildLogged,
+                rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic rebuilds.
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void rebuildLogged() {
+        try {
+            rebuild();
+        } catch (RuntimeException error) {
+            LOGGER.warn("event=hotel_id_filter_failed message={}", error.getMessage());
+        }
+    }
+
+    /** A built filter, with the number of hotels read and the time of the build. */
+    private record Built(UuidBloomFilter filter, long hotels, Instant builtAt) {
+    }
+
+    /**
+     * Statistics of the filter.
+     *
+     * @param ready                     whether the filter is built and rejects identifiers
+     * @param hotels                    the number of hotels of the last build
+     * @param bits                      the size of the bit array
+     * @param hashes                    the number of bits set by each identifier
+     * @param targetFalsePositiveRate   the configured probability of a false positive
+     * @param expectedFalsePositiveRate the probability of a false positive given the bits set now
+     * @param rejected                  the identifiers answered 404 without the database
+     * @param falsePositives            the identifiers let through that the database did not find
+     * @param observedFalsePositiveRate {@code falsePositives / (rejected + falsePositives)}: the share
+     *                                  of the unknown identifiers that reached the database
+     * @param builtAt                   the time of the last build
+     */
+    public record Stats(boolean ready, long hotels, long bits, int hashes, double targetFalsePositiveRate,
+                        double expectedFalsePositiveRate, long rejected, long falsePositives,
+                        double observedFalsePositiveRate, @Nullable Instant builtAt) {
+    }
+}
@@ -0,0 +1,402 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.myenterprise.rest.columnar.HotelColumns;
+import com.myenterprise.rest.columnar.HotelRow;
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.rsql.RsqlCanonicalizer;
+import com.myenterprise.rest.v1.model.Hotel;
+import com.myenterprise.rest.v1.repository.HotelDocumentsRepository;
+import cz.jirutka.rsql.parser.ast.Node;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the results of {@code GET /hotels}, per canonical filter.
+ * <p>
+ * The key is the text of the filter rewritten by {@link RsqlCanonicalizer}, so
+ * {@code city==Madrid;rating>=4} and {@code rating=ge=4.0;city=='Madrid'} share an entry. Each
+ * entry holds the stored documents of the matching hotels, written to the response as they are,
+ * and their identifiers. The size of the cache is bounded by the bytes of the documents.
+ * </p>
+ *
+ * <p>
+ * A committed {@link HotelChangedEvent} removes the entries that the change can affect, and only
+ * those: the entries that contain the hotel, and the entries whose filter matches the hotel as it
+ * is now, evaluated in memory by {@link HotelColumns#matches} with the semantics of
+ * {@code GenericRsqlSpecification}. The entries whose filter cannot be evaluated in memory
+ * ({@code =ft=}, {@code =near=}) are removed on every write. A list computed while a change is
+ * being committed is not stored: the change increments a generation, and a list is only stored if
+ * the generation has not changed since it was computed.
+ * </p>
+ *
+ * <p>
+ * The entries also expire after the {@code ttl}, for the changes made outside this application.
+ * So that the expiry of a busy filter does not make its requests wait for the database:
+ * </p>
+ * <ul>
+ *   <li>An expired entry is still answered during the {@code stale-grace} that follows the
+ *       {@code ttl}, while one background task reads it again (stale-while-revalidate).</li>
+ *   <li>An entry read at least {@code refresh-ahead-min-hits} times is read again in the
+ *       background once it reaches the {@code refresh-ahead} fraction of the {@code ttl}, before
+ *       it expires (refresh-ahead).</li>
+ * </ul>
+ * <p>
+ * The background reads run on a bounded executor, at most one per entry; when its queue is full,
+ * the entry is answered as it is and a later request tries again. An entry removed by a change is
+ * never answered stale: the next request reads it. With read-only transactions routed to a
+ * replica, a list read from a replica that has not applied a change yet can be cached until it
+ * expires.
+ * </p>
+ */
+@Service
+public class HotelListCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelListCache.class);
+
+    /** Bytes counted per cached hotel besides its document: the reference and its identifier. */
+    private static final int HOTEL_OVERHEAD = 64;
+
+    private final HotelDocumentsRepository documentsRepository;
+
+    /** Runs the background reads in a read-only transaction, as the requests do. */
+    @Nullable
+    private final TransactionTemplate readTransaction;
+
+    /** Lists by canonical filter, or {@code null} when the cache is disabled. */
+    @Nullable
+    private final Cache<String, CachedList> cache;
+
+    private final Ticker ticker;
+
+    private final Executor refresher;
+
+    /** Age after which an entry is stale, in nanoseconds. */
+    private final long ttlNanos;
+
+    /** Age after which an entry read often enough is refreshed, in nanoseconds. */
+    private final long refreshAheadNanos;
+
+    private final int refreshAheadMinHits;
+
+    /** Guards {@link #generation} and the conditional stores. */
+    private final Object lock = new Object();
+
+    /** Number of committed changes seen, see {@link #get}. */
+    private long generation;
+
+    private final LongAdder staleHits = new LongAdder();
+
+    private final LongAdder refreshes = new LongAdder();
+
+    /**
+     * Constructs the cache.
+     *
+     * @param documentsRepository  the repository of the filtered columns, read on every change
+     * @param transactionManager   the manager of the transactions of the background reads
+     * @param enabled              whether the lists are cached
+     * @param maxSizeMb            maximum size of the cached documents, in megabytes
+     * @param ttl                  time after which a cached list is stale
+     * @param staleGrace           time after the {@code ttl} during which a stale list is answered
+     *                             while it is read again; zero to disable
+     * @param refreshAhead         fraction of the {@code ttl} after which a busy list is read again
+     * @param refreshAheadMinHits  number of hits that makes a list busy; zero to disable
+     * @param refreshThreads       number of threads of the background reads
+     * @param refreshQueueCapacity maximum number of background reads waiting for a thread
+     */
+    @Autowired
+    public HotelListCache(HotelDocumentsRepository documentsRepository, PlatformTransactionManager transactionManager,
+                          @Value("${hotels.list-cache.enabled:true}") boolean enabled,
+                          @Value("${hotels.list-cache.max-size-mb:64}") long maxSizeMb,
+                          @Value("${hotels.list-cache.ttl:5m}") Duration ttl,
+                          @Value("${hotels.list-cache.stale-grace:1m}") Duration staleGrace,
+                          @Value("${hotels.list-cache.refresh-ahead:0.8}") double refreshAhead,
+                          @Value("${hotels.list-cache.refresh-ahead-min-hits:10}") int refreshAheadMinHits,
+                          @Value("${hotels.list-cache.refresh-threads:2}") int refreshThreads,
+                          @Value("${hotels.list-cache.refresh-queue-capacity:100}") int refreshQueueCapacity) {
+        this(documentsRepository, readOnly(transactionManager), enabled, maxSizeMb, ttl, staleGrace, refreshAhead,
+                refreshAheadMinHits, Ticker.systemTicker(), refreshExecutor(refreshThreads, refreshQueueCapacity));
+    }
+
+    /**
+     * Constructs the cache with its clock and the executor of the background reads.
+     */
+    HotelListCache(HotelDocumentsRepository documentsRepository, @Nullable TransactionTemplate readTransaction,
+                   boolean enabled, long maxSizeMb, Duration ttl, Duration staleGrace, double refreshAhead,
+                   int refreshAheadMinHits, Ticker ticker, Executor refresher) {
+        this.documentsRepository = documentsRepository;
+        this.readTransaction = readTransaction;
+        this.ticker = ticker;
+        this.refresher = refresher;
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = refreshAheadMinHits > 0 ? (long) (ttlNanos * refreshAhead) : Long.MAX_VALUE;
+        this.refreshAheadMinHits = refreshAheadMinHits;
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxSizeMb * 1024 * 1024)
+                        .<String, CachedList>weigher((key, list) -> list.weight)
+                        .expireAfterWrite(ttl.plus(staleGrace))
+                        .ticker(ticker)
+                        .build()
+                : null;
+    }
+
+    /**
+     * Returns the hotels that match a filter, computing them on a miss.
+     *
+     * @param filter the parsed RSQL filter, or {@code null} for all the hotels
+     * @param loader the query of the hotels that match the filter, also used by the background reads
+     * @return the matching hotels
+     */
+    public List<Hotel> get(@Nullable Node filter, Supplier<List<Hotel>> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        String key = RsqlCanonicalizer.key(filter);
+        CachedList cached = cache.getIfPresent(key);
+        if (cached != null) {
+            long age = ticker.read() - cached.loadedAt;
+            int hits = cached.hits.incrementAndGet();
+            if (age >= ttlNanos) {
+                staleHits.increment();
+                refresh(key, cached);
+            } else if (age >= refreshAheadNanos && hits >= refreshAheadMinHits) {
+                refresh(key, cached);
+            }
+            return cached.hotels;
+        }
+        return load(key, filter == null ? null : RsqlCanonicalizer.canonicalize(filter), loader);
+    }
+
+    /**
+     * Removes the lists that a change can affect, once it is committed. The hotel is read again
+     * in a new read-write transaction, so the read goes to the primary database.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onHotelChanged(HotelChangedEvent event) {
+        if (cache == null) {
+            return;
+        }
+        synchronized (lock) {
+            generation++;
+        }
+        if (cache.estimatedSize() > 0) {
+            invalidate(event.id(), documentsRepository.findColumnsById(event.id()).map(HotelColumnsService::toRow));
+        }
+    }
+
+    /**
+     * Stops the background reads.
+     */
+    @PreDestroy
+    public void close() {
+        if (refresher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Removes the lists that contain a hotel or that its new values match.
+     *
+     * @param id    the identifier of the changed hotel
+     * @param hotel the values of the hotel after the change, or empty if it was removed
+     */
+    void invalidate(UUID id, Optional<HotelRow> hotel) {
+        cache.asMap().values().removeIf(list -> list.ids.contains(id)
+                || hotel.isPresent() && list.couldMatch(hotel.get()));
+    }
+
+    /** @return the number of cached lists */
+    long size() {
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    /** @return the number of requests answered with a stale list */
+    long staleHits() {
+        return staleHits.sum();
+    }
+
+    /** @return the number of background reads completed */
+    long refreshes() {
+        return refreshes.sum();
+    }
+
+    /** Reads a list and stores it, unless a change was committed in the meantime. */
+    private List<Hotel> load(String key, @Nullable Node canonical, Supplier<List<Hotel>> loader) {
+        long computedAt = generation();
+        long loadedAt = ticker.read();
+        CachedList list = CachedList.of(canonical, loader.get(), loader, loadedAt);
+        synchronized (lock) {
+            if (generation == computedAt) {
+                cache.put(key, list);
+            }
+        }
+        return list.hotels;
+    }
+
+    /** Reads a list again in the background, unless it is already being read. */
+    private void refresh(String key, CachedList cached) {
+        if (!cached.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    if (readTransaction == null) {
+                        load(key, cached.filter, cached.loader);
+                    } else {
+                        readTransaction.executeWithoutResult(status -> load(key, cached.filter, cached.loader));
+                    }
+                    refreshes.increment();
+                } catch (RuntimeException error) {
+                    LOGGER.warn("event=list_refresh_failed key={} message={}", key, error.getMessage());
+                } finally {
+                    // The list was replaced, or a change kept the new one out: a later request may try again.
+                    cached.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException busy) {
+            cached.refreshing.set(false);
+        }
+    }
+
+    private long generation() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static ExecutorService refreshExecutor(int threads, int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "hotels-list-refresh-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * A cached list.
+     */
+    static final class CachedList {
+
+        /** The canonical filter, or {@code null} for all the hotels. */
+        @Nullable
+        final Node filter;
+
+        /** The identifiers of the hotels. */
+        final Set<UUID> ids;
+
+        /** The hotels, in the order of the response. */
+        final List<Hotel> hotels;
+
+        /** The approximate size of the documents, in bytes. */
+        final int weight;
+
+        /** The query of the list, run again by the background reads. */
+        final Supplier<List<Hotel>> loader;
+
+        /** The time of the read, from the ticker of the cache. */
+        final long loadedAt;
+
+        /** The number of requests answered with this list. */
+        final AtomicInteger hits = new AtomicInteger();
+
+        /** Whether a background read of this list is queued or running. */
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CachedList(@Nullable Node filter, Set<UUID> ids, List<Hotel> hotels, int weight,
+                           Supplier<List<Hotel>> loader, long loadedAt) {
+            this.filter = filter;
+            this.ids = ids;
+            this.hotels = hotels;
+            this.weight = weight;
+            this.loader = loader;
+            this.loadedAt = loadedAt;
+        }
+
+        static CachedList of(@Nullable Node filter, List<Hotel> hotels, Supplier<List<Hotel>> loader, long loadedAt) {
+            long weight = 0;
+            for (Hotel hotel : hotels) {
+                weight += HOTEL_OVERHEAD + (hotel instanceof HotelDocument document ? document.bytes().length : 0);
+            }
+            Set<UUID> ids = hotels.stream().map(Hotel::getId).collect(Collectors.toUnmodifiableSet());
+            return new CachedList(filter, ids, List.copyOf(hotels), (int) Math.min(weight, Integer.MAX_VALUE),
+                    loader, loadedAt);
+        }
+
+        /** Whether a hotel with these values can be in the list: its filter matches them or cannot be evaluated. */
+        boolean couldMatch(HotelRow hotel) {
+            if (filter == null) {
+                return true;
+            }
+            try {
+                return HotelColumns.matches(filter, hotel).orElse(true);
+            } catch (RuntimeException notEvaluated) {
+                return true;
+            }
+        }
+    }
+}
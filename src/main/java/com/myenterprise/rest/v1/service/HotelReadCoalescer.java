@@ -0,0 +1,163 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.rsql.RsqlCanonicalizer;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import com.myenterprise.rest.utils.RateLimitedLogger;
+import com.myenterprise.rest.utils.ResponseUtils;
+import com.myenterprise.rest.utils.SingleFlight;
+import com.myenterprise.rest.v1.model.Hotel;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the identical reads of {@code GET /hotels/{id}} and {@code GET /hotels} that run at
+ * the same time, see {@link SingleFlight}.
+ * <p>
+ * A popular hotel or filter requested by many clients at once is read once: the first request
+ * submits the read to its executor, and the requests of the same hotel, or of the same filter
+ * once canonicalized by {@link RsqlCanonicalizer}, that arrive while it runs receive the same
+ * response. They do not take a thread of the executor nor a place in its queue, and they do not
+ * take a database connection.
+ * </p>
+ *
+ * <p>
+ * Every waiter receives the outcome of the shared read, a 500 or 503 included. A read that does
+ * not complete within the timeout of its key answers 503 to all of its waiters. A committed
+ * {@link HotelChangedEvent} releases the key of the hotel and of all the lists, so a request that
+ * arrives after a write does not receive a read that started before it.
+ * </p>
+ */
+@Service
+public class HotelReadCoalescer {
+
+    private static final String TIMED_OUT = "Request timed out";
+    private static final String ERROR_UNEXPECTED = "error unexpected";
+
+    /**
+     * Logger of the unexpected failures: at most 10 stack traces per second, the rest are only counted.
+     */
+    private static final RateLimitedLogger ERROR_LOGGER = new RateLimitedLogger(
+            LoggerFactory.getLogger(HotelReadCoalescer.class), Level.ERROR, 10, Duration.ofSeconds(1));
+
+    private final boolean enabled;
+
+    private final SingleFlight<UUID, ResponseEntity<Hotel>> items;
+
+    private final SingleFlight<String, ResponseEntity<List<Hotel>>> lists;
+
+    /**
+     * Constructs the coalescer.
+     *
+     * @param enabled     whether the identical reads are coalesced
+     * @param itemTimeout maximum duration of a shared read of a hotel
+     * @param listTimeout maximum duration of a shared read of a list
+     */
+    @Autowired
+    public HotelReadCoalescer(@Value("${hotels.single-flight.enabled:true}") boolean enabled,
+                              @Value("${hotels.single-flight.item-timeout:2s}") Duration itemTimeout,
+                              @Value("${hotels.single-flight.list-timeout:10s}") Duration listTimeout) {
+        this.enabled = enabled;
+        this.items = new SingleFlight<>(itemTimeout);
+        this.lists = new SingleFlight<>(listTimeout);
+    }
+
+    /**
+     * Returns the response of a hotel, shared with the concurrent requests of the same hotel.
+     *
+     * @param id   the identifier of the hotel
+     * @param read the read of the hotel, only invoked when none is in flight
+     * @return the future response
+     */
+    public CompletableFuture<ResponseEntity<Hotel>> find(UUID id,
+                                                         Supplier<CompletableFuture<ResponseEntity<Hotel>>> read) {
+        if (!enabled) {
+            return read.get();
+        }
+        return items.execute(id, read).exceptionally(HotelReadCoalescer::failureResponse);
+    }
+
+    /**
+     * Returns the response of a list, shared with the concurrent requests of an equivalent filter.
+     *
+     * @param filters the RSQL filter, or {@code null} for all the hotels
+     * @param read    the read of the list, only invoked when none is in flight
+     * @return the future response
+     */
+    public CompletableFuture<ResponseEntity<List<Hotel>>> findAll(@Nullable String filters,
+                                                                  Supplier<CompletableFuture<ResponseEntity<List<Hotel>>>> read) {
+        if (!enabled) {
+            return read.get();
+        }
+        return lists.execute(key(filters), read).exceptionally(HotelReadCoalescer::failureResponse);
+    }
+
+    /**
+     * Releases the keys that a committed change can make stale.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelChanged(HotelChangedEvent event) {
+        items.forget(event.id());
+        lists.forgetAll();
+    }
+
+    /** The key of a filter; an invalid filter is its own key, and its read answers the error. */
+    private static String key(@Nullable String filters) {
+        if (filters == null) {
+            return RsqlCanonicalizer.NO_FILTER;
+        }
+        try {
+            return RsqlCanonicalizer.key(RsqlSearchOperation.parser().parse(filters));
+        } catch (RSQLParserException invalid) {
+            return "invalid:" + filters;
+        }
+    }
+
+    private static <T> ResponseEntity<T> failureResponse(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            return ResponseUtils.serviceUnavailableResponse(TIMED_OUT);
+        }
+        ERROR_LOGGER.log("single_flight", cause);
+        return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
+    }
+}
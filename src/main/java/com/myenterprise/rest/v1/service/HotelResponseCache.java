@@ -0,0 +1,152 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myenterprise.rest.document.HotelDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache of the responses of {@code GET /hotels/{id}}: the rendered JSON of each hotel, its stored
+ * document, and the {@code ETag} computed from it.
+ * <p>
+ * A hit is one lookup in a Caffeine map; the controller answers it on the servlet thread, and
+ * {@code HotelDocumentHttpMessageConverter} copies the bytes to the response. The {@code ETag} is
+ * the MD5 of the bytes, as {@code ShallowEtagHeaderFilter} computes it, but once per version of the
+ * hotel instead of on every request; a request with a matching {@code If-None-Match} is answered
+ * with a 304 by Spring MVC.
+ * </p>
+ *
+ * <p>
+ * The entry of a hotel is removed when a {@link HotelChangedEvent} of the hotel is committed. A
+ * miss loads the document outside the map, so a slow query never blocks the other hotels, and
+ * caches it only if no change was committed since the load started: a document read before the
+ * commit of a change cannot remain in the cache. Any committed change skips the caching of the
+ * loads in progress, not only those of its hotel, which costs a few more misses under many
+ * writes. The entries also expire after a while, for the changes made outside this application.
+ * Unknown hotels are not cached.
+ * </p>
+ *
+ * <p>
+ * The caller loads the misses from the primary database: a replica that has not applied a change
+ * yet would otherwise cache the previous document again, after the event of the change removed
+ * it, until the entry expires. {@link HotelsService} reads them in a read-write transaction.
+ * </p>
+ */
+@Service
+public class HotelResponseCache {
+
+    /** Responses by hotel, or {@code null} when the cache is disabled. */
+    @Nullable
+    private final Cache<UUID, CachedHotel> cache;
+
+    /** Number of committed changes, read before a load and checked before its document is cached. */
+    private final AtomicLong changes = new AtomicLong();
+
+    /**
+     * Constructs the cache.
+     *
+     * @param enabled whether the responses are cached
+     * @param maxSize maximum number of cached hotels
+     * @param ttl     time after which a cached response expires
+     */
+    @Autowired
+    public HotelResponseCache(@Value("${hotels.item-cache.enabled:true}") boolean enabled,
+                              @Value("${hotels.item-cache.max-size:10000}") long maxSize,
+                              @Value("${hotels.item-cache.ttl:10m}") Duration ttl) {
+        this.cache = enabled ? Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build() : null;
+    }
+
+    /**
+     * Returns the cached response of a hotel, without loading it.
+     *
+     * @param id the identifier of the hotel
+     * @return the cached response, or empty if it is not cached
+     */
+    public Optional<CachedHotel> getIfPresent(UUID id) {
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    /**
+     * Returns the response of a hotel, loading its document on a miss. The loader runs in the
+     * caller's thread and transaction, which must read from the primary database.
+     *
+     * @param id     the identifier of the hotel
+     * @param loader the reader of the stored document of a hotel
+     * @return the response, or empty if the hotel has no document
+     */
+    public Optional<CachedHotel> get(UUID id, Function<UUID, Optional<HotelDocument>> loader) {
+        if (cache == null) {
+            return loader.apply(id).map(CachedHotel::of);
+        }
+        CachedHotel cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long changesBefore = changes.get();
+        Optional<CachedHotel> loaded = loader.apply(id).map(CachedHotel::of);
+        // The removal of a change follows its count, and waits for this computation of the same key.
+        loaded.ifPresent(hotel -> cache.asMap().compute(id,
+                (key, current) -> current != null || changes.get() != changesBefore ? current : hotel));
+        return loaded;
+    }
+
+    /**
+     * Removes the cached response of a hotel once its change is committed.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHotelChanged(HotelChangedEvent event) {
+        if (cache != null) {
+            changes.incrementAndGet();
+            cache.invalidate(event.id());
+        }
+    }
+
+    /**
+     * The cached response of a hotel.
+     *
+     * @param document the stored document of the hotel, written as it is
+     * @param eTag     the strong entity tag of the document, quoted
+     */
+    public record CachedHotel(HotelDocument document, String eTag) {
+
+        static CachedHotel of(HotelDocument document) {
+            return new CachedHotel(document, "\"" + DigestUtils.md5DigestAsHex(document.bytes()) + "\"");
+        }
+    }
+}
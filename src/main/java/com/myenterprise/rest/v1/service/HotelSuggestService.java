@@ -0,0 +1,154 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.suggest.HotelSuggestIndex;
+import com.myenterprise.rest.utils.RateLimitedLogger;
+import com.myenterprise.rest.utils.ResponseUtils;
+import com.myenterprise.rest.v1.model.HotelSuggestion;
+import com.myenterprise.rest.v1.repository.HotelNameView;
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service of the {@code GET /hotels/suggest} type-ahead operation.
+ * <p>
+ * The suggestions are answered from a {@link HotelSuggestIndex} held in memory, so a keystroke
+ * costs a walk of a prefix tree instead of a {@code LIKE} scan and the hotel bodies with their
+ * facilities. The index is loaded from {@link HotelsRepository#findAllNames()} when the
+ * application starts, and each committed {@link HotelChangedEvent} re-reads the name and city
+ * of the changed hotel.
+ * </p>
+ *
+ * <p>
+ * The changes made outside this application are only seen after a restart.
+ * </p>
+ */
+@Service
+public class HotelSuggestService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotelSuggestService.class);
+
+    private static final String ERROR_UNEXPECTED = "error unexpected";
+
+    /** Number of suggestions when the request does not set {@code limit}. */
+    static final int DEFAULT_LIMIT = 10;
+
+    /** Maximum number of suggestions of a request. */
+    static final int MAX_LIMIT = 50;
+
+    /**
+     * Logger of the unexpected failures: at most 10 stack traces per second, the rest are only counted.
+     */
+    private static final RateLimitedLogger ERROR_LOGGER = new RateLimitedLogger(
+            LoggerFactory.getLogger(HotelSuggestService.class), Level.ERROR, 10, Duration.ofSeconds(1));
+
+    private final HotelsRepository hotelsRepository;
+
+    private final HotelSuggestIndex index = new HotelSuggestIndex();
+
+    /**
+     * Constructs the service.
+     *
+     * @param hotelsRepository the repository with the names of the hotels
+     */
+    @Autowired
+    public HotelSuggestService(HotelsRepository hotelsRepository) {
+        this.hotelsRepository = hotelsRepository;
+    }
+
+    /**
+     * Loads the names and cities of all the hotels in the index.
+     */
+    @PostConstruct
+    public void load() {
+        long start = System.nanoTime();
+        for (HotelNameView hotel : hotelsRepository.findAllNames()) {
+            index.put(hotel.getId(), hotel.getName(), hotel.getCity());
+        }
+        LOGGER.info("Suggest index loaded with {} hotels in {} ms",
+                index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Returns the hotels whose name or city starts with the typed text.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of suggestions, {@value #DEFAULT_LIMIT} if {@code null}
+     *              and at most {@value #MAX_LIMIT}
+     * @return a {@link ResponseEntity} with the {@link HotelSuggestion} list and an HTTP 200 (OK)
+     * status, or an internal error response if the operation fails
+     */
+    public ResponseEntity<List<HotelSuggestion>> suggest(String query, Integer limit) {
+        try {
+            int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, limit));
+            List<HotelSuggestion> suggestions = index.suggest(query, size).stream()
+                    .map(HotelSuggestService::toModel)
+                    .toList();
+            return new ResponseEntity<>(suggestions, HttpStatus.OK);
+        } catch (Exception error) {
+            ERROR_LOGGER.log("suggest_hotels", error);
+            return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
+        }
+    }
+
+    /**
+     * Updates the index once a change of a hotel is committed. The hotel is read again in a
+     * new read-write transaction, so the read goes to the primary database even when the
+     * read-only transactions are routed to replicas that may not have the change yet.
+     *
+     * @param event the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onHotelChanged(HotelChangedEvent event) {
+        Optional<HotelNameView> hotel = hotelsRepository.findNameById(event.id());
+        if (hotel.isPresent()) {
+            index.put(event.id(), hotel.get().getName(), hotel.get().getCity());
+        } else {
+            index.remove(event.id());
+        }
+    }
+
+    private static HotelSuggestion toModel(HotelSuggestIndex.Suggestion suggestion) {
+        HotelSuggestion model = new HotelSuggestion();
+        model.setId(suggestion.id());
+        model.setName(suggestion.name());
+        return model;
+    }
+}
@@ -24,6 +24,8 @@
 package com.myenterprise.rest.v1.service;
 
 import com.myenterprise.rest.rsql.CustomRsqlVisitor;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import com.myenterprise.rest.utils.RateLimitedLogger;
 import com.myenterprise.rest.utils.ResponseUtils;
 import com.myenterprise.rest.v1.entity.FacilityEntity;
 import com.myenterprise.rest.v1.entity.HotelsEntity;
@@ -32,15 +34,26 @@ import com.myenterprise.rest.v1.mapper.HotelMapper;
 import com.myenterprise.rest.v1.model.Hotel;
 import com.myenterprise.rest.v1.model.HotelInput;
 import com.myenterprise.rest.v1.repository.HotelsRepository;
-import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.Node;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -50,8 +63,34 @@ import java.util.UUID;
  * It interacts with the {@link HotelsRepository} for data persistence and uses {@link ResponseUtils}
  * to create standardized HTTP responses.
  * </p>
+ *
+ * <p>
+ * The class is {@code @Transactional}: the controller runs these methods on its executor
+ * threads, so the transaction boundary lives here instead of in the controller. The reads
+ * are {@code readOnly}: Hibernate uses the flush mode {@code MANUAL} and loads the entities
+ * read-only, without the snapshot copies of the dirty checking, and the transaction can be
+ * routed to a read replica (see {@code ReadReplicaConfiguration}). The read of a single hotel is
+ * the exception: it opens no transaction for the hits of {@link HotelResponseCache}, and loads a
+ * miss in one read-write transaction, on the primary database, so that the cache never keeps the
+ * document of a replica behind the last change.
+ * </p>
+ *
+ * <p>
+ * The writes have a transaction timeout, {@code hotels.async.write.transaction-timeout-seconds}:
+ * a write whose statements run past it is rolled back and answered 500. The executor of the
+ * writes does not time out their responses, since a write answered 503 while it runs may still
+ * commit, and be duplicated by the retry of the client.
+ * </p>
+ *
+ * <p>
+ * The reads are served from the read model of {@link HotelDocumentService}: the JSON of each
+ * hotel, facilities included, stored at write time. The writes update that document in their
+ * own transaction, and a failed write is rolled back whole, so the hotel and its document
+ * never diverge.
+ * </p>
  */
 @Service
+@Transactional(timeoutString = "${hotels.async.write.transaction-timeout-seconds:5}")
 public class HotelsService {
 
     /**
@@ -63,19 +102,85 @@ public class HotelsService {
 
     private final FacilityMapper facilityMapper;
 
+    /**
+     * Read model of the hotels, written with every change and used by the reads.
+     */
+    private final HotelDocumentService documentService;
+
+    /**
+     * Optional in-memory snapshot that evaluates the filters of the lists without the database.
+     */
+    private final HotelColumnsService columnsService;
+
+    /**
+     * Cache of the rendered responses of the single-hotel reads.
+     */
+    private final HotelResponseCache responseCache;
+
+    /**
+     * Cache of the results of the lists, per canonical filter.
+     */
+    private final HotelListCache listCache;
+
+    /**
+     * Filter of the existing hotels, which answers the unknown identifiers without the database.
+     */
+    private final HotelIdFilter idFilter;
+
+    /**
+     * Counters of the hotels and the filters read the most, warmed up at the next startup.
+     */
+    private final HotelHotKeys hotKeys;
+
+    /**
+     * Publisher of the {@link HotelChangedEvent} of every write, used to invalidate the derived data.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * The transaction of the misses of {@link HotelResponseCache}, read-write so that it reads from the primary.
+     */
+    private final TransactionTemplate primaryRead;
+
     private static final String HOTEL_NOT_FOUND  = "Hotel not found";
     private static final String ERROR_UNEXPECTED = "error unexpected";
 
+    /**
+     * Logger of the unexpected failures: at most 10 stack traces per second, the rest are only counted.
+     */
+    private static final RateLimitedLogger ERROR_LOGGER = new RateLimitedLogger(
+            LoggerFactory.getLogger(HotelsService.class), Level.ERROR, 10, Duration.ofSeconds(1));
+
     /**
      * Constructs the {@code HotelsService} with a {@code HotelsRepository} dependency.
      *
      * @param hotelsRepository The repository for hotel data access.
+     * @param documentService The read model of the hotels.
+     * @param columnsService The in-memory snapshot of the filtered lists.
+     * @param responseCache The cache of the single-hotel responses.
+     * @param listCache The cache of the lists.
+     * @param idFilter The filter of the existing hotels.
+     * @param hotKeys The counters of the hot hotels and filters.
+     * @param eventPublisher The publisher of the {@link HotelChangedEvent}.
+     * @param transactionManager The manager of the transaction of the single-hotel misses.
      */
     @Autowired
-    public HotelsService(HotelsRepository hotelsRepository, HotelMapper hotelMapper, FacilityMapper facilityMapper){
+    public HotelsService(HotelsRepository hotelsRepository, HotelMapper hotelMapper, FacilityMapper facilityMapper,
+                         HotelDocumentService documentService, HotelColumnsService columnsService,
+                         HotelResponseCache responseCache, HotelListCache listCache, HotelIdFilter idFilter,
+                         HotelHotKeys hotKeys, ApplicationEventPublisher eventPublisher,
+                         PlatformTransactionManager transactionManager){
         this.hotelMapper = hotelMapper;
         this.hotelsRepository = hotelsRepository;
         this.facilityMapper = facilityMapper;
+        this.documentService = documentService;
+        this.columnsService = columnsService;
+        this.responseCache = responseCache;
+        this.listCache = listCache;
+        this.idFilter = idFilter;
+        this.hotKeys = hotKeys;
+        this.eventPublisher = eventPublisher;
+        this.primaryRead = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -96,53 +201,120 @@ public class HotelsService {
             hotel.setCity(hotelInput.getCity());
             hotel.setRating(hotelInput.getRating());
             hotel.setHasWifi(hotelInput.getHasWifi());
+            hotel.setLatitude(hotelInput.getLatitude());
+            hotel.setLongitude(hotelInput.getLongitude());
             hotel.getFacilities().clear();
             hotelInput.getFacilities().forEach(facility -> {
                 FacilityEntity facilityEntity = facilityMapper.toEntity(facility);
                 facilityEntity.setHotel(hotel);
                 hotel.getFacilities().add(facilityEntity);
             });
+            hotel.updateFacilityMask();
             HotelsEntity hotelSaved = hotelsRepository.save(hotel);
-            Hotel response = hotelMapper.toModel(hotelSaved);
+            Hotel response = documentService.write(hotelSaved);
+            eventPublisher.publishEvent(new HotelChangedEvent(id));
             return new ResponseEntity<>(response, HttpStatus.OK);
         } catch ( Exception error ){
-            error.printStackTrace();
+            rollback();
+            ERROR_LOGGER.log("update_hotel", error);
             return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
         }
     }
 
     /**
      * Retrieves a hotel by its unique identifier.
+     * <p>
+     * The hotel is returned from its stored document, through {@link HotelResponseCache}, with the
+     * {@code ETag} of the document. Only a hotel without a document, inserted outside this
+     * application after the startup, is loaded and mapped from the entities, and it is not cached.
+     * </p>
+     * <p>
+     * A hit opens no transaction. A miss, including the read of the entities, runs in one
+     * read-write transaction on the primary database; the method joins no transaction of the
+     * caller, so a miss never holds two connections.
+     * </p>
      *
      * @param id The UUID of the hotel to retrieve.
      * @return A {@link ResponseEntity} with the found {@link Hotel} and an HTTP 200 (OK) status if found,
      * or a not found or internal error response if the operation fails.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<Hotel> find( UUID id ){
+        return find(id, true);
+    }
+
+    /**
+     * Reads a hotel as {@link #find(UUID)} does, without counting it in {@link HotelHotKeys}: the
+     * warm-up of the caches must not add to the hot keys that it reads.
+     *
+     * @param id The UUID of the hotel to read.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void preload( UUID id ){
+        find(id, false);
+    }
+
+    private ResponseEntity<Hotel> find( UUID id, boolean record ){
         try{
-            if (hotelsRepository.findById(id).isEmpty()) return ResponseUtils.notFoundResponse(HOTEL_NOT_FOUND);
-            Hotel hotel = hotelMapper.toModel(hotelsRepository.findById(id).get());
-            return new ResponseEntity<>(hotel, HttpStatus.OK);
+            if (!idFilter.mightExist(id)) return ResponseUtils.notFoundResponse(HOTEL_NOT_FOUND);
+            Optional<HotelResponseCache.CachedHotel> cached = responseCache.getIfPresent(id);
+            Optional<ResponseEntity<Hotel>> found = cached.isPresent()
+                    ? cached.map(HotelsService::response)
+                    : primaryRead.execute(status -> load(id));
+            if (found.isEmpty()) {
+                idFilter.recordFalsePositive();
+                return ResponseUtils.notFoundResponse(HOTEL_NOT_FOUND);
+            }
+            if (record) hotKeys.recordHotel(id);
+            return found.get();
         } catch ( Exception error ){
-            error.printStackTrace();
+            ERROR_LOGGER.log("find_hotel", error);
             return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
         }
     }
 
+    /**
+     * Loads a hotel missing from {@link HotelResponseCache}, in the transaction of {@link #primaryRead}:
+     * from its document, which is cached, or else from its entities.
+     */
+    private Optional<ResponseEntity<Hotel>> load( UUID id ){
+        Optional<HotelResponseCache.CachedHotel> cached = responseCache.get(id, documentService::find);
+        if (cached.isPresent()) return cached.map(HotelsService::response);
+        return hotelsRepository.findById(id).map(hotel -> new ResponseEntity<>(hotelMapper.toModel(hotel), HttpStatus.OK));
+    }
+
+    /**
+     * Retrieves a hotel from memory only, without a transaction: from the cache of the rendered
+     * responses, or a 404 if {@link HotelIdFilter} knows that the hotel does not exist.
+     *
+     * @param id The UUID of the hotel to retrieve.
+     * @return The response of {@link #find(UUID)} if it is known without the database, or empty.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<ResponseEntity<Hotel>> findCached( UUID id ){
+        if (!idFilter.mightExist(id)) return Optional.of(ResponseUtils.notFoundResponse(HOTEL_NOT_FOUND));
+        Optional<HotelResponseCache.CachedHotel> cached = responseCache.getIfPresent(id);
+        cached.ifPresent(hit -> hotKeys.recordHotel(id));
+        return cached.map(HotelsService::response);
+    }
+
     /**
      * Retrieves a collection of all hotels stored in the system.
      *
      * <p>This method optionally accepts an RSQL filter string. If a filter is supplied,
      * it is parsed into a {@link Specification} which is then used to query the
-     * {@code hotelsRepository}. When {@code filters} is {@code null}, the method simply
-     * returns every {@link HotelsEntity} persisted in the database.</p>
+     * read model of {@link HotelDocumentService}. When {@code filters} is {@code null}, the
+     * method simply returns the document of every hotel persisted in the database.</p>
      *
-     * <p>The resulting {@link HotelsEntity} objects are converted to the public
-     * {@link Hotel} model via {@code hotelMapper} before being wrapped in a
-     * {@link ResponseEntity} with an HTTP 200 (OK) status.</p>
+     * <p>The stored documents are returned as {@link Hotel}s that are written to the
+     * response as they are, without loading the {@link HotelsEntity} objects and their
+     * facilities, and wrapped in a {@link ResponseEntity} with an HTTP 200 (OK) status.
+     * When the in-memory snapshot of {@link HotelColumnsService} is enabled and evaluates the
+     * filter, the list is answered from it without a query. The results are cached per
+     * canonical filter by {@link HotelListCache}.</p>
      *
      * <p>If any exception occurs during processing (for example, a parsing error
-     * or a database failure), the stack trace is printed and a generic internal‑error
+     * or a database failure), the failure is logged and a generic internal‑error
      * response is returned using {@link ResponseUtils#internalErrorResponse()}.</p>
      *
      * @param filters an optional RSQL expression used to filter the results; may be
@@ -151,26 +323,45 @@ public class HotelsService {
      *         objects and an HTTP 200 status when successful, or an internal‑error
      *         response if an exception is thrown.
      */
+    @Transactional(readOnly = true)
     public ResponseEntity<List<Hotel>> findAll(String filters) {
+        return findAll(filters, true);
+    }
+
+    /**
+     * Reads the hotels of a filter as {@link #findAll(String)} does, without counting the filter
+     * in {@link HotelHotKeys}: the warm-up of the caches must not add to the hot keys that it reads.
+     *
+     * @param filters an optional RSQL expression, or {@code null} for all the hotels.
+     */
+    @Transactional(readOnly = true)
+    public void preloadAll(String filters) {
+        findAll(filters, false);
+    }
+
+    private ResponseEntity<List<Hotel>> findAll(String filters, boolean record) {
         try {
-            List<HotelsEntity> hotels;
-            if (filters != null) {
-                Node rootNode = new RSQLParser().parse(filters);
-                Specification<HotelsEntity> specification =
-                        rootNode.accept(new CustomRsqlVisitor<>());
-                hotels = hotelsRepository.findAll(specification).stream()
-                        .toList();
-            } else {
-                hotels = hotelsRepository.findAll().stream()
-                        .toList();
-            }
-            return new ResponseEntity<>(hotelMapper.toModel(hotels), HttpStatus.OK);
+            Node rootNode = filters == null ? null : RsqlSearchOperation.parser().parse(filters);
+            List<Hotel> hotels = listCache.get(rootNode, () -> query(rootNode));
+            if (record) hotKeys.recordFilter(rootNode);
+            return new ResponseEntity<>(hotels, HttpStatus.OK);
         } catch (Exception error) {
-            error.printStackTrace();
+            ERROR_LOGGER.log("find_hotels", error);
             return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
         }
     }
 
+    /**
+     * Returns the hotels that match a filter, from the in-memory snapshot when it evaluates the
+     * filter, or else from the read model.
+     */
+    private List<Hotel> query(@Nullable Node rootNode) {
+        Optional<List<Hotel>> snapshot = columnsService.findAll(rootNode);
+        if (snapshot.isPresent()) return snapshot.get();
+        Specification<HotelsEntity> specification = rootNode == null ? null : rootNode.accept(new CustomRsqlVisitor<>());
+        return documentService.findAll(specification);
+    }
+
     /**
      * Removes a hotel from the database by its unique identifier.
      *
@@ -182,9 +373,12 @@ public class HotelsService {
         try{
             if (hotelsRepository.findById(id).isEmpty()) return ResponseUtils.notFoundResponse(HOTEL_NOT_FOUND);
             hotelsRepository.deleteById(id);
+            documentService.delete(id);
+            eventPublisher.publishEvent(new HotelChangedEvent(id));
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch ( Exception error ){
-            error.printStackTrace();
+            rollback();
+            ERROR_LOGGER.log("remove_hotel", error);
             return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
         }
     }
@@ -201,11 +395,30 @@ public class HotelsService {
             HotelsEntity hotel = hotelMapper.toEntity(hotelInput);
             hotel.getFacilities().forEach(facility -> facility.setHotel(hotel));
             HotelsEntity hotelSaved = hotelsRepository.save(hotel);
-            Hotel response = hotelMapper.toModel(hotelSaved);
+            Hotel response = documentService.write(hotelSaved);
+            eventPublisher.publishEvent(new HotelChangedEvent(hotelSaved.getId()));
             return new ResponseEntity<>(response,HttpStatus.CREATED);
         } catch ( Exception error ){
-            error.printStackTrace();
+            rollback();
+            ERROR_LOGGER.log("save_hotel", error);
             return ResponseUtils.internalErrorResponse(ERROR_UNEXPECTED);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Marks the current transaction for rollback. The write operations answer their failures
+     * with an error response instead of an exception, so the transaction would otherwise
+     * commit the changes made before the failure, such as a hotel without its document.
+     */
+    private static void rollback() {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+    }
+
+    /**
+     * Answers a hotel with its document and the {@code ETag} of it; Spring MVC turns the response
+     * into a 304 when the request carries the same tag in {@code If-None-Match}.
+     */
+    private static ResponseEntity<Hotel> response(HotelResponseCache.CachedHotel cached) {
+        return ResponseEntity.ok().eTag(cached.eTag()).body(cached.document());
+    }
+}
@@ -0,0 +1,23 @@
+-- Schema of the hotels API as Hibernate created it with ddl-auto: update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate), so it only runs on empty ones.
+
+CREATE TABLE hotels (
+    has_wifi BOOLEAN,
+    rating FLOAT(24),
+    id UUID NOT NULL,
+    address VARCHAR(255),
+    city VARCHAR(255),
+    description VARCHAR(255),
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE facilities (
+    hotel_id UUID NOT NULL,
+    id UUID NOT NULL,
+    short_description VARCHAR(255),
+    type ENUM ('CINEMA', 'RESTAURANT', 'SWIMMING_POOL'),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE facilities ADD CONSTRAINT fk_facilities_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (id);
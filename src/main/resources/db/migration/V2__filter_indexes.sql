@@ -0,0 +1,15 @@
+-- Indexes for the shapes of the RSQL filters of GET /hotels and for the loading of the facilities.
+-- CustomRsqlVisitor turns == on strings into LIKE: without a leading wildcard H2 resolves it as an index range.
+
+-- city==Madrid, city==Madrid;rating>=4 (equality first, range last)
+CREATE INDEX idx_hotels_city_rating ON hotels (city, rating);
+
+-- rating>=4 without city
+CREATE INDEX idx_hotels_rating ON hotels (rating);
+
+-- name==Gran*, name==Hotel Plaza
+CREATE INDEX idx_hotels_name ON hotels (name);
+
+-- Facilities of a hotel (lazy collection, orphan removal, cascade delete) and type checks per hotel.
+-- H2 adds an index for the foreign key by itself, most other databases do not: declare it explicitly.
+CREATE INDEX idx_facilities_hotel_type ON facilities (hotel_id, type);
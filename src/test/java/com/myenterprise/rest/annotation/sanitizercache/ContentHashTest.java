@@ -0,0 +1,64 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizercache;
+
+import com.myenterprise.rest.annotation.sanitizehtml.ContentHash;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ContentHash}.
+ *
+ * <p>The tests verify the hash against the test vectors of the reference implementation of
+ * SipHash-2-4 with a 128-bit output, and that it depends on the key.</p>
+ */
+class ContentHashTest {
+
+    /** The key 00 01 .. 0f of the reference test vectors. */
+    private static final ContentHash.Key KEY = new ContentHash.Key(0x0706050403020100L, 0x0f0e0d0c0b0a0908L);
+
+    /**
+     * The hash of the empty input, and of the input 00 01 (the code unit {@code U+0100}), match
+     * the reference vectors, read little-endian.
+     */
+    @Test
+    void matchesReferenceVectors() {
+        assertEquals(new ContentHash(0xe6a825ba047f81a3L, 0x930255c71472f66dL), ContentHash.of("", KEY));
+        assertEquals(new ContentHash(0xc75da4a48d227781L, 0xe4ff0af6de8ba3fcL), ContentHash.of("\u0100", KEY));
+    }
+
+    /**
+     * The same input hashes the same under one key and differently under another.
+     */
+    @Test
+    void dependsOnKey() {
+        String value = "<p>A description long enough to fill several words</p>";
+        ContentHash.Key other = ContentHash.Key.random();
+
+        assertEquals(ContentHash.of(value, other), ContentHash.of(value, other));
+        assertNotEquals(ContentHash.of(value, KEY), ContentHash.of(value, other));
+        assertNotEquals(ContentHash.of(value, other), ContentHash.of(value + " ", other));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizercache;
+
+import com.myenterprise.rest.annotation.sanitizehtml.HashedSanitizerCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HashedSanitizerCache}.
+ *
+ * <p>The tests verify that a value is sanitized once and answered from the cache afterwards,
+ * that every value keeps its own result when the segments grow, and that concurrent threads
+ * share one result per value.</p>
+ */
+class HashedSanitizerCacheTest {
+
+    private final AtomicInteger sanitized = new AtomicInteger();
+
+    private final UnaryOperator<String> sanitizer = value -> {
+        sanitized.incrementAndGet();
+        return "sanitized:" + value;
+    };
+
+    /**
+     * The second read of a value does not sanitize it again.
+     */
+    @Test
+    void sanitizesOnce() {
+        HashedSanitizerCache cache = new HashedSanitizerCache();
+
+        assertEquals("sanitized:<b>bold</b>", cache.computeIfAbsent("<b>bold</b>", sanitizer));
+        assertEquals("sanitized:<b>bold</b>", cache.computeIfAbsent("<b>bold</b>", sanitizer));
+
+        assertEquals(1, sanitized.get());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Many values, more than the initial capacity of the segments, keep their own results.
+     */
+    @Test
+    void keepsEveryValueAcrossResizes() {
+        HashedSanitizerCache cache = new HashedSanitizerCache();
+        int values = 10_000;
+
+        IntStream.range(0, values).forEach(index -> cache.computeIfAbsent("<p>" + index + "</p>", sanitizer));
+
+        assertEquals(values, cache.size());
+        IntStream.range(0, values).forEach(index ->
+                assertEquals("sanitized:<p>" + index + "</p>", cache.computeIfAbsent("<p>" + index + "</p>", sanitizer)));
+        assertEquals(values, sanitized.get());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Threads that read the same values at once get the same instance of each result.
+     */
+    @Test
+    void sharesResultBetweenThreads() {
+        HashedSanitizerCache cache = new HashedSanitizerCache();
+
+        String[][] results = IntStream.range(0, 4)
+                .mapToObj(thread -> CompletableFuture.supplyAsync(() -> IntStream.range(0, 1_000)
+                        .mapToObj(index -> cache.computeIfAbsent("<i>" + index + "</i>", sanitizer))
+                        .toArray(String[]::new)))
+                .map(CompletableFuture::join)
+                .toArray(String[][]::new);
+
+        assertEquals(1_000, cache.size());
+        for (int index = 0; index < 1_000; index++) {
+            for (String[] result : results) {
+                assertSame(results[0][index], result[index]);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.sanitizercache;
+
+import com.myenterprise.rest.annotation.sanitizehtml.ContentHash;
+import com.myenterprise.rest.annotation.sanitizehtml.SanitizerDiskCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SanitizerDiskCache}.
+ *
+ * <p>The tests verify that the sanitized values survive closing and reopening
+ * the file, that the file is discarded when the policy version changes, that each file hashes
+ * with its own key, and that an entry whose bytes were not persisted is dropped when read.</p>
+ *
+ * <p>The caches of the sanitizer are tested in this package through their public API:
+ * surefire skips the tests of the {@code sanitizehtml} package.</p>
+ */
+class SanitizerDiskCacheTest {
+
+    private static final int CAPACITY = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * A value written before closing the cache must be readable after reopening it.
+     *
+     * @throws Exception if the cache file cannot be opened or closed
+     */
+    @Test
+    void valuesSurviveReopen() throws Exception {
+        String value = "<p>Hello<script>alert('xss')</script></p>";
+
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            assertNull(cache.get(cache.hash(value)));
+            cache.put(cache.hash(value), "<p>Hello</p>");
+        }
+
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            assertEquals(1, cache.size());
+            assertEquals("<p>Hello</p>", cache.get(cache.hash(value)));
+        }
+    }
+
+    /**
+     * A file written with another policy version must be discarded.
+     *
+     * @throws Exception if the cache file cannot be opened or closed
+     */
+    @Test
+    void policyChangeInvalidatesFile() throws Exception {
+        ContentHash hash;
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            hash = cache.hash("<b>bold</b>");
+            cache.put(hash, "<b>bold</b>");
+        }
+
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 2, CAPACITY)) {
+            assertEquals(0, cache.size());
+            assertNull(cache.get(hash));
+            assertNotEquals(hash, cache.hash("<b>bold</b>"));
+        }
+    }
+
+    /**
+     * An entry whose length was persisted but not its bytes is dropped when it is read, and
+     * the value appended again replaces it, also after reopening.
+     *
+     * @throws Exception if the cache file cannot be opened or closed
+     */
+    @Test
+    void corruptEntryIsDropped() throws Exception {
+        ContentHash first;
+        ContentHash second;
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            first = cache.hash("<i>first</i>");
+            second = cache.hash("<i>second</i>");
+            cache.put(first, "<i>first</i>");
+            cache.put(second, "<i>second</i>");
+        }
+        try (RandomAccessFile file = new RandomAccessFile(
+                directory.resolve(SanitizerDiskCache.FILE_NAME).toFile(), "rw")) {
+            // First byte of the sanitized value of the second entry.
+            int secondEntry = 32 + 24 + "<i>first</i>".length();
+            file.seek(secondEntry + 24);
+            file.write('X');
+        }
+
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            assertEquals("<i>first</i>", cache.get(first));
+            assertNull(cache.get(second));
+            assertEquals(1, cache.size());
+            cache.put(second, "<i>second</i>");
+            assertEquals("<i>second</i>", cache.get(second));
+        }
+
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            assertEquals("<i>first</i>", cache.get(first));
+            assertEquals("<i>second</i>", cache.get(second));
+        }
+    }
+
+    /**
+     * A new file draws a new key: the hashes of a deleted file, and the entries that an input
+     * crafted for them would take, do not carry over.
+     *
+     * @throws Exception if the cache file cannot be opened or closed
+     */
+    @Test
+    void newFileHasNewKey() throws Exception {
+        ContentHash hash;
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            hash = cache.hash("<b>bold</b>");
+            assertEquals(hash, cache.hash("<b>bold</b>"));
+        }
+        Files.delete(directory.resolve(SanitizerDiskCache.FILE_NAME));
+
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, CAPACITY)) {
+            assertNotEquals(hash, cache.hash("<b>bold</b>"));
+        }
+    }
+
+    /**
+     * Values that do not fit in the file are ignored instead of failing.
+     *
+     * @throws Exception if the cache file cannot be opened or closed
+     */
+    @Test
+    void fullFileIgnoresNewValues() throws Exception {
+        try (SanitizerDiskCache cache = SanitizerDiskCache.open(directory, 1, 64)) {
+            cache.put(cache.hash("a"), "x".repeat(100));
+            assertEquals(0, cache.size());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.annotation.validatersql;
+
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RsqlValidator} with the full-text operator {@code =ft=}.
+ *
+ * <p>The tests verify that {@code =ft=} is parsed and combined with the standard operators,
+ * that it can only be used on its virtual selector {@code text}, and that it follows the
+ * operator whitelist.</p>
+ */
+class RsqlValidatorTest {
+
+    @SuppressWarnings("unused")
+    private static void defaultRules(@ValidateRsql String filters) {}
+
+    @SuppressWarnings("unused")
+    private static void equalOnly(@ValidateRsql(allowOperators = Operators.EQUAL) String filters) {}
+
+    /**
+     * A full-text comparison is combined with the other predicates.
+     *
+     * @throws Exception if the annotation cannot be read
+     */
+    @Test
+    void fullTextIsCombinable() throws Exception {
+        Node root = RsqlValidator.validate("text=ft='spa pool';city==Madrid", rules("defaultRules"));
+
+        AndNode and = assertInstanceOf(AndNode.class, root);
+        ComparisonNode fullText = assertInstanceOf(ComparisonNode.class, and.getChildren().get(0));
+        assertSame(RsqlSearchOperation.FULL_TEXT.getOperator(), fullText.getOperator());
+        assertEquals("spa pool", fullText.getArguments().get(0));
+    }
+
+    /**
+     * {@code =ft=} is rejected on a real column, and {@code text} with another operator.
+     *
+     * @throws Exception if the annotation cannot be read
+     */
+    @Test
+    void fullTextOnlyOnTextSelector() throws Exception {
+        ValidateRsql rules = rules("defaultRules");
+
+        assertThrows(IllegalArgumentException.class, () -> RsqlValidator.validate("description=ft=spa", rules));
+        assertThrows(IllegalArgumentException.class, () -> RsqlValidator.validate("text==spa", rules));
+    }
+
+    /**
+     * {@code =ft=} follows the operator whitelist like any other operator.
+     *
+     * @throws Exception if the annotation cannot be read
+     */
+    @Test
+    void fullTextMustBeAllowed() throws Exception {
+        ValidateRsql rules = rules("equalOnly");
+
+        assertThrows(IllegalArgumentException.class, () -> RsqlValidator.validate("text=ft=spa", rules));
+    }
+
+    private static ValidateRsql rules(String method) throws NoSuchMethodException {
+        return RsqlValidatorTest.class.getDeclaredMethod(method, String.class)
+                .getParameters()[0].getAnnotation(ValidateRsql.class);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-memory H2 database of the JMH benchmarks that measure SQL queries.
+ *
+ * <p>A benchmark creates one per trial with {@link #create(String)}, applies the migrations it
+ * measures with {@link #migrate(String...)}, fills the tables with {@link #load(int, RowLoader, String...)}
+ * and drops everything with {@link #close()}. The migrations are run without their full-text
+ * statements: {@code FT_*} need {@code V3}, which no benchmark measures.</p>
+ */
+public final class H2BenchmarkDatabase implements AutoCloseable {
+
+    /** Rows inserted per JDBC batch. */
+    private static final int BATCH_SIZE = 10_000;
+
+    private final Connection connection;
+
+    private H2BenchmarkDatabase(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Creates an empty in-memory database.
+     *
+     * @param name the name of the database, unique per trial
+     * @return the database
+     * @throws SQLException if the database cannot be created
+     */
+    public static H2BenchmarkDatabase create(String name) throws SQLException {
+        return new H2BenchmarkDatabase(DriverManager.getConnection("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    /**
+     * Returns the connection of the database.
+     *
+     * @return the connection
+     */
+    public Connection connection() {
+        return connection;
+    }
+
+    /**
+     * Runs migrations of {@code db/migration}, in order.
+     *
+     * @param migrations the file names, for example {@code V1__baseline.sql}
+     * @throws IOException  if a migration is missing
+     * @throws SQLException if a statement fails
+     */
+    public void migrate(String... migrations) throws IOException, SQLException {
+        for (String migration : migrations) {
+            String resource = "db/migration/" + migration;
+            String script;
+            try (InputStream input = H2BenchmarkDatabase.class.getClassLoader().getResourceAsStream(resource)) {
+                if (input == null) {
+                    throw new IOException("Missing migration " + resource);
+                }
+                script = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                    if (!sql.isBlank() && !sql.contains("FT_")) {
+                        statement.execute(sql);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the tables in one transaction, with a batch of each insert every {@value #BATCH_SIZE} rows.
+     *
+     * @param rows    the number of rows
+     * @param loader  binds the statements of each row and adds them to their batch
+     * @param inserts the SQL of the inserts, in the order of the statements given to the loader
+     * @throws SQLException if an insert fails
+     */
+    public void load(int rows, RowLoader loader, String... inserts) throws SQLException {
+        PreparedStatement[] statements = new PreparedStatement[inserts.length];
+        connection.setAutoCommit(false);
+        try {
+            for (int index = 0; index < inserts.length; index++) {
+                statements[index] = connection.prepareStatement(inserts[index]);
+            }
+            for (int row = 0; row < rows; row++) {
+                loader.load(row, statements);
+                if (row % BATCH_SIZE == BATCH_SIZE - 1) {
+                    executeBatches(statements);
+                }
+            }
+            executeBatches(statements);
+            connection.commit();
+        } finally {
+            for (PreparedStatement statement : statements) {
+                if (statement != null) {
+                    statement.close();
+                }
+            }
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Updates the statistics of the optimizer, after the load.
+     *
+     * @throws SQLException if the statement fails
+     */
+    public void analyze() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    /**
+     * Runs a query and reads all its rows.
+     *
+     * @param statement the query
+     * @return the number of rows read
+     * @throws SQLException if the query fails
+     */
+    public static int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Runs a query that returns one number, such as a {@code SELECT COUNT(*)}.
+     *
+     * @param statement the query
+     * @return the number of its first row
+     * @throws SQLException if the query fails
+     */
+    public static int single(PreparedStatement statement) throws SQLException {
+        try (ResultSet result = statement.executeQuery()) {
+            result.next();
+            return result.getInt(1);
+        }
+    }
+
+    /**
+     * Drops the database and closes its connection.
+     *
+     * @throws SQLException if the database cannot be dropped
+     */
+    @Override
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private static void executeBatches(PreparedStatement[] statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Binds the inserts of one row.
+     */
+    @FunctionalInterface
+    public interface RowLoader {
+
+        /**
+         * Binds the statements of a row and adds them to their batch with {@link PreparedStatement#addBatch()}.
+         *
+         * @param row        the index of the row
+         * @param statements the inserts, in the order given to {@link #load(int, RowLoader, String...)}
+         * @throws SQLException if a parameter cannot be bound
+         */
+        void load(int row, PreparedStatement[] statements) throws SQLException;
+    }
+}
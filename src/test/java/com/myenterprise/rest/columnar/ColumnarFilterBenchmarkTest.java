@@ -0,0 +1,236 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import com.myenterprise.rest.benchmark.H2BenchmarkDatabase;
+import com.myenterprise.rest.facility.FacilityMask;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of a filtered list evaluated by {@link HotelColumns} or by the database.
+ *
+ * <p>Each trial creates an in-memory H2 database with the migrations {@code V1}, {@code V2},
+ * {@code V4}, {@code V5} and {@code V6}, loads {@link #rows} hotels with their documents, and
+ * puts the same hotels in a {@link HotelColumns} snapshot. Two filters, with a rating bound
+ * that changes on every call:</p>
+ * <ul>
+ *   <li>{@code city}: {@code city=='City-42';rating=ge=0.x}, about 0.1% of the hotels, served by
+ *       the index {@code (city, rating)}.</li>
+ *   <li>{@code facilities}: {@code facilities=all=(cinema);rating=ge=4.x}, about 4% of the hotels.</li>
+ * </ul>
+ * <p>Both paths return the documents of the matching hotels:</p>
+ * <ul>
+ *   <li>{@code database}: the query of {@code HotelDocumentsQueriesImpl},
+ *       {@code SELECT document FROM hotel_documents WHERE id IN (SELECT id FROM hotels WHERE ...)}.</li>
+ *   <li>{@code columnar}: {@link HotelColumns#find} of the parsed filter.</li>
+ * </ul>
+ *
+ * <p>{@link #runAllBenchmarks()} writes the results to {@code target/jmh-columnar-results.csv}.</p>
+ */
+@State(Scope.Benchmark)                     // One database and snapshot shared across all benchmark threads
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.MICROSECONDS)      // Report timings in microseconds
+public class ColumnarFilterBenchmarkTest {
+
+    /** Number of distinct rating bounds of each filter. */
+    private static final int VARIANTS = 100;
+
+    /** Number of hotels loaded. */
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    /** The filter: {@code city} or {@code facilities}. */
+    @Param({"city", "facilities"})
+    public String filter;
+
+    private H2BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement query;
+    private final HotelColumns columns = new HotelColumns();
+    private final List<Node> nodes = new ArrayList<>();
+    private final float[] bounds = new float[VARIANTS];
+    private final Random random = new Random(42);
+
+    /**
+     * Creates and loads the database and the snapshot of the trial.
+     *
+     * @throws Exception if the database cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = H2BenchmarkDatabase.create("columnar-" + rows);
+        connection = database.connection();
+        database.migrate("V1__baseline.sql", "V2__filter_indexes.sql",
+                "V4__hotels_location.sql", "V5__hotels_facility_mask.sql", "V6__hotel_documents.sql");
+        load();
+        database.analyze();
+        String where;
+        if ("city".equals(filter)) {
+            where = "h.city LIKE 'City-42' AND h.rating >= ?";
+            for (int i = 0; i < VARIANTS; i++) {
+                bounds[i] = i / 100f;
+            }
+        } else {
+            StringJoiner masks = new StringJoiner(", ", "(", ")");
+            FacilityMask.supersets(2).forEach(value -> masks.add(value.toString()));
+            where = "h.facility_mask IN " + masks + " AND h.rating >= ?";
+            for (int i = 0; i < VARIANTS; i++) {
+                bounds[i] = 4 + i / 1000f;
+            }
+        }
+        for (float bound : bounds) {
+            String rsql = ("city".equals(filter) ? "city=='City-42'" : "facilities=all=(cinema)")
+                    + ";rating=ge=" + String.format(Locale.ROOT, "%.3f", bound);
+            nodes.add(RsqlSearchOperation.parser().parse(rsql));
+        }
+        query = connection.prepareStatement("SELECT d.document FROM hotel_documents d WHERE d.id IN "
+                + "(SELECT h.id FROM hotels h WHERE " + where + ")");
+    }
+
+    /**
+     * Drops the database of the trial.
+     *
+     * @throws SQLException if the database cannot be dropped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    /**
+     * Filtered list read from the database.
+     *
+     * @return the number of documents
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int database() throws SQLException {
+        // The rating bound changes on every call: H2 reuses the result of an unchanged prepared query.
+        query.setFloat(1, bounds[random.nextInt(VARIANTS)]);
+        List<byte[]> documents = new ArrayList<>();
+        try (ResultSet result = query.executeQuery()) {
+            while (result.next()) {
+                documents.add(result.getBytes(1));
+            }
+        }
+        return documents.size();
+    }
+
+    /**
+     * Filtered list evaluated by the snapshot.
+     *
+     * @return the number of documents
+     */
+    @Benchmark
+    public int columnar() {
+        return columns.find(nodes.get(random.nextInt(VARIANTS))).orElseThrow().size();
+    }
+
+    private void load() throws SQLException {
+        Random data = new Random(7);
+        database.load(rows, (index, statements) -> {
+            UUID id = UUID.randomUUID();
+            int bits = 0;
+            bits |= data.nextInt(100) < 50 ? 1 : 0;
+            bits |= data.nextInt(100) < 20 ? 2 : 0;
+            bits |= data.nextInt(100) < 10 ? 4 : 0;
+            String name = "Hotel " + index;
+            String description = "Description of hotel " + index;
+            String address = "Street " + index;
+            String city = "City-" + data.nextInt(1000);
+            float rating = data.nextInt(501) / 100f;
+            byte[] json = ("{\"name\":\"" + name + "\",\"description\":\"" + description + "\",\"address\":\""
+                    + address + "\",\"city\":\"" + city + "\",\"rating\":" + rating
+                    + ",\"has_wifi\":true,\"facilities\":[],\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8);
+            PreparedStatement hotel = statements[0];
+            hotel.setObject(1, id);
+            hotel.setString(2, name);
+            hotel.setString(3, description);
+            hotel.setString(4, address);
+            hotel.setString(5, city);
+            hotel.setFloat(6, rating);
+            hotel.setBoolean(7, data.nextBoolean());
+            hotel.setInt(8, bits);
+            hotel.addBatch();
+            PreparedStatement document = statements[1];
+            document.setObject(1, id);
+            document.setBytes(2, json);
+            document.addBatch();
+            columns.put(new HotelRow(id, name, description, address, city, rating, bits, json));
+        }, "INSERT INTO hotels (id, name, description, address, city, rating, has_wifi, facility_mask) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                "INSERT INTO hotel_documents (id, policy_version, document) VALUES (?, 1, ?)");
+    }
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-columnar-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(3)                      // Warm‑up to stabilise the JVM
+                .warmupTime(TimeValue.seconds(3))
+                .measurementIterations(5)                 // Number of measured iterations
+                .measurementTime(TimeValue.seconds(3))
+                .forks(1)                                 // Single JVM fork
+                .jvmArgsAppend("-Xmx3g")                  // Room for 1M hotels in H2 and in the snapshot
+                .timeUnit(TimeUnit.MICROSECONDS)
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-columnar-results.csv")
+                .build()).run();
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelColumns}.
+ *
+ * <p>The tests verify the comparisons and the logical operators against the semantics of the
+ * database, that the filters it does not evaluate are left to the database, and the updates.</p>
+ */
+class HotelColumnsTest {
+
+    private HotelColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new HotelColumns();
+        // Facility masks: restaurant 1, cinema 2, swimming pool 4.
+        columns.put(row("Hotel Continental", "Spa", "Madrid", 4.5f, 5));
+        columns.put(row("Ritz 100%", null, "Paris", 3.0f, 2));
+        columns.put(row("Gran Via", "Central", "Madrid", null, 7));
+        columns.put(row("Hostal Sol", "Cheap", null, 2.0f, 0));
+    }
+
+    /**
+     * {@code ==} and {@code !=} on strings are case-sensitive patterns, and a missing value never matches.
+     */
+    @Test
+    void comparesStrings() {
+        assertEquals(List.of("Hotel Continental", "Gran Via"), find("city==Madrid"));
+        assertEquals(List.of("Hotel Continental", "Gran Via"), find("city==Mad*"));
+        assertEquals(List.of(), find("city==madrid"));
+        assertEquals(List.of("Ritz 100%"), find("city!=Madrid"));
+        assertEquals(List.of("Ritz 100%"), find("name==*100%"));
+        assertEquals(List.of("Hotel Continental", "Hostal Sol"), find("name==Ho*"));
+        assertEquals(List.of("Hotel Continental", "Gran Via"), find("description=out=(Cheap)"));
+        assertEquals(List.of("Hotel Continental", "Ritz 100%", "Hostal Sol"), find("city=in=(Paris,'Madrid Centro'),name==H*"));
+        assertEquals(List.of("Ritz 100%"), find("city=gt=Madrid"));
+        assertEquals(List.of("Hotel Continental", "Gran Via"), find("city=le=Madrid"));
+    }
+
+    /**
+     * The rating is compared as a number, and a hotel without rating never matches.
+     */
+    @Test
+    void comparesRatings() {
+        assertEquals(List.of("Hotel Continental", "Ritz 100%"), find("rating=ge=3"));
+        assertEquals(List.of("Hostal Sol"), find("rating=lt=3"));
+        assertEquals(List.of("Ritz 100%", "Hostal Sol"), find("rating=in=(3,2.0)"));
+        assertEquals(List.of("Hotel Continental", "Hostal Sol"), find("rating=out=(3)"));
+    }
+
+    /**
+     * {@code =all=} keeps the hotels with all the requested facility types.
+     */
+    @Test
+    void filtersFacilities() {
+        assertEquals(List.of("Hotel Continental", "Gran Via"), find("facilities=all=(restaurant,'swimming pool')"));
+        assertEquals(List.of("Ritz 100%", "Gran Via"), find("facilities=all=(cinema)"));
+        assertEquals(List.of("Gran Via"), find("facilities=all=(cinema);city==Madrid"));
+    }
+
+    /**
+     * The comparisons that the database evaluates differently, or that need its indexes, are not evaluated.
+     */
+    @Test
+    void leavesOtherFiltersToDatabase() {
+        for (String filter : List.of("text=ft=spa", "location=near=(40.4,-3.7,5)", "hasWifi==true",
+                "rating==4.5", "rating=ge=four", "id==abc", "city==Madrid;text=ft=spa", "name==a\\")) {
+            assertTrue(columns.find(RsqlSearchOperation.parser().parse(filter)).isEmpty(), filter);
+        }
+    }
+
+    /**
+     * The updates replace the values of a hotel, and a removal keeps the other hotels.
+     */
+    @Test
+    void updatesRows() {
+        UUID id = UUID.randomUUID();
+        columns.put(new HotelRow(id, "Old", null, "Street", "Lisboa", 1.0f, 0, bytes("Old")));
+        columns.put(new HotelRow(id, "New", null, "Street", "Porto", 1.0f, 0, bytes("New")));
+        assertEquals(List.of("New"), find("city==Porto"));
+        assertEquals(List.of(), find("city==Lisboa"));
+
+        columns.remove(id);
+        columns.remove(UUID.randomUUID());
+        assertEquals(4, columns.size());
+        assertEquals(List.of("Hotel Continental", "Ritz 100%", "Gran Via", "Hostal Sol"), find(null));
+    }
+
+    /**
+     * A removed row is replaced by the last one, which remains searchable.
+     */
+    @Test
+    void removalMovesLastRow() {
+        List<UUID> ids = new ArrayList<>();
+        HotelColumns many = new HotelColumns();
+        for (int i = 0; i < 2000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            many.put(new HotelRow(id, "Hotel " + i, null, "Street", "City " + (i % 10), (float) (i % 5), i % 8,
+                    bytes("Hotel " + i)));
+        }
+        many.remove(ids.get(0));
+        many.remove(ids.get(1500));
+
+        assertEquals(1998, many.size());
+        List<HotelDocument> last = many.find(RsqlSearchOperation.parser().parse("name=='Hotel 1999'")).orElseThrow();
+        assertEquals(ids.get(1999), last.get(0).getId());
+        assertEquals("Hotel 1999", new String(last.get(0).bytes(), StandardCharsets.UTF_8));
+        assertEquals(198, many.find(RsqlSearchOperation.parser().parse("city=='City 0'")).orElseThrow().size());
+    }
+
+    private List<String> find(String filter) {
+        Optional<List<HotelDocument>> documents =
+                columns.find(filter == null ? null : RsqlSearchOperation.parser().parse(filter));
+        return documents.orElseThrow().stream()
+                .map(document -> new String(document.bytes(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private static HotelRow row(String name, String description, String city, Float rating, int facilityMask) {
+        return new HotelRow(UUID.randomUUID(), name, description, "Street", city, rating, facilityMask, bytes(name));
+    }
+
+    private static byte[] bytes(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+}
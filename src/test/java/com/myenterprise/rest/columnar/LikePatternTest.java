@@ -0,0 +1,74 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.columnar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LikePattern}.
+ *
+ * <p>The tests verify the wildcards, the escapes and the case sensitivity of H2.</p>
+ */
+class LikePatternTest {
+
+    /**
+     * {@code %} matches any sequence, also an empty one, and {@code _} exactly one character.
+     */
+    @Test
+    void matchesWildcards() {
+        assertTrue(LikePattern.compile("Mad%").matches("Madrid"));
+        assertTrue(LikePattern.compile("%rid").matches("Madrid"));
+        assertTrue(LikePattern.compile("%dri%").matches("Madrid"));
+        assertTrue(LikePattern.compile("M%d%d").matches("Madrid"));
+        assertTrue(LikePattern.compile("Madrid%").matches("Madrid"));
+        assertTrue(LikePattern.compile("Ma_rid").matches("Madrid"));
+        assertTrue(LikePattern.compile("%").matches(""));
+        assertFalse(LikePattern.compile("Ma_rid").matches("Marid"));
+        assertFalse(LikePattern.compile("%rix%").matches("Madrid"));
+        assertFalse(LikePattern.compile("Madrid").matches("Madrid Centro"));
+    }
+
+    /**
+     * The comparison is case-sensitive.
+     */
+    @Test
+    void isCaseSensitive() {
+        assertTrue(LikePattern.compile("Madrid").matches("Madrid"));
+        assertFalse(LikePattern.compile("madrid").matches("Madrid"));
+    }
+
+    /**
+     * An escaped wildcard matches itself, and a trailing escape is rejected.
+     */
+    @Test
+    void escapesWildcards() {
+        assertTrue(LikePattern.compile("100\\%").matches("100%"));
+        assertFalse(LikePattern.compile("100\\%").matches("1000"));
+        assertTrue(LikePattern.compile("a\\_b").matches("a_b"));
+        assertFalse(LikePattern.compile("a\\_b").matches("axb"));
+        assertThrows(IllegalArgumentException.class, () -> LikePattern.compile("a\\"));
+    }
+}
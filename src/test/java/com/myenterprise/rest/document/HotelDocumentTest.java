@@ -0,0 +1,132 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.document;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.v1.configuration.JacksonConfiguration;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.Hotel;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelDocument}.
+ *
+ * <p>A document must be written as the stored JSON, alone and inside a list, with the
+ * byte based and the character based generators of Jackson, and in every JSON mode, and
+ * copied as it is by {@link HotelDocumentHttpMessageConverter}.</p>
+ */
+class HotelDocumentTest {
+
+    /**
+     * A document is written as the JSON of the hotel it was serialized from.
+     *
+     * @throws Exception if the hotels cannot be serialized
+     */
+    @Test
+    void writesStoredJson() throws Exception {
+        for (String mode : List.of("reflection", "blackbird", "generated")) {
+            ObjectMapper mapper = new ObjectMapper().registerModules(JacksonConfiguration.modules(mode));
+            Hotel hotel = hotel();
+            HotelDocument document = new HotelDocument(hotel.getId(), mapper.writeValueAsBytes(hotel));
+
+            assertArrayEquals(mapper.writeValueAsBytes(hotel), mapper.writeValueAsBytes(document), mode);
+            assertEquals(mapper.writeValueAsString(hotel), mapper.writeValueAsString(document), mode);
+            assertEquals(hotel.getId(), document.getId(), mode);
+            assertNull(document.getName(), mode);
+        }
+    }
+
+    /**
+     * The documents of a list are separated as the serialized hotels would be.
+     *
+     * @throws Exception if the hotels cannot be serialized
+     */
+    @Test
+    void writesDocumentsInList() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Hotel first = hotel();
+        Hotel second = new Hotel().name("Hotel Ritz").facilities(null);
+        List<Hotel> documents = List.of(
+                new HotelDocument(first.getId(), mapper.writeValueAsBytes(first)),
+                new HotelDocument(second.getId(), mapper.writeValueAsBytes(second)));
+
+        String expected = mapper.writeValueAsString(List.of(first, second));
+        assertEquals(expected, new String(mapper.writeValueAsBytes(documents), StandardCharsets.UTF_8));
+        assertEquals(expected, mapper.writeValueAsString(documents));
+    }
+
+    /**
+     * A document larger than the output buffer of the generator is written whole.
+     *
+     * @throws Exception if the hotel cannot be serialized
+     */
+    @Test
+    void writesLargeDocument() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Hotel hotel = hotel().description("Ñandú ".repeat(20_000));
+        HotelDocument document = new HotelDocument(hotel.getId(), mapper.writeValueAsBytes(hotel));
+
+        assertEquals(mapper.writeValueAsString(List.of(hotel, hotel)),
+                mapper.writeValueAsString(List.of(document, document)));
+        assertArrayEquals(mapper.writeValueAsBytes(List.of(hotel, hotel)),
+                mapper.writeValueAsBytes(List.of(document, document)));
+    }
+
+    /**
+     * The message converter of a single document writes its bytes, with their length, and leaves
+     * the lists to Jackson.
+     *
+     * @throws Exception if the hotel cannot be serialized
+     */
+    @Test
+    void converterCopiesDocument() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Hotel hotel = hotel();
+        HotelDocument document = new HotelDocument(hotel.getId(), mapper.writeValueAsBytes(hotel));
+        HotelDocumentHttpMessageConverter converter = new HotelDocumentHttpMessageConverter();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(document, MediaType.APPLICATION_JSON, output);
+
+        assertArrayEquals(document.bytes(), output.getBodyAsBytes());
+        assertEquals(document.bytes().length, output.getHeaders().getContentLength());
+        assertTrue(converter.canWrite(HotelDocument.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canRead(HotelDocument.class, MediaType.APPLICATION_JSON));
+    }
+
+    private static Hotel hotel() {
+        return new Hotel("Hotel \"Continental\"", "<p>The best</p><script>alert(1)</script>", "Street Falsa 123",
+                "Madrid", 4.5f, true, List.of(new Facility(Facility.TypeEnum.CINEMA, "Cinema")), UUID.randomUUID())
+                .latitude(40.4168).longitude(-3.7038);
+    }
+}
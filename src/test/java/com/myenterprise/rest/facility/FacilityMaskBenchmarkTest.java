@@ -0,0 +1,199 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.facility;
+
+import com.myenterprise.rest.benchmark.H2BenchmarkDatabase;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the filter {@code facilities=all=(cinema,'swimming pool')} as the table grows.
+ *
+ * <p>Each trial creates an in-memory H2 database with the migrations {@code V1}, {@code V2},
+ * {@code V4} and {@code V5} and loads {@link #rows} hotels; each one has a restaurant with a
+ * probability of 50%, a cinema of 20% and a swimming pool of 10%, so about 2% of them match.
+ * Two queries count the matching hotels:</p>
+ * <ul>
+ *   <li>{@code exists}: one {@code EXISTS} subquery on {@code facilities} per type, the
+ *       filter without the mask.</li>
+ *   <li>{@code mask}: {@code facility_mask IN (6, 7)}, the SQL of {@code GenericRsqlSpecification}.</li>
+ * </ul>
+ *
+ * <p>{@link #runAllBenchmarks()} writes the results to {@code target/jmh-facility-mask-results.csv}.</p>
+ */
+@State(Scope.Benchmark)                     // One database shared across all benchmark threads
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.MICROSECONDS)      // Report timings in microseconds
+public class FacilityMaskBenchmarkTest {
+
+    private static final String EXISTS_TYPE =
+            "EXISTS (SELECT 1 FROM facilities f WHERE f.hotel_id = h.id AND f.type = ?)";
+
+    /** Number of hotels loaded in the database. */
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private H2BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement exists;
+    private PreparedStatement mask;
+    private final Random random = new Random(42);
+
+    /**
+     * Creates and loads the database of the trial.
+     *
+     * @throws Exception if the database cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = H2BenchmarkDatabase.create("facility-" + rows);
+        connection = database.connection();
+        database.migrate("V1__baseline.sql", "V2__filter_indexes.sql",
+                "V4__hotels_location.sql", "V5__hotels_facility_mask.sql");
+        load();
+        database.analyze();
+        // The rating bound changes on every call: H2 reuses the result of an unchanged prepared query.
+        exists = connection.prepareStatement("SELECT COUNT(*) FROM hotels h WHERE "
+                + EXISTS_TYPE + " AND " + EXISTS_TYPE + " AND h.rating >= ?");
+        exists.setString(1, "CINEMA");
+        exists.setString(2, "SWIMMING_POOL");
+        StringJoiner masks = new StringJoiner(", ", "(", ")");
+        FacilityMask.supersets(6).forEach(value -> masks.add(value.toString()));
+        mask = connection.prepareStatement("SELECT COUNT(*) FROM hotels h WHERE h.facility_mask IN "
+                + masks + " AND h.rating >= ?");
+    }
+
+    /**
+     * Drops the database of the trial.
+     *
+     * @throws SQLException if the database cannot be dropped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    /**
+     * Facility filter with a subquery per type.
+     *
+     * @return the number of matching hotels
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int exists() throws SQLException {
+        exists.setFloat(3, random.nextInt(100) / 1000f);
+        return H2BenchmarkDatabase.single(exists);
+    }
+
+    /**
+     * Facility filter on the facility mask.
+     *
+     * @return the number of matching hotels
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int mask() throws SQLException {
+        mask.setFloat(1, random.nextInt(100) / 1000f);
+        return H2BenchmarkDatabase.single(mask);
+    }
+
+    private void load() throws SQLException {
+        Random data = new Random(7);
+        database.load(rows, (index, statements) -> {
+            PreparedStatement hotel = statements[0];
+            UUID id = UUID.randomUUID();
+            int bits = 0;
+            bits |= data.nextInt(100) < 50 ? 1 : 0;
+            bits |= data.nextInt(100) < 20 ? 2 : 0;
+            bits |= data.nextInt(100) < 10 ? 4 : 0;
+            hotel.setObject(1, id);
+            hotel.setString(2, "Hotel " + index);
+            hotel.setString(3, "Description of hotel " + index);
+            hotel.setString(4, "Street " + index);
+            hotel.setString(5, "City-" + data.nextInt(1000));
+            hotel.setFloat(6, data.nextInt(501) / 100f);
+            hotel.setBoolean(7, data.nextBoolean());
+            hotel.setInt(8, bits);
+            hotel.addBatch();
+            PreparedStatement facility = statements[1];
+            for (String type : List.of("RESTAURANT", "CINEMA", "SWIMMING_POOL")) {
+                if ((bits & 1) != 0) {
+                    facility.setObject(1, UUID.randomUUID());
+                    facility.setObject(2, id);
+                    facility.setString(3, type);
+                    facility.setString(4, type);
+                    facility.addBatch();
+                }
+                bits >>= 1;
+            }
+        }, "INSERT INTO hotels (id, name, description, address, city, rating, has_wifi, facility_mask) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                "INSERT INTO facilities (id, hotel_id, type, short_description) VALUES (?, ?, ?, ?)");
+    }
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-facility-mask-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(3)                      // Warm‑up to stabilise the JVM
+                .warmupTime(TimeValue.seconds(5))
+                .measurementIterations(5)                 // Number of measured iterations
+                .measurementTime(TimeValue.seconds(5))
+                .forks(1)                                 // Single JVM fork
+                .jvmArgsAppend("-Xmx3g")                  // Room for 1M hotels in memory
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .timeout(TimeValue.minutes(2))            // The subqueries are slow on 1M rows
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-facility-mask-results.csv")
+                .build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.facility;
+
+import com.myenterprise.rest.v1.model.Facility.TypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FacilityMask}.
+ *
+ * <p>The tests verify the bits of the facility types, which must match the backfill of the
+ * migration {@code V5}, the parsing of the {@code =all=} arguments and the masks that contain
+ * a set of types.</p>
+ */
+class FacilityMaskTest {
+
+    /**
+     * The bits follow the order of the enum in {@code schemas.yaml}, as in the migration.
+     */
+    @Test
+    void bitsOfTypes() {
+        assertEquals(1, FacilityMask.bit(TypeEnum.RESTAURANT));
+        assertEquals(2, FacilityMask.bit(TypeEnum.CINEMA));
+        assertEquals(4, FacilityMask.bit(TypeEnum.SWIMMING_POOL));
+        assertEquals(7, FacilityMask.ALL);
+        assertEquals(5, FacilityMask.of(Arrays.asList(TypeEnum.SWIMMING_POOL, null, TypeEnum.RESTAURANT)));
+    }
+
+    /**
+     * The arguments are the values of the API, and anything else is rejected.
+     */
+    @Test
+    void parseArguments() {
+        assertEquals(6, FacilityMask.parse(List.of("cinema", "swimming pool")));
+        assertThrows(IllegalArgumentException.class, () -> FacilityMask.parse(List.of("cinema", "spa")));
+    }
+
+    /**
+     * The supersets of a mask are every mask with its bits, and only those.
+     */
+    @Test
+    void supersets() {
+        assertEquals(List.of(1, 3, 5, 7), FacilityMask.supersets(1));
+        assertEquals(List.of(6, 7), FacilityMask.supersets(6));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), FacilityMask.supersets(0));
+        assertEquals(List.of(7), FacilityMask.supersets(7));
+    }
+}
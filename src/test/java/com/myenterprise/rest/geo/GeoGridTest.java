@@ -0,0 +1,87 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link GeoGrid} and {@link NearQuery}.
+ *
+ * <p>The tests verify that the cells covering a circle contain every point inside it, which
+ * is what makes the pruning of the radius search exact, and the validation of the arguments.</p>
+ */
+class GeoGridTest {
+
+    /**
+     * Every point within the radius is in one of the covering cell ranges.
+     */
+    @Test
+    void coverContainsPointsInsideCircle() {
+        Random random = new Random(1);
+        for (int attempt = 0; attempt < 10_000; attempt++) {
+            double latitude = -80 + random.nextDouble() * 160;
+            double longitude = -170 + random.nextDouble() * 340;
+            double radiusKm = 0.5 + random.nextDouble() * 100;
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            double distance = random.nextDouble() * radiusKm * 0.999;
+            double pointLatitude = latitude + Math.cos(bearing) * distance / 111.2;
+            double pointLongitude = longitude + Math.sin(bearing) * distance
+                    / (111.2 * Math.cos(Math.toRadians(pointLatitude)));
+            if (GeoGrid.distanceKm(latitude, longitude, pointLatitude, pointLongitude) > radiusKm) {
+                continue;
+            }
+
+            long cell = GeoGrid.cell(pointLatitude, pointLongitude);
+            List<GeoGrid.CellRange> ranges = GeoGrid.cover(latitude, longitude, radiusKm);
+            assertTrue(ranges.stream().anyMatch(range -> range.from() <= cell && cell <= range.to()),
+                    () -> "Point %s,%s not covered".formatted(pointLatitude, pointLongitude));
+        }
+    }
+
+    /**
+     * The haversine distance between Madrid and Paris is about 1053 km.
+     */
+    @Test
+    void distanceKm() {
+        assertEquals(1053, GeoGrid.distanceKm(40.4168, -3.7038, 48.8566, 2.3522), 2);
+    }
+
+    /**
+     * The arguments of {@code =near=} must be three numbers in range.
+     */
+    @Test
+    void nearQueryValidation() {
+        assertEquals(new NearQuery(40.4, -3.7, 5), NearQuery.parse(List.of("40.4", "-3.7", "5")));
+        assertThrows(IllegalArgumentException.class, () -> NearQuery.parse(List.of("40.4", "-3.7")));
+        assertThrows(IllegalArgumentException.class, () -> NearQuery.parse(List.of("91", "0", "5")));
+        assertThrows(IllegalArgumentException.class, () -> NearQuery.parse(List.of("40", "0", "0")));
+        assertThrows(IllegalArgumentException.class, () -> NearQuery.parse(List.of("40", "0", "NaN")));
+        assertThrows(IllegalArgumentException.class, () -> NearQuery.parse(List.of("40", "0", "abc")));
+    }
+}
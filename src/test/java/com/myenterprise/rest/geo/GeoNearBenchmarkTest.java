@@ -0,0 +1,216 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.geo;
+
+import com.myenterprise.rest.benchmark.H2BenchmarkDatabase;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the radius search {@code location=near=(lat,lon,50)} as the table grows.
+ *
+ * <p>Each trial creates an in-memory H2 database with the migrations {@code V1} and {@code V4}
+ * and loads {@link #rows} hotels spread uniformly over the inhabited latitudes, so a circle
+ * holds about the same share of the hotels at every size. Two queries are compared:</p>
+ * <ul>
+ *   <li>{@code grid}: the SQL of {@code GenericRsqlSpecification}, an index range on the band
+ *       of {@code geo_cell}, the ranges of each row and then the haversine distance of the candidates.</li>
+ *   <li>{@code scan}: the haversine distance of every hotel, the cost without the grid.</li>
+ * </ul>
+ *
+ * <p>{@link #runAllBenchmarks()} writes the results to {@code target/jmh-geo-near-results.csv}.</p>
+ */
+@State(Scope.Benchmark)                     // One database shared across all benchmark threads
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.MICROSECONDS)      // Report timings in microseconds
+public class GeoNearBenchmarkTest {
+
+    private static final String SELECT_HOTELS =
+            "SELECT id, address, city, description, has_wifi, name, rating, latitude, longitude FROM hotels ";
+
+    private static final String DISTANCE = GeoGrid.distanceSql("latitude", "longitude", "?", "?");
+
+    private static final double RADIUS_KM = 50;
+
+    /** Number of hotels loaded in the database. */
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private H2BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement scan;
+    private final Random random = new Random(42);
+
+    /**
+     * Creates and loads the database of the trial.
+     *
+     * @throws Exception if the database cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = H2BenchmarkDatabase.create("geo-" + rows);
+        connection = database.connection();
+        database.migrate("V1__baseline.sql", "V4__hotels_location.sql");
+        load();
+        database.analyze();
+        scan = connection.prepareStatement(SELECT_HOTELS + "WHERE " + DISTANCE + " <= ?");
+    }
+
+    /**
+     * Drops the database of the trial.
+     *
+     * @throws SQLException if the database cannot be dropped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    /**
+     * Radius search pruned by the grid cells.
+     *
+     * @return the number of hotels found
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int grid() throws SQLException {
+        NearQuery near = randomQuery();
+        List<GeoGrid.CellRange> cells = near.cells();
+        GeoGrid.CellRange band = near.band();
+        StringJoiner ranges = new StringJoiner(" OR ", "(", ")");
+        cells.forEach(range -> ranges.add("geo_cell BETWEEN ? AND ?"));
+        try (PreparedStatement statement = connection.prepareStatement(
+                SELECT_HOTELS + "WHERE geo_cell BETWEEN ? AND ? AND " + ranges + " AND " + DISTANCE + " <= ?")) {
+            statement.setLong(1, band.from());
+            statement.setLong(2, band.to());
+            int index = 3;
+            for (GeoGrid.CellRange range : cells) {
+                statement.setLong(index++, range.from());
+                statement.setLong(index++, range.to());
+            }
+            bindDistance(statement, index, near);
+            return H2BenchmarkDatabase.count(statement);
+        }
+    }
+
+    /**
+     * Radius search that computes the distance of every hotel.
+     *
+     * @return the number of hotels found
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int scan() throws SQLException {
+        bindDistance(scan, 1, randomQuery());
+        return H2BenchmarkDatabase.count(scan);
+    }
+
+    private NearQuery randomQuery() {
+        return new NearQuery(latitude(random), longitude(random), RADIUS_KM);
+    }
+
+    /**
+     * Binds the center and the radius; the latitude of the center appears twice in {@link #DISTANCE}.
+     */
+    private static void bindDistance(PreparedStatement statement, int index, NearQuery near) throws SQLException {
+        statement.setDouble(index, near.latitude());
+        statement.setDouble(index + 1, near.latitude());
+        statement.setDouble(index + 2, near.longitude());
+        statement.setDouble(index + 3, near.radiusKm());
+    }
+
+    private static double latitude(Random random) {
+        return -55 + random.nextDouble() * 125;
+    }
+
+    private static double longitude(Random random) {
+        return -180 + random.nextDouble() * 360;
+    }
+
+    private void load() throws SQLException {
+        Random data = new Random(7);
+        database.load(rows, (index, statements) -> {
+            PreparedStatement hotel = statements[0];
+            double latitude = latitude(data);
+            double longitude = longitude(data);
+            hotel.setObject(1, UUID.randomUUID());
+            hotel.setString(2, "Hotel " + index);
+            hotel.setString(3, "Description of hotel " + index);
+            hotel.setString(4, "Street " + index);
+            hotel.setString(5, "City-" + data.nextInt(1000));
+            hotel.setFloat(6, data.nextInt(501) / 100f);
+            hotel.setBoolean(7, data.nextBoolean());
+            hotel.setDouble(8, latitude);
+            hotel.setDouble(9, longitude);
+            hotel.setLong(10, GeoGrid.cell(latitude, longitude));
+            hotel.addBatch();
+        }, "INSERT INTO hotels (id, name, description, address, city, rating, has_wifi, latitude, longitude, geo_cell) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-geo-near-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(3)                      // Warm‑up to stabilise the JVM
+                .warmupTime(TimeValue.seconds(5))
+                .measurementIterations(5)                 // Number of measured iterations
+                .measurementTime(TimeValue.seconds(5))
+                .forks(1)                                 // Single JVM fork
+                .jvmArgsAppend("-Xmx3g")                  // Room for 1M hotels in memory
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .timeout(TimeValue.minutes(2))            // The scans are slow on 1M rows
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-geo-near-results.csv")
+                .build()).run();
+    }
+}
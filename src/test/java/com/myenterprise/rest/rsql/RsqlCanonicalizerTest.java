@@ -0,0 +1,88 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.rsql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RsqlCanonicalizer}.
+ *
+ * <p>The tests verify that the filters that only differ in how they are written share a key,
+ * and that the filters with a different meaning do not.</p>
+ */
+class RsqlCanonicalizerTest {
+
+    /**
+     * The order of the children of a group does not change the key.
+     */
+    @Test
+    void sortsChildren() {
+        assertEquals(key("city=='Madrid';rating>='4'"), key("rating>=4;city==Madrid"));
+        assertEquals(key("city==Madrid,city==Paris"), key("city==Paris,city==Madrid"));
+        assertEquals("(city=='Madrid';rating=ge='4')", key("rating>=4;city==Madrid"));
+    }
+
+    /**
+     * Nested groups of the same kind are flattened, repeated children removed, and a group of
+     * one child is the child.
+     */
+    @Test
+    void flattensGroups() {
+        assertEquals(key("a==1;b==2;c==3"), key("(c==3;b==2);(a==1;c==3)"));
+        assertEquals(key("a==1"), key("a==1;a==1"));
+        assertEquals("((a=='1',b=='2');c=='3')", key("c==3;(b==2,a==1)"));
+        assertNotEquals(key("(a==1;b==2),c==3"), key("a==1;(b==2,c==3)"));
+    }
+
+    /**
+     * The arguments of the set operators are sorted, and the rating bounds are compared as numbers.
+     */
+    @Test
+    void normalizesArguments() {
+        assertEquals(key("city=in=(Madrid,Paris)"), key("city=in=(Paris,Madrid,Paris)"));
+        assertEquals(key("facilities=all=(cinema,restaurant)"), key("facilities=all=(restaurant,cinema)"));
+        assertEquals(key("rating=ge=4.50"), key("rating>=4.5"));
+        assertEquals("rating=ge='4.5'", key("rating>=4.50"));
+        assertEquals(key("rating<40"), key("rating<4.0E1"));
+        // Equalities are patterns: 4.0 and 4 are different texts.
+        assertNotEquals(key("rating==4.0"), key("rating==4"));
+        assertNotEquals(key("name>=4.0"), key("name>=4"));
+        // The order of the coordinates matters.
+        assertNotEquals(key("location=near=(40,-3,5)"), key("location=near=(-3,40,5)"));
+    }
+
+    /**
+     * No filter has the empty key.
+     */
+    @Test
+    void emptyKeyWithoutFilter() {
+        assertEquals(RsqlCanonicalizer.NO_FILTER, RsqlCanonicalizer.key(null));
+    }
+
+    private static String key(String filter) {
+        return RsqlCanonicalizer.key(RsqlSearchOperation.parser().parse(filter));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.rsql;
+
+import com.myenterprise.rest.rsql.RsqlUsageRecorder.FilterShape;
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RsqlUsageRecorder}.
+ *
+ * <p>The tests verify how the filters are split into shapes and how the comparisons
+ * are classified by the index access they allow.</p>
+ */
+class RsqlUsageRecorderTest {
+
+    /**
+     * The comparisons of an AND form one shape; equality and range selectors are separated.
+     */
+    @Test
+    void conjunctionIsOneShape() {
+        List<FilterShape> shapes = RsqlUsageRecorder.shapes(new RSQLParser().parse("city==Madrid;rating>=4;name!=Ritz"));
+
+        assertEquals(List.of(shape(List.of("city"), List.of("rating"))), shapes);
+    }
+
+    /**
+     * Each branch of an OR is a shape of its own.
+     */
+    @Test
+    void disjunctionSplitsShapes() {
+        List<FilterShape> shapes = RsqlUsageRecorder.shapes(new RSQLParser().parse("city==Madrid,rating>4"));
+
+        assertEquals(List.of(shape(List.of("city"), List.of()), shape(List.of(), List.of("rating"))), shapes);
+    }
+
+    /**
+     * Wildcards decide whether an equality is a lookup, a range or not indexable.
+     */
+    @Test
+    void wildcardsChangeTheAccess() {
+        List<FilterShape> shapes = RsqlUsageRecorder.shapes(new RSQLParser().parse("name==Gran*;city==*drid"));
+
+        assertEquals(List.of(shape(List.of(), List.of("name"))), shapes);
+    }
+
+    /**
+     * The counters are accumulated per selector and operator, and per shape.
+     */
+    @Test
+    void recordAccumulatesUsage() {
+        RsqlUsageRecorder recorder = new RsqlUsageRecorder();
+        recorder.record(new RSQLParser().parse("city==Madrid;rating>=4"), 2_000_000);
+        recorder.record(new RSQLParser().parse("city==Paris;rating>=3"), 4_000_000);
+
+        RsqlUsageRecorder.Usage city = recorder.selectorUsage().get(new RsqlUsageRecorder.SelectorOperator("city", "=="));
+        assertEquals(2, city.requests());
+        assertEquals(3.0, city.averageMillis(), 1e-9);
+        assertEquals(2, recorder.shapeUsage().get(shape(List.of("city"), List.of("rating"))).requests());
+    }
+
+    private static FilterShape shape(List<String> equality, List<String> range) {
+        return new FilterShape(new TreeSet<>(equality), new TreeSet<>(range));
+    }
+}
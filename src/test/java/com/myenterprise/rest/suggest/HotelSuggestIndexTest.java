@@ -0,0 +1,100 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelSuggestIndex}.
+ *
+ * <p>The tests verify the normalization of the terms, the matches from any word of the name
+ * and from the city, and the incremental updates.</p>
+ */
+class HotelSuggestIndexTest {
+
+    private static final UUID HILTON = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID MALAGA = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID RITZ = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    /**
+     * A hotel is found from any word of its name and from its city, ignoring case and accents.
+     */
+    @Test
+    void suggestsByWordAndCity() {
+        HotelSuggestIndex index = index();
+
+        assertEquals(List.of(HILTON), ids(index.suggest("HIL", 10)));
+        assertEquals(List.of(HILTON), ids(index.suggest("airport", 10)));
+        assertEquals(List.of(MALAGA), ids(index.suggest("Mála", 10)));
+        assertEquals(List.of(MALAGA), ids(index.suggest("sol de", 10)));
+        assertEquals(List.of(HILTON, RITZ), ids(index.suggest("madrid", 10)));
+        assertEquals("Hilton Madrid Airport", index.suggest("hilton", 1).get(0).name());
+    }
+
+    /**
+     * A hotel matched by several terms is returned once, and the limit is respected.
+     */
+    @Test
+    void distinctHotelsUpToLimit() {
+        HotelSuggestIndex index = index();
+
+        assertEquals(3, index.suggest("h", 10).size());
+        assertEquals(2, index.suggest("h", 2).size());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+    }
+
+    /**
+     * An update replaces the terms of the hotel and a removal drops them.
+     */
+    @Test
+    void updatesAndRemovals() {
+        HotelSuggestIndex index = index();
+
+        index.put(RITZ, "Hotel Palace", "Barcelona");
+        assertTrue(index.suggest("ritz", 10).isEmpty());
+        assertEquals(List.of(RITZ), ids(index.suggest("barc", 10)));
+
+        index.remove(RITZ);
+        assertTrue(index.suggest("palace", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    private static HotelSuggestIndex index() {
+        HotelSuggestIndex index = new HotelSuggestIndex();
+        index.put(HILTON, "Hilton Madrid Airport", "Madrid");
+        index.put(MALAGA, "Hotel Sol de Málaga", "Málaga");
+        index.put(RITZ, "Hotel <b>Ritz</b>", "Madrid");
+        return index;
+    }
+
+    private static List<UUID> ids(List<HotelSuggestIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(HotelSuggestIndex.Suggestion::id).toList();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RadixTrie}.
+ *
+ * <p>The tests compare the trie with a sorted map after random insertions and removals, which
+ * split and merge the compressed edges, and verify that a visit stops when asked to.</p>
+ */
+class RadixTrieTest {
+
+    /**
+     * The values visited for a prefix are those of the sorted map, in the same order.
+     */
+    @Test
+    void matchesSortedMap() {
+        Random random = new Random(3);
+        RadixTrie<Integer> trie = new RadixTrie<>();
+        TreeMap<String, TreeSet<Integer>> expected = new TreeMap<>();
+        for (int operation = 0; operation < 20_000; operation++) {
+            String key = randomKey(random);
+            int value = random.nextInt(4);
+            if (random.nextInt(3) == 0) {
+                TreeSet<Integer> values = expected.get(key);
+                boolean removed = values != null && values.remove(value);
+                if (values != null && values.isEmpty()) {
+                    expected.remove(key);
+                }
+                assertEquals(removed, trie.remove(key, value));
+            } else {
+                boolean added = expected.computeIfAbsent(key, ignored -> new TreeSet<>()).add(value);
+                assertEquals(added, trie.put(key, value));
+            }
+        }
+
+        assertEquals(expected.values().stream().mapToInt(TreeSet::size).sum(), trie.size());
+        for (String prefix : List.of("", "a", "ab", "ba", "abc", "cab", "zz")) {
+            List<String> expectedKeys = new ArrayList<>();
+            for (Map.Entry<String, TreeSet<Integer>> entry : expected.entrySet()) {
+                if (entry.getKey().startsWith(prefix)) {
+                    entry.getValue().forEach(ignored -> expectedKeys.add(entry.getKey()));
+                }
+            }
+            List<Integer> visited = new ArrayList<>();
+            trie.visit(prefix, visited::add);
+            assertEquals(expectedKeys.size(), visited.size(), () -> "prefix " + prefix);
+        }
+    }
+
+    /**
+     * Shorter keys are visited first, and the visit stops when the visitor returns {@code false}.
+     */
+    @Test
+    void visitInOrderAndStops() {
+        RadixTrie<String> trie = new RadixTrie<>();
+        for (String key : List.of("hilton", "hil", "hotel", "hill", "hilton garden")) {
+            trie.put(key, key);
+        }
+
+        List<String> visited = new ArrayList<>();
+        trie.visit("hil", visited::add);
+        assertEquals(List.of("hil", "hill", "hilton", "hilton garden"), visited);
+
+        List<String> firstTwo = new ArrayList<>();
+        trie.visit("h", key -> {
+            firstTwo.add(key);
+            return firstTwo.size() < 2;
+        });
+        assertEquals(List.of("hil", "hill"), firstTwo);
+
+        List<String> none = new ArrayList<>();
+        trie.visit("hix", none::add);
+        assertTrue(none.isEmpty());
+    }
+
+    private static String randomKey(Random random) {
+        StringBuilder key = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int index = 0; index < length; index++) {
+            key.append((char) ('a' + random.nextInt(3)));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.suggest;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the type-ahead lookups of {@link HotelSuggestIndex}.
+ *
+ * <p>The index is loaded with {@link #hotels} names made of common hotel words, a brand and a
+ * city, and each operation looks up a random prefix of one to four letters, as typed in a search
+ * box. The mode is {@link Mode#SampleTime}, so the CSV written by {@link #runAllBenchmarks()} to
+ * {@code target/jmh-suggest-results.csv} includes the percentiles (p99, p99.9) of the latency,
+ * not only the average.</p>
+ */
+@State(Scope.Benchmark)                     // One index shared across all benchmark threads
+@BenchmarkMode(Mode.SampleTime)             // Sample the latency of each operation
+@OutputTimeUnit(TimeUnit.MICROSECONDS)      // Report timings in microseconds
+public class SuggestIndexBenchmarkTest {
+
+    private static final List<String> WORDS = List.of("hotel", "hostal", "grand", "palace", "plaza",
+            "royal", "suites", "resort", "inn", "boutique", "central", "park", "garden", "beach", "tower",
+            "hilton", "marriott", "melia", "ibis", "novotel", "holiday", "express", "airport", "station");
+
+    private static final List<String> CITIES = List.of("Madrid", "Barcelona", "Valencia", "Sevilla",
+            "Málaga", "Bilbao", "Paris", "Lisboa", "London", "Berlin", "Roma", "Milano");
+
+    /** Number of hotels in the index. */
+    @Param({"10000", "100000", "1000000"})
+    public int hotels;
+
+    private HotelSuggestIndex index;
+    private String[] queries;
+    private int next;
+
+    /**
+     * Loads the index and prepares the queries.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new HotelSuggestIndex();
+        for (int hotel = 0; hotel < hotels; hotel++) {
+            String city = CITIES.get(random.nextInt(CITIES.size()));
+            String name = word(random) + " " + word(random) + " " + city + " " + hotel;
+            index.put(UUID.randomUUID(), name, city);
+        }
+        queries = new String[4096];
+        for (int query = 0; query < queries.length; query++) {
+            String word = random.nextBoolean() ? word(random) : CITIES.get(random.nextInt(CITIES.size()));
+            queries[query] = word.substring(0, Math.min(word.length(), 1 + random.nextInt(4)));
+        }
+    }
+
+    /**
+     * Looks up the first ten hotels of a random prefix.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public List<HotelSuggestIndex.Suggestion> suggest() {
+        next = (next + 1) & (queries.length - 1);
+        return index.suggest(queries[next], 10);
+    }
+
+    private static String word(Random random) {
+        return WORDS.get(random.nextInt(WORDS.size()));
+    }
+
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-suggest-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(3)                      // Warm‑up to stabilise the JVM
+                .warmupTime(TimeValue.seconds(3))
+                .measurementIterations(5)                 // Number of measured iterations
+                .measurementTime(TimeValue.seconds(3))
+                .threads(4)                               // Concurrent lookups, as several users typing
+                .forks(1)                                 // Single JVM fork
+                .jvmArgsAppend("-Xmx3g")                  // Room for 1M hotels in the index
+                .timeUnit(TimeUnit.MICROSECONDS)
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-suggest-results.csv")
+                .build()).run();
+    }
+}
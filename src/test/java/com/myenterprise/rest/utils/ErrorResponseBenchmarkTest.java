@@ -0,0 +1,135 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.v1.model.Error;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the error path of {@link ResponseUtils} under flood conditions:
+ * eight threads write {@code 400} responses as fast as they can, as during a flood of
+ * invalid RSQL filters.
+ *
+ * <p>The scenarios are:</p>
+ * <ul>
+ *   <li>{@link #newMapperPerError()}: the previous implementation, which created a new
+ *       {@link ObjectMapper} for every error.</li>
+ *   <li>{@link #sharedWriter()}: a dynamic message written with the shared writer.</li>
+ *   <li>{@link #preparedError()}: a fixed error written from its pre-serialized bytes.</li>
+ * </ul>
+ *
+ * <p>The results are reported as operations per millisecond and written by
+ * {@link #runAllBenchmarks()} to {@code target/jmh-error-response-results.csv}.</p>
+ */
+@State(Scope.Benchmark)                     // One instance shared across all benchmark threads
+@BenchmarkMode(Mode.Throughput)             // Measure error responses written per time unit
+@OutputTimeUnit(TimeUnit.MILLISECONDS)      // Report throughput per millisecond
+@Threads(8)                                 // Flood: many concurrent failing requests
+public class ErrorResponseBenchmarkTest {
+
+    private static final String MESSAGE = "Unable to parse RSQL expression.";
+
+    private static final ResponseUtils.PreparedError PREPARED =
+            ResponseUtils.prepareError(MESSAGE, 400, ResponseUtils.BAD_REQUEST_CODE);
+
+    /**
+     * Writes an error the way {@code ResponseUtils} did before the shared writer.
+     *
+     * @return the written response
+     * @throws Exception if the response cannot be written
+     */
+    @Benchmark
+    public MockHttpServletResponse newMapperPerError() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Error err = new Error();
+        err.setError(ResponseUtils.BAD_REQUEST_CODE);
+        err.setMessage(MESSAGE);
+        response.setStatus(400);
+        response.setContentType("application/json");
+        new ObjectMapper().writeValue(response.getOutputStream(), err);
+        return response;
+    }
+
+    /**
+     * Writes an error with a dynamic message through the shared writer.
+     *
+     * @return the written response
+     * @throws Exception if the response cannot be written
+     */
+    @Benchmark
+    public MockHttpServletResponse sharedWriter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseUtils.writeErrorResponse(response, MESSAGE, 400, ResponseUtils.BAD_REQUEST_CODE);
+        return response;
+    }
+
+    /**
+     * Writes a pre-serialized error.
+     *
+     * @return the written response
+     * @throws Exception if the response cannot be written
+     */
+    @Benchmark
+    public MockHttpServletResponse preparedError() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseUtils.writeErrorResponse(response, PREPARED);
+        return response;
+    }
+
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-error-response-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(5)                      // Warm‑up to stabilise the JVM
+                .measurementIterations(10)                // Number of measured iterations
+                .forks(1)                                 // Single JVM fork
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .timeout(TimeValue.seconds(30))           // Abort if a single iteration exceeds 30s
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-error-response-results.csv")
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.v1.model.Error;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the error responses of {@link ResponseUtils}.
+ *
+ * <p>The prepared (pre-serialized) errors must produce the same body as the errors
+ * serialized on every call, and the prepared {@link ResponseEntity} bodies must be
+ * {@link Error}s.</p>
+ */
+class ResponseUtilsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * A prepared error and a dynamic error with the same content must write the same response.
+     *
+     * @throws Exception if the response cannot be written or read
+     */
+    @Test
+    void preparedErrorMatchesDynamicError() throws Exception {
+        MockHttpServletResponse prepared = new MockHttpServletResponse();
+        ResponseUtils.writeErrorResponse(prepared,
+                ResponseUtils.prepareError("Unable to parse RSQL expression.", 400, ResponseUtils.BAD_REQUEST_CODE));
+
+        MockHttpServletResponse dynamic = new MockHttpServletResponse();
+        ResponseUtils.writeErrorResponse(dynamic, "Unable to parse RSQL expression.", 400, ResponseUtils.BAD_REQUEST_CODE);
+
+        assertEquals(400, prepared.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, prepared.getContentType());
+        assertEquals(dynamic.getContentAsString(), prepared.getContentAsString());
+
+        Error error = mapper.readValue(prepared.getContentAsByteArray(), Error.class);
+        assertEquals(ResponseUtils.BAD_REQUEST_CODE, error.getError());
+        assertEquals("Unable to parse RSQL expression.", error.getMessage());
+    }
+
+    /**
+     * The fixed errors returned as {@link ResponseEntity} have an {@link Error} body, serialized
+     * once, and written by the converter as the same JSON as the {@code ObjectMapper} would.
+     *
+     * @throws Exception if the body cannot be written or read
+     */
+    @Test
+    void notFoundResponseIsPreparedError() throws Exception {
+        ResponseEntity<Object> response = ResponseUtils.notFoundResponse("Hotel not found");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Error error = assertInstanceOf(Error.class, response.getBody());
+        assertEquals(ResponseUtils.NOT_FOUND_CODE, error.getError());
+        assertEquals("Hotel not found", error.getMessage());
+        assertSame(error, ResponseUtils.notFoundResponse("Hotel not found").getBody());
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        new ErrorDocumentHttpMessageConverter().write((ErrorDocument) error, MediaType.APPLICATION_JSON, output);
+        assertEquals(mapper.writeValueAsString(new Error(ResponseUtils.NOT_FOUND_CODE, "Hotel not found")),
+                output.getBodyAsString());
+        assertEquals(output.getBodyAsBytes().length, output.getHeaders().getContentLength());
+        assertThrows(UnsupportedOperationException.class, () -> error.setMessage("changed"));
+    }
+}
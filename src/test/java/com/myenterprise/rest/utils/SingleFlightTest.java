@@ -0,0 +1,155 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ *
+ * <p>The tests verify that the concurrent calls of a key share one computation, its result and
+ * its failure, and that a key is released when the computation completes, times out or is
+ * forgotten.</p>
+ */
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofSeconds(5));
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * The calls of a key in flight share its computation; another key has its own.
+     *
+     * @throws Exception if a future fails
+     */
+    @Test
+    void sharesComputationInFlight() throws Exception {
+        CompletableFuture<String> computation = new CompletableFuture<>();
+        List<CompletableFuture<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            waiters.add(flight.execute("madrid", () -> start(computation)));
+        }
+        CompletableFuture<String> other = flight.execute("paris", () -> start(CompletableFuture.completedFuture("Paris")));
+
+        computation.complete("Madrid");
+
+        for (CompletableFuture<String> waiter : waiters) {
+            assertEquals("Madrid", waiter.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals("Paris", other.get(1, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+        assertEquals(2, flight.started());
+        assertEquals(99, flight.joined());
+    }
+
+    /**
+     * A completed computation releases its key: nothing is cached.
+     *
+     * @throws Exception if a future fails
+     */
+    @Test
+    void releasesKeyWhenCompleted() throws Exception {
+        flight.execute("madrid", () -> start(CompletableFuture.completedFuture("first"))).get();
+        String second = flight.execute("madrid", () -> start(CompletableFuture.completedFuture("second"))).get();
+
+        assertEquals("second", second);
+        assertEquals(2, calls.get());
+    }
+
+    /**
+     * A failure reaches every waiter, whether the future fails or the call throws, and the key
+     * is released.
+     */
+    @Test
+    void propagatesFailureToEveryWaiter() {
+        CompletableFuture<String> computation = new CompletableFuture<>();
+        CompletableFuture<String> first = flight.execute("madrid", () -> start(computation));
+        CompletableFuture<String> second = flight.execute("madrid", () -> start(computation));
+        computation.completeExceptionally(new IllegalStateException("database down"));
+
+        for (CompletableFuture<String> waiter : List.of(first, second)) {
+            ExecutionException error = assertThrows(ExecutionException.class, () -> waiter.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+        }
+
+        CompletableFuture<String> thrown = flight.execute("madrid", () -> {
+            throw new IllegalArgumentException("invalid");
+        });
+        assertTrue(thrown.isCompletedExceptionally());
+        assertEquals(1, calls.get());
+    }
+
+    /**
+     * A computation that does not complete within the timeout fails its waiters and releases its key.
+     *
+     * @throws Exception if a future fails
+     */
+    @Test
+    void timesOut() throws Exception {
+        SingleFlight<String, String> quick = new SingleFlight<>(Duration.ofMillis(50));
+        CompletableFuture<String> stuck = quick.execute("madrid", () -> start(new CompletableFuture<>()));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> stuck.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        assertEquals("again", quick.execute("madrid", () -> start(CompletableFuture.completedFuture("again"))).get());
+    }
+
+    /**
+     * A waiter that cancels its future does not cancel the others, and a forgotten key starts a
+     * new computation while the previous one goes on.
+     *
+     * @throws Exception if a future fails
+     */
+    @Test
+    void isolatesWaitersAndForgets() throws Exception {
+        CompletableFuture<String> computation = new CompletableFuture<>();
+        CompletableFuture<String> cancelled = flight.execute("madrid", () -> start(computation));
+        CompletableFuture<String> waiting = flight.execute("madrid", () -> start(computation));
+        cancelled.cancel(true);
+
+        flight.forget("madrid");
+        CompletableFuture<String> fresh = flight.execute("madrid", () -> start(CompletableFuture.completedFuture("new")));
+        computation.complete("old");
+
+        assertEquals("old", waiting.get(1, TimeUnit.SECONDS));
+        assertEquals("new", fresh.get(1, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    private CompletableFuture<String> start(CompletableFuture<String> computation) {
+        calls.incrementAndGet();
+        return computation;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StringInterner}.
+ *
+ * <p>The tests verify that equal values share one instance and that the table stays bounded.</p>
+ */
+class StringInternerTest {
+
+    /**
+     * Equal values read separately must be returned as the first instance seen.
+     */
+    @Test
+    void returnsSharedInstance() {
+        StringInterner interner = new StringInterner(16);
+        String first = new String("Madrid");
+        String second = new String("Madrid");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertNull(interner.intern(null));
+    }
+
+    /**
+     * The number of slots is the capacity rounded up to a power of two.
+     */
+    @Test
+    void roundsCapacityToPowerOfTwo() {
+        assertEquals(1, new StringInterner(1).capacity());
+        assertEquals(16, new StringInterner(16).capacity());
+        assertEquals(32, new StringInterner(17).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new StringInterner(0));
+    }
+
+    /**
+     * With one slot, a new value replaces the shared one: the table never grows, and the
+     * evicted value is still returned equal, only not shared.
+     */
+    @Test
+    void evictsOnCollision() {
+        StringInterner interner = new StringInterner(1);
+        String madrid = new String("Madrid");
+        String paris = new String("Paris");
+        interner.intern(madrid);
+
+        assertSame(paris, interner.intern(paris));
+        String copy = new String("Madrid");
+        assertSame(copy, interner.intern(copy));
+        assertSame(copy, interner.intern(new String("Madrid")));
+    }
+}
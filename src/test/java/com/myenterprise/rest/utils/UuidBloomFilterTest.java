@@ -0,0 +1,103 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UuidBloomFilter}.
+ *
+ * <p>The tests verify that an added identifier is always found and that the share of the
+ * identifiers not added that pass stays near the configured rate, for random and for
+ * sequential identifiers.</p>
+ */
+class UuidBloomFilterTest {
+
+    /**
+     * Every added identifier is found, and about 1% of the others pass.
+     */
+    @Test
+    void noFalseNegativesAndBoundedFalsePositives() {
+        UuidBloomFilter filter = new UuidBloomFilter(100_000, 0.01);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            filter.add(id);
+        }
+
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+        double rate = falsePositiveRate(filter, index -> UUID.randomUUID());
+        assertTrue(rate < 0.02, "false positive rate " + rate);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+        assertEquals(7, filter.hashes());
+    }
+
+    /**
+     * Made-up identifiers that only differ in a few bits spread as well as random ones.
+     */
+    @Test
+    void sequentialIdentifiers() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(new UUID(0, i));
+        }
+
+        for (long i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(new UUID(0, i)));
+        }
+        double rate = falsePositiveRate(filter, index -> new UUID(0, 1_000_000 + index));
+        assertTrue(rate < 0.02, "false positive rate " + rate);
+    }
+
+    /**
+     * An empty filter rejects everything, and the sizes are validated.
+     */
+    @Test
+    void emptyAndInvalid() {
+        UuidBloomFilter filter = new UuidBloomFilter(1000, 0.01);
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+        assertEquals(0, filter.expectedFalsePositiveRate());
+
+        assertThrows(IllegalArgumentException.class, () -> new UuidBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new UuidBloomFilter(1000, 1));
+    }
+
+    private static double falsePositiveRate(UuidBloomFilter filter, LongFunction<UUID> probe) {
+        int passed = 0;
+        for (long i = 0; i < 100_000; i++) {
+            if (filter.mightContain(probe.apply(i))) {
+                passed++;
+            }
+        }
+        return passed / 100_000.0;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.advisor;
+
+import com.myenterprise.rest.rsql.RsqlUsageRecorder;
+import cz.jirutka.rsql.parser.RSQLParser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link IndexAdvisor}, on an in-memory H2 database.
+ *
+ * <p>The tests verify that the frequent filter shapes are turned into indexes, and that
+ * the shapes already served by a live index are not recommended again.</p>
+ */
+class IndexAdvisorTest {
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "city", "city", "rating", "rating", "name", "name", "hasWifi", "has_wifi");
+
+    private JdbcTemplate jdbcTemplate;
+    private RsqlUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:index-advisor;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE hotels (id UUID PRIMARY KEY, name VARCHAR(255), city VARCHAR(255), "
+                + "rating FLOAT(24), has_wifi BOOLEAN)");
+        recorder = new RsqlUsageRecorder();
+    }
+
+    /**
+     * A frequent equality-and-range filter produces a composite index, equality column first.
+     */
+    @Test
+    void recommendsCompositeIndex() {
+        record("hasWifi==true;city==Madrid;rating>=4", 30);
+        record("city==Paris", 10);
+
+        List<IndexRecommendation> recommendations = advisor(false).recommend();
+
+        assertEquals(1, recommendations.size());
+        assertEquals(List.of("city", "has_wifi", "rating"), recommendations.get(0).columns());
+        assertEquals(30, recommendations.get(0).requests());
+    }
+
+    /**
+     * An existing index with the same equality columns, in another order, covers the shape.
+     */
+    @Test
+    void skipsCoveredShapes() {
+        jdbcTemplate.execute("CREATE INDEX idx_hotels_wifi_city_rating ON hotels (has_wifi, city, rating)");
+        record("hasWifi==true;city==Madrid;rating>=4", 30);
+
+        assertTrue(advisor(false).recommend().isEmpty());
+    }
+
+    /**
+     * The online creation is refused unless enabled, and creates the index when enabled.
+     */
+    @Test
+    void createsIndexesOnlyWhenAllowed() {
+        record("name==Gran*", 25);
+
+        assertThrows(IllegalStateException.class, () -> advisor(false).createRecommended());
+
+        assertEquals(1, advisor(true).createRecommended().size());
+        assertTrue(advisor(true).recommend().isEmpty());
+    }
+
+    private IndexAdvisor advisor(boolean allowCreate) {
+        return new IndexAdvisor(jdbcTemplate, recorder, COLUMNS, 20, allowCreate);
+    }
+
+    private void record(String filter, int times) {
+        for (int index = 0; index < times; index++) {
+            recorder.record(new RSQLParser().parse(filter), 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.Hotel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JSON modes of {@link JacksonConfiguration}.
+ *
+ * <p>The serializers generated from the OpenAPI models must write exactly the same
+ * JSON as the reflection based serializers, including the sanitization of the
+ * {@code @SanitizeHtml} fields and the {@code null} values.</p>
+ */
+class JacksonConfigurationTest {
+
+    /**
+     * The three modes must produce the same JSON for a list of hotels.
+     *
+     * @throws Exception if the hotels cannot be serialized
+     */
+    @Test
+    void modesProduceSameJson() throws Exception {
+        List<Hotel> hotels = List.of(hotel(), new Hotel().facilities(null));
+
+        String reflection = mapper("reflection").writeValueAsString(hotels);
+
+        assertFalse(reflection.contains("<script>"));
+        assertEquals(reflection, mapper("blackbird").writeValueAsString(hotels));
+        assertEquals(reflection, mapper("generated").writeValueAsString(hotels));
+    }
+
+    /**
+     * An unknown mode must be rejected at startup.
+     */
+    @Test
+    void unknownModeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new JacksonConfiguration("afterburner"));
+    }
+
+    private static ObjectMapper mapper(String mode) {
+        return new ObjectMapper().registerModules(JacksonConfiguration.modules(mode));
+    }
+
+    private static Hotel hotel() {
+        List<Facility> facilities = new ArrayList<>();
+        facilities.add(new Facility(Facility.TypeEnum.SWIMMING_POOL, "<b>Heated</b> pool<script>alert(1)</script>"));
+        facilities.add(new Facility(null, null));
+        return new Hotel("Hotel \"Continental\"", "<p>The best</p><img src=x onerror=alert(1)>",
+                "Street Falsa 123", "Madrid", 4.5f, true, facilities, UUID.randomUUID());
+    }
+}
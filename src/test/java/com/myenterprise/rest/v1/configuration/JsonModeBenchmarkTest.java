@@ -0,0 +1,133 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.myenterprise.rest.annotation.sanitizehtml.SanitizerCorpusGenerator;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.Hotel;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark that compares the JSON modes of {@link JacksonConfiguration}
+ * ({@code reflection}, {@code blackbird} and {@code generated}) serializing a list of
+ * {@link Hotel}s, as the {@code GET /hotels} endpoint does.
+ *
+ * <p>The descriptions come from {@link SanitizerCorpusGenerator}, so part of them contain
+ * HTML and go through the sanitizer. The sanitizer cache is warmed in the setup, so the
+ * benchmark measures the serialization cost rather than the OWASP policy.</p>
+ *
+ * <p>{@link #runAllBenchmarks()} writes the results to {@code target/jmh-json-mode-results.csv}.</p>
+ */
+@State(Scope.Benchmark)                     // One instance shared across all benchmark threads
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.MILLISECONDS)      // Report timings in milliseconds
+public class JsonModeBenchmarkTest {
+
+    /** JSON mode of the mapper, see {@link JacksonConfiguration#modules(String)}. */
+    @Param({"reflection", "blackbird", "generated"})
+    public String mode;
+
+    /** Number of hotels of the serialized list. */
+    @Param({"1", "10", "100", "1000", "2000"})
+    public int elements;
+
+    private ObjectWriter writer;
+    private List<Hotel> hotels;
+
+    /**
+     * Builds the mapper of the current mode and the list of hotels, and serializes the
+     * list once to warm the sanitizer cache and the serializer cache of the mapper.
+     *
+     * @throws Exception if the hotels cannot be serialized
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        writer = new ObjectMapper().registerModules(JacksonConfiguration.modules(mode)).writer();
+
+        Iterator<String> texts = SanitizerCorpusGenerator.fromMix("70/25/5", 0.1, 42L)
+                .generate(elements * 2).iterator();
+        hotels = new ArrayList<>(elements);
+        for (int index = 0; index < elements; index++) {
+            List<Facility> facilities = new ArrayList<>();
+            facilities.add(new Facility(Facility.TypeEnum.RESTAURANT, texts.next()));
+            facilities.add(new Facility(Facility.TypeEnum.SWIMMING_POOL, "Open from 9:00 to 20:00"));
+            hotels.add(new Hotel("Hotel " + index, texts.next(), "Street Falsa " + index, "Madrid",
+                    4.5f, index % 2 == 0, facilities, UUID.randomUUID()));
+        }
+        writer.writeValueAsBytes(hotels);
+    }
+
+    /**
+     * Serializes the list of hotels to UTF-8 bytes, as the message converter does.
+     *
+     * @return the JSON bytes
+     * @throws Exception if the hotels cannot be serialized
+     */
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(hotels);
+    }
+
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-json-mode-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(5)                      // Warm‑up to stabilise the JVM
+                .measurementIterations(10)                // Number of measured iterations
+                .forks(1)                                 // Single JVM fork
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .timeout(TimeValue.seconds(30))           // Abort if a single iteration exceeds 30s
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-json-mode-results.csv")
+                .build()).run();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration;
+
+import com.myenterprise.rest.OpenApiGeneratorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Load test that compares the throughput and the p99 latency of {@code GET /api/v1/hotels}
+ * in the platform-thread mode and in the virtual-thread mode
+ * ({@code spring.threads.virtual.enabled}).
+ *
+ * <p>For each mode the application is started on a random port with an in-memory database
+ * and the rate limit disabled, a few hotels are created, and {@value #CLIENTS} concurrent
+ * clients send {@value #REQUESTS_PER_CLIENT} requests each. The results are written to
+ * {@code target/load-virtual-threads-results.csv}.</p>
+ *
+ * <p>The test is skipped on Java versions older than 21, where virtual threads are not available.</p>
+ */
+public class VirtualThreadsLoadBenchmarkTest {
+
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int HOTELS = 20;
+    private static final String TOKEN = "Bearer 1234567890";
+
+    private static final String HOTEL = """
+            {"name":"Hotel Continental","description":"<p>The best hotel</p>","address":"Street Falsa 123",
+             "city":"Madrid","rating":4.5,"has_wifi":true,
+             "facilities":[{"type":"restaurant","shortDescription":"The best restaurant"}]}
+            """;
+
+    /**
+     * Runs the load against both modes and writes the CSV report.
+     *
+     * @throws Exception if an application cannot be started or a request fails
+     */
+    @Test
+    void compareThreadModes() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads require Java 21");
+
+        List<String> rows = new ArrayList<>();
+        rows.add("mode,requests,throughput_rps,p50_ms,p99_ms");
+        rows.add(run("platform", false));
+        rows.add(run("virtual", true));
+
+        Path report = Path.of("target", "load-virtual-threads-results.csv");
+        Files.createDirectories(report.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report))) {
+            rows.forEach(writer::println);
+        }
+    }
+
+    private static String run(String mode, boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenApiGeneratorApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "bucket4j.enabled=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI hotels = URI.create("http://localhost:" + port + "/api/v1/hotels");
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(16)).build();
+
+            for (int index = 0; index < HOTELS; index++) {
+                HttpResponse<Void> created = client.send(HttpRequest.newBuilder(hotels)
+                        .header("Authorization", TOKEN)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(HOTEL))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+                assertEquals(201, created.statusCode());
+            }
+
+            HttpRequest get = HttpRequest.newBuilder(hotels).header("Authorization", TOKEN).GET().build();
+            // Warm-up
+            load(client, get, CLIENTS / 4);
+
+            long start = System.nanoTime();
+            long[] latencies = load(client, get, CLIENTS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            Arrays.sort(latencies);
+            return String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.2f", mode, latencies.length,
+                    latencies.length / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99));
+        }
+    }
+
+    /**
+     * Sends {@value #REQUESTS_PER_CLIENT} requests from each client and returns the latencies in nanoseconds.
+     */
+    private static long[] load(HttpClient client, HttpRequest request, int clients) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(clients);
+            for (int index = 0; index < clients; index++) {
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[REQUESTS_PER_CLIENT];
+                    for (int attempt = 0; attempt < REQUESTS_PER_CLIENT; attempt++) {
+                        long begin = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[attempt] = System.nanoTime() - begin;
+                        if (response.statusCode() != 200) {
+                            throw new IOException("Unexpected status " + response.statusCode());
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+            long[] all = new long[clients * REQUESTS_PER_CLIENT];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] latencies = future.get();
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+                offset += latencies.length;
+            }
+            return all;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1e6;
+    }
+}
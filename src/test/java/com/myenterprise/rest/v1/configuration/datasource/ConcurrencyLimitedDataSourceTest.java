@@ -0,0 +1,81 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConcurrencyLimitedDataSource}.
+ *
+ * <p>The tests verify that the data source never lends more connections than permits,
+ * fails after the acquire timeout, and releases the permit exactly once per connection.</p>
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    private static ConcurrencyLimitedDataSource dataSource(int permits) {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limited;DB_CLOSE_DELAY=-1");
+        return new ConcurrencyLimitedDataSource(h2, permits, Duration.ofMillis(50));
+    }
+
+    /**
+     * When all the permits are taken, a new request must time out.
+     *
+     * @throws Exception if a connection cannot be opened
+     */
+    @Test
+    void waitsForPermitAndTimesOut() throws Exception {
+        ConcurrencyLimitedDataSource dataSource = dataSource(1);
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertEquals(0, dataSource.availablePermits());
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+        assertEquals(1, dataSource.availablePermits());
+    }
+
+    /**
+     * Closing a connection twice must release a single permit.
+     *
+     * @throws Exception if a connection cannot be opened
+     */
+    @Test
+    void closeReleasesPermitOnce() throws Exception {
+        ConcurrencyLimitedDataSource dataSource = dataSource(2);
+
+        Connection connection = dataSource.getConnection();
+        assertTrue(connection.isValid(1));
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
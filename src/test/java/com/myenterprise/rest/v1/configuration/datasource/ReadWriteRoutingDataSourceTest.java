@@ -0,0 +1,115 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ReadWriteRoutingDataSource} and {@link ReplicaLagMonitor}.
+ *
+ * <p>The tests verify that only the read-only transactions reach the replica, and that
+ * the reads fall back to the primary when the replica lags.</p>
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+    @AfterEach
+    void clearTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    /**
+     * A read-only transaction uses the healthy replica; a read-write transaction uses the primary.
+     *
+     * @throws Exception if a connection cannot be opened
+     */
+    @Test
+    void readOnlyTransactionsUseTheReplica() throws Exception {
+        ReplicaLagMonitor monitor = monitor("SELECT 0");
+        monitor.checkAll();
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(dataSource(PRIMARY_URL), monitor);
+
+        assertEquals(PRIMARY_URL, url(routing));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(REPLICA_URL, url(routing));
+    }
+
+    /**
+     * A replica whose lag exceeds the maximum is skipped and the reads use the primary.
+     *
+     * @throws Exception if a connection cannot be opened
+     */
+    @Test
+    void laggingReplicaFallsBackToThePrimary() throws Exception {
+        ReplicaLagMonitor monitor = monitor("SELECT 60");
+        monitor.checkAll();
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(dataSource(PRIMARY_URL), monitor);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertNull(monitor.nextHealthyReplica());
+        assertEquals(PRIMARY_URL, url(routing));
+    }
+
+    /**
+     * A replica whose lag query fails is considered unhealthy.
+     */
+    @Test
+    void failingLagQueryMarksTheReplicaUnhealthy() {
+        ReplicaLagMonitor monitor = monitor("SELECT * FROM missing_table");
+        monitor.checkAll();
+        assertNull(monitor.nextHealthyReplica());
+    }
+
+    private static ReplicaLagMonitor monitor(String lagQuery) {
+        return new ReplicaLagMonitor(
+                List.of(new ReplicaLagMonitor.Replica("replica-0", dataSource(REPLICA_URL), lagQuery)),
+                Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    private static DataSource dataSource(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static String url(DataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
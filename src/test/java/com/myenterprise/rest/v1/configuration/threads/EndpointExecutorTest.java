@@ -0,0 +1,155 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.configuration.threads;
+
+import com.myenterprise.rest.utils.ResponseUtils;
+import com.myenterprise.rest.v1.model.Error;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EndpointExecutor}.
+ *
+ * <p>The tests verify that the saturation of the executor and the timeouts are
+ * answered with a 503 response instead of failing the future, and that a started write is
+ * never answered 503.</p>
+ */
+class EndpointExecutorTest {
+
+    /**
+     * A task that completes in time returns its own response.
+     */
+    @Test
+    void completedTaskReturnsItsResponse() throws Exception {
+        try (EndpointExecutor executor = new EndpointExecutor("test", 1, 1, Duration.ofSeconds(5))) {
+            ResponseEntity<String> response = executor.submit(() -> ResponseEntity.ok("done")).get(5, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("done", response.getBody());
+        }
+    }
+
+    /**
+     * When the thread is busy and the queue is full, the next task is rejected with 503.
+     */
+    @Test
+    void fullQueueIsRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (EndpointExecutor executor = new EndpointExecutor("test", 1, 1, Duration.ofSeconds(5))) {
+            executor.submit(() -> {
+                started.countDown();
+                return block(release);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.submit(() -> block(release));
+
+            ResponseEntity<Object> rejected = executor.submit(() -> ResponseEntity.ok().build()).get(1, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatusCode());
+            assertEquals(ResponseUtils.SERVICE_UNAVAILABLE_CODE, errorCode(rejected));
+            release.countDown();
+        }
+    }
+
+    /**
+     * A task that exceeds the timeout is answered with 503.
+     */
+    @Test
+    void slowTaskTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (EndpointExecutor executor = new EndpointExecutor("test", 1, 1, Duration.ofMillis(50))) {
+            ResponseEntity<Object> response = executor.submit(() -> block(release)).get(5, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            release.countDown();
+        }
+    }
+
+    /**
+     * With {@link EndpointExecutor.Timeout#START} a started task is not answered 503 however long
+     * it runs, and a task that waited too long for the thread is answered 503 without running.
+     */
+    @Test
+    void startTimeoutNeverAbandonsStartedTask() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        try (EndpointExecutor executor = new EndpointExecutor("test", 1, 1, Duration.ofMillis(50),
+                EndpointExecutor.Timeout.START)) {
+            var slow = executor.submit(() -> {
+                started.countDown();
+                sleep(200);
+                return ResponseEntity.ok("committed");
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            var queued = executor.submit(() -> {
+                queuedRan.set(true);
+                return ResponseEntity.ok("late");
+            });
+
+            assertEquals("committed", slow.get(5, TimeUnit.SECONDS).getBody());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, queued.get(5, TimeUnit.SECONDS).getStatusCode());
+            assertFalse(queuedRan.get());
+        }
+    }
+
+    /**
+     * An exception thrown by the task is answered with 500.
+     */
+    @Test
+    void failedTaskReturnsInternalError() throws Exception {
+        try (EndpointExecutor executor = new EndpointExecutor("test", 1, 1, Duration.ofSeconds(5))) {
+            ResponseEntity<Object> response = executor.submit(() -> {
+                throw new IllegalStateException("commit failed");
+            }).get(5, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        }
+    }
+
+    private static ResponseEntity<Object> block(CountDownLatch release) {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String errorCode(ResponseEntity<?> response) {
+        return ((Error) response.getBody()).getError();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.mapper;
+
+import com.myenterprise.rest.columnar.HotelColumns;
+import com.myenterprise.rest.columnar.HotelRow;
+import com.myenterprise.rest.v1.entity.FacilityEntity;
+import com.myenterprise.rest.v1.entity.HotelsEntity;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.Hotel;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Measures, with JOL, the heap retained per hotel by the structures that hold many hotels, and
+ * writes the result to {@code target/jol-heap-per-hotel.csv}:
+ * <ul>
+ *   <li>{@code models}: the {@link Hotel} models of {@link HotelMapper#toModel(List)}, after the
+ *       entities they were mapped from are gone.</li>
+ *   <li>{@code columns}: a {@link HotelColumns} snapshot, documents included.</li>
+ * </ul>
+ *
+ * <p>The hotels are built as the rows of a query: every string is a new instance. There are 100
+ * cities, two facilities per hotel with one of 12 short descriptions, and one of 200
+ * descriptions, as the hotels of a chain share theirs; names and addresses are unique.</p>
+ */
+public class HeapPerHotelBenchmarkTest {
+
+    /** Number of hotels measured. */
+    private static final int HOTELS = 100_000;
+
+    private static final Facility.TypeEnum[] TYPES = Facility.TypeEnum.values();
+
+    /**
+     * Measures the heap per hotel of each structure and writes the CSV file.
+     *
+     * @throws IOException if the CSV file cannot be written
+     */
+    @Test
+    void measureHeapPerHotel() throws IOException {
+        HotelMapperImpl mapper = new HotelMapperImpl();
+        ReflectionTestUtils.setField(mapper, "facilityMapper", new FacilityMapperImpl());
+        List<String> lines = new ArrayList<>();
+        lines.add("\"structure\",\"hotels\",\"bytesPerHotel\"");
+
+        List<Hotel> models = mapper.toModel(entities());
+        lines.add("\"models\",%d,%d".formatted(HOTELS, GraphLayout.parseInstance(models).totalSize() / HOTELS));
+        assertSame(models.get(0).getCity(), models.get(100).getCity());
+
+        HotelColumns columns = new HotelColumns();
+        Random random = new Random(7);
+        for (int index = 0; index < HOTELS; index++) {
+            columns.put(new HotelRow(UUID.randomUUID(), copy("Hotel " + index), copy(description(random)),
+                    copy("Street " + index), copy(city(index)), random.nextInt(51) / 10f, random.nextInt(8),
+                    ("{\"name\":\"Hotel " + index + "\",\"description\":\"" + description(random)
+                            + "\",\"facilities\":[]}").getBytes(StandardCharsets.UTF_8)));
+        }
+        lines.add("\"columns\",%d,%d".formatted(HOTELS, GraphLayout.parseInstance(columns).totalSize() / HOTELS));
+
+        Path output = Path.of("target", "jol-heap-per-hotel.csv");
+        Files.createDirectories(output.getParent());
+        Files.write(output, lines);
+    }
+
+    private static List<HotelsEntity> entities() {
+        Random random = new Random(7);
+        List<HotelsEntity> entities = new ArrayList<>(HOTELS);
+        for (int index = 0; index < HOTELS; index++) {
+            HotelsEntity hotel = new HotelsEntity();
+            hotel.setName(copy("Hotel " + index));
+            hotel.setDescription(copy(description(random)));
+            hotel.setAddress(copy("Street " + index));
+            hotel.setCity(copy(city(index)));
+            hotel.setRating(random.nextInt(51) / 10f);
+            hotel.setHasWifi(random.nextBoolean());
+            List<FacilityEntity> facilities = new ArrayList<>();
+            for (int facility = 0; facility < 2; facility++) {
+                FacilityEntity entity = new FacilityEntity();
+                entity.setType(TYPES[random.nextInt(TYPES.length)]);
+                entity.setShortDescription(copy("Facility description " + random.nextInt(12)));
+                facilities.add(entity);
+            }
+            hotel.setFacilities(facilities);
+            entities.add(hotel);
+        }
+        return entities;
+    }
+
+    private static String city(int index) {
+        return "City " + index % 100;
+    }
+
+    private static String description(Random random) {
+        return "Comfortable rooms in the centre of the city, close to the main sights and the station, "
+                + "with breakfast included and a 24-hour reception. Template " + random.nextInt(200);
+    }
+
+    /** Returns a new instance, as the driver returns for every row. */
+    private static String copy(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.repository;
+
+import com.myenterprise.rest.benchmark.H2BenchmarkDatabase;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the RSQL filter shapes of {@code GET /hotels} before and after the
+ * indexes of {@code db/migration/V2__filter_indexes.sql}.
+ *
+ * <p>Each trial creates an in-memory H2 database with the {@code V1} schema, loads
+ * {@link #rows} hotels with two facilities each and, in the {@code indexed} variant, applies
+ * {@code V2}. The queries are the SQL that Hibernate generates for the filters through
+ * {@code CustomRsqlVisitor} ({@code ==} on strings becomes {@code LIKE}), plus the lazy
+ * loading of the facilities of a hotel.</p>
+ *
+ * <p>{@link #runAllBenchmarks()} writes the results to {@code target/jmh-filter-index-results.csv}.</p>
+ */
+@State(Scope.Benchmark)                     // One database shared across all benchmark threads
+@BenchmarkMode(Mode.AverageTime)            // Measure average execution time per operation
+@OutputTimeUnit(TimeUnit.MICROSECONDS)      // Report timings in microseconds
+public class FilterIndexBenchmarkTest {
+
+    private static final String SELECT_HOTELS =
+            "SELECT id, address, city, description, has_wifi, name, rating FROM hotels ";
+
+    /** Number of distinct cities; {@code city==X} matches about {@code rows / CITIES} hotels. */
+    private static final int CITIES = 1000;
+
+    /** Schema variant: {@code baseline} (V1 only) or {@code indexed} (V1 and V2). */
+    @Param({"baseline", "indexed"})
+    public String schema;
+
+    /** Number of hotels loaded in the database. */
+    @Param({"1000000"})
+    public int rows;
+
+    private H2BenchmarkDatabase database;
+    private Connection connection;
+    private PreparedStatement cityEquals;
+    private PreparedStatement cityAndRating;
+    private PreparedStatement ratingAtLeast;
+    private PreparedStatement namePrefix;
+    private PreparedStatement facilitiesOfHotel;
+    private UUID[] hotelIds;
+    private final Random random = new Random(42);
+
+    /**
+     * Creates and loads the database of the trial.
+     *
+     * @throws Exception if the database cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = H2BenchmarkDatabase.create("filters-" + schema);
+        connection = database.connection();
+        database.migrate("V1__baseline.sql");
+        hotelIds = load();
+        if ("indexed".equals(schema)) {
+            database.migrate("V2__filter_indexes.sql");
+        }
+        database.analyze();
+        cityEquals = connection.prepareStatement(SELECT_HOTELS + "WHERE city LIKE ?");
+        cityAndRating = connection.prepareStatement(SELECT_HOTELS + "WHERE city LIKE ? AND rating >= ?");
+        ratingAtLeast = connection.prepareStatement(SELECT_HOTELS + "WHERE rating >= ?");
+        namePrefix = connection.prepareStatement(SELECT_HOTELS + "WHERE name LIKE ?");
+        facilitiesOfHotel = connection.prepareStatement(
+                "SELECT id, hotel_id, short_description, type FROM facilities WHERE hotel_id = ?");
+    }
+
+    /**
+     * Drops the database of the trial.
+     *
+     * @throws SQLException if the database cannot be dropped
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        database.close();
+    }
+
+    /**
+     * {@code city==City-N}.
+     *
+     * @return the number of rows read
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int cityEquals() throws SQLException {
+        cityEquals.setString(1, city());
+        return H2BenchmarkDatabase.count(cityEquals);
+    }
+
+    /**
+     * {@code city==City-N;rating>=4.5}.
+     *
+     * @return the number of rows read
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int cityAndRating() throws SQLException {
+        cityAndRating.setString(1, city());
+        cityAndRating.setFloat(2, 4.5f);
+        return H2BenchmarkDatabase.count(cityAndRating);
+    }
+
+    /**
+     * {@code rating>=4.9x}, a selective range without city. The bound changes on every call:
+     * H2 reuses the result of a prepared query whose parameters and tables did not change.
+     *
+     * @return the number of rows read
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int ratingAtLeast() throws SQLException {
+        ratingAtLeast.setFloat(1, (490 + random.nextInt(10)) / 100f);
+        return H2BenchmarkDatabase.count(ratingAtLeast);
+    }
+
+    /**
+     * {@code name==Hotel 12345*}.
+     *
+     * @return the number of rows read
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int namePrefix() throws SQLException {
+        namePrefix.setString(1, "Hotel " + random.nextInt(rows / 10) + "%");
+        return H2BenchmarkDatabase.count(namePrefix);
+    }
+
+    /**
+     * Lazy loading of the facilities of one hotel, once per hotel of every result.
+     *
+     * @return the number of rows read
+     * @throws SQLException if the query fails
+     */
+    @Benchmark
+    public int facilitiesOfHotel() throws SQLException {
+        facilitiesOfHotel.setObject(1, hotelIds[random.nextInt(hotelIds.length)]);
+        return H2BenchmarkDatabase.count(facilitiesOfHotel);
+    }
+
+    private String city() {
+        return "City-" + random.nextInt(CITIES);
+    }
+
+    private UUID[] load() throws SQLException {
+        UUID[] ids = new UUID[rows];
+        Random data = new Random(7);
+        database.load(rows, (index, statements) -> {
+            PreparedStatement hotel = statements[0];
+            UUID id = UUID.randomUUID();
+            ids[index] = id;
+            hotel.setObject(1, id);
+            hotel.setString(2, "Hotel " + index);
+            hotel.setString(3, "Description of hotel " + index);
+            hotel.setString(4, "Street " + index);
+            hotel.setString(5, "City-" + data.nextInt(CITIES));
+            hotel.setFloat(6, data.nextInt(501) / 100f);
+            hotel.setBoolean(7, data.nextBoolean());
+            hotel.addBatch();
+            addFacility(statements[1], id, "RESTAURANT");
+            addFacility(statements[1], id, data.nextBoolean() ? "CINEMA" : "SWIMMING_POOL");
+        }, "INSERT INTO hotels (id, name, description, address, city, rating, has_wifi) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                "INSERT INTO facilities (id, hotel_id, type, short_description) VALUES (?, ?, ?, ?)");
+        return ids;
+    }
+
+    private static void addFacility(PreparedStatement facility, UUID hotelId, String type) throws SQLException {
+        facility.setObject(1, UUID.randomUUID());
+        facility.setObject(2, hotelId);
+        facility.setString(3, type);
+        facility.setString(4, "Open from 9:00 to 20:00");
+        facility.addBatch();
+    }
+
+    /**
+     * JUnit test that launches the JMH runner with a sensible configuration
+     * and writes the benchmark results to {@code target/jmh-filter-index-results.csv}.
+     *
+     * @throws Exception if the JMH runner encounters an error
+     */
+    @Test
+    void runAllBenchmarks() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(this.getClass().getSimpleName()) // Run only this benchmark class
+                .warmupIterations(3)                      // Warm‑up to stabilise the JVM
+                .measurementIterations(5)                 // Number of measured iterations
+                .forks(1)                                 // Single JVM fork
+                .jvmArgsAppend("-Xmx3g")                  // Room for 1M hotels and 2M facilities in memory
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .timeout(TimeValue.minutes(2))            // The unindexed scans are slow on 1M rows
+                // Export results to CSV for easy consumption
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-filter-index-results.csv")
+                .build()).run();
+    }
+}
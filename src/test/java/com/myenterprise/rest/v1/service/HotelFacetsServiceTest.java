@@ -0,0 +1,138 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.v1.model.FacetCount;
+import com.myenterprise.rest.v1.model.Facility;
+import com.myenterprise.rest.v1.model.HotelFacets;
+import com.myenterprise.rest.v1.repository.FacetDimension;
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelFacetsService}, with a repository stub that returns fixed counts.
+ *
+ * <p>The tests verify the conversion of the grouped counts to the API model, and that the
+ * cache is shared by equivalent filters and cleared by a {@link HotelChangedEvent}.</p>
+ */
+class HotelFacetsServiceTest {
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    private HotelsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Map<FacetDimension, Map<Object, Long>> counts = Map.of(
+                FacetDimension.CITY, ordered("Paris", 2L, "Madrid", 5L),
+                FacetDimension.FACILITY_TYPE, ordered(Facility.TypeEnum.SWIMMING_POOL, 3L, Facility.TypeEnum.CINEMA, 3L),
+                FacetDimension.RATING_BUCKET, ordered(4, 6L, 3, 1L),
+                FacetDimension.HAS_WIFI, ordered(true, 4L, false, 3L));
+        repository = (HotelsRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HotelsRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "countBy" -> {
+                        queries.incrementAndGet();
+                        yield counts.get((FacetDimension) args[1]);
+                    }
+                    case "count" -> 7L;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * The counts are sorted by frequency and the values use the API representation.
+     */
+    @Test
+    void convertsCounts() {
+        HotelFacets facets = body(service(true).facets(null));
+
+        assertEquals(7L, facets.getTotal());
+        assertEquals(List.of("Madrid", "Paris"), values(facets.getCities()));
+        assertEquals(List.of("cinema", "swimming pool"), values(facets.getFacilityTypes()));
+        assertEquals(List.of("4", "3"), values(facets.getRatingBuckets()));
+        assertEquals(List.of("true", "false"), values(facets.getHasWifi()));
+    }
+
+    /**
+     * Equivalent filters share the cached entry until a change is committed.
+     */
+    @Test
+    void cachesByNormalizedFilterUntilChange() {
+        HotelFacetsService service = service(true);
+
+        service.facets("city==Madrid");
+        service.facets("city=='Madrid'");
+        assertEquals(FacetDimension.values().length, queries.get());
+
+        service.onHotelChanged(new HotelChangedEvent(UUID.randomUUID()));
+        service.facets("city==Madrid");
+        assertEquals(2 * FacetDimension.values().length, queries.get());
+    }
+
+    /**
+     * Without cache every request queries the repository.
+     */
+    @Test
+    void disabledCacheQueriesEveryTime() {
+        HotelFacetsService service = service(false);
+
+        service.facets(null);
+        service.facets(null);
+
+        assertEquals(2 * FacetDimension.values().length, queries.get());
+    }
+
+    private HotelFacetsService service(boolean cacheEnabled) {
+        return new HotelFacetsService(repository, cacheEnabled, 100, Duration.ofMinutes(1));
+    }
+
+    private static HotelFacets body(ResponseEntity<HotelFacets> response) {
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private static List<String> values(List<FacetCount> counts) {
+        return counts.stream().map(FacetCount::getValue).toList();
+    }
+
+    private static Map<Object, Long> ordered(Object first, long firstCount, Object second, long secondCount) {
+        Map<Object, Long> map = new LinkedHashMap<>();
+        map.put(first, firstCount);
+        map.put(second, secondCount);
+        return map;
+    }
+}
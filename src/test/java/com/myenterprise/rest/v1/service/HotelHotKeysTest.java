@@ -0,0 +1,146 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelHotKeys}.
+ *
+ * <p>The tests verify the ranking of the hotels and the filters, the round trip through the
+ * file, and the aging of the counters after a save.</p>
+ */
+class HotelHotKeysTest {
+
+    @TempDir
+    Path directory;
+
+    private HotelHotKeys hotKeys(int topHotels, int topFilters) {
+        return new HotelHotKeys(new ObjectMapper(), true, directory.resolve("cache/hot-keys.json"),
+                topHotels, topFilters, Duration.ofMinutes(5));
+    }
+
+    /**
+     * The most read keys come first, the equivalent filters are counted together, and only the
+     * top ones are kept.
+     */
+    @Test
+    void ranksMostRead() {
+        HotelHotKeys hotKeys = hotKeys(2, 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        read(hotKeys, UUID.randomUUID(), 1);
+        read(hotKeys, second, 2);
+        read(hotKeys, first, 3);
+        hotKeys.recordFilter(null);
+        hotKeys.recordFilter(RsqlSearchOperation.parser().parse("city==Paris;rating>=4"));
+        hotKeys.recordFilter(RsqlSearchOperation.parser().parse("rating>=4;city==Paris"));
+        hotKeys.recordFilter(RsqlSearchOperation.parser().parse("city==Rome"));
+
+        HotelHotKeys.HotKeys top = hotKeys.top();
+
+        assertEquals(List.of(first, second), top.hotels());
+        assertEquals(2, top.filters().size());
+        assertTrue(top.filters().get(0).contains("Paris"));
+    }
+
+    /**
+     * The saved keys are read again, and the empty filter stands for the list of all the hotels.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    void savesAndLoads() throws IOException {
+        HotelHotKeys hotKeys = hotKeys(10, 10);
+        assertTrue(hotKeys.load().isEmpty());
+        UUID id = UUID.randomUUID();
+        read(hotKeys, id, 1);
+        hotKeys.recordFilter(null);
+
+        hotKeys.save();
+
+        HotelHotKeys.HotKeys loaded = hotKeys(10, 10).load().orElseThrow();
+        assertEquals(List.of(id), loaded.hotels());
+        assertEquals(List.of(""), loaded.filters());
+        try (var files = Files.list(directory.resolve("cache"))) {
+            assertEquals(1, files.count(), "the temporary file is moved");
+        }
+    }
+
+    /**
+     * After a save, the saved keys keep half of their count and the others are dropped, so a
+     * key read recently overtakes a key read long ago.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    void agesAfterSave() throws IOException {
+        HotelHotKeys hotKeys = hotKeys(1, 1);
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        read(hotKeys, old, 10);
+        read(hotKeys, recent, 4);
+
+        hotKeys.save();
+        assertEquals(List.of(old), hotKeys.load().orElseThrow().hotels());
+        read(hotKeys, recent, 6);
+
+        assertEquals(List.of(recent), hotKeys.top().hotels());
+    }
+
+    /**
+     * A disabled recorder counts nothing and loads nothing.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    void disabled() throws IOException {
+        hotKeys(10, 10).save();
+        HotelHotKeys hotKeys = new HotelHotKeys(new ObjectMapper(), false, directory.resolve("cache/hot-keys.json"),
+                10, 10, Duration.ofMinutes(5));
+
+        read(hotKeys, UUID.randomUUID(), 1);
+
+        assertTrue(hotKeys.top().hotels().isEmpty());
+        assertTrue(hotKeys.load().isEmpty());
+    }
+
+    private static void read(HotelHotKeys hotKeys, UUID id, int times) {
+        for (int index = 0; index < times; index++) {
+            hotKeys.recordHotel(id);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelIdFilter}.
+ *
+ * <p>The tests verify that the unknown identifiers are rejected once the filter is built, that
+ * a created hotel is never rejected, also when it is committed during a rebuild or two rebuilds
+ * overlap, and how the false positives are counted.</p>
+ */
+class HotelIdFilterTest {
+
+    /** The identifiers in the "database". */
+    private final List<UUID> database = new CopyOnWriteArrayList<>();
+
+    /** Runs while the identifiers are read, to simulate a write during a rebuild. */
+    private volatile Runnable duringRead = () -> { };
+
+    private final HotelIdFilter filter = new HotelIdFilter(repository(), new NoTransactions(), true, 0.01,
+            Duration.ofHours(1));
+
+    /**
+     * Every identifier passes before the first build; then only the existing hotels do.
+     */
+    @Test
+    void rejectsUnknownOnceBuilt() {
+        UUID existing = create();
+        UUID unknown = UUID.randomUUID();
+        assertTrue(filter.mightExist(unknown));
+
+        filter.rebuild();
+
+        assertTrue(filter.mightExist(existing));
+        assertFalse(filter.mightExist(unknown));
+        HotelIdFilter.Stats stats = filter.stats();
+        assertTrue(stats.ready());
+        assertEquals(1, stats.hotels());
+        assertEquals(1, stats.rejected());
+    }
+
+    /**
+     * A hotel is added when its change is published, and one published before a rebuild but
+     * committed after its read is kept by the new filter.
+     */
+    @Test
+    void keepsHotelsCreatedAroundRebuild() {
+        filter.rebuild();
+        UUID created = UUID.randomUUID();
+        filter.onHotelChanged(new HotelChangedEvent(created));
+        assertTrue(filter.mightExist(created));
+
+        List<UUID> duringRebuild = new ArrayList<>();
+        duringRead = () -> {
+            UUID id = UUID.randomUUID();
+            duringRebuild.add(id);
+            filter.onHotelChanged(new HotelChangedEvent(id));
+        };
+        // Neither "created" nor the hotel published during the read are committed yet.
+        filter.rebuild();
+        duringRead = () -> { };
+
+        assertTrue(filter.mightExist(created));
+        assertTrue(filter.mightExist(duringRebuild.get(0)));
+    }
+
+    /**
+     * A rebuild requested while another one reads waits for it, so the slower read of the older
+     * one never replaces the filter with the hotel created in between.
+     *
+     * @throws Exception if the threads are interrupted
+     */
+    @Test
+    void serializesOverlappingRebuilds() throws Exception {
+        filter.rebuild();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        duringRead = () -> {
+            duringRead = () -> { };
+            reading.countDown();
+            await(release);
+        };
+        CompletableFuture<Void> scheduled = CompletableFuture.runAsync(filter::rebuild);
+        reading.await();
+
+        UUID created = create();
+        filter.onHotelChanged(new HotelChangedEvent(created));
+        CompletableFuture<Void> requested = CompletableFuture.runAsync(filter::rebuild);
+        // Lets the second rebuild run to its end if nothing stops it.
+        Thread.sleep(100);
+        release.countDown();
+        scheduled.get(5, TimeUnit.SECONDS);
+        requested.get(5, TimeUnit.SECONDS);
+
+        assertTrue(filter.mightExist(created));
+    }
+
+    /**
+     * The observed rate is the share of the unknown identifiers that the filter let through.
+     */
+    @Test
+    void countsFalsePositives() {
+        filter.recordFalsePositive();
+        assertEquals(0, filter.stats().falsePositives());
+
+        filter.rebuild();
+        for (int i = 0; i < 3; i++) {
+            filter.mightExist(UUID.randomUUID());
+        }
+        filter.recordFalsePositive();
+
+        HotelIdFilter.Stats stats = filter.stats();
+        assertEquals(1, stats.falsePositives());
+        assertEquals(stats.falsePositives() / (double) (stats.rejected() + stats.falsePositives()),
+                stats.observedFalsePositiveRate());
+    }
+
+    private UUID create() {
+        UUID id = UUID.randomUUID();
+        database.add(id);
+        return id;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** A repository whose only method is {@link HotelsRepository#findAllIds()}. */
+    private HotelsRepository repository() {
+        return (HotelsRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HotelsRepository.class}, (proxy, method, arguments) -> {
+                    if (!method.getName().equals("findAllIds")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    List<UUID> ids = List.copyOf(database);
+                    duringRead.run();
+                    return ids;
+                });
+    }
+
+    /** A transaction manager that runs the callbacks without a transaction. */
+    private static final class NoTransactions implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
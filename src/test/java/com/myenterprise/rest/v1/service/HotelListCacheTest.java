@@ -0,0 +1,278 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.columnar.HotelRow;
+import com.myenterprise.rest.document.HotelDocument;
+import com.myenterprise.rest.rsql.RsqlSearchOperation;
+import com.myenterprise.rest.v1.model.Hotel;
+import com.myenterprise.rest.v1.repository.HotelDocumentsRepository;
+import cz.jirutka.rsql.parser.ast.Node;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelListCache}.
+ *
+ * <p>The tests verify that equivalent filters share an entry, that a change only removes the
+ * lists it can affect, that a list computed during a change is not stored, and that the
+ * expired and the busy lists are read again in the background.</p>
+ */
+class HotelListCacheTest {
+
+    private static final UUID MADRID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PARIS = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    /** The clock of the cache, in nanoseconds. */
+    private final AtomicLong now = new AtomicLong();
+
+    /** The background reads submitted, run by the tests. */
+    private final Deque<Runnable> refreshes = new ArrayDeque<>();
+
+    private final HotelListCache cache = cache(true, Duration.ofSeconds(30), 10);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * Two filters that only differ in how they are written are computed once.
+     */
+    @Test
+    void sharesEquivalentFilters() {
+        List<Hotel> first = cache.get(parse("city==Madrid;rating>=4"), () -> load(MADRID));
+        List<Hotel> second = cache.get(parse("rating>=4.0;city=='Madrid'"), () -> load(PARIS));
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals(MADRID, second.get(0).getId());
+    }
+
+    /**
+     * A change removes the lists that contain the hotel and those whose filter its new values
+     * match, and keeps the others.
+     */
+    @Test
+    void removesOnlyAffectedLists() {
+        cache.get(parse("city==Madrid"), () -> load(MADRID));
+        cache.get(parse("city==Paris"), () -> load(PARIS));
+        cache.get(parse("city==Rome"), List::of);
+        cache.get(parse("rating>4"), () -> load(MADRID));
+        cache.get(null, () -> load(MADRID, PARIS));
+
+        // The hotel of Madrid moves to Rome with a rating of 3.
+        cache.invalidate(MADRID, Optional.of(row(MADRID, "Rome", 3f)));
+
+        assertEquals(1, cache.size());
+        cache.get(parse("city==Paris"), () -> load(PARIS));
+        assertEquals(4, loads.get());
+    }
+
+    /**
+     * A new hotel removes the lists whose filter it matches or that cannot be evaluated in memory;
+     * a removed hotel only the lists that contain it.
+     */
+    @Test
+    void removesUnevaluatedFilters() {
+        UUID created = UUID.randomUUID();
+        cache.get(parse("city==Paris"), () -> load(PARIS));
+        cache.get(parse("city==Lisbon"), List::of);
+        cache.get(parse("text=ft=spa"), List::of);
+
+        cache.invalidate(created, Optional.of(row(created, "Lisbon", 4f)));
+        assertEquals(1, cache.size());
+
+        cache.invalidate(PARIS, Optional.empty());
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * A list computed while a change is committed is returned but not stored.
+     */
+    @Test
+    void skipsListComputedDuringChange() {
+        HotelChangedEvent event = new HotelChangedEvent(MADRID);
+        List<Hotel> hotels = cache.get(parse("city==Madrid"), () -> {
+            cache.onHotelChanged(event);
+            return load(MADRID);
+        });
+
+        assertEquals(1, hotels.size());
+        assertEquals(0, cache.size());
+        cache.get(parse("city==Madrid"), () -> load(MADRID));
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * A disabled cache computes every list.
+     */
+    @Test
+    void disabled() {
+        HotelListCache disabled = cache(false, Duration.ZERO, 0);
+        disabled.get(null, () -> load(MADRID));
+        disabled.get(null, () -> load(MADRID));
+
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * An expired list is answered during the grace while one background read replaces it, and
+     * is read by the request after the grace.
+     */
+    @Test
+    void servesStaleWhileRevalidating() {
+        List<Hotel> first = cache.get(parse("city==Madrid"), () -> load(MADRID));
+        now.addAndGet(Duration.ofSeconds(70).toNanos());
+
+        assertSame(first, cache.get(parse("city==Madrid"), () -> load(PARIS)));
+        assertSame(first, cache.get(parse("city==Madrid"), () -> load(PARIS)));
+        assertEquals(1, refreshes.size());
+        assertEquals(2, cache.staleHits());
+
+        refreshes.poll().run();
+        assertEquals(2, loads.get());
+        assertNotSame(first, cache.get(parse("city==Madrid"), () -> load(PARIS)));
+
+        now.addAndGet(Duration.ofSeconds(91).toNanos());
+        cache.get(parse("city==Madrid"), () -> load(MADRID));
+        assertEquals(3, loads.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    /**
+     * A list answered often is read again before it expires; the others are not.
+     */
+    @Test
+    void refreshesBusyListsAhead() {
+        cache.get(parse("city==Madrid"), () -> load(MADRID));
+        cache.get(parse("city==Paris"), () -> load(PARIS));
+        for (int i = 0; i < 10; i++) {
+            cache.get(parse("city==Madrid"), () -> load(MADRID));
+        }
+        now.addAndGet(Duration.ofSeconds(25).toNanos());
+
+        cache.get(parse("city==Madrid"), () -> load(MADRID));
+        cache.get(parse("city==Paris"), () -> load(PARIS));
+
+        assertEquals(1, refreshes.size());
+        refreshes.poll().run();
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.refreshes());
+        assertEquals(0, cache.staleHits());
+    }
+
+    /**
+     * A background read that overlaps a change does not store its list, and a list removed by a
+     * change is not answered stale.
+     */
+    @Test
+    void refreshRespectsChanges() {
+        AtomicBoolean changeDuringRead = new AtomicBoolean();
+        Supplier<List<Hotel>> loader = () -> {
+            if (changeDuringRead.getAndSet(false)) {
+                // A hotel of Madrid is removed while the list is read again.
+                cache.onHotelChanged(new HotelChangedEvent(MADRID));
+            }
+            return load(MADRID);
+        };
+        cache.get(parse("city==Madrid"), loader);
+        now.addAndGet(Duration.ofSeconds(70).toNanos());
+        cache.get(parse("city==Madrid"), loader);
+
+        changeDuringRead.set(true);
+        refreshes.poll().run();
+
+        assertEquals(0, cache.size());
+        cache.get(parse("city==Madrid"), loader);
+        assertEquals(3, loads.get());
+    }
+
+    /**
+     * A full executor leaves the stale list in place, and a later request tries again.
+     */
+    @Test
+    void retriesWhenExecutorIsFull() {
+        AtomicInteger rejected = new AtomicInteger();
+        HotelListCache busy = new HotelListCache(repository(), null, true, 1, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                0.8, 10, now::get, task -> {
+                    if (rejected.getAndIncrement() == 0) {
+                        throw new RejectedExecutionException("full");
+                    }
+                    refreshes.add(task);
+                });
+        busy.get(null, () -> load(MADRID));
+        now.addAndGet(Duration.ofSeconds(70).toNanos());
+
+        busy.get(null, () -> load(MADRID));
+        busy.get(null, () -> load(MADRID));
+
+        assertEquals(2, rejected.get());
+        assertEquals(1, refreshes.size());
+    }
+
+    private HotelListCache cache(boolean enabled, Duration ttl, int refreshAheadMinHits) {
+        return new HotelListCache(repository(), null, enabled, 1, ttl, Duration.ofMinutes(1), 0.8, refreshAheadMinHits,
+                now::get, refreshes::add);
+    }
+
+    private List<Hotel> load(UUID... ids) {
+        loads.incrementAndGet();
+        return Arrays.stream(ids)
+                .map(id -> (Hotel) new HotelDocument(id, ("{\"id\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8)))
+                .toList();
+    }
+
+    /** A repository of the columns without hotels: every hotel has been removed. */
+    private static HotelDocumentsRepository repository() {
+        return (HotelDocumentsRepository) Proxy.newProxyInstance(HotelListCacheTest.class.getClassLoader(),
+                new Class<?>[]{HotelDocumentsRepository.class}, (proxy, method, arguments) -> {
+                    if (!method.getName().equals("findColumnsById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return Optional.empty();
+                });
+    }
+
+    private static HotelRow row(UUID id, String city, float rating) {
+        return new HotelRow(id, "Hotel", null, "Street", city, rating, 0, new byte[0]);
+    }
+
+    private static Node parse(String filter) {
+        return RsqlSearchOperation.parser().parse(filter);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.v1.model.Hotel;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelReadCoalescer}.
+ *
+ * <p>The tests verify that the reads of equivalent filters and of the same hotel are shared,
+ * that a timeout answers 503 to every waiter, and that a committed change releases the keys.</p>
+ */
+class HotelReadCoalescerTest {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final HotelReadCoalescer coalescer =
+            new HotelReadCoalescer(true, Duration.ofMillis(100), Duration.ofMillis(100));
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    /**
+     * The concurrent requests of equivalent filters share one read; another filter has its own.
+     *
+     * @throws Exception if a future fails
+     */
+    @Test
+    void sharesEquivalentFilters() throws Exception {
+        CompletableFuture<ResponseEntity<List<Hotel>>> read = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<List<Hotel>>> first = coalescer.findAll("city==Madrid;rating>=4", () -> start(read));
+        CompletableFuture<ResponseEntity<List<Hotel>>> second = coalescer.findAll("rating=ge=4.0;city=='Madrid'", () -> start(read));
+        coalescer.findAll("city==Paris", () -> start(new CompletableFuture<>()));
+
+        read.complete(ResponseEntity.ok(List.of()));
+
+        assertSame(first.get(1, TimeUnit.SECONDS), second.get(1, TimeUnit.SECONDS));
+        assertEquals(2, reads.get());
+    }
+
+    /**
+     * A shared read that does not complete in time answers 503 to all of its waiters.
+     *
+     * @throws Exception if a future fails
+     */
+    @Test
+    void timeoutAnswersEveryWaiter() throws Exception {
+        CompletableFuture<ResponseEntity<Hotel>> stuck = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Hotel>> first = coalescer.find(ID, () -> start(stuck));
+        CompletableFuture<ResponseEntity<Hotel>> second = coalescer.find(ID, () -> start(stuck));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, first.get(1, TimeUnit.SECONDS).getStatusCode());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, second.get(1, TimeUnit.SECONDS).getStatusCode());
+        assertEquals(1, reads.get());
+    }
+
+    /**
+     * A request that arrives after a committed change does not join a read started before it.
+     */
+    @Test
+    void changeReleasesKeys() {
+        coalescer.find(ID, () -> start(new CompletableFuture<>()));
+        coalescer.findAll(null, () -> start(new CompletableFuture<>()));
+
+        coalescer.onHotelChanged(new HotelChangedEvent(ID));
+        coalescer.find(ID, () -> start(new CompletableFuture<>()));
+        coalescer.findAll(null, () -> start(new CompletableFuture<>()));
+
+        assertEquals(4, reads.get());
+    }
+
+    /**
+     * A disabled coalescer reads for every request.
+     */
+    @Test
+    void disabled() {
+        HotelReadCoalescer disabled = new HotelReadCoalescer(false, Duration.ofSeconds(1), Duration.ofSeconds(1));
+        disabled.find(ID, () -> start(new CompletableFuture<>()));
+        disabled.find(ID, () -> start(new CompletableFuture<>()));
+
+        assertEquals(2, reads.get());
+    }
+
+    private <T> CompletableFuture<T> start(CompletableFuture<T> read) {
+        reads.incrementAndGet();
+        return read;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.document.HotelDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HotelResponseCache}.
+ *
+ * <p>The tests verify that a response is loaded once with its {@code ETag}, and that a committed
+ * change removes it, including a document read while the change was being committed, and that a
+ * slow load does not block the other hotels.</p>
+ */
+class HotelResponseCacheTest {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * The document is loaded on the first read only, and the {@code ETag} is the quoted MD5 of it.
+     */
+    @Test
+    void loadsOnce() {
+        HotelResponseCache cache = new HotelResponseCache(true, 100, Duration.ofMinutes(1));
+
+        assertTrue(cache.getIfPresent(ID).isEmpty());
+        HotelResponseCache.CachedHotel first = cache.get(ID, id -> load("{\"name\":\"Madrid\"}")).orElseThrow();
+        HotelResponseCache.CachedHotel second = cache.get(ID, id -> load("{\"name\":\"Paris\"}")).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertSame(first, cache.getIfPresent(ID).orElseThrow());
+        assertEquals("\"" + DigestUtils.md5DigestAsHex(first.document().bytes()) + "\"", first.eTag());
+    }
+
+    /**
+     * Unknown hotels are not cached, and a disabled cache loads on every read.
+     */
+    @Test
+    void doesNotCacheMissesOrWhenDisabled() {
+        HotelResponseCache cache = new HotelResponseCache(true, 100, Duration.ofMinutes(1));
+        assertTrue(cache.get(ID, id -> Optional.empty()).isEmpty());
+        assertTrue(cache.getIfPresent(ID).isEmpty());
+
+        HotelResponseCache disabled = new HotelResponseCache(false, 100, Duration.ofMinutes(1));
+        disabled.get(ID, id -> load("{}"));
+        disabled.get(ID, id -> load("{}"));
+        assertEquals(2, loads.get());
+        assertTrue(disabled.getIfPresent(ID).isEmpty());
+    }
+
+    /**
+     * A committed change removes the response, and the next read loads the new document with a new tag.
+     */
+    @Test
+    void removesChangedHotel() {
+        HotelResponseCache cache = new HotelResponseCache(true, 100, Duration.ofMinutes(1));
+        String before = cache.get(ID, id -> load("{\"rating\":3}")).orElseThrow().eTag();
+
+        cache.onHotelChanged(new HotelChangedEvent(ID));
+
+        assertTrue(cache.getIfPresent(ID).isEmpty());
+        HotelResponseCache.CachedHotel after = cache.get(ID, id -> load("{\"rating\":4}")).orElseThrow();
+        assertEquals("{\"rating\":4}", new String(after.document().bytes(), StandardCharsets.UTF_8));
+        assertNotEquals(before, after.eTag());
+    }
+
+    /**
+     * A document read before a change was committed must not stay in the cache: the load in
+     * progress sees the change and does not cache its document.
+     *
+     * @throws Exception if the threads are interrupted
+     */
+    @Test
+    void removesDocumentLoadedDuringChange() throws Exception {
+        HotelResponseCache cache = new HotelResponseCache(true, 100, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> cache.get(ID, id -> {
+            loading.countDown();
+            await(committed);
+            return load("{\"rating\":3}");
+        }));
+        loading.await();
+
+        cache.onHotelChanged(new HotelChangedEvent(ID));
+        committed.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+
+        assertTrue(cache.getIfPresent(ID).isEmpty());
+    }
+
+    /**
+     * A miss is loaded outside the map: a hotel is answered and cached while the load of another
+     * one is still running.
+     *
+     * @throws Exception if the threads are interrupted
+     */
+    @Test
+    void slowLoadDoesNotBlockOtherHotels() throws Exception {
+        HotelResponseCache cache = new HotelResponseCache(true, 100, Duration.ofMinutes(1));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> cache.get(ID, id -> {
+            loading.countDown();
+            await(release);
+            return load("{}");
+        }));
+        loading.await();
+
+        UUID other = UUID.randomUUID();
+        CompletableFuture<Optional<HotelResponseCache.CachedHotel>> fast = CompletableFuture.supplyAsync(
+                () -> cache.get(other, id -> Optional.of(new HotelDocument(id, "{}".getBytes(StandardCharsets.UTF_8)))));
+        try {
+            assertTrue(fast.get(5, TimeUnit.SECONDS).isPresent());
+            assertTrue(cache.getIfPresent(other).isPresent());
+        } finally {
+            release.countDown();
+        }
+        slow.get(5, TimeUnit.SECONDS);
+        assertTrue(cache.getIfPresent(ID).isPresent());
+    }
+
+    private Optional<HotelDocument> load(String json) {
+        loads.incrementAndGet();
+        return Optional.of(new HotelDocument(ID, json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
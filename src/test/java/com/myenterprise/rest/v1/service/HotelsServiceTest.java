@@ -0,0 +1,158 @@
+/*
+ *   MIT License
+ *
+ *  Copyright (c) 2026 cleanet
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+package com.myenterprise.rest.v1.service;
+
+import com.myenterprise.rest.v1.configuration.datasource.ConcurrencyLimitedDataSource;
+import com.myenterprise.rest.v1.model.Hotel;
+import com.myenterprise.rest.v1.repository.HotelDocumentsRepository;
+import com.myenterprise.rest.v1.repository.HotelsRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the single-hotel reads of {@link HotelsService}.
+ *
+ * <p>The tests run the service behind its transactional proxy, on a database that lends one
+ * connection at a time, and verify that a miss of {@link HotelResponseCache} is loaded with that
+ * one connection, in a read-write transaction, and that a hit needs none.</p>
+ */
+class HotelsServiceTest {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    /** Lends a single connection, and fails a second one after 200 ms. */
+    private final ConcurrencyLimitedDataSource dataSource = dataSource();
+
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+    private final AtomicInteger documentReads = new AtomicInteger();
+
+    private final HotelsService service = service();
+
+    /**
+     * A miss is read with one connection, on the primary, and cached: the next read borrows none.
+     */
+    @Test
+    void loadsMissWithOneConnection() {
+        ResponseEntity<Hotel> miss = service.find(ID);
+        assertEquals(HttpStatus.OK, miss.getStatusCode());
+        assertEquals(1, documentReads.get());
+
+        // With no connection left, only a read that needs none can succeed.
+        ResponseEntity<Hotel> hit = withoutConnection(() -> service.find(ID));
+        assertEquals(HttpStatus.OK, hit.getStatusCode());
+        assertEquals(1, documentReads.get());
+    }
+
+    /**
+     * A hotel without a document is looked up in the entities in the same transaction.
+     */
+    @Test
+    void loadsEntityInSameTransaction() {
+        assertEquals(HttpStatus.NOT_FOUND, service.find(UUID.randomUUID()).getStatusCode());
+        assertEquals(1, documentReads.get());
+    }
+
+    /** Runs a read while the test holds the only connection. */
+    private <T> T withoutConnection(Supplier<T> read) {
+        try (Connection ignored = dataSource.getConnection()) {
+            return read.get();
+        } catch (SQLException error) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+    private static ConcurrencyLimitedDataSource dataSource() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:hotels-service;DB_CLOSE_DELAY=-1");
+        return new ConcurrencyLimitedDataSource(h2, 1, Duration.ofMillis(200));
+    }
+
+    /** The service behind the proxy that applies its {@code @Transactional} annotations. */
+    private HotelsService service() {
+        HotelDocumentService documentService = new HotelDocumentService(documentsRepository(), null, null, null,
+                transactionManager);
+        HotelsService target = new HotelsService(hotelsRepository(), null, null, documentService, null,
+                new HotelResponseCache(true, 100, Duration.ofMinutes(1)), null,
+                new HotelIdFilter(null, transactionManager, false, 0.01, Duration.ofHours(1)),
+                new HotelHotKeys(null, false, Path.of("unused"), 0, 0, Duration.ofMinutes(1)), null,
+                transactionManager);
+        ProxyFactory proxy = new ProxyFactory(target);
+        proxy.setProxyTargetClass(true);
+        proxy.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        return (HotelsService) proxy.getProxy();
+    }
+
+    /** A repository of documents that has the document of {@link #ID} only, read from the primary. */
+    private HotelDocumentsRepository documentsRepository() {
+        return (HotelDocumentsRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HotelDocumentsRepository.class}, (proxy, method, arguments) -> {
+                    if (!method.getName().equals("findDocumentById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    assertPrimaryTransaction();
+                    documentReads.incrementAndGet();
+                    return ID.equals(arguments[0])
+                            ? Optional.of("{}".getBytes(StandardCharsets.UTF_8))
+                            : Optional.empty();
+                });
+    }
+
+    /** A repository of hotels without any hotel, read from the primary. */
+    private HotelsRepository hotelsRepository() {
+        return (HotelsRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HotelsRepository.class}, (proxy, method, arguments) -> {
+                    if (!method.getName().equals("findById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    assertPrimaryTransaction();
+                    return Optional.empty();
+                });
+    }
+
+    private static void assertPrimaryTransaction() {
+        assertTrue(TransactionSynchronizationManager.isActualTransactionActive());
+        assertFalse(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+}